@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.benchmarks;
+
+import org.apache.streampipes.model.runtime.CompiledEventSchema;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyNested;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.vocabulary.XSD;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides the events and schemas shared by all benchmarks.
+ * <p>
+ * The flat event resembles a typical sensor reading, the nested event contains the same number
+ * of values grouped into two levels of nested properties.
+ */
+public final class BenchmarkEvents {
+
+  public static final String TOPIC = "org.apache.streampipes.benchmarks";
+  public static final String SELECTOR_PREFIX = "s0";
+
+  public static final String TIMESTAMP = "timestamp";
+  public static final String TEMPERATURE = "temperature";
+  public static final String SENSOR = "sensor";
+  public static final String LOCATION = "location";
+  public static final String LATITUDE = "latitude";
+
+  private BenchmarkEvents() {
+  }
+
+  public static Map<String, Object> makeFlatEvent(long timestamp) {
+    Map<String, Object> event = new HashMap<>();
+    event.put(TIMESTAMP, timestamp);
+    event.put("sensorId", "sensor-01");
+    event.put(TEMPERATURE, 21.5);
+    event.put("pressure", 1013.25);
+    event.put("humidity", 48.2f);
+    event.put("mass_flow", 3.1);
+    event.put("volume_flow", 1.7);
+    event.put("level", 88);
+    event.put("overflow", false);
+    event.put("density", 997.1);
+    event.put(LATITUDE, 49.0069);
+    event.put("longitude", 8.4037);
+    return event;
+  }
+
+  public static Map<String, Object> makeNestedEvent(long timestamp) {
+    Map<String, Object> location = new HashMap<>();
+    location.put(LATITUDE, 49.0069);
+    location.put("longitude", 8.4037);
+
+    Map<String, Object> sensor = new HashMap<>();
+    sensor.put("sensorId", "sensor-01");
+    sensor.put(TEMPERATURE, 21.5);
+    sensor.put("pressure", 1013.25);
+    sensor.put("humidity", 48.2f);
+    sensor.put(LOCATION, location);
+
+    Map<String, Object> flow = new HashMap<>();
+    flow.put("mass_flow", 3.1);
+    flow.put("volume_flow", 1.7);
+    flow.put("level", 88);
+    flow.put("overflow", false);
+    flow.put("density", 997.1);
+
+    Map<String, Object> event = new HashMap<>();
+    event.put(TIMESTAMP, timestamp);
+    event.put(SENSOR, sensor);
+    event.put("flow", flow);
+    return event;
+  }
+
+  public static EventSchema makeFlatSchema() {
+    return new EventSchema(new ArrayList<>(List.of(
+        primitive(XSD.LONG, TIMESTAMP),
+        primitive(XSD.STRING, "sensorId"),
+        primitive(XSD.DOUBLE, TEMPERATURE),
+        primitive(XSD.DOUBLE, "pressure"),
+        primitive(XSD.FLOAT, "humidity"),
+        primitive(XSD.DOUBLE, "mass_flow"),
+        primitive(XSD.DOUBLE, "volume_flow"),
+        primitive(XSD.INTEGER, "level"),
+        primitive(XSD.BOOLEAN, "overflow"),
+        primitive(XSD.DOUBLE, "density"),
+        primitive(XSD.DOUBLE, LATITUDE),
+        primitive(XSD.DOUBLE, "longitude")
+    )));
+  }
+
+  public static EventSchema makeNestedSchema() {
+    var location = new EventPropertyNested(LOCATION, new ArrayList<>(List.of(
+        primitive(XSD.DOUBLE, LATITUDE),
+        primitive(XSD.DOUBLE, "longitude")
+    )));
+    var sensor = new EventPropertyNested(SENSOR, new ArrayList<>(List.of(
+        primitive(XSD.STRING, "sensorId"),
+        primitive(XSD.DOUBLE, TEMPERATURE),
+        primitive(XSD.DOUBLE, "pressure"),
+        primitive(XSD.FLOAT, "humidity"),
+        location
+    )));
+    var flow = new EventPropertyNested("flow", new ArrayList<>(List.of(
+        primitive(XSD.DOUBLE, "mass_flow"),
+        primitive(XSD.DOUBLE, "volume_flow"),
+        primitive(XSD.INTEGER, "level"),
+        primitive(XSD.BOOLEAN, "overflow"),
+        primitive(XSD.DOUBLE, "density")
+    )));
+    return new EventSchema(new ArrayList<>(List.of(primitive(XSD.LONG, TIMESTAMP), sensor, flow)));
+  }
+
+  /**
+   * Creates the schema info of incoming events, optionally with a compiled schema
+   * which enables indexed field access.
+   */
+  public static SchemaInfo makeSchemaInfo(EventSchema eventSchema, boolean compiled) {
+    return compiled
+        ? new SchemaInfo(eventSchema, new ArrayList<>(), CompiledEventSchema.compile(eventSchema, SELECTOR_PREFIX))
+        : new SchemaInfo(eventSchema, new ArrayList<>());
+  }
+
+  public static SourceInfo makeSourceInfo() {
+    return new SourceInfo(TOPIC, SELECTOR_PREFIX);
+  }
+
+  public static Event makeEvent(Map<String, Object> rawEvent, SchemaInfo schemaInfo) {
+    return EventFactory.fromMap(rawEvent, makeSourceInfo(), schemaInfo);
+  }
+
+  public static String selector(String... runtimeNames) {
+    return SELECTOR_PREFIX + "::" + String.join("::", runtimeNames);
+  }
+
+  private static EventProperty primitive(URI runtimeType, String runtimeName) {
+    return new EventPropertyPrimitive(runtimeType.toString(), runtimeName, null, new ArrayList<>());
+  }
+}
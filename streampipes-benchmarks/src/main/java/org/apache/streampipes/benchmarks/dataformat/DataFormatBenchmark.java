@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.benchmarks.dataformat;
+
+import org.apache.streampipes.benchmarks.BenchmarkEvents;
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
+import org.apache.streampipes.dataformat.SpDataFormatFactory;
+import org.apache.streampipes.dataformat.cbor.CborDataFormatFactory;
+import org.apache.streampipes.dataformat.fst.FstDataFormatFactory;
+import org.apache.streampipes.dataformat.json.JsonDataFormatFactory;
+import org.apache.streampipes.dataformat.smile.SmileDataFormatFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization and deserialization of events with all supported data formats.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// FST relies on reflective access to JDK internals
+@Fork(value = 2, jvmArgsAppend = {
+    "--add-opens=java.base/java.lang=ALL-UNNAMED",
+    "--add-opens=java.base/java.math=ALL-UNNAMED",
+    "--add-opens=java.base/java.net=ALL-UNNAMED",
+    "--add-opens=java.base/java.text=ALL-UNNAMED",
+    "--add-opens=java.base/java.util=ALL-UNNAMED",
+    "--add-opens=java.base/java.util.concurrent=ALL-UNNAMED"
+})
+@State(Scope.Benchmark)
+public class DataFormatBenchmark {
+
+  @Param({"json", "cbor", "smile", "fst"})
+  public String format;
+
+  @Param({"flat", "nested"})
+  public String schema;
+
+  private SpDataFormatDefinition dataFormatDefinition;
+  private Map<String, Object> rawEvent;
+  private byte[] serializedEvent;
+
+  @Setup
+  public void setup() {
+    this.dataFormatDefinition = makeFactory(format).createInstance();
+    this.rawEvent = "flat".equals(schema)
+        ? BenchmarkEvents.makeFlatEvent(System.currentTimeMillis())
+        : BenchmarkEvents.makeNestedEvent(System.currentTimeMillis());
+    this.serializedEvent = dataFormatDefinition.fromMap(rawEvent);
+  }
+
+  @Benchmark
+  public Map<String, Object> toMap() {
+    return dataFormatDefinition.toMap(serializedEvent);
+  }
+
+  @Benchmark
+  public byte[] fromMap() {
+    return dataFormatDefinition.fromMap(rawEvent);
+  }
+
+  private static SpDataFormatFactory makeFactory(String format) {
+    return switch (format) {
+      case "json" -> new JsonDataFormatFactory();
+      case "cbor" -> new CborDataFormatFactory();
+      case "smile" -> new SmileDataFormatFactory();
+      case "fst" -> new FstDataFormatFactory();
+      default -> throw new IllegalArgumentException("Unknown data format " + format);
+    };
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.benchmarks.event;
+
+import org.apache.streampipes.benchmarks.BenchmarkEvents;
+import org.apache.streampipes.model.runtime.CompiledEventSchema;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventConverter;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.FieldHandle;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the ingest path of events: creating events from raw maps, converting them back into maps
+ * and accessing single fields.
+ * <p>
+ * Each benchmark runs on a flat and a nested event, both with and without a compiled input schema.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EventBenchmark {
+
+  @Param({"flat", "nested"})
+  public String schema;
+
+  @Param({"false", "true"})
+  public boolean compiled;
+
+  private Map<String, Object> rawEvent;
+  private SourceInfo sourceInfo;
+  private SchemaInfo schemaInfo;
+  private Event event;
+
+  private String fieldSelector;
+  private String runtimeName;
+  private FieldHandle fieldHandle;
+
+  @Setup
+  public void setup() {
+    var flat = "flat".equals(schema);
+    var eventSchema = flat ? BenchmarkEvents.makeFlatSchema() : BenchmarkEvents.makeNestedSchema();
+
+    this.rawEvent = flat
+        ? BenchmarkEvents.makeFlatEvent(System.currentTimeMillis())
+        : BenchmarkEvents.makeNestedEvent(System.currentTimeMillis());
+    this.sourceInfo = BenchmarkEvents.makeSourceInfo();
+    this.schemaInfo = BenchmarkEvents.makeSchemaInfo(eventSchema, compiled);
+    this.event = EventFactory.fromMap(rawEvent, sourceInfo, schemaInfo);
+
+    this.fieldSelector = flat
+        ? BenchmarkEvents.selector(BenchmarkEvents.TEMPERATURE)
+        : BenchmarkEvents.selector(BenchmarkEvents.SENSOR, BenchmarkEvents.LOCATION, BenchmarkEvents.LATITUDE);
+    // lookups by runtime name are only supported for first-level properties
+    this.runtimeName = flat ? BenchmarkEvents.TEMPERATURE : BenchmarkEvents.SENSOR;
+    this.fieldHandle = (compiled ? schemaInfo.getCompiledSchema() : CompiledEventSchema.compile(
+        eventSchema, BenchmarkEvents.SELECTOR_PREFIX)).getHandle(fieldSelector);
+  }
+
+  @Benchmark
+  public Event fromMap() {
+    return EventFactory.fromMap(rawEvent, sourceInfo, schemaInfo);
+  }
+
+  @Benchmark
+  public Map<String, Object> toMap() {
+    return new EventConverter(event).toMap();
+  }
+
+  @Benchmark
+  public Object getFieldBySelector() {
+    return event.getFieldBySelector(fieldSelector);
+  }
+
+  @Benchmark
+  public Object getFieldByRuntimeName() {
+    return event.getFieldByRuntimeName(runtimeName);
+  }
+
+  @Benchmark
+  public double getDoubleByHandle() {
+    return event.getDoubleByHandle(fieldHandle);
+  }
+}
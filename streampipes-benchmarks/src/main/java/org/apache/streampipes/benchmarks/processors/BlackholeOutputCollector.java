@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.benchmarks.processors;
+
+import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
+import org.apache.streampipes.messaging.InternalEventProcessor;
+import org.apache.streampipes.model.runtime.Event;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+
+/**
+ * Output collector which passes all collected events to a blackhole.
+ */
+public class BlackholeOutputCollector implements SpOutputCollector {
+
+  private final Blackhole blackhole;
+
+  public BlackholeOutputCollector(Blackhole blackhole) {
+    this.blackhole = blackhole;
+  }
+
+  @Override
+  public void collect(Event event) {
+    blackhole.consume(event);
+  }
+
+  @Override
+  public void registerConsumer(String routeId, InternalEventProcessor<Map<String, Object>> consumer) {
+  }
+
+  @Override
+  public void unregisterConsumer(String routeId) {
+  }
+
+  @Override
+  public void connect() {
+  }
+
+  @Override
+  public void disconnect() {
+  }
+}
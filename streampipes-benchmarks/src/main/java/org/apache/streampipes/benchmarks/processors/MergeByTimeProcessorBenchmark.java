@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.benchmarks.processors;
+
+import org.apache.streampipes.benchmarks.BenchmarkEvents;
+import org.apache.streampipes.model.output.CustomOutputStrategy;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+import org.apache.streampipes.processors.filters.jvm.processor.merge.MergeByTimeProcessor;
+import org.apache.streampipes.test.executors.ProcessingElementTestExecutor;
+import org.apache.streampipes.test.executors.TestConfiguration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link MergeByTimeProcessor} with two streams that emit events alternately, every pair of
+ * events is merged into one output event. Each operation includes the creation of the input event from its
+ * raw map as done by the runtime.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MergeByTimeProcessorBenchmark {
+
+  private static final String SECOND_SELECTOR_PREFIX = "s1";
+  private static final String TIMESTAMP_STREAM_1 = "timestamp_mapping_stream_1";
+  private static final String TIMESTAMP_STREAM_2 = "timestamp_mapping_stream_2";
+  private static final long TIME_INTERVAL = 100;
+
+  private MergeByTimeProcessor processor;
+  private BlackholeOutputCollector collector;
+  private SourceInfo firstSourceInfo;
+  private SourceInfo secondSourceInfo;
+  private SchemaInfo schemaInfo;
+  private long timestamp;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    var configuration = TestConfiguration.builder()
+        .config("time-interval", TIME_INTERVAL)
+        .configWithPrefix(TIMESTAMP_STREAM_1, TIMESTAMP_STREAM_1, BenchmarkEvents.SELECTOR_PREFIX)
+        .configWithPrefix(TIMESTAMP_STREAM_2, TIMESTAMP_STREAM_2, SECOND_SELECTOR_PREFIX)
+        .build();
+
+    this.processor = new MergeByTimeProcessor();
+    new ProcessingElementTestExecutor(processor, configuration, invocation -> {
+      List<String> outputKeySelectors = invocation.getOutputStrategies()
+          .stream()
+          .filter(CustomOutputStrategy.class::isInstance)
+          .map(o -> (CustomOutputStrategy) o)
+          .findFirst()
+          .map(CustomOutputStrategy::getSelectedPropertyKeys)
+          .orElse(new ArrayList<>());
+      outputKeySelectors.add(BenchmarkEvents.SELECTOR_PREFIX + "::" + TIMESTAMP_STREAM_1);
+      outputKeySelectors.add(SECOND_SELECTOR_PREFIX + "::" + TIMESTAMP_STREAM_2);
+    }).startProcessor();
+
+    this.collector = new BlackholeOutputCollector(blackhole);
+    this.firstSourceInfo = BenchmarkEvents.makeSourceInfo();
+    this.secondSourceInfo = new SourceInfo(BenchmarkEvents.TOPIC, SECOND_SELECTOR_PREFIX);
+    this.schemaInfo = new SchemaInfo(null, new ArrayList<>());
+    this.timestamp = System.currentTimeMillis();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(2)
+  public void onEvent() {
+    timestamp += TIME_INTERVAL;
+    processor.onEvent(
+        EventFactory.fromMap(makeRawEvent(TIMESTAMP_STREAM_1, timestamp), firstSourceInfo, schemaInfo),
+        collector
+    );
+    processor.onEvent(
+        EventFactory.fromMap(makeRawEvent(TIMESTAMP_STREAM_2, timestamp + 10), secondSourceInfo, schemaInfo),
+        collector
+    );
+  }
+
+  @TearDown
+  public void tearDown() {
+    processor.onPipelineStopped();
+  }
+
+  private Map<String, Object> makeRawEvent(String timestampField, long timestamp) {
+    Map<String, Object> rawEvent = new HashMap<>();
+    rawEvent.put(timestampField, timestamp);
+    rawEvent.put(BenchmarkEvents.TEMPERATURE, 21.5);
+    return rawEvent;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.benchmarks.processors;
+
+import org.apache.streampipes.benchmarks.BenchmarkEvents;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+import org.apache.streampipes.processors.filters.jvm.processor.movingaverage.MovingAverageProcessor;
+import org.apache.streampipes.test.executors.ProcessingElementTestExecutor;
+import org.apache.streampipes.test.executors.TestConfiguration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link MovingAverageProcessor} with both filter methods. Each operation includes the creation
+ * of the input event from its raw map as done by the runtime.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MovingAverageProcessorBenchmark {
+
+  @Param({"mean", "median"})
+  public String method;
+
+  @Param({"10", "100"})
+  public int windowSize;
+
+  private MovingAverageProcessor processor;
+  private BlackholeOutputCollector collector;
+  private SourceInfo sourceInfo;
+  private SchemaInfo schemaInfo;
+  private Map<String, Object> rawEvent;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    var configuration = TestConfiguration.builder()
+        .configWithPrefix("number", BenchmarkEvents.TEMPERATURE, BenchmarkEvents.SELECTOR_PREFIX)
+        .config("n", windowSize)
+        .config("method", method)
+        .build();
+
+    this.processor = new MovingAverageProcessor();
+    new ProcessingElementTestExecutor(processor, configuration).startProcessor();
+
+    this.collector = new BlackholeOutputCollector(blackhole);
+    this.sourceInfo = BenchmarkEvents.makeSourceInfo();
+    this.schemaInfo = BenchmarkEvents.makeSchemaInfo(BenchmarkEvents.makeFlatSchema(), true);
+    this.rawEvent = BenchmarkEvents.makeFlatEvent(System.currentTimeMillis());
+  }
+
+  @Benchmark
+  public void onEvent() {
+    processor.onEvent(EventFactory.fromMap(rawEvent, sourceInfo, schemaInfo), collector);
+  }
+
+  @TearDown
+  public void tearDown() {
+    processor.onPipelineStopped();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.benchmarks.processors;
+
+import org.apache.streampipes.benchmarks.BenchmarkEvents;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+import org.apache.streampipes.processors.filters.jvm.processor.numericalfilter.NumericalFilterProcessor;
+import org.apache.streampipes.test.executors.ProcessingElementTestExecutor;
+import org.apache.streampipes.test.executors.TestConfiguration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link NumericalFilterProcessor}. Each operation includes the creation of the input event
+ * from its raw map as done by the runtime. The threshold is chosen such that about half of the events pass.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NumericalFilterProcessorBenchmark {
+
+  @Param({"false", "true"})
+  public boolean compiled;
+
+  private NumericalFilterProcessor processor;
+  private BlackholeOutputCollector collector;
+  private SourceInfo sourceInfo;
+  private SchemaInfo schemaInfo;
+  private Map<String, Object> passingEvent;
+  private Map<String, Object> filteredEvent;
+  private long counter;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    var configuration = TestConfiguration.builder()
+        .configWithPrefix("number-mapping", BenchmarkEvents.TEMPERATURE, BenchmarkEvents.SELECTOR_PREFIX)
+        .config("value", 20.0)
+        .config("operation", ">")
+        .build();
+
+    this.processor = new NumericalFilterProcessor();
+    new ProcessingElementTestExecutor(processor, configuration).startProcessor();
+
+    this.collector = new BlackholeOutputCollector(blackhole);
+    this.sourceInfo = BenchmarkEvents.makeSourceInfo();
+    this.schemaInfo = BenchmarkEvents.makeSchemaInfo(BenchmarkEvents.makeFlatSchema(), compiled);
+    this.passingEvent = BenchmarkEvents.makeFlatEvent(System.currentTimeMillis());
+    this.filteredEvent = BenchmarkEvents.makeFlatEvent(System.currentTimeMillis());
+    this.filteredEvent.put(BenchmarkEvents.TEMPERATURE, 15.0);
+  }
+
+  @Benchmark
+  public void onEvent() {
+    var rawEvent = (counter++ & 1) == 0 ? passingEvent : filteredEvent;
+    processor.onEvent(EventFactory.fromMap(rawEvent, sourceInfo, schemaInfo), collector);
+  }
+
+  @TearDown
+  public void tearDown() {
+    processor.onPipelineStopped();
+  }
+}
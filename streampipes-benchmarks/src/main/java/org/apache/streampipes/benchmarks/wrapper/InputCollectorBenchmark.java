@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.benchmarks.wrapper;
+
+import org.apache.streampipes.benchmarks.BenchmarkEvents;
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
+import org.apache.streampipes.dataformat.SpDataFormatManager;
+import org.apache.streampipes.dataformat.json.JsonDataFormatDefinition;
+import org.apache.streampipes.dataformat.json.JsonDataFormatFactory;
+import org.apache.streampipes.extensions.api.pe.param.IInternalRuntimeParameters;
+import org.apache.streampipes.extensions.api.pe.param.IPipelineElementParameters;
+import org.apache.streampipes.extensions.api.pe.param.InputStreamParams;
+import org.apache.streampipes.extensions.api.pe.routing.RawDataProcessor;
+import org.apache.streampipes.messaging.SpProtocolManager;
+import org.apache.streampipes.messaging.local.SpLocalProtocolFactory;
+import org.apache.streampipes.model.SpDataStream;
+import org.apache.streampipes.model.grounding.EventGrounding;
+import org.apache.streampipes.model.grounding.LocalTransportProtocol;
+import org.apache.streampipes.model.grounding.TransportFormat;
+import org.apache.streampipes.vocabulary.MessageFormat;
+import org.apache.streampipes.wrapper.params.InternalRuntimeParameters;
+import org.apache.streampipes.wrapper.params.PipelineElementParameters;
+import org.apache.streampipes.wrapper.standalone.routing.StandaloneSpInputCollector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the input side of a standalone pipeline element end-to-end: dispatching the serialized
+ * event to the registered runtime and decoding it into an {@code Event} object.
+ * <p>
+ * The collector is created for a local transport protocol whose consumer is never connected, events
+ * are handed to the collector directly as the broker consumer would do. The registered runtime
+ * creates the events with the internal runtime parameters of the wrapper and the input stream
+ * parameters of a pipeline element, as the standalone runtimes do, and passes them to a blackhole.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InputCollectorBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+
+  private StandaloneSpInputCollector<LocalTransportProtocol> inputCollector;
+  private byte[] serializedEvent;
+  private List<byte[]> serializedBatch;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    SpProtocolManager.INSTANCE.register(new SpLocalProtocolFactory());
+    SpDataFormatManager.INSTANCE.register(new JsonDataFormatFactory());
+
+    var protocol = new LocalTransportProtocol(BenchmarkEvents.TOPIC);
+    var format = new TransportFormat(MessageFormat.JSON);
+    var inputStream = new SpDataStream();
+    inputStream.setEventGrounding(new EventGrounding(protocol, format));
+    inputStream.setEventSchema(BenchmarkEvents.makeFlatSchema());
+
+    this.inputCollector = new StandaloneSpInputCollector<>(protocol, format, false);
+    this.inputCollector.registerConsumer(
+        "benchmark",
+        new BlackholeRuntime(
+            new PipelineElementParameters<>(
+                null,
+                null,
+                List.of(new InputStreamParams(0, inputStream, List.of())),
+                Map.of()
+            ),
+            new InternalRuntimeParameters(),
+            blackhole
+        )
+    );
+
+    var dataFormat = new JsonDataFormatDefinition();
+    this.serializedEvent = dataFormat.fromMap(BenchmarkEvents.makeFlatEvent(System.currentTimeMillis()));
+    this.serializedBatch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      serializedBatch.add(dataFormat.fromMap(BenchmarkEvents.makeFlatEvent(System.currentTimeMillis() + i)));
+    }
+  }
+
+  @Benchmark
+  public void onEvent() {
+    inputCollector.onEvent(serializedEvent);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void onEvents() {
+    inputCollector.onEvents(serializedBatch);
+  }
+
+  private record BlackholeRuntime(IPipelineElementParameters<?, ?> parameters,
+                                  IInternalRuntimeParameters internalParameters,
+                                  Blackhole blackhole) implements RawDataProcessor {
+
+    @Override
+    public void process(Map<String, Object> rawEvent, String sourceInfo) {
+      blackhole.consume(internalParameters.makeEvent(parameters, rawEvent, sourceInfo));
+    }
+
+    @Override
+    public void process(byte[] payload,
+                        SpDataFormatDefinition dataFormat,
+                        String sourceInfo) {
+      blackhole.consume(internalParameters.makeEvent(parameters, payload, dataFormat, sourceInfo));
+    }
+
+    @Override
+    public void process(List<byte[]> payloads,
+                        SpDataFormatDefinition dataFormat,
+                        String sourceInfo) {
+      for (byte[] payload : payloads) {
+        process(payload, dataFormat, sourceInfo);
+      }
+    }
+  }
+}
@@ -51,6 +51,7 @@ public enum Envs {
   SP_COUCHDB_PORT("SP_COUCHDB_PORT", "5984"),
   SP_COUCHDB_USER("SP_COUCHDB_USER", "admin"),
   SP_COUCHDB_PASSWORD("SP_COUCHDB_PASSWORD", "admin"),
+  SP_COUCHDB_MAX_CONNECTIONS("SP_COUCHDB_MAX_CONNECTIONS", "200"),
 
 
   // Time Series Storage
@@ -64,10 +65,27 @@ public enum Envs {
   SP_TS_STORAGE_ORG("SP_TS_STORAGE_ORG", "sp"),
 
   SP_TS_STORAGE_BUCKET("SP_TS_STORAGE_BUCKET", "sp"),
+  SP_TS_STORAGE_WRITE_BATCH_SIZE("SP_TS_STORAGE_WRITE_BATCH_SIZE", "2000"),
+  SP_TS_STORAGE_WRITE_LINGER_MS("SP_TS_STORAGE_WRITE_LINGER_MS", "500"),
+  SP_TS_STORAGE_WRITE_BUFFER_SIZE("SP_TS_STORAGE_WRITE_BUFFER_SIZE", "20000"),
+  SP_TS_STORAGE_QUERY_MAX_CONNECTIONS("SP_TS_STORAGE_QUERY_MAX_CONNECTIONS", "20"),
+  SP_DATA_EXPLORER_QUERY_CACHE_ENABLED("SP_DATA_EXPLORER_QUERY_CACHE_ENABLED", "true"),
+  SP_DATA_EXPLORER_QUERY_CACHE_MAX_ENTRIES("SP_DATA_EXPLORER_QUERY_CACHE_MAX_ENTRIES", "256"),
+  SP_DATA_EXPLORER_QUERY_CACHE_MAX_ROWS("SP_DATA_EXPLORER_QUERY_CACHE_MAX_ROWS", "50000"),
+  SP_DATA_EXPLORER_QUERY_CACHE_WINDOW_MS("SP_DATA_EXPLORER_QUERY_CACHE_WINDOW_MS", "5000"),
+  SP_DATA_EXPLORER_QUERY_PARALLELISM("SP_DATA_EXPLORER_QUERY_PARALLELISM", "8"),
+  SP_DATA_EXPLORER_QUERY_TIMEOUT_MS("SP_DATA_EXPLORER_QUERY_TIMEOUT_MS", "30000"),
+  SP_DATA_EXPLORER_EXPORT_PARALLELISM("SP_DATA_EXPLORER_EXPORT_PARALLELISM", "4"),
+  SP_DATA_EXPLORER_EXPORT_CHUNK_SIZE("SP_DATA_EXPLORER_EXPORT_CHUNK_SIZE", "10000"),
+  SP_PIPELINE_ELEMENT_INVOCATION_PARALLELISM("SP_PIPELINE_ELEMENT_INVOCATION_PARALLELISM", "8"),
+  SP_PIPELINE_ELEMENT_INVOCATION_TIMEOUT_MS("SP_PIPELINE_ELEMENT_INVOCATION_TIMEOUT_MS", "60000"),
   SP_TS_STORAGE_IOT_DB_SESSION_POOL_SIZE("SP_TS_STORAGE_IOT_DB_SESSION_POOL_SIZE", "10"),
   SP_TS_STORAGE_IOT_DB_SESSION_POOL_ENABLE_COMPRESSION("SP_TS_STORAGE_IOT_DB_SESSION_POOL_ENABLE_COMPRESSION", "false"),
   SP_TS_STORAGE_IOT_DB_USER("SP_TS_STORAGE_IOT_DB_USER", "root"),
   SP_TS_STORAGE_IOT_DB_PASSWORD("SP_TS_STORAGE_IOT_DB_PASSWORD", "root"),
+  SP_TS_STORAGE_IOT_DB_TABLET_INGESTION_ENABLED("SP_TS_STORAGE_IOT_DB_TABLET_INGESTION_ENABLED", "true"),
+  SP_TS_STORAGE_IOT_DB_TABLET_MAX_ROWS("SP_TS_STORAGE_IOT_DB_TABLET_MAX_ROWS", "1000"),
+  SP_TS_STORAGE_IOT_DB_TABLET_FLUSH_INTERVAL_MS("SP_TS_STORAGE_IOT_DB_TABLET_FLUSH_INTERVAL_MS", "1000"),
 
   SP_FLINK_JAR_FILE_LOC(
       "SP_FLINK_JAR_FILE_LOC",
@@ -91,6 +109,10 @@ public enum Envs {
 
   SP_INITIAL_WAIT_BEFORE_INSTALLATION_MS("SP_INITIAL_WAIT_BEFORE_INSTALLATION_MS", "5000"),
 
+  SP_PRINCIPAL_CACHE_ENABLED("SP_PRINCIPAL_CACHE_ENABLED", "true"),
+  SP_PRINCIPAL_CACHE_MAX_ENTRIES("SP_PRINCIPAL_CACHE_MAX_ENTRIES", "10000"),
+  SP_PRINCIPAL_CACHE_TTL_MS("SP_PRINCIPAL_CACHE_TTL_MS", "60000"),
+
   // Broker defaults
 
   SP_KAFKA_HOST("SP_KAFKA_HOST", "kafka"),
@@ -104,6 +126,15 @@ public enum Envs {
 
   SP_PULSAR_URL("SP_PULSAR_URL", "pulsar://localhost:6650"),
 
+  SP_LOCAL_TRANSPORT_QUEUE_SIZE("SP_LOCAL_TRANSPORT_QUEUE_SIZE", "1000"),
+
+  SP_CONSUMER_MAX_BATCH_SIZE("SP_CONSUMER_MAX_BATCH_SIZE", "500"),
+
+  SP_CONNECT_DUPLICATE_FILTER_MAX_ENTRIES("SP_CONNECT_DUPLICATE_FILTER_MAX_ENTRIES", "500000"),
+
+  SP_CONNECT_PULL_SCHEDULER_THREADS("SP_CONNECT_PULL_SCHEDULER_THREADS", "4"),
+  SP_CONNECT_PULL_SCHEDULER_TICK_MS("SP_CONNECT_PULL_SCHEDULER_TICK_MS", "10"),
+
   // expects a comma separated string of service names
   SP_SERVICE_TAGS("SP_SERVICE_TAGS", "");
 
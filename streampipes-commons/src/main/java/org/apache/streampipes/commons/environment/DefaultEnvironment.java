@@ -90,6 +90,76 @@ public class DefaultEnvironment implements Environment {
     return new StringEnvironmentVariable(Envs.SP_TS_STORAGE_BUCKET);
   }
 
+  @Override
+  public IntEnvironmentVariable getTsStorageWriteBatchSize() {
+    return new IntEnvironmentVariable(Envs.SP_TS_STORAGE_WRITE_BATCH_SIZE);
+  }
+
+  @Override
+  public IntEnvironmentVariable getTsStorageWriteLingerMillis() {
+    return new IntEnvironmentVariable(Envs.SP_TS_STORAGE_WRITE_LINGER_MS);
+  }
+
+  @Override
+  public IntEnvironmentVariable getTsStorageWriteBufferSize() {
+    return new IntEnvironmentVariable(Envs.SP_TS_STORAGE_WRITE_BUFFER_SIZE);
+  }
+
+  @Override
+  public IntEnvironmentVariable getTsStorageQueryMaxConnections() {
+    return new IntEnvironmentVariable(Envs.SP_TS_STORAGE_QUERY_MAX_CONNECTIONS);
+  }
+
+  @Override
+  public BooleanEnvironmentVariable getDataExplorerQueryCacheEnabled() {
+    return new BooleanEnvironmentVariable(Envs.SP_DATA_EXPLORER_QUERY_CACHE_ENABLED);
+  }
+
+  @Override
+  public IntEnvironmentVariable getDataExplorerQueryCacheMaxEntries() {
+    return new IntEnvironmentVariable(Envs.SP_DATA_EXPLORER_QUERY_CACHE_MAX_ENTRIES);
+  }
+
+  @Override
+  public IntEnvironmentVariable getDataExplorerQueryCacheMaxRows() {
+    return new IntEnvironmentVariable(Envs.SP_DATA_EXPLORER_QUERY_CACHE_MAX_ROWS);
+  }
+
+  @Override
+  public IntEnvironmentVariable getDataExplorerQueryCacheWindowMillis() {
+    return new IntEnvironmentVariable(Envs.SP_DATA_EXPLORER_QUERY_CACHE_WINDOW_MS);
+  }
+
+  @Override
+  public IntEnvironmentVariable getDataExplorerQueryParallelism() {
+    return new IntEnvironmentVariable(Envs.SP_DATA_EXPLORER_QUERY_PARALLELISM);
+  }
+
+  @Override
+  public IntEnvironmentVariable getDataExplorerQueryTimeoutMillis() {
+    return new IntEnvironmentVariable(Envs.SP_DATA_EXPLORER_QUERY_TIMEOUT_MS);
+  }
+
+  @Override
+  public IntEnvironmentVariable getDataExplorerExportParallelism() {
+    return new IntEnvironmentVariable(Envs.SP_DATA_EXPLORER_EXPORT_PARALLELISM);
+  }
+
+  @Override
+  public IntEnvironmentVariable getDataExplorerExportChunkSize() {
+    return new IntEnvironmentVariable(Envs.SP_DATA_EXPLORER_EXPORT_CHUNK_SIZE);
+  }
+
+  @Override
+  public IntEnvironmentVariable getPipelineElementInvocationParallelism() {
+    return new IntEnvironmentVariable(Envs.SP_PIPELINE_ELEMENT_INVOCATION_PARALLELISM);
+  }
+
+  @Override
+  public IntEnvironmentVariable getPipelineElementInvocationTimeoutMillis() {
+    return new IntEnvironmentVariable(Envs.SP_PIPELINE_ELEMENT_INVOCATION_TIMEOUT_MS);
+  }
+
   @Override
   public IntEnvironmentVariable getIotDbSessionPoolSize(){
     return new IntEnvironmentVariable(Envs.SP_TS_STORAGE_IOT_DB_SESSION_POOL_SIZE);
@@ -110,6 +180,21 @@ public class DefaultEnvironment implements Environment {
     return new StringEnvironmentVariable(Envs.SP_TS_STORAGE_IOT_DB_PASSWORD);
   }
 
+  @Override
+  public BooleanEnvironmentVariable getIotDbTabletIngestionEnabled() {
+    return new BooleanEnvironmentVariable(Envs.SP_TS_STORAGE_IOT_DB_TABLET_INGESTION_ENABLED);
+  }
+
+  @Override
+  public IntEnvironmentVariable getIotDbTabletMaxRows() {
+    return new IntEnvironmentVariable(Envs.SP_TS_STORAGE_IOT_DB_TABLET_MAX_ROWS);
+  }
+
+  @Override
+  public IntEnvironmentVariable getIotDbTabletFlushIntervalMillis() {
+    return new IntEnvironmentVariable(Envs.SP_TS_STORAGE_IOT_DB_TABLET_FLUSH_INTERVAL_MS);
+  }
+
   @Override
   public StringEnvironmentVariable getCouchDbProtocol() {
     return new StringEnvironmentVariable(Envs.SP_COUCHDB_PROTOCOL);
@@ -134,6 +219,11 @@ public class DefaultEnvironment implements Environment {
     return new StringEnvironmentVariable(Envs.SP_COUCHDB_PASSWORD);
   }
 
+  @Override
+  public IntEnvironmentVariable getCouchDbMaxConnections() {
+    return new IntEnvironmentVariable(Envs.SP_COUCHDB_MAX_CONNECTIONS);
+  }
+
   @Override
   public StringEnvironmentVariable getClientUser() {
     return new StringEnvironmentVariable(Envs.SP_CLIENT_USER);
@@ -299,6 +389,46 @@ public class DefaultEnvironment implements Environment {
     return new StringEnvironmentVariable(Envs.SP_PULSAR_URL);
   }
 
+  @Override
+  public IntEnvironmentVariable getLocalTransportQueueSize() {
+    return new IntEnvironmentVariable(Envs.SP_LOCAL_TRANSPORT_QUEUE_SIZE);
+  }
+
+  @Override
+  public IntEnvironmentVariable getConsumerMaxBatchSize() {
+    return new IntEnvironmentVariable(Envs.SP_CONSUMER_MAX_BATCH_SIZE);
+  }
+
+  @Override
+  public IntEnvironmentVariable getConnectDuplicateFilterMaxEntries() {
+    return new IntEnvironmentVariable(Envs.SP_CONNECT_DUPLICATE_FILTER_MAX_ENTRIES);
+  }
+
+  @Override
+  public IntEnvironmentVariable getConnectPullSchedulerThreads() {
+    return new IntEnvironmentVariable(Envs.SP_CONNECT_PULL_SCHEDULER_THREADS);
+  }
+
+  @Override
+  public IntEnvironmentVariable getConnectPullSchedulerTickMillis() {
+    return new IntEnvironmentVariable(Envs.SP_CONNECT_PULL_SCHEDULER_TICK_MS);
+  }
+
+  @Override
+  public BooleanEnvironmentVariable getPrincipalCacheEnabled() {
+    return new BooleanEnvironmentVariable(Envs.SP_PRINCIPAL_CACHE_ENABLED);
+  }
+
+  @Override
+  public IntEnvironmentVariable getPrincipalCacheMaxEntries() {
+    return new IntEnvironmentVariable(Envs.SP_PRINCIPAL_CACHE_MAX_ENTRIES);
+  }
+
+  @Override
+  public IntEnvironmentVariable getPrincipalCacheTtlMillis() {
+    return new IntEnvironmentVariable(Envs.SP_PRINCIPAL_CACHE_TTL_MS);
+  }
+
   @Override
   public StringEnvironmentVariable getCustomServiceTags() {
     return new StringEnvironmentVariable(Envs.SP_SERVICE_TAGS);
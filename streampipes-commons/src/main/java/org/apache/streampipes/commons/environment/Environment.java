@@ -52,6 +52,34 @@ public interface Environment {
 
   StringEnvironmentVariable getTsStorageBucket();
 
+  IntEnvironmentVariable getTsStorageWriteBatchSize();
+
+  IntEnvironmentVariable getTsStorageWriteLingerMillis();
+
+  IntEnvironmentVariable getTsStorageWriteBufferSize();
+
+  IntEnvironmentVariable getTsStorageQueryMaxConnections();
+
+  BooleanEnvironmentVariable getDataExplorerQueryCacheEnabled();
+
+  IntEnvironmentVariable getDataExplorerQueryCacheMaxEntries();
+
+  IntEnvironmentVariable getDataExplorerQueryCacheMaxRows();
+
+  IntEnvironmentVariable getDataExplorerQueryCacheWindowMillis();
+
+  IntEnvironmentVariable getDataExplorerQueryParallelism();
+
+  IntEnvironmentVariable getDataExplorerQueryTimeoutMillis();
+
+  IntEnvironmentVariable getDataExplorerExportParallelism();
+
+  IntEnvironmentVariable getDataExplorerExportChunkSize();
+
+  IntEnvironmentVariable getPipelineElementInvocationParallelism();
+
+  IntEnvironmentVariable getPipelineElementInvocationTimeoutMillis();
+
   IntEnvironmentVariable getIotDbSessionPoolSize();
 
   BooleanEnvironmentVariable getIotDbSessionEnableCompression();
@@ -60,6 +88,12 @@ public interface Environment {
 
   StringEnvironmentVariable getIotDbPassword();
 
+  BooleanEnvironmentVariable getIotDbTabletIngestionEnabled();
+
+  IntEnvironmentVariable getIotDbTabletMaxRows();
+
+  IntEnvironmentVariable getIotDbTabletFlushIntervalMillis();
+
   // CouchDB env variables
 
   StringEnvironmentVariable getCouchDbProtocol();
@@ -72,6 +106,8 @@ public interface Environment {
 
   StringEnvironmentVariable getCouchDbPassword();
 
+  IntEnvironmentVariable getCouchDbMaxConnections();
+
 
   // JWT & Authentication
 
@@ -145,6 +181,22 @@ public interface Environment {
 
   StringEnvironmentVariable getPulsarUrl();
 
+  IntEnvironmentVariable getLocalTransportQueueSize();
+
+  IntEnvironmentVariable getConsumerMaxBatchSize();
+
+  IntEnvironmentVariable getConnectDuplicateFilterMaxEntries();
+
+  IntEnvironmentVariable getConnectPullSchedulerThreads();
+
+  IntEnvironmentVariable getConnectPullSchedulerTickMillis();
+
+  BooleanEnvironmentVariable getPrincipalCacheEnabled();
+
+  IntEnvironmentVariable getPrincipalCacheMaxEntries();
+
+  IntEnvironmentVariable getPrincipalCacheTtlMillis();
+
   StringEnvironmentVariable getCustomServiceTags();
 
 }
@@ -20,6 +20,7 @@ package org.apache.streampipes.commons.prometheus.pipelines;
 import org.apache.streampipes.commons.prometheus.StreamPipesCollectorRegistry;
 
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 
 public class PipelinesMetrics {
@@ -54,4 +55,16 @@ public class PipelinesMetrics {
                                                     "element_count",
                                                      "Total number of elements in the pipeline");
 
+  public static final Histogram HEALTH_CHECK_DURATION = StreamPipesCollectorRegistry.registerHistogram(
+                                                    "pipeline_health_check_duration_seconds",
+                                                     "Duration of a pipeline health check run");
+
+  public static final Histogram RUNNING_INSTANCES_REFRESH_DURATION = StreamPipesCollectorRegistry.registerHistogram(
+                                                    "pipeline_running_instances_refresh_duration_seconds",
+                                                     "Duration of fetching the running pipeline element instances");
+
+  public static final Histogram RESTORE_DURATION = StreamPipesCollectorRegistry.registerHistogram(
+                                                    "pipeline_element_restore_duration_seconds",
+                                                     "Duration of restoring unavailable pipeline elements");
+
 }
@@ -42,7 +42,7 @@ public class AdapterEventPreviewPipeline implements IAdapterPipeline {
   public AdapterEventPreviewPipeline(AdapterEventPreview previewRequest) {
     this.objectMapper = new ObjectMapper();
     this.pipelineElements = new AdapterPipelineGeneratorBase()
-        .makeAdapterPipelineElements(previewRequest.getRules(), false);
+        .makeAdapterPipelineElements(previewRequest.getRules());
     this.event = previewRequest.getInputData();
   }
 
@@ -29,19 +29,30 @@ import java.util.List;
 
 public class AdapterPipelineGeneratorBase {
 
-  public List<IAdapterPipelineElement> makeAdapterPipelineElements(List<TransformationRuleDescription> rules,
-                                                                   boolean includeStateful) {
+  /**
+   * Creates the pipeline elements of the stateless transformation rules only, e.g., for previews.
+   */
+  public List<IAdapterPipelineElement> makeAdapterPipelineElements(List<TransformationRuleDescription> rules) {
     var elements = new ArrayList<IAdapterPipelineElement>();
     elements.add(new AdapterTransformationPipelineElement(
         rules,
         new StatelessTransformationRuleGeneratorVisitor())
     );
-    if (includeStateful) {
-      elements.add(new AdapterTransformationPipelineElement(
-          rules,
-          new StatefulTransformationRuleGeneratorVisitor())
-      );
-    }
+    return elements;
+  }
+
+  /**
+   * Creates the pipeline elements of all transformation rules of a running adapter.
+   *
+   * @param adapterElementId The element id of the adapter, metrics of stateful rules are reported for this id
+   */
+  public List<IAdapterPipelineElement> makeAdapterPipelineElements(List<TransformationRuleDescription> rules,
+                                                                   String adapterElementId) {
+    var elements = makeAdapterPipelineElements(rules);
+    elements.add(new AdapterTransformationPipelineElement(
+        rules,
+        new StatefulTransformationRuleGeneratorVisitor(adapterElementId))
+    );
     return elements;
   }
 }
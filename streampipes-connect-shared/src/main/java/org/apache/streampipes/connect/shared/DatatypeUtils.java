@@ -24,6 +24,8 @@ import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Function;
+
 public class DatatypeUtils {
 
   private static final Logger LOG = LoggerFactory.getLogger(DatatypeUtils.class);
@@ -57,6 +59,37 @@ public class DatatypeUtils {
     return value;
   }
 
+  /**
+   * Returns a converter for string values of the given datatype, which behaves like
+   * {@link #convertValue(Object, String)}. The datatype is resolved once, so that the converter can be reused for all
+   * values of a column.
+   */
+  public static Function<String, Object> makeConverter(String targetDatatypeXsd) {
+    if (XSD.DOUBLE.toString().equals(targetDatatypeXsd)) {
+      return value -> parseNumber(value, Double::parseDouble);
+    } else if (XSD.FLOAT.toString().equals(targetDatatypeXsd)) {
+      return value -> parseNumber(value, Float::parseFloat);
+    } else if (XSD.BOOLEAN.toString().equals(targetDatatypeXsd)) {
+      return Boolean::parseBoolean;
+    } else if (XSD.INTEGER.toString().equals(targetDatatypeXsd)) {
+      return value -> parseNumber(value, v -> Math.round(Float.parseFloat(v)));
+    } else if (XSD.LONG.toString().equals(targetDatatypeXsd)) {
+      return value -> parseNumber(value, v -> Math.round(Double.parseDouble(v)));
+    } else {
+      return value -> value;
+    }
+  }
+
+  private static Object parseNumber(String value,
+                                    Function<String, Object> parser) {
+    try {
+      return parser.apply(value);
+    } catch (NumberFormatException e) {
+      LOG.error("Number format exception {}", value);
+      return value;
+    }
+  }
+
   public static String getCanonicalTypeClassName(String value,
                                                  boolean preferFloat) {
     return getTypeClass(value, preferFloat).getCanonicalName();
@@ -20,6 +20,7 @@ package org.apache.streampipes.connect.shared.preprocessing.generator;
 
 import org.apache.streampipes.connect.shared.preprocessing.transform.stream.DuplicateFilterPipelineElement;
 import org.apache.streampipes.connect.shared.preprocessing.transform.stream.EventRateTransformationRule;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
 import org.apache.streampipes.model.connect.rules.schema.CreateNestedRuleDescription;
 import org.apache.streampipes.model.connect.rules.schema.DeleteRuleDescription;
 import org.apache.streampipes.model.connect.rules.schema.MoveRuleDescription;
@@ -35,6 +36,15 @@ import org.apache.streampipes.model.connect.rules.value.UnitTransformRuleDescrip
 
 public class StatefulTransformationRuleGeneratorVisitor extends TransformationRuleGeneratorVisitor {
 
+  private final String adapterElementId;
+
+  /**
+   * @param adapterElementId The element id of the adapter, metrics of stateful rules are reported for this id
+   */
+  public StatefulTransformationRuleGeneratorVisitor(String adapterElementId) {
+    this.adapterElementId = adapterElementId;
+  }
+
   @Override
   public void visit(CreateNestedRuleDescription rule) {
     // skip (not a stateful transformation)
@@ -64,7 +74,10 @@ public class StatefulTransformationRuleGeneratorVisitor extends TransformationRu
   @Override
   public void visit(RemoveDuplicatesTransformationRuleDescription ruleDesc) {
     this.rules.add(
-        new DuplicateFilterPipelineElement(ruleDesc.getFilterTimeWindow()));
+        new DuplicateFilterPipelineElement(
+            ruleDesc.getFilterTimeWindow(),
+            ruleDesc.getKeyFields(),
+            SpMonitoringManager.INSTANCE.registerCacheMetrics(adapterElementId)));
   }
 
   @Override
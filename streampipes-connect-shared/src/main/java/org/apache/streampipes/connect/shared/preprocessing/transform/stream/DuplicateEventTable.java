@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.shared.preprocessing.transform.stream;
+
+import org.apache.streampipes.extensions.api.monitoring.SpCacheMetrics;
+
+import java.util.Arrays;
+
+/**
+ * Remembers event fingerprints for a time window. Fingerprints are stored in primitive arrays, which are indexed by
+ * an open-addressing hash table with linear probing. Each entry is linked into the slot of a timing wheel that
+ * corresponds to the time it was last seen, so that expired entries are removed slot by slot without scanning the
+ * table. Entries expire between one and 1 + 1/{@value #MAX_WINDOW_TICKS} time windows after they were last seen.
+ * The table grows up to a fixed maximum number of entries; if it is full, the oldest entries are evicted.
+ * The table is not thread-safe.
+ */
+class DuplicateEventTable {
+
+  static final int MAX_WINDOW_TICKS = 64;
+
+  private static final int MIN_CAPACITY = 1024;
+  private static final int NONE = -1;
+
+  private final int maxEntries;
+  private final long tickMillis;
+  private final int wheelSize;
+  private final SpCacheMetrics metrics;
+
+  // entries
+  private long[] highs;
+  private long[] lows;
+  private int[] entrySlots;
+  private int[] nextEntries;
+  private int[] previousEntries;
+  private int allocated;
+  private int freeEntry = NONE;
+  private int size;
+
+  // index of the entries, contains the entry + 1 or 0 if empty
+  private int[] index;
+  private int indexMask;
+
+  // first and last entry of each slot of the timing wheel, entries are appended in the order they are seen
+  private final int[] slotHeads;
+  private final int[] slotTails;
+  private long currentTick = Long.MIN_VALUE;
+
+  DuplicateEventTable(long windowMillis,
+                      int maxEntries,
+                      SpCacheMetrics metrics) {
+    this.maxEntries = Math.max(1, maxEntries);
+    this.metrics = metrics;
+    long window = Math.max(0, windowMillis);
+    this.tickMillis = Math.max(1, (window + MAX_WINDOW_TICKS - 1) / MAX_WINDOW_TICKS);
+    this.wheelSize = (int) ((window + tickMillis - 1) / tickMillis) + 1;
+    this.slotHeads = new int[wheelSize];
+    this.slotTails = new int[wheelSize];
+    Arrays.fill(slotHeads, NONE);
+    Arrays.fill(slotTails, NONE);
+    allocate(Math.min(MIN_CAPACITY, this.maxEntries));
+  }
+
+  /**
+   * Adds the fingerprint or, if it is already contained, resets its time window.
+   *
+   * @return true if the fingerprint was already contained
+   */
+  boolean put(long high,
+              long low,
+              long timestamp) {
+    advance(timestamp);
+
+    int position = find(high, low);
+    if (position >= 0) {
+      int entry = index[position] - 1;
+      unlink(entry);
+      link(entry, currentSlot());
+      return true;
+    }
+
+    if (size == maxEntries) {
+      evictOldest();
+      position = find(high, low);
+    } else if (size == highs.length) {
+      allocate(Math.min(highs.length * 2, maxEntries));
+      position = find(high, low);
+    }
+
+    int entry = newEntry();
+    highs[entry] = high;
+    lows[entry] = low;
+    link(entry, currentSlot());
+    index[-position - 1] = entry + 1;
+    size++;
+    return false;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Moves the timing wheel to the given time and removes all entries of the slots that are passed.
+   */
+  private void advance(long timestamp) {
+    long tick = Math.floorDiv(timestamp, tickMillis);
+    if (currentTick == Long.MIN_VALUE) {
+      currentTick = tick;
+      return;
+    }
+    if (tick <= currentTick) {
+      // the clock did not advance by a full tick or went backwards
+      return;
+    }
+    long steps = Math.min(tick - currentTick, wheelSize);
+    for (long step = 1; step <= steps; step++) {
+      metrics.recordInvalidations(clearSlot(Math.floorMod(currentTick + step, wheelSize)));
+    }
+    currentTick = tick;
+  }
+
+  private int clearSlot(int slot) {
+    int count = 0;
+    while (slotHeads[slot] != NONE) {
+      remove(slotHeads[slot]);
+      count++;
+    }
+    return count;
+  }
+
+  private void evictOldest() {
+    // the slot after the current one contains the entries that were seen longest ago, the first entry of a slot was
+    // seen before the others
+    for (int step = 1; step <= wheelSize; step++) {
+      int slot = Math.floorMod(currentTick + step, wheelSize);
+      if (slotHeads[slot] != NONE) {
+        remove(slotHeads[slot]);
+        metrics.recordEvictions(1);
+        return;
+      }
+    }
+  }
+
+  private int currentSlot() {
+    return Math.floorMod(currentTick, wheelSize);
+  }
+
+  /**
+   * Returns the position of the fingerprint in the index, or -(position + 1) of the free position it would be
+   * inserted at.
+   */
+  private int find(long high,
+                   long low) {
+    int position = home(low);
+    while (index[position] != 0) {
+      int entry = index[position] - 1;
+      if (highs[entry] == high && lows[entry] == low) {
+        return position;
+      }
+      position = (position + 1) & indexMask;
+    }
+    return -position - 1;
+  }
+
+  private int home(long low) {
+    return (int) EventFingerprinter.mix(low) & indexMask;
+  }
+
+  private void remove(int entry) {
+    deleteFromIndex(find(highs[entry], lows[entry]));
+    unlink(entry);
+    entrySlots[entry] = NONE;
+    nextEntries[entry] = freeEntry;
+    freeEntry = entry;
+    size--;
+  }
+
+  /**
+   * Removes a position from the index by shifting back the following entries of the probe sequence, so that no
+   * tombstones are needed.
+   */
+  private void deleteFromIndex(int position) {
+    int free = position;
+    int current = position;
+    while (true) {
+      current = (current + 1) & indexMask;
+      if (index[current] == 0) {
+        break;
+      }
+      int home = home(lows[index[current] - 1]);
+      // the entry may only move back if its home position is not between the free and the current position
+      boolean homeBetween = free <= current
+          ? free < home && home <= current
+          : free < home || home <= current;
+      if (!homeBetween) {
+        index[free] = index[current];
+        free = current;
+      }
+    }
+    index[free] = 0;
+  }
+
+  private void link(int entry,
+                    int slot) {
+    int tail = slotTails[slot];
+    entrySlots[entry] = slot;
+    previousEntries[entry] = tail;
+    nextEntries[entry] = NONE;
+    if (tail != NONE) {
+      nextEntries[tail] = entry;
+    } else {
+      slotHeads[slot] = entry;
+    }
+    slotTails[slot] = entry;
+  }
+
+  private void unlink(int entry) {
+    int previous = previousEntries[entry];
+    int next = nextEntries[entry];
+    if (previous != NONE) {
+      nextEntries[previous] = next;
+    } else {
+      slotHeads[entrySlots[entry]] = next;
+    }
+    if (next != NONE) {
+      previousEntries[next] = previous;
+    } else {
+      slotTails[entrySlots[entry]] = previous;
+    }
+  }
+
+  private int newEntry() {
+    if (freeEntry != NONE) {
+      int entry = freeEntry;
+      freeEntry = nextEntries[entry];
+      return entry;
+    }
+    return allocated++;
+  }
+
+  private void allocate(int capacity) {
+    if (highs == null) {
+      highs = new long[capacity];
+      lows = new long[capacity];
+      entrySlots = new int[capacity];
+      nextEntries = new int[capacity];
+      previousEntries = new int[capacity];
+    } else {
+      highs = Arrays.copyOf(highs, capacity);
+      lows = Arrays.copyOf(lows, capacity);
+      entrySlots = Arrays.copyOf(entrySlots, capacity);
+      nextEntries = Arrays.copyOf(nextEntries, capacity);
+      previousEntries = Arrays.copyOf(previousEntries, capacity);
+    }
+
+    // keep the load factor of the index at or below 0.5
+    index = new int[Integer.highestOneBit(Math.max(2, capacity) - 1) << 2];
+    indexMask = index.length - 1;
+    for (int entry = 0; entry < allocated; entry++) {
+      if (entrySlots[entry] != NONE) {
+        index[-find(highs[entry], lows[entry]) - 1] = entry + 1;
+      }
+    }
+  }
+}
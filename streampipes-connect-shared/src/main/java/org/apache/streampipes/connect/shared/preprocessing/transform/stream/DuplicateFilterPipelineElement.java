@@ -18,60 +18,65 @@
 
 package org.apache.streampipes.connect.shared.preprocessing.transform.stream;
 
+import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.connect.shared.preprocessing.transform.TransformationRule;
+import org.apache.streampipes.extensions.api.monitoring.SpCacheMetrics;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 /**
- * A hash of events is stored to check if event was already sent
+ * A fingerprint of events is stored to check if event was already sent
  * If the same event is sent multiple times the timer is always reseted to cover polling of rest endpoints
  * User can configure how long events are stored in cache, it should be minimum 2x the polling intervall
+ * Optionally, only a subset of the fields is used to detect duplicates
+ * Dropped duplicates are reported as cache hits, forwarded events as misses, forgotten events as invalidations
+ * and events removed to stay within the maximum number of entries as evictions
  */
 public class DuplicateFilterPipelineElement implements TransformationRule {
 
-  /**
-   * Lifetime of events
-   */
-  private final long filterTimeWindow;
+  private final EventFingerprinter fingerprinter;
+  private final DuplicateEventTable eventState;
+  private final SpCacheMetrics metrics;
+  private final LongSupplier clock;
 
-  public DuplicateFilterPipelineElement(String filterTimeWindow) {
-    // convert it to seconds
-    this.filterTimeWindow = 1000 * Long.parseLong(filterTimeWindow);
+  public DuplicateFilterPipelineElement(String filterTimeWindow,
+                                        List<String> keyFields,
+                                        SpCacheMetrics metrics) {
+    this(filterTimeWindow,
+        keyFields,
+        Environments.getEnvironment().getConnectDuplicateFilterMaxEntries().getValueOrDefault(),
+        System::currentTimeMillis,
+        metrics);
   }
 
-  // Trade of between computation and storage, maybe change value in future
-  private static final long CLEAN_UP_INTERVAL_MILLI_SEC = 10000; //10 seconds
-
-  private Map<Integer, Long> eventState = new HashMap<>();
-  private long lastCleanUpTimestamp = System.currentTimeMillis();
+  DuplicateFilterPipelineElement(String filterTimeWindow,
+                                 List<String> keyFields,
+                                 int maxEntries,
+                                 LongSupplier clock,
+                                 SpCacheMetrics metrics) {
+    // convert it to seconds
+    long filterTimeWindowMillis = 1000 * Long.parseLong(filterTimeWindow);
+    this.fingerprinter = new EventFingerprinter(keyFields != null ? List.copyOf(keyFields) : List.of());
+    this.eventState = new DuplicateEventTable(filterTimeWindowMillis, maxEntries, metrics);
+    this.metrics = metrics;
+    this.clock = clock;
+  }
 
   @Override
   public Map<String, Object> apply(Map<String, Object> event) {
-    cleanUpEvenState();
-
-    int hash = event.hashCode();
+    long now = clock.getAsLong();
+    fingerprinter.fingerprint(event);
 
-    if (isDuplicatedEvent(hash)) {
-      saveEvent(hash);
-      return null;
+    boolean duplicate = eventState.put(fingerprinter.getHigh(), fingerprinter.getLow(), now);
+    if (duplicate) {
+      metrics.recordHit();
+    } else {
+      metrics.recordMiss();
     }
-    saveEvent(hash);
-    return event;
-  }
+    metrics.setSize(eventState.size());
 
-  private boolean isDuplicatedEvent(int key) {
-    return eventState.containsKey(key);
-  }
-
-  private void saveEvent(int key) {
-    eventState.put(key, System.currentTimeMillis());
-  }
-
-  private void cleanUpEvenState() {
-    if (System.currentTimeMillis() > lastCleanUpTimestamp + CLEAN_UP_INTERVAL_MILLI_SEC) {
-      eventState.entrySet().removeIf(entry -> entry.getValue() + filterTimeWindow < System.currentTimeMillis());
-      lastCleanUpTimestamp = System.currentTimeMillis();
-    }
+    return duplicate ? null : event;
   }
 }
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.shared.preprocessing.transform.stream;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes a 128-bit fingerprint of an event or of a subset of its fields. Unlike {@link Map#hashCode()}, the
+ * fingerprint is long enough that different events practically never collide. Maps are hashed independently of their
+ * iteration order. The fingerprinter keeps the result of the last call and is not thread-safe.
+ */
+class EventFingerprinter {
+
+  private static final long C1 = 0x87c37b91114253d5L;
+  private static final long C2 = 0x4cf5ad432745937fL;
+
+  private static final long TAG_NULL = 1;
+  private static final long TAG_BOOLEAN = 2;
+  private static final long TAG_INTEGRAL = 3;
+  private static final long TAG_FLOATING_POINT = 4;
+  private static final long TAG_STRING = 5;
+  private static final long TAG_MAP = 6;
+  private static final long TAG_LIST = 7;
+
+  private final List<String> keyFields;
+
+  private long h1;
+  private long h2;
+  private long length;
+
+  /**
+   * @param keyFields The fields the fingerprint is computed of, all fields of the event are used if empty
+   */
+  EventFingerprinter(List<String> keyFields) {
+    this.keyFields = keyFields;
+  }
+
+  void fingerprint(Map<String, Object> event) {
+    reset();
+    if (keyFields.isEmpty()) {
+      addValue(event);
+    } else {
+      for (var key : keyFields) {
+        addValue(event.get(key));
+      }
+    }
+    finish();
+  }
+
+  long getHigh() {
+    return h1;
+  }
+
+  long getLow() {
+    return h2;
+  }
+
+  private void reset() {
+    h1 = 0;
+    h2 = 0;
+    length = 0;
+  }
+
+  private void finish() {
+    h1 ^= length;
+    h2 ^= length;
+    h1 += h2;
+    h2 += h1;
+    h1 = mix(h1);
+    h2 = mix(h2);
+    h1 += h2;
+    h2 += h1;
+  }
+
+  private void addValue(Object value) {
+    if (value == null) {
+      add(TAG_NULL);
+    } else if (value instanceof String stringValue) {
+      addString(stringValue);
+    } else if (value instanceof Boolean booleanValue) {
+      add(TAG_BOOLEAN);
+      add(booleanValue ? 1 : 0);
+    } else if (value instanceof Integer || value instanceof Long
+        || value instanceof Short || value instanceof Byte) {
+      add(TAG_INTEGRAL);
+      add(((Number) value).longValue());
+    } else if (value instanceof Double || value instanceof Float) {
+      add(TAG_FLOATING_POINT);
+      add(Double.doubleToLongBits(((Number) value).doubleValue()));
+    } else if (value instanceof Map<?, ?> mapValue) {
+      addMap(mapValue);
+    } else if (value instanceof Collection<?> collectionValue) {
+      add(TAG_LIST);
+      add(collectionValue.size());
+      for (var item : collectionValue) {
+        addValue(item);
+      }
+    } else {
+      addString(value.toString());
+    }
+  }
+
+  private void addString(String value) {
+    add(TAG_STRING);
+    add(value.length());
+    int i = 0;
+    for (; i + 4 <= value.length(); i += 4) {
+      add((long) value.charAt(i)
+          | (long) value.charAt(i + 1) << 16
+          | (long) value.charAt(i + 2) << 32
+          | (long) value.charAt(i + 3) << 48);
+    }
+    long remaining = 0;
+    for (int shift = 0; i < value.length(); i++, shift += 16) {
+      remaining |= (long) value.charAt(i) << shift;
+    }
+    add(remaining);
+  }
+
+  /**
+   * The entries of a map are hashed separately and summed up, so that the fingerprint does not depend on the order
+   * in which they are iterated.
+   */
+  private void addMap(Map<?, ?> map) {
+    long outerH1 = h1;
+    long outerH2 = h2;
+    long outerLength = length;
+
+    long sum1 = 0;
+    long sum2 = 0;
+    for (var entry : map.entrySet()) {
+      reset();
+      addValue(entry.getKey());
+      addValue(entry.getValue());
+      finish();
+      sum1 += h1;
+      sum2 += h2;
+    }
+
+    h1 = outerH1;
+    h2 = outerH2;
+    length = outerLength;
+    add(TAG_MAP);
+    add(map.size());
+    add(sum1);
+    add(sum2);
+  }
+
+  private void add(long value) {
+    length++;
+    h1 = Long.rotateLeft(h1 ^ mix(value * C1), 27) * 5 + 0x52dce729L;
+    h2 = Long.rotateLeft(h2 ^ mix(value * C2), 31) * 5 + 0x38495ab5L;
+  }
+
+  static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+}
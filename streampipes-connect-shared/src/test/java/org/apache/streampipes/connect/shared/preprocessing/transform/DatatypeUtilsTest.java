@@ -126,5 +126,19 @@ public class DatatypeUtilsTest {
     Assertions.assertEquals(String.class, result);
   }
 
+  @Test
+  public void makeConverterMatchesConvertValue() {
+    var datatypes = new String[]{XSD.DOUBLE.toString(), XSD.FLOAT.toString(), XSD.BOOLEAN.toString(),
+        XSD.INTEGER.toString(), XSD.LONG.toString(), XSD.STRING.toString()};
+    var values = new String[]{"1", "2.6", longInputValue, booleanInputValue, stringInputValue};
+
+    for (var datatype : datatypes) {
+      var converter = DatatypeUtils.makeConverter(datatype);
+      for (var value : values) {
+        Assertions.assertEquals(DatatypeUtils.convertValue(value, datatype), converter.apply(value));
+      }
+    }
+  }
+
 
 }
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.shared.preprocessing.transform.stream;
+
+import org.apache.streampipes.extensions.api.monitoring.SpCacheMetrics;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DuplicateFilterPipelineElementTest {
+
+  private final AtomicLong clock = new AtomicLong(1_000_000);
+  private final String adapterElementId = UUID.randomUUID().toString();
+
+  @Test
+  public void dropsDuplicateEvents() {
+    var filter = makeFilter(List.of(), 100);
+
+    assertNotNull(filter.apply(event("a", 1)));
+    assertNull(filter.apply(event("a", 1)));
+    assertNotNull(filter.apply(event("a", 2)));
+    assertNotNull(filter.apply(event("b", 1)));
+
+    var metrics = SpMonitoringManager.INSTANCE.getMetricsSnapshot(adapterElementId).getCacheMetrics();
+    assertEquals(1, metrics.getHits());
+    assertEquals(3, metrics.getMisses());
+    assertEquals(0.25, metrics.getHitRate());
+    assertEquals(3, metrics.getSize());
+  }
+
+  @Test
+  public void detectsDuplicatesIndependentOfFieldOrder() {
+    var filter = makeFilter(List.of(), 100);
+    var first = new LinkedHashMap<String, Object>();
+    first.put("id", "a");
+    first.put("nested", Map.of("x", 1, "y", List.of(1.0, 2.0)));
+    var second = new LinkedHashMap<String, Object>();
+    second.put("nested", Map.of("y", List.of(1.0, 2.0), "x", 1));
+    second.put("id", "a");
+
+    assertNotNull(filter.apply(first));
+    assertNull(filter.apply(second));
+  }
+
+  @Test
+  public void comparesOnlyKeyFields() {
+    var filter = makeFilter(List.of("id"), 100);
+
+    assertNotNull(filter.apply(event("a", 1)));
+    assertNull(filter.apply(event("a", 2)));
+    assertNotNull(filter.apply(event("b", 2)));
+  }
+
+  @Test
+  public void forgetsEventsAfterTimeWindow() {
+    var filter = makeFilter(List.of(), 100);
+
+    assertNotNull(filter.apply(event("a", 1)));
+    clock.addAndGet(9_000);
+    // a duplicate resets the time window
+    assertNull(filter.apply(event("a", 1)));
+    clock.addAndGet(9_000);
+    assertNull(filter.apply(event("a", 1)));
+    clock.addAndGet(12_000);
+    assertNotNull(filter.apply(event("a", 1)));
+
+    assertEquals(1, getMetrics().getInvalidations());
+  }
+
+  @Test
+  public void evictsOldestEventsAtMaximumSize() {
+    var filter = makeFilter(List.of(), 3);
+
+    filter.apply(event("a", 1));
+    clock.addAndGet(1_000);
+    filter.apply(event("b", 1));
+    filter.apply(event("c", 1));
+    filter.apply(event("d", 1));
+
+    assertEquals(1, getMetrics().getEvictions());
+    assertNotNull(filter.apply(event("a", 1)));
+    assertNull(filter.apply(event("d", 1)));
+  }
+
+  @Test
+  public void keepsManyEvents() {
+    var filter = makeFilter(List.of(), 100_000);
+
+    for (int i = 0; i < 50_000; i++) {
+      assertNotNull(filter.apply(event("a", i)));
+    }
+    for (int i = 0; i < 50_000; i += 7) {
+      assertNull(filter.apply(event("a", i)));
+    }
+    clock.addAndGet(20_000);
+    for (int i = 0; i < 50_000; i += 7) {
+      assertNotNull(filter.apply(event("a", i)));
+    }
+
+    assertEquals(50_000, getMetrics().getInvalidations());
+  }
+
+  private DuplicateFilterPipelineElement makeFilter(List<String> keyFields,
+                                                    int maxEntries) {
+    return new DuplicateFilterPipelineElement(
+        "10",
+        keyFields,
+        maxEntries,
+        clock::get,
+        SpMonitoringManager.INSTANCE.registerCacheMetrics(adapterElementId)
+    );
+  }
+
+  private SpCacheMetrics getMetrics() {
+    return SpMonitoringManager.INSTANCE.registerCacheMetrics(adapterElementId);
+  }
+
+  private Map<String, Object> event(String id,
+                                    int value) {
+    var event = new HashMap<String, Object>();
+    event.put("id", id);
+    event.put("value", value);
+    return event;
+  }
+}
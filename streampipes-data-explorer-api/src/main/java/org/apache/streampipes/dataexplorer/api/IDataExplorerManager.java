@@ -44,5 +44,15 @@ public interface IDataExplorerManager {
 
   ITimeSeriesStorage getTimeseriesStorage(DataLakeMeasure measure);
 
+  /**
+   * Provide an instance of {@link ITimeSeriesStorage} whose write metrics are reported for the given resource,
+   * e.g., the element id of the data sink writing to the measurement.
+   * Storages which do not report write metrics ignore the resource id.
+   */
+  default ITimeSeriesStorage getTimeseriesStorage(DataLakeMeasure measure,
+                                                  String resourceId) {
+    return getTimeseriesStorage(measure);
+  }
+
   IDataLakeMeasurementSanitizer getMeasurementSanitizer(IStreamPipesClient client, DataLakeMeasure measure);
 }
@@ -24,7 +24,9 @@ import org.apache.streampipes.model.datalake.param.ProvidedRestQueryParams;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 public interface IDataExplorerQueryManagement {
 
@@ -32,6 +34,18 @@ public interface IDataExplorerQueryManagement {
     ProvidedRestQueryParams queryParams,
     boolean ignoreMissingData) throws IllegalArgumentException;
 
+  /**
+   * Executes several queries, e.g., the queries of all widgets of a dashboard.
+   * Implementations may execute the queries concurrently, the results are returned in the order of the params.
+   */
+  default List<SpQueryResult> getData(List<ProvidedRestQueryParams> queryParams,
+                                      boolean ignoreMissingData) {
+    return queryParams
+        .stream()
+        .map(params -> getData(params, ignoreMissingData))
+        .collect(Collectors.toList());
+  }
+
   void getDataAsStream(ProvidedRestQueryParams params,
                        OutputFormat format,
                        boolean ignoreMissingValues,
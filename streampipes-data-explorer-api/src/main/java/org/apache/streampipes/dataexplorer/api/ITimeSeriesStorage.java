@@ -21,9 +21,21 @@ package org.apache.streampipes.dataexplorer.api;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.model.runtime.Event;
 
+import java.util.List;
+
 public interface ITimeSeriesStorage {
 
   void onEvent(Event event) throws SpRuntimeException;
 
+  /**
+   * Stores a batch of events in the given order. Storages which can write several events at once override this,
+   * by default every event is passed to {@link #onEvent(Event)}.
+   */
+  default void onEvents(List<Event> events) throws SpRuntimeException {
+    for (Event event : events) {
+      onEvent(event);
+    }
+  }
+
   void close() throws SpRuntimeException;
 }
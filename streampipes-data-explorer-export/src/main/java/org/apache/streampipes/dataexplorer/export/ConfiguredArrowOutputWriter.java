@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.export;
+
+import org.apache.streampipes.model.datalake.DataLakeMeasure;
+import org.apache.streampipes.model.datalake.param.ProvidedRestQueryParams;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.PropertyScope;
+import org.apache.streampipes.vocabulary.SO;
+import org.apache.streampipes.vocabulary.XSD;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import org.apache.arrow.flatbuf.Bool;
+import org.apache.arrow.flatbuf.Buffer;
+import org.apache.arrow.flatbuf.Endianness;
+import org.apache.arrow.flatbuf.Field;
+import org.apache.arrow.flatbuf.FieldNode;
+import org.apache.arrow.flatbuf.FloatingPoint;
+import org.apache.arrow.flatbuf.Int;
+import org.apache.arrow.flatbuf.Message;
+import org.apache.arrow.flatbuf.MessageHeader;
+import org.apache.arrow.flatbuf.MetadataVersion;
+import org.apache.arrow.flatbuf.Precision;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.arrow.flatbuf.Schema;
+import org.apache.arrow.flatbuf.TimeUnit;
+import org.apache.arrow.flatbuf.Timestamp;
+import org.apache.arrow.flatbuf.Type;
+import org.apache.arrow.flatbuf.Utf8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the export as an Arrow IPC stream, which can be read directly by analytics tools such as pandas or polars.
+ * <p>
+ * Rows are collected column-wise into record batches of {@link #BATCH_SIZE} rows, the column and body buffers are
+ * reused for all batches of an export. The first column is the timestamp in milliseconds, the types of the other
+ * columns are derived from the event schema of the measurement: integral numbers are written as 64-bit integers,
+ * other numbers as 64-bit floating point values, booleans as booleans and everything else, including dimension
+ * properties, as UTF-8 strings. Columns which are not part of the schema, such as aggregated values, are typed by the
+ * values of the first batch. Values which do not match the type of their column are written as null.
+ */
+public class ConfiguredArrowOutputWriter extends ConfiguredOutputWriter {
+
+  static final int BATCH_SIZE = 8192;
+
+  private static final int CONTINUATION_MARKER = 0xFFFFFFFF;
+  private static final int ALIGNMENT = 8;
+  private static final int BUFFERS_PER_COLUMN = 3;
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+  private static final String TIMESTAMP_TIMEZONE = "UTC";
+
+  private static final Map<String, ColumnType> RUNTIME_TYPES = Map.of(
+      XSD.INTEGER.toString(), ColumnType.INT64,
+      XSD.LONG.toString(), ColumnType.INT64,
+      XSD.INT.toString(), ColumnType.INT64,
+      XSD.SHORT.toString(), ColumnType.INT64,
+      XSD.FLOAT.toString(), ColumnType.FLOAT64,
+      XSD.DOUBLE.toString(), ColumnType.FLOAT64,
+      XSD.DECIMAL.toString(), ColumnType.FLOAT64,
+      SO.NUMBER, ColumnType.FLOAT64,
+      XSD.BOOLEAN.toString(), ColumnType.BOOL
+  );
+
+  private final FlatBufferBuilder metadataBuilder = new FlatBufferBuilder(1024);
+  private final ByteBuffer intBuffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+  private ByteBuffer body = allocate(INITIAL_BUFFER_SIZE);
+  private ByteBuffer stringData = allocate(INITIAL_BUFFER_SIZE);
+
+  private final Map<String, ColumnType> schemaColumnTypes = new HashMap<>();
+
+  private List<String> columnNames;
+  private ColumnType[] columnTypes;
+  private Object[][] columnValues;
+  private int rowCount;
+
+  private long[] bufferOffsets;
+  private long[] bufferLengths;
+  private int bufferCount;
+
+  @Override
+  public void configure(ProvidedRestQueryParams params,
+                        boolean ignoreMissingValues) {
+    // do nothing
+  }
+
+  @Override
+  public void configureMeasure(DataLakeMeasure measure) {
+    measure.getEventSchema()
+        .getEventProperties()
+        .forEach(ep -> schemaColumnTypes.put(ep.getRuntimeName(), toColumnType(ep)));
+  }
+
+  @Override
+  public void beforeFirstItem(OutputStream outputStream) {
+    // the schema is written with the first record batch, as the columns are only known once the first row is received
+  }
+
+  @Override
+  public void afterLastItem(OutputStream outputStream) throws IOException {
+    if (columnValues == null) {
+      columnNames = List.of();
+      columnTypes = new ColumnType[0];
+      writeSchema(outputStream);
+    } else if (rowCount > 0) {
+      writeRecordBatch(outputStream);
+    }
+    writeInt(outputStream, CONTINUATION_MARKER);
+    writeInt(outputStream, 0);
+  }
+
+  @Override
+  public void writeItem(OutputStream outputStream,
+                        List<Object> row,
+                        List<String> columnNames,
+                        boolean firstObject) throws IOException {
+    if (columnValues == null) {
+      this.columnNames = List.copyOf(columnNames);
+      this.columnValues = new Object[columnNames.size()][BATCH_SIZE];
+      this.bufferOffsets = new long[columnNames.size() * BUFFERS_PER_COLUMN];
+      this.bufferLengths = new long[columnNames.size() * BUFFERS_PER_COLUMN];
+    }
+
+    for (int column = 0; column < columnValues.length; column++) {
+      columnValues[column][rowCount] = column < row.size() ? row.get(column) : null;
+    }
+    rowCount++;
+
+    if (rowCount == BATCH_SIZE) {
+      writeRecordBatch(outputStream);
+    }
+  }
+
+  private void writeRecordBatch(OutputStream outputStream) throws IOException {
+    if (columnTypes == null) {
+      columnTypes = inferColumnTypes();
+      writeSchema(outputStream);
+    }
+
+    body.clear();
+    bufferCount = 0;
+    var nullCounts = new long[columnTypes.length];
+    for (int column = 0; column < columnTypes.length; column++) {
+      nullCounts[column] = writeBitmap(columnValues[column], columnTypes[column], false);
+      writeValues(columnValues[column], columnTypes[column]);
+    }
+
+    var builder = metadataBuilder;
+    RecordBatch.startNodesVector(builder, columnTypes.length);
+    for (int column = columnTypes.length - 1; column >= 0; column--) {
+      FieldNode.createFieldNode(builder, rowCount, nullCounts[column]);
+    }
+    int nodes = builder.endVector();
+    RecordBatch.startBuffersVector(builder, bufferCount);
+    for (int i = bufferCount - 1; i >= 0; i--) {
+      Buffer.createBuffer(builder, bufferOffsets[i], bufferLengths[i]);
+    }
+    int buffers = builder.endVector();
+    RecordBatch.startRecordBatch(builder);
+    RecordBatch.addLength(builder, rowCount);
+    RecordBatch.addNodes(builder, nodes);
+    RecordBatch.addBuffers(builder, buffers);
+    int recordBatch = RecordBatch.endRecordBatch(builder);
+
+    writeMessage(outputStream, MessageHeader.RecordBatch, recordBatch, body.position());
+    outputStream.write(body.array(), 0, body.position());
+
+    for (Object[] values : columnValues) {
+      Arrays.fill(values, 0, rowCount, null);
+    }
+    rowCount = 0;
+  }
+
+  private ColumnType[] inferColumnTypes() {
+    var types = new ColumnType[columnValues.length];
+    for (int column = 0; column < columnValues.length; column++) {
+      if (column == 0) {
+        types[column] = ColumnType.TIMESTAMP;
+      } else {
+        var schemaType = schemaColumnTypes.get(columnNames.get(column));
+        types[column] = schemaType != null ? schemaType : inferColumnType(columnValues[column]);
+      }
+    }
+    return types;
+  }
+
+  /**
+   * Non-primitive properties are stored as serialized strings and dimension properties as tags.
+   */
+  private static ColumnType toColumnType(EventProperty property) {
+    if (property instanceof EventPropertyPrimitive primitive
+        && !PropertyScope.DIMENSION_PROPERTY.name().equals(primitive.getPropertyScope())) {
+      return RUNTIME_TYPES.getOrDefault(primitive.getRuntimeType(), ColumnType.UTF8);
+    }
+    return ColumnType.UTF8;
+  }
+
+  private ColumnType inferColumnType(Object[] values) {
+    for (int row = 0; row < rowCount; row++) {
+      var value = values[row];
+      if (value instanceof Boolean) {
+        return ColumnType.BOOL;
+      } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+          || value instanceof Byte) {
+        return ColumnType.INT64;
+      } else if (value instanceof Number) {
+        return ColumnType.FLOAT64;
+      } else if (value != null) {
+        return ColumnType.UTF8;
+      }
+    }
+    return ColumnType.UTF8;
+  }
+
+  private void writeSchema(OutputStream outputStream) throws IOException {
+    var builder = metadataBuilder;
+    var fields = new int[columnTypes.length];
+    for (int column = 0; column < columnTypes.length; column++) {
+      fields[column] = makeField(builder, columnNames.get(column), columnTypes[column]);
+    }
+    int fieldsVector = Schema.createFieldsVector(builder, fields);
+    Schema.startSchema(builder);
+    Schema.addEndianness(builder, Endianness.Little);
+    Schema.addFields(builder, fieldsVector);
+    int schema = Schema.endSchema(builder);
+
+    writeMessage(outputStream, MessageHeader.Schema, schema, 0);
+  }
+
+  private int makeField(FlatBufferBuilder builder,
+                        String name,
+                        ColumnType type) {
+    int nameOffset = builder.createString(name);
+    int typeOffset = makeType(builder, type);
+    int children = Field.createChildrenVector(builder, new int[0]);
+    Field.startField(builder);
+    Field.addName(builder, nameOffset);
+    Field.addNullable(builder, true);
+    Field.addTypeType(builder, type.arrowType);
+    Field.addType(builder, typeOffset);
+    Field.addChildren(builder, children);
+    return Field.endField(builder);
+  }
+
+  private int makeType(FlatBufferBuilder builder,
+                       ColumnType type) {
+    return switch (type) {
+      case TIMESTAMP -> {
+        int timezone = builder.createString(TIMESTAMP_TIMEZONE);
+        Timestamp.startTimestamp(builder);
+        Timestamp.addUnit(builder, TimeUnit.MILLISECOND);
+        Timestamp.addTimezone(builder, timezone);
+        yield Timestamp.endTimestamp(builder);
+      }
+      case INT64 -> {
+        Int.startInt(builder);
+        Int.addBitWidth(builder, Long.SIZE);
+        Int.addIsSigned(builder, true);
+        yield Int.endInt(builder);
+      }
+      case FLOAT64 -> {
+        FloatingPoint.startFloatingPoint(builder);
+        FloatingPoint.addPrecision(builder, Precision.DOUBLE);
+        yield FloatingPoint.endFloatingPoint(builder);
+      }
+      case BOOL -> {
+        Bool.startBool(builder);
+        yield Bool.endBool(builder);
+      }
+      case UTF8 -> {
+        Utf8.startUtf8(builder);
+        yield Utf8.endUtf8(builder);
+      }
+    };
+  }
+
+  /**
+   * Writes the encapsulated message: continuation marker, metadata length and the padded flatbuffer metadata.
+   */
+  private void writeMessage(OutputStream outputStream,
+                            byte headerType,
+                            int header,
+                            long bodyLength) throws IOException {
+    var builder = metadataBuilder;
+    Message.startMessage(builder);
+    Message.addVersion(builder, MetadataVersion.V5);
+    Message.addHeaderType(builder, headerType);
+    Message.addHeader(builder, header);
+    Message.addBodyLength(builder, bodyLength);
+    int message = Message.endMessage(builder);
+    builder.finish(message);
+
+    var metadata = builder.dataBuffer();
+    var metadataLength = metadata.remaining();
+    var paddedLength = align(metadataLength);
+    writeInt(outputStream, CONTINUATION_MARKER);
+    writeInt(outputStream, paddedLength);
+    outputStream.write(metadata.array(), metadata.arrayOffset() + metadata.position(), metadataLength);
+    for (int i = metadataLength; i < paddedLength; i++) {
+      outputStream.write(0);
+    }
+    builder.clear();
+  }
+
+  /**
+   * Writes a bitmap of the column, either the validity bitmap or the values of a boolean column.
+   *
+   * @return The number of cleared bits
+   */
+  private int writeBitmap(Object[] values,
+                          ColumnType type,
+                          boolean booleanValues) {
+    var start = body.position();
+    var byteCount = (rowCount + 7) / 8;
+    body = ensureCapacity(body, byteCount + ALIGNMENT);
+    var clearedBits = 0;
+    for (int byteIndex = 0; byteIndex < byteCount; byteIndex++) {
+      int bits = 0;
+      for (int bit = 0; bit < 8; bit++) {
+        var row = byteIndex * 8 + bit;
+        if (row < rowCount) {
+          var valid = type.accepts(values[row]);
+          if (booleanValues ? valid && (Boolean) values[row] : valid) {
+            bits |= 1 << bit;
+          } else {
+            clearedBits++;
+          }
+        }
+      }
+      body.put((byte) bits);
+    }
+    endBuffer(start);
+    return clearedBits;
+  }
+
+  private void writeValues(Object[] values,
+                           ColumnType type) {
+    switch (type) {
+      case BOOL -> writeBitmap(values, type, true);
+      case UTF8 -> writeStrings(values);
+      default -> writeFixedWidthValues(values, type);
+    }
+  }
+
+  private void writeFixedWidthValues(Object[] values,
+                                     ColumnType type) {
+    var start = body.position();
+    body = ensureCapacity(body, rowCount * Long.BYTES + ALIGNMENT);
+    for (int row = 0; row < rowCount; row++) {
+      var value = values[row];
+      if (!type.accepts(value)) {
+        body.putLong(0);
+      } else if (type == ColumnType.FLOAT64) {
+        body.putDouble(((Number) value).doubleValue());
+      } else {
+        body.putLong(((Number) value).longValue());
+      }
+    }
+    endBuffer(start);
+  }
+
+  private void writeStrings(Object[] values) {
+    var start = body.position();
+    body = ensureCapacity(body, (rowCount + 1) * Integer.BYTES + ALIGNMENT);
+    stringData.clear();
+    body.putInt(0);
+    for (int row = 0; row < rowCount; row++) {
+      var value = values[row];
+      if (value != null) {
+        var bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        stringData = ensureCapacity(stringData, bytes.length);
+        stringData.put(bytes);
+      }
+      body.putInt(stringData.position());
+    }
+    endBuffer(start);
+
+    start = body.position();
+    body = ensureCapacity(body, stringData.position() + ALIGNMENT);
+    body.put(stringData.array(), 0, stringData.position());
+    endBuffer(start);
+  }
+
+  private void endBuffer(int start) {
+    var length = body.position() - start;
+    bufferOffsets[bufferCount] = start;
+    bufferLengths[bufferCount] = length;
+    bufferCount++;
+    for (int i = length; i < align(length); i++) {
+      body.put((byte) 0);
+    }
+  }
+
+  private void writeInt(OutputStream outputStream,
+                        int value) throws IOException {
+    intBuffer.clear();
+    intBuffer.putInt(value);
+    outputStream.write(intBuffer.array(), 0, Integer.BYTES);
+  }
+
+  private static int align(int length) {
+    return (length + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+  }
+
+  private static ByteBuffer ensureCapacity(ByteBuffer buffer,
+                                           int additionalBytes) {
+    if (buffer.remaining() >= additionalBytes) {
+      return buffer;
+    }
+    var grown = allocate(Math.max(buffer.capacity() * 2, buffer.position() + additionalBytes));
+    buffer.flip();
+    grown.put(buffer);
+    return grown;
+  }
+
+  private static ByteBuffer allocate(int capacity) {
+    return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private enum ColumnType {
+    TIMESTAMP(Type.Timestamp),
+    INT64(Type.Int),
+    FLOAT64(Type.FloatingPoint),
+    BOOL(Type.Bool),
+    UTF8(Type.Utf8);
+
+    private final byte arrowType;
+
+    ColumnType(byte arrowType) {
+      this.arrowType = arrowType;
+    }
+
+    boolean accepts(Object value) {
+      return switch (this) {
+        case TIMESTAMP, INT64, FLOAT64 -> value instanceof Number;
+        case BOOL -> value instanceof Boolean;
+        case UTF8 -> value != null;
+      };
+    }
+  }
+}
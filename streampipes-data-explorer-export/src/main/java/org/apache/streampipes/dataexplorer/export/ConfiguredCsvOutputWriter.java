@@ -64,7 +64,10 @@ public class ConfiguredCsvOutputWriter extends ConfiguredOutputWriter {
       outputStream.write(toBytes(makeHeaderLine(columnNames)));
     }
 
-    outputStream.write(toBytes(itemGenerator.createItem(row, columnNames) + LINE_SEPARATOR));
+    var item = getItemBuffer();
+    itemGenerator.appendItem(item, row, columnNames);
+    item.append(LINE_SEPARATOR);
+    write(outputStream, item);
   }
 
   private String makeHeaderLine(List<String> columns) {
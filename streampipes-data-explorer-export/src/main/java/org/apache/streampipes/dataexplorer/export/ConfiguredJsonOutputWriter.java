@@ -60,11 +60,12 @@ public class ConfiguredJsonOutputWriter extends ConfiguredOutputWriter {
                         List<Object> row,
                         List<String> columnNames,
                         boolean firstObject) throws IOException {
+    var item = getItemBuffer();
     if (!firstObject) {
-      outputStream.write(toBytes(","));
+      item.append(',');
     }
 
-    var item = itemGenerator.createItem(row, columnNames);
-    outputStream.write(toBytes(item));
+    itemGenerator.appendItem(item, row, columnNames);
+    write(outputStream, item);
   }
 }
@@ -18,19 +18,36 @@
 
 package org.apache.streampipes.dataexplorer.export;
 
+import org.apache.streampipes.model.datalake.DataLakeMeasure;
 import org.apache.streampipes.model.datalake.param.ProvidedRestQueryParams;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public abstract class ConfiguredOutputWriter {
 
+  private static final int BYTE_BUFFER_SIZE = 8192;
+
+  private final StringBuilder itemBuffer = new StringBuilder();
+  private final ByteBuffer byteBuffer = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+  private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
   public static ConfiguredOutputWriter getConfiguredWriter(OutputFormat format,
                                                            ProvidedRestQueryParams params,
+                                                           DataLakeMeasure measure,
                                                            boolean ignoreMissingValues) {
     var writer = format.getWriter();
     writer.configure(params, ignoreMissingValues);
+    writer.configureMeasure(measure);
 
     return writer;
   }
@@ -38,6 +55,14 @@ public abstract class ConfiguredOutputWriter {
   public abstract void configure(ProvidedRestQueryParams params,
                                  boolean ignoreMissingValues);
 
+  /**
+   * Passes the measurement whose data is exported. Writers which depend on the schema of the measurement override
+   * this method.
+   */
+  public void configureMeasure(DataLakeMeasure measure) {
+    // do nothing by default
+  }
+
   public abstract void beforeFirstItem(OutputStream outputStream) throws IOException;
 
   public abstract void afterLastItem(OutputStream outputStream) throws IOException;
@@ -50,4 +75,35 @@ public abstract class ConfiguredOutputWriter {
   protected byte[] toBytes(String value) {
     return value.getBytes();
   }
+
+  /**
+   * Returns the cleared item buffer of this writer, which is reused for all items of an export.
+   */
+  protected StringBuilder getItemBuffer() {
+    itemBuffer.setLength(0);
+    return itemBuffer;
+  }
+
+  /**
+   * Writes the characters as UTF-8 through a reused byte buffer, so that no byte array is allocated per item.
+   */
+  protected void write(OutputStream outputStream,
+                       CharSequence value) throws IOException {
+    var input = CharBuffer.wrap(value);
+    encoder.reset();
+    CoderResult result;
+    do {
+      result = encoder.encode(input, byteBuffer, true);
+      drainByteBuffer(outputStream);
+    } while (result.isOverflow());
+    do {
+      result = encoder.flush(byteBuffer);
+      drainByteBuffer(outputStream);
+    } while (result.isOverflow());
+  }
+
+  private void drainByteBuffer(OutputStream outputStream) throws IOException {
+    outputStream.write(byteBuffer.array(), 0, byteBuffer.position());
+    byteBuffer.clear();
+  }
 }
@@ -22,7 +22,8 @@ import java.util.function.Supplier;
 
 public enum OutputFormat {
   JSON(ConfiguredJsonOutputWriter::new),
-  CSV(ConfiguredCsvOutputWriter::new);
+  CSV(ConfiguredCsvOutputWriter::new),
+  ARROW(ConfiguredArrowOutputWriter::new);
 
   private final Supplier<ConfiguredOutputWriter> writerSupplier;
 
@@ -30,6 +31,17 @@ public enum OutputFormat {
     this.writerSupplier = writerSupplier;
   }
 
+  /**
+   * Returns the output format of the given format param, JSON is used for unknown formats.
+   */
+  public static OutputFormat fromParam(String format) {
+    return switch (format) {
+      case "csv" -> CSV;
+      case "arrow" -> ARROW;
+      default -> JSON;
+    };
+  }
+
   public ConfiguredOutputWriter getWriter() {
     return writerSupplier.get();
   }
@@ -26,12 +26,28 @@ public class CsvItemGenerator extends ItemGenerator {
   }
 
   @Override
-  protected String makeItemString(String key, Object value) {
-    return value != null ? value.toString() : "";
+  protected void beginItem(StringBuilder target) {
+    // do nothing
   }
 
   @Override
-  protected String finalizeItem(String item) {
-    return item;
+  protected void appendTimestamp(StringBuilder target,
+                                 String key,
+                                 long timestamp) {
+    target.append(timestamp);
+  }
+
+  @Override
+  protected void appendValue(StringBuilder target,
+                             String key,
+                             Object value) {
+    if (value != null) {
+      target.append(value);
+    }
+  }
+
+  @Override
+  protected void endItem(StringBuilder target) {
+    // do nothing
   }
 }
@@ -20,7 +20,6 @@
 package org.apache.streampipes.dataexplorer.export.item;
 
 import java.util.List;
-import java.util.StringJoiner;
 
 public abstract class ItemGenerator {
 
@@ -34,23 +33,43 @@ public abstract class ItemGenerator {
 
   public String createItem(List<Object> row,
                            List<String> columns) {
-    StringJoiner joiner = new StringJoiner(separator);
+    var item = new StringBuilder();
+    appendItem(item, row, columns);
 
+    return item.toString();
+  }
+
+  /**
+   * Appends the item to the given builder, so that a writer can reuse a single builder for all rows of an export.
+   */
+  public void appendItem(StringBuilder target,
+                         List<Object> row,
+                         List<String> columns) {
+    beginItem(target);
     for (int i = 0; i < row.size(); i++) {
-      Object value = row.get(i);
+      if (i > 0) {
+        target.append(separator);
+      }
       if (i == 0) {
-        value = getTimestampValue((Double) row.get(i));
+        appendTimestamp(target, columns.get(i), getTimestampValue((Double) row.get(i)));
+      } else {
+        appendValue(target, columns.get(i), row.get(i));
       }
-      joiner.add(makeItemString(columns.get(i), value));
     }
-
-    return finalizeItem(joiner.toString());
+    endItem(target);
   }
 
-  protected abstract String makeItemString(String key,
-                                           Object value);
+  protected abstract void beginItem(StringBuilder target);
+
+  protected abstract void appendTimestamp(StringBuilder target,
+                                          String key,
+                                          long timestamp);
+
+  protected abstract void appendValue(StringBuilder target,
+                                      String key,
+                                      Object value);
 
-  protected abstract String finalizeItem(String item);
+  protected abstract void endItem(StringBuilder target);
 
   private long getTimestampValue(Double value) {
     return value.longValue();
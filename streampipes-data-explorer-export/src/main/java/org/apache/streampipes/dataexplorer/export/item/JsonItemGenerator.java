@@ -39,19 +39,37 @@ public class JsonItemGenerator extends ItemGenerator {
   }
 
   @Override
-  protected String makeItemString(String key,
-                                  Object value) {
+  protected void beginItem(StringBuilder target) {
+    target.append(BEGIN_OBJECT);
+  }
+
+  @Override
+  protected void appendTimestamp(StringBuilder target,
+                                 String key,
+                                 long timestamp) {
+    appendKey(target, key).append(timestamp);
+  }
+
+  @Override
+  protected void appendValue(StringBuilder target,
+                             String key,
+                             Object value) {
     String valueJsonString = null;
     try {
       valueJsonString = value != null ? this.objectMapper.writeValueAsString(value) : null;
     } catch (JsonProcessingException e) {
       LOG.error("Error while converting value to JSON string: {}", e.getMessage());
     }
-    return "\"%s\": %s".formatted(key, valueJsonString);
+    appendKey(target, key).append(valueJsonString);
   }
 
   @Override
-  protected String finalizeItem(String item) {
-    return BEGIN_OBJECT + item + END_OBJECT;
+  protected void endItem(StringBuilder target) {
+    target.append(END_OBJECT);
+  }
+
+  private StringBuilder appendKey(StringBuilder target,
+                                  String key) {
+    return target.append('"').append(key).append("\": ");
   }
 }
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.export;
+
+import org.apache.streampipes.model.datalake.DataLakeMeasure;
+import org.apache.streampipes.model.datalake.param.ProvidedRestQueryParams;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.model.schema.PropertyScope;
+import org.apache.streampipes.vocabulary.XSD;
+
+import org.apache.arrow.flatbuf.Message;
+import org.apache.arrow.flatbuf.MessageHeader;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.arrow.flatbuf.Schema;
+import org.apache.arrow.flatbuf.Type;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestConfiguredArrowOutputWriter extends TestConfiguredOutputWriter {
+
+  @Test
+  public void testArrowOutputWriter() throws IOException {
+    var stream = writeStream();
+
+    var schemaMessage = readMessage(stream);
+    assertEquals(MessageHeader.Schema, schemaMessage.headerType());
+    var schema = (Schema) schemaMessage.header(new Schema());
+    assertEquals(3, schema.fieldsLength());
+    assertEquals("time", schema.fields(0).name());
+    assertEquals(Type.Timestamp, schema.fields(0).typeType());
+    assertEquals("string", schema.fields(1).name());
+    assertEquals(Type.Utf8, schema.fields(1).typeType());
+    assertEquals("number", schema.fields(2).name());
+    assertEquals(Type.Int, schema.fields(2).typeType());
+
+    var batchMessage = readMessage(stream);
+    assertEquals(MessageHeader.RecordBatch, batchMessage.headerType());
+    var recordBatch = (RecordBatch) batchMessage.header(new RecordBatch());
+    assertEquals(2, recordBatch.length());
+    assertEquals(3, recordBatch.nodesLength());
+    assertEquals(0, recordBatch.nodes(1).nullCount());
+
+    var body = stream.slice().order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(1668578077051L, body.getLong((int) recordBatch.buffers(1).offset()));
+    assertEquals(1668578127050L, body.getLong((int) recordBatch.buffers(1).offset() + Long.BYTES));
+    assertEquals(2L, body.getLong((int) recordBatch.buffers(6).offset() + Long.BYTES));
+    var stringData = recordBatch.buffers(4);
+    var strings = new byte[(int) stringData.length()];
+    body.get((int) stringData.offset(), strings);
+    assertEquals("testtest2", new String(strings, StandardCharsets.UTF_8));
+
+    stream.position(stream.position() + (int) batchMessage.bodyLength());
+    assertEquals(0xFFFFFFFF, stream.getInt());
+    assertEquals(0, stream.getInt());
+    assertEquals(0, stream.remaining());
+  }
+
+  @Test
+  public void testArrowOutputWriterSplitsBatches() throws IOException {
+    var rowCount = ConfiguredArrowOutputWriter.BATCH_SIZE + 1;
+    var writer = new ConfiguredArrowOutputWriter();
+
+    try (var outputStream = new ByteArrayOutputStream()) {
+      writer.beforeFirstItem(outputStream);
+      for (int i = 0; i < rowCount; i++) {
+        writer.writeItem(outputStream, rows.get(i % rows.size()), columns, i == 0);
+      }
+      writer.afterLastItem(outputStream);
+
+      var stream = ByteBuffer.wrap(outputStream.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+      readMessage(stream);
+      var firstBatch = readMessage(stream);
+      stream.position(stream.position() + (int) firstBatch.bodyLength());
+      var secondBatch = readMessage(stream);
+
+      assertEquals(ConfiguredArrowOutputWriter.BATCH_SIZE,
+          ((RecordBatch) firstBatch.header(new RecordBatch())).length());
+      assertEquals(1, ((RecordBatch) secondBatch.header(new RecordBatch())).length());
+    }
+  }
+
+  @Test
+  public void testArrowOutputWriterIsReadableByArrow() throws IOException {
+    var writer = OutputFormat.ARROW.getWriter();
+    writer.configureMeasure(makeMeasure());
+
+    try (var allocator = new RootAllocator();
+         var reader = new ArrowStreamReader(new ByteArrayInputStream(write(writer)), allocator)) {
+      var root = reader.getVectorSchemaRoot();
+      var fields = root.getSchema().getFields();
+      assertEquals(new ArrowType.Timestamp(TimeUnit.MILLISECOND, "UTC"), fields.get(0).getType());
+      assertEquals(ArrowType.Utf8.INSTANCE, fields.get(1).getType());
+      // typed by the schema of the measurement, although the values of the first batch are integers
+      assertEquals(new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE), fields.get(2).getType());
+
+      assertTrue(reader.loadNextBatch());
+      assertEquals(2, root.getRowCount());
+      var time = (TimeStampMilliTZVector) root.getVector("time");
+      assertEquals(1668578077051L, time.get(0));
+      assertEquals(1668578127050L, time.get(1));
+      var strings = (VarCharVector) root.getVector("string");
+      assertEquals("test", strings.getObject(0).toString());
+      assertEquals("test2", strings.getObject(1).toString());
+      var numbers = (Float8Vector) root.getVector("number");
+      assertEquals(1.0, numbers.get(0));
+      assertEquals(2.0, numbers.get(1));
+      assertFalse(reader.loadNextBatch());
+    }
+  }
+
+  private ByteBuffer writeStream() throws IOException {
+    var writer = OutputFormat.ARROW.getWriter();
+    writer.configure(new ProvidedRestQueryParams(null, new HashMap<>()), true);
+    return ByteBuffer.wrap(write(writer)).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private byte[] write(ConfiguredOutputWriter writer) throws IOException {
+    try (var outputStream = new ByteArrayOutputStream()) {
+      writer.beforeFirstItem(outputStream);
+
+      for (int i = 0; i < rows.size(); i++) {
+        writer.writeItem(outputStream, rows.get(i), columns, i == 0);
+      }
+
+      writer.afterLastItem(outputStream);
+      return outputStream.toByteArray();
+    }
+  }
+
+  private DataLakeMeasure makeMeasure() {
+    var eventSchema = new EventSchema(List.<EventProperty>of(
+        makeProperty("time", XSD.LONG, PropertyScope.HEADER_PROPERTY),
+        makeProperty("string", XSD.STRING, PropertyScope.DIMENSION_PROPERTY),
+        makeProperty("number", XSD.DOUBLE, PropertyScope.MEASUREMENT_PROPERTY)
+    ));
+    return new DataLakeMeasure("test", "s0::time", eventSchema);
+  }
+
+  private EventPropertyPrimitive makeProperty(String runtimeName,
+                                              URI runtimeType,
+                                              PropertyScope scope) {
+    var property = new EventPropertyPrimitive();
+    property.setRuntimeName(runtimeName);
+    property.setRuntimeType(runtimeType.toString());
+    property.setPropertyScope(scope.name());
+    return property;
+  }
+
+  private Message readMessage(ByteBuffer stream) {
+    assertEquals(0xFFFFFFFF, stream.getInt());
+    var metadataLength = stream.getInt();
+    var metadata = stream.slice().limit(metadataLength).order(ByteOrder.LITTLE_ENDIAN);
+    stream.position(stream.position() + metadataLength);
+    return Message.getRootAsMessage(metadata);
+  }
+}
@@ -18,11 +18,13 @@
 
 package org.apache.streampipes.dataexplorer.influx;
 
-import org.apache.streampipes.dataexplorer.influx.client.InfluxClientProvider;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataexplorer.influx.client.SharedInfluxQueryClient;
 import org.apache.streampipes.dataexplorer.param.DeleteQueryParams;
 import org.apache.streampipes.dataexplorer.param.SelectQueryParams;
 import org.apache.streampipes.dataexplorer.api.IDataLakeQueryBuilder;
 import org.apache.streampipes.dataexplorer.query.DataExplorerQueryExecutor;
+import org.apache.streampipes.dataexplorer.query.StreamedRowsConsumer;
 import org.apache.streampipes.model.datalake.DataLakeMeasure;
 import org.apache.streampipes.model.datalake.DataSeries;
 import org.apache.streampipes.model.datalake.SpQueryResult;
@@ -31,8 +33,10 @@ import org.influxdb.InfluxDB;
 import org.influxdb.dto.Query;
 import org.influxdb.dto.QueryResult;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +49,19 @@ import static org.apache.streampipes.commons.environment.Environments.getEnviron
 
 public class DataExplorerInfluxQueryExecutor extends DataExplorerQueryExecutor<Query, QueryResult> {
 
+  private final SharedInfluxQueryClient queryClient;
+  private final DataExplorerQueryCache queryCache;
+
+  public DataExplorerInfluxQueryExecutor() {
+    this(DataExplorerManagerInflux.getSharedQueryClient(), DataExplorerQueryCache.disabled());
+  }
+
+  public DataExplorerInfluxQueryExecutor(SharedInfluxQueryClient queryClient,
+                                         DataExplorerQueryCache queryCache) {
+    this.queryClient = queryClient;
+    this.queryCache = queryCache;
+  }
+
   protected DataSeries convertResult(QueryResult.Series series,
                                      boolean ignoreMissingValues) {
     List<String> columns = series.getColumns();
@@ -96,8 +113,89 @@ public class DataExplorerInfluxQueryExecutor extends DataExplorerQueryExecutor<Q
 
   @Override
   public QueryResult executeQuery(Query query) {
-    try (final InfluxDB influxDB = InfluxClientProvider.getInfluxDBClient()) {
-      return influxDB.query(query, TimeUnit.MILLISECONDS);
+    return queryClient.getClient().query(query, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  protected QueryResult executeSelectQuery(SelectQueryParams params,
+                                           Query query) {
+    return queryCache.get(params.getIndex(), query, () -> executeQuery(query));
+  }
+
+  @Override
+  public boolean supportsStreamingQueries() {
+    return true;
+  }
+
+  /**
+   * Streams the rows of the select query with a chunked InfluxDB query, the result is not cached.
+   */
+  @Override
+  public void executeStreamingQuery(SelectQueryParams params,
+                                    int chunkSize,
+                                    boolean ignoreMissingValues,
+                                    StreamedRowsConsumer consumer) throws IOException {
+    var timeoutMillis = getEnvironment().getDataExplorerQueryTimeoutMillis().getValueOrDefault();
+    new InfluxStreamingQuery(queryClient.getClient(), timeoutMillis)
+        .execute(makeSelectQuery(params), chunkSize, ignoreMissingValues, consumer);
+  }
+
+  /**
+   * Executes several select queries against the same measurement with a single InfluxQL multi-statement request.
+   * Queries whose results are cached are not sent to the database.
+   *
+   * @return The results in the order of the given params
+   */
+  public List<SpQueryResult> executeQueries(List<SelectQueryParams> params,
+                                            List<Optional<String>> forIds,
+                                            boolean ignoreMissingValues) {
+    List<Query> queries = params.stream().map(this::makeSelectQuery).toList();
+    List<QueryResult> queryResults = new ArrayList<>(Collections.nCopies(queries.size(), null));
+    List<Integer> missingResults = new ArrayList<>();
+    for (int i = 0; i < queries.size(); i++) {
+      var cachedResult = queryCache.getIfPresent(queries.get(i));
+      if (cachedResult != null) {
+        queryResults.set(i, cachedResult);
+      } else {
+        missingResults.add(i);
+      }
+    }
+
+    if (!missingResults.isEmpty()) {
+      var statements = missingResults.stream()
+          .map(i -> removeTrailingSemicolon(queries.get(i).getCommand()))
+          .collect(Collectors.joining("; "));
+      var combinedResult = executeQuery(new Query(statements, getDatabaseName()));
+      if (combinedResult.getResults() == null || combinedResult.getResults().size() != missingResults.size()) {
+        throw new SpRuntimeException("Multi-statement query failed: " + combinedResult.getError());
+      }
+      for (int j = 0; j < missingResults.size(); j++) {
+        var index = missingResults.get(j);
+        var queryResult = new QueryResult();
+        queryResult.setResults(List.of(combinedResult.getResults().get(j)));
+        queryResults.set(index, queryResult);
+        queryCache.put(params.get(index).getIndex(), queries.get(index), queryResult);
+      }
+    }
+
+    List<SpQueryResult> results = new ArrayList<>(queries.size());
+    for (int i = 0; i < queries.size(); i++) {
+      results.add(postQuery(queryResults.get(i), forIds.get(i), ignoreMissingValues));
+    }
+    return results;
+  }
+
+  private String removeTrailingSemicolon(String command) {
+    var trimmed = command.trim();
+    return trimmed.endsWith(";") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+  }
+
+  @Override
+  public SpQueryResult executeQuery(DeleteQueryParams params) {
+    try {
+      return super.executeQuery(params);
+    } finally {
+      queryCache.invalidate(params.measurementName());
     }
   }
 
@@ -141,36 +239,36 @@ public class DataExplorerInfluxQueryExecutor extends DataExplorerQueryExecutor<Q
 
   @Override
   public Map<String, Object> getTagValues(String measurementId, String fields) {
-    try (final InfluxDB influxDB = InfluxClientProvider.getInfluxDBClient()) {
-      Map<String, Object> tags = new HashMap<>();
-      if (fields != null && !(fields.isEmpty())) {
-        List<String> fieldList = Arrays.asList(fields.split(","));
-        fieldList.forEach(f -> {
-          String q =
-              "SHOW TAG VALUES ON \"" + getDatabaseName() + "\" FROM \"" + measurementId
-              + "\" WITH KEY = \"" + f + "\"";
-          Query query = new Query(q);
-          QueryResult queryResult = influxDB.query(query);
-          queryResult.getResults().forEach(res -> {
-            res.getSeries().forEach(series -> {
-              if (!series.getValues().isEmpty()) {
-                String field = series.getValues().get(0).get(0).toString();
-                List<String> values =
-                    series.getValues().stream().map(v -> v.get(1).toString()).collect(Collectors.toList());
-                tags.put(field, values);
-              }
-            });
+    final InfluxDB influxDB = queryClient.getClient();
+    Map<String, Object> tags = new HashMap<>();
+    if (fields != null && !(fields.isEmpty())) {
+      List<String> fieldList = Arrays.asList(fields.split(","));
+      fieldList.forEach(f -> {
+        String q =
+            "SHOW TAG VALUES ON \"" + getDatabaseName() + "\" FROM \"" + measurementId
+            + "\" WITH KEY = \"" + f + "\"";
+        Query query = new Query(q);
+        QueryResult queryResult = influxDB.query(query);
+        queryResult.getResults().forEach(res -> {
+          res.getSeries().forEach(series -> {
+            if (!series.getValues().isEmpty()) {
+              String field = series.getValues().get(0).get(0).toString();
+              List<String> values =
+                  series.getValues().stream().map(v -> v.get(1).toString()).collect(Collectors.toList());
+              tags.put(field, values);
+            }
           });
         });
-      }
-
-      return tags;
+      });
     }
+
+    return tags;
   }
 
   @Override
   public boolean deleteData(DataLakeMeasure measure) {
-    QueryResult queryResult = new DeleteDataQuery(measure).executeQuery();
+    QueryResult queryResult = new DeleteDataQuery(measure, queryClient.getClient()).executeQuery();
+    queryCache.invalidate(measure.getMeasureName());
 
     return !queryResult.hasError() && (queryResult.getResults() == null || queryResult.getResults()
                                                                                       .get(0)
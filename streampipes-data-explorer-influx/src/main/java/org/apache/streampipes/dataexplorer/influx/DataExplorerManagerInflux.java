@@ -28,7 +28,9 @@ import org.apache.streampipes.dataexplorer.api.IDataLakeMeasurementCounter;
 import org.apache.streampipes.dataexplorer.api.IDataLakeMeasurementSanitizer;
 import org.apache.streampipes.dataexplorer.api.ITimeSeriesStorage;
 import org.apache.streampipes.dataexplorer.influx.client.InfluxClientProvider;
+import org.apache.streampipes.dataexplorer.influx.client.SharedInfluxQueryClient;
 import org.apache.streampipes.dataexplorer.influx.sanitize.DataLakeMeasurementSanitizerInflux;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
 import org.apache.streampipes.model.datalake.DataLakeMeasure;
 import org.apache.streampipes.storage.management.StorageDispatcher;
 
@@ -36,6 +38,25 @@ import java.util.List;
 
 public class DataExplorerManagerInflux implements IDataExplorerManager {
 
+  /**
+   * The query client and the query result cache are shared by all instances of the manager,
+   * they are created on first use.
+   */
+  private static final class SharedQueryResources {
+    private static final SharedInfluxQueryClient QUERY_CLIENT =
+        new SharedInfluxQueryClient(Environments.getEnvironment());
+    private static final DataExplorerQueryCache QUERY_CACHE =
+        DataExplorerQueryCache.from(Environments.getEnvironment());
+  }
+
+  public static SharedInfluxQueryClient getSharedQueryClient() {
+    return SharedQueryResources.QUERY_CLIENT;
+  }
+
+  public static DataExplorerQueryCache getQueryCache() {
+    return SharedQueryResources.QUERY_CACHE;
+  }
+
   @Override
   public IDataLakeMeasurementCounter getMeasurementCounter(
     List<DataLakeMeasure> allMeasurements,
@@ -47,7 +68,11 @@ public class DataExplorerManagerInflux implements IDataExplorerManager {
   public IDataExplorerQueryManagement getQueryManagement(
     IDataExplorerSchemaManagement dataExplorerSchemaManagement
     ) {
-    return new DataExplorerQueryManagementInflux(dataExplorerSchemaManagement);
+    return new DataExplorerQueryManagementInflux(
+        dataExplorerSchemaManagement,
+        getSharedQueryClient(),
+        getQueryCache()
+    );
   }
 
   @Override
@@ -59,7 +84,18 @@ public class DataExplorerManagerInflux implements IDataExplorerManager {
 
   @Override
   public ITimeSeriesStorage getTimeseriesStorage(DataLakeMeasure measure) {
-    return new TimeSeriesStorageInflux(measure, Environments.getEnvironment(), new InfluxClientProvider());
+    return getTimeseriesStorage(measure, measure.getMeasureName());
+  }
+
+  @Override
+  public ITimeSeriesStorage getTimeseriesStorage(DataLakeMeasure measure,
+                                                 String resourceId) {
+    return new TimeSeriesStorageInflux(
+        measure,
+        Environments.getEnvironment(),
+        new InfluxClientProvider(),
+        SpMonitoringManager.INSTANCE.registerWriteMetrics(resourceId)
+    );
   }
 
   @Override
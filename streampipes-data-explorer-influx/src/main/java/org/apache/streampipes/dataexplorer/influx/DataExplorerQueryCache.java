@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.influx;
+
+import org.apache.streampipes.commons.environment.Environment;
+import org.apache.streampipes.extensions.api.monitoring.SpCacheMetrics;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+
+import org.influxdb.dto.Query;
+import org.influxdb.dto.QueryResult;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache for results of data explorer select queries.
+ * <p>
+ * Entries are keyed by the query statement generated from the select query params, so identical widget queries
+ * share one entry. All entries expire at the end of the refresh window in which they were loaded, as data sinks in
+ * other services may still write to (or backfill) any time range of a measurement, so results are at most one
+ * window old. Concurrent requests for the same statement wait for the running query instead of executing it again.
+ * Entries of a measurement are invalidated when data of the measurement is deleted.
+ * <p>
+ * Hits, misses, evictions, invalidations and the size are reported to the {@link SpMonitoringManager} under
+ * {@link #METRICS_RESOURCE_ID}.
+ */
+public class DataExplorerQueryCache {
+
+  public static final String METRICS_RESOURCE_ID = "data-explorer-query-cache";
+
+  private final boolean enabled;
+  private final int maxRows;
+  private final long windowMillis;
+  private final Clock clock;
+  private final SpCacheMetrics metrics;
+
+  private final Map<String, Entry> entries;
+
+  public DataExplorerQueryCache(boolean enabled,
+                                int maxEntries,
+                                int maxRows,
+                                long windowMillis,
+                                Clock clock,
+                                SpCacheMetrics metrics) {
+    this.enabled = enabled && maxEntries > 0;
+    this.maxRows = maxRows;
+    this.windowMillis = Math.max(1, windowMillis);
+    this.clock = clock;
+    this.metrics = metrics;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        if (size() > maxEntries) {
+          metrics.recordEvictions(1);
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  public static DataExplorerQueryCache from(Environment environment) {
+    return new DataExplorerQueryCache(
+        environment.getDataExplorerQueryCacheEnabled().getValueOrDefault(),
+        environment.getDataExplorerQueryCacheMaxEntries().getValueOrDefault(),
+        environment.getDataExplorerQueryCacheMaxRows().getValueOrDefault(),
+        environment.getDataExplorerQueryCacheWindowMillis().getValueOrDefault(),
+        Clock.systemUTC(),
+        SpMonitoringManager.INSTANCE.registerCacheMetrics(METRICS_RESOURCE_ID)
+    );
+  }
+
+  public static DataExplorerQueryCache disabled() {
+    return new DataExplorerQueryCache(
+        false,
+        0,
+        0,
+        1,
+        Clock.systemUTC(),
+        SpMonitoringManager.INSTANCE.registerCacheMetrics(METRICS_RESOURCE_ID)
+    );
+  }
+
+  /**
+   * Returns the cached result of the query or executes the query with the given loader.
+   *
+   * @param measurementName The measurement the query reads from
+   * @param query           The select query
+   * @param loader          Executes the query on a cache miss
+   * @return The query result
+   */
+  public QueryResult get(String measurementName,
+                         Query query,
+                         Supplier<QueryResult> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+
+    var key = makeKey(query);
+    var now = clock.millis();
+    CompletableFuture<QueryResult> result;
+    boolean miss = false;
+    synchronized (entries) {
+      var entry = entries.get(key);
+      if (entry != null && entry.expiresAt() > now) {
+        metrics.recordHit();
+        result = entry.result();
+      } else {
+        metrics.recordMiss();
+        miss = true;
+        result = new CompletableFuture<>();
+        entries.put(key, new Entry(measurementName, result, getExpiryTime(now)));
+        metrics.setSize(entries.size());
+      }
+    }
+    return miss ? load(key, result, loader) : await(result);
+  }
+
+  /**
+   * Returns the cached result of the query if it is present and completed, null otherwise.
+   */
+  public QueryResult getIfPresent(Query query) {
+    if (!enabled) {
+      return null;
+    }
+    var now = clock.millis();
+    synchronized (entries) {
+      var entry = entries.get(makeKey(query));
+      if (entry != null && entry.expiresAt() > now && isCompleted(entry.result())) {
+        metrics.recordHit();
+        return entry.result().join();
+      }
+    }
+    metrics.recordMiss();
+    return null;
+  }
+
+  /**
+   * Adds the result of a query which was executed outside of the cache, e.g., as part of a multi-statement query.
+   */
+  public void put(String measurementName,
+                  Query query,
+                  QueryResult queryResult) {
+    if (!enabled || !isCacheable(queryResult)) {
+      return;
+    }
+    var entry = new Entry(
+        measurementName,
+        CompletableFuture.completedFuture(queryResult),
+        getExpiryTime(clock.millis())
+    );
+    synchronized (entries) {
+      entries.put(makeKey(query), entry);
+      metrics.setSize(entries.size());
+    }
+  }
+
+  public void invalidate(String measurementName) {
+    synchronized (entries) {
+      var iterator = entries.values().iterator();
+      while (iterator.hasNext()) {
+        if (Objects.equals(iterator.next().measurementName(), measurementName)) {
+          iterator.remove();
+          metrics.recordInvalidations(1);
+        }
+      }
+      metrics.setSize(entries.size());
+    }
+  }
+
+  public void invalidateAll() {
+    synchronized (entries) {
+      metrics.recordInvalidations(entries.size());
+      entries.clear();
+      metrics.setSize(0);
+    }
+  }
+
+  private String makeKey(Query query) {
+    return query.getDatabase() + ":" + query.getCommand();
+  }
+
+  private boolean isCompleted(CompletableFuture<QueryResult> result) {
+    return result.isDone() && !result.isCompletedExceptionally();
+  }
+
+  private long getExpiryTime(long now) {
+    // all requests within the same refresh window share the entry, it is invalidated when the window ends
+    return (now / windowMillis + 1) * windowMillis;
+  }
+
+  private QueryResult load(String key,
+                           CompletableFuture<QueryResult> result,
+                           Supplier<QueryResult> loader) {
+    QueryResult queryResult;
+    try {
+      queryResult = loader.get();
+    } catch (RuntimeException e) {
+      remove(key, result);
+      result.completeExceptionally(e);
+      throw e;
+    }
+    if (!isCacheable(queryResult)) {
+      remove(key, result);
+    }
+    result.complete(queryResult);
+    return queryResult;
+  }
+
+  private QueryResult await(CompletableFuture<QueryResult> result) {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private void remove(String key,
+                      CompletableFuture<QueryResult> result) {
+    synchronized (entries) {
+      var entry = entries.get(key);
+      if (entry != null && entry.result() == result) {
+        entries.remove(key);
+        metrics.setSize(entries.size());
+      }
+    }
+  }
+
+  private boolean isCacheable(QueryResult queryResult) {
+    if (queryResult == null || queryResult.hasError()) {
+      return false;
+    }
+    if (queryResult.getResults() == null) {
+      return true;
+    }
+    long rows = 0;
+    for (var result : queryResult.getResults()) {
+      if (result.hasError()) {
+        return false;
+      }
+      if (result.getSeries() != null) {
+        for (var series : result.getSeries()) {
+          rows += series.getValues() != null ? series.getValues().size() : 0;
+        }
+      }
+    }
+    return rows <= maxRows;
+  }
+
+  private record Entry(String measurementName,
+                       CompletableFuture<QueryResult> result,
+                       long expiresAt) {
+  }
+}
@@ -21,26 +21,47 @@ package org.apache.streampipes.dataexplorer.influx;
 import org.apache.streampipes.dataexplorer.api.IDataExplorerQueryManagement;
 import org.apache.streampipes.dataexplorer.api.IDataExplorerSchemaManagement;
 import org.apache.streampipes.dataexplorer.export.OutputFormat;
+import org.apache.streampipes.dataexplorer.influx.client.SharedInfluxQueryClient;
+import org.apache.streampipes.dataexplorer.ParallelQueryExecution;
+import org.apache.streampipes.dataexplorer.ParallelQueryExecution.QueryTask;
 import org.apache.streampipes.dataexplorer.QueryResultProvider;
 import org.apache.streampipes.dataexplorer.StreamedQueryResultProvider;
 import org.apache.streampipes.dataexplorer.param.DeleteQueryParams;
 import org.apache.streampipes.dataexplorer.param.ProvidedRestQueryParamConverter;
 import org.apache.streampipes.model.datalake.SpQueryStatus;
 import org.apache.streampipes.model.datalake.param.ProvidedRestQueryParams;
+import org.apache.streampipes.model.datalake.param.SupportedRestQueryParams;
 import org.apache.streampipes.model.datalake.DataLakeMeasure;
 import org.apache.streampipes.model.datalake.SpQueryResult;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public class DataExplorerQueryManagementInflux implements IDataExplorerQueryManagement {
 
   private final IDataExplorerSchemaManagement dataExplorerSchemaManagement;
+  private final SharedInfluxQueryClient queryClient;
+  private final DataExplorerQueryCache queryCache;
+  private final ParallelQueryExecution parallelQueryExecution;
 
   public DataExplorerQueryManagementInflux(IDataExplorerSchemaManagement dataExplorerSchemaManagement) {
+    this(dataExplorerSchemaManagement,
+        DataExplorerManagerInflux.getSharedQueryClient(),
+        DataExplorerManagerInflux.getQueryCache());
+  }
+
+  public DataExplorerQueryManagementInflux(IDataExplorerSchemaManagement dataExplorerSchemaManagement,
+                                           SharedInfluxQueryClient queryClient,
+                                           DataExplorerQueryCache queryCache) {
     this.dataExplorerSchemaManagement = dataExplorerSchemaManagement;
+    this.queryClient = queryClient;
+    this.queryCache = queryCache;
+    this.parallelQueryExecution = new ParallelQueryExecution();
   }
 
   @Override
@@ -48,20 +69,68 @@ public class DataExplorerQueryManagementInflux implements IDataExplorerQueryMana
                                boolean ignoreMissingData) throws IllegalArgumentException {
     return new QueryResultProvider(queryParams,
                                    this,
-                                   new DataExplorerInfluxQueryExecutor(),
+                                   makeQueryExecutor(),
                                    ignoreMissingData
     ).getData();
   }
 
+  /**
+   * Executes the queries concurrently. Plain queries against the same measurement are combined into one
+   * multi-statement query, queries which need additional requests (auto-aggregation, limited amount of events)
+   * are executed separately.
+   */
+  @Override
+  public List<SpQueryResult> getData(List<ProvidedRestQueryParams> queryParams,
+                                     boolean ignoreMissingData) {
+    List<QueryTask> tasks = new ArrayList<>();
+    Map<String, List<Integer>> combinableQueries = new LinkedHashMap<>();
+    for (int i = 0; i < queryParams.size(); i++) {
+      var params = queryParams.get(i);
+      if (isCombinable(params)) {
+        combinableQueries.computeIfAbsent(params.getMeasurementId(), key -> new ArrayList<>()).add(i);
+      } else {
+        tasks.add(new QueryTask(List.of(i), () -> List.of(getData(params, ignoreMissingData))));
+      }
+    }
+
+    combinableQueries.values().forEach(indices -> {
+      var params = indices.stream().map(queryParams::get).toList();
+      if (indices.size() == 1) {
+        tasks.add(new QueryTask(indices, () -> List.of(getData(params.get(0), ignoreMissingData))));
+      } else {
+        tasks.add(new QueryTask(indices, () -> getCombinedData(params, ignoreMissingData)));
+      }
+    });
+
+    return parallelQueryExecution.execute(queryParams, tasks);
+  }
+
+  private boolean isCombinable(ProvidedRestQueryParams params) {
+    return !params.has(SupportedRestQueryParams.QP_AUTO_AGGREGATE)
+        && !params.has(SupportedRestQueryParams.QP_MAXIMUM_AMOUNT_OF_EVENTS);
+  }
+
+  private List<SpQueryResult> getCombinedData(List<ProvidedRestQueryParams> queryParams,
+                                              boolean ignoreMissingData) {
+    var selectQueryParams = queryParams.stream()
+        .map(ProvidedRestQueryParamConverter::getSelectQueryParams)
+        .toList();
+    var forIds = queryParams.stream()
+        .map(params -> Optional.ofNullable(params.getAsString(QueryResultProvider.FOR_ID_KEY)))
+        .toList();
+    return makeQueryExecutor().executeQueries(selectQueryParams, forIds, ignoreMissingData);
+  }
+
   @Override
   public void getDataAsStream(ProvidedRestQueryParams params,
                               OutputFormat format,
                               boolean ignoreMissingValues,
                               OutputStream outputStream) throws IOException {
 
+    // exports page through large time ranges, their results are not cached
     new StreamedQueryResultProvider(params, format,
                                     this,
-                                    new DataExplorerInfluxQueryExecutor(),
+                                    new DataExplorerInfluxQueryExecutor(queryClient, DataExplorerQueryCache.disabled()),
                                     ignoreMissingValues
     ).getDataAsStream(outputStream);
   }
@@ -69,7 +138,7 @@ public class DataExplorerQueryManagementInflux implements IDataExplorerQueryMana
   @Override
   public boolean deleteAllData() {
     List<DataLakeMeasure> allMeasurements = getAllMeasurements();
-    var queryExecutor = new DataExplorerInfluxQueryExecutor();
+    var queryExecutor = makeQueryExecutor();
 
     for (DataLakeMeasure measure : allMeasurements) {
       boolean success = queryExecutor.deleteData(measure);
@@ -88,7 +157,7 @@ public class DataExplorerQueryManagementInflux implements IDataExplorerQueryMana
                                             .filter(measure -> measure.getMeasureName().equals(measurementID))
                                             .findFirst();
 
-    return measureToDeleteOpt.filter(measure -> new DataExplorerInfluxQueryExecutor().deleteData(measure))
+    return measureToDeleteOpt.filter(measure -> makeQueryExecutor().deleteData(measure))
                              .isPresent();
   }
 
@@ -96,15 +165,19 @@ public class DataExplorerQueryManagementInflux implements IDataExplorerQueryMana
   public boolean deleteData(String measurementName, Long startDate, Long endDate) {
     DeleteQueryParams params =
         ProvidedRestQueryParamConverter.getDeleteQueryParams(measurementName, startDate, endDate);
-    return new DataExplorerInfluxQueryExecutor().executeQuery(params)
-                                                .getSpQueryStatus()
-                                                .equals(SpQueryStatus.OK);
+    return makeQueryExecutor().executeQuery(params)
+                              .getSpQueryStatus()
+                              .equals(SpQueryStatus.OK);
   }
 
   @Override
   public Map<String, Object> getTagValues(String measurementId,
                                           String fields) {
-    return new DataExplorerInfluxQueryExecutor().getTagValues(measurementId, fields);
+    return makeQueryExecutor().getTagValues(measurementId, fields);
+  }
+
+  private DataExplorerInfluxQueryExecutor makeQueryExecutor() {
+    return new DataExplorerInfluxQueryExecutor(queryClient, queryCache);
   }
 
   private List<DataLakeMeasure> getAllMeasurements() {
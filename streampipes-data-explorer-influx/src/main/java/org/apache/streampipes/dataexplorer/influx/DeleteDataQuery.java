@@ -19,7 +19,6 @@ package org.apache.streampipes.dataexplorer.influx;
 
 import org.apache.streampipes.commons.environment.Environment;
 import org.apache.streampipes.commons.environment.Environments;
-import org.apache.streampipes.dataexplorer.influx.client.InfluxClientProvider;
 import org.apache.streampipes.model.datalake.DataLakeMeasure;
 
 import org.influxdb.InfluxDB;
@@ -29,9 +28,12 @@ import org.influxdb.dto.QueryResult;
 public class DeleteDataQuery {
 
   private final DataLakeMeasure measure;
+  private final InfluxDB influxDB;
 
-  public DeleteDataQuery(DataLakeMeasure measure) {
+  public DeleteDataQuery(DataLakeMeasure measure,
+                         InfluxDB influxDB) {
     this.measure = measure;
+    this.influxDB = influxDB;
   }
 
   private String getQuery() {
@@ -39,12 +41,10 @@ public class DeleteDataQuery {
   }
 
   public QueryResult executeQuery() throws RuntimeException {
-    try (final InfluxDB influxDB = InfluxClientProvider.getInfluxDBClient()) {
-      var databaseName = getEnvironment().getTsStorageBucket().getValueOrDefault();
+    var databaseName = getEnvironment().getTsStorageBucket().getValueOrDefault();
 
-      var query = new Query(getQuery(), databaseName);
-      return influxDB.query(query);
-    }
+    var query = new Query(getQuery(), databaseName);
+    return influxDB.query(query);
   }
 
   private Environment getEnvironment() {
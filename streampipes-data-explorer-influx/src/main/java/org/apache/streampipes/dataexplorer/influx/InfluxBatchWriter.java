@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.influx;
+
+import org.apache.streampipes.commons.environment.Environment;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpWriteMetrics;
+
+import org.influxdb.InfluxDB;
+import org.influxdb.dto.BatchPoints;
+import org.influxdb.dto.Point;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers points in a bounded queue and writes them to InfluxDB in batches from a background thread.
+ *
+ * <p>A batch is written as soon as it reaches the configured batch size or the linger time since its
+ * first point has elapsed. If the buffer is full, {@link #write(Point)} blocks until the flusher has
+ * caught up, so that a slow database throttles the pipeline instead of exhausting the heap.
+ * {@link #close()} writes all buffered points before it returns.</p>
+ *
+ * <p>Flushes, blocked writes and the number of buffered points are reported to the {@link SpWriteMetrics} of the
+ * sink.</p>
+ */
+public class InfluxBatchWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InfluxBatchWriter.class);
+
+  private static final long CLOSE_TIMEOUT_MILLIS = 30000;
+
+  // offered on close to wake up a flusher waiting for points, never written
+  private static final Point WAKE_UP = Point.measurement("wake-up").addField("value", 0).build();
+
+  private final InfluxDB influxDb;
+  private final String databaseName;
+  private final int batchSize;
+  private final long lingerNanos;
+  private final BlockingQueue<Point> buffer;
+  private final Thread flusher;
+  private final SpWriteMetrics writeMetrics;
+
+  private volatile boolean closed;
+
+  public InfluxBatchWriter(InfluxDB influxDb,
+                           String databaseName,
+                           String name,
+                           int batchSize,
+                           long lingerMillis,
+                           int bufferSize,
+                           SpWriteMetrics writeMetrics) {
+    this.influxDb = influxDb;
+    this.databaseName = databaseName;
+    this.batchSize = batchSize;
+    this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.writeMetrics = writeMetrics;
+    this.flusher = new Thread(this::runFlusher, "influx-writer-" + name);
+    this.flusher.setDaemon(true);
+    this.flusher.start();
+  }
+
+  public static InfluxBatchWriter from(InfluxDB influxDb,
+                                       String databaseName,
+                                       String name,
+                                       Environment environment,
+                                       SpWriteMetrics writeMetrics) {
+    return new InfluxBatchWriter(
+        influxDb,
+        databaseName,
+        name,
+        environment.getTsStorageWriteBatchSize().getValueOrDefault(),
+        environment.getTsStorageWriteLingerMillis().getValueOrDefault(),
+        environment.getTsStorageWriteBufferSize().getValueOrDefault(),
+        writeMetrics
+    );
+  }
+
+  /**
+   * Adds a point to the buffer, blocking while the buffer is full.
+   * Must not be called concurrently with {@link #close()}.
+   */
+  public void write(Point point) throws SpRuntimeException {
+    if (closed) {
+      throw new SpRuntimeException("Influx writer has already been closed");
+    }
+    if (!buffer.offer(point)) {
+      writeMetrics.recordBlockedWrite();
+      try {
+        buffer.put(point);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SpRuntimeException(e);
+      }
+    }
+  }
+
+  /**
+   * Adds all points to the buffer in the given order, blocking while the buffer is full.
+   * Must not be called concurrently with {@link #close()}.
+   */
+  public void write(List<Point> points) throws SpRuntimeException {
+    for (Point point : points) {
+      write(point);
+    }
+  }
+
+  /**
+   * Stops accepting points and waits until all buffered points have been written.
+   */
+  public void close() throws SpRuntimeException {
+    closed = true;
+    buffer.offer(WAKE_UP);
+    try {
+      flusher.join(CLOSE_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SpRuntimeException(e);
+    }
+    if (flusher.isAlive()) {
+      flusher.interrupt();
+      LOG.warn("Influx writer did not drain within {} ms, {} points are discarded",
+          CLOSE_TIMEOUT_MILLIS, buffer.size());
+    }
+    LOG.info("Influx writer closed: {}", writeMetrics);
+  }
+
+  private void runFlusher() {
+    List<Point> batch = new ArrayList<>(batchSize);
+    while (!closed || !buffer.isEmpty()) {
+      try {
+        collectBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (!batch.isEmpty()) {
+        writeBatch(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void collectBatch(List<Point> batch) throws InterruptedException {
+    Point first = buffer.poll(lingerNanos, TimeUnit.NANOSECONDS);
+    if (first == null || first == WAKE_UP) {
+      return;
+    }
+    batch.add(first);
+    long deadline = System.nanoTime() + lingerNanos;
+    while (batch.size() < batchSize) {
+      buffer.drainTo(batch, batchSize - batch.size());
+      if (batch.removeIf(point -> point == WAKE_UP)) {
+        return;
+      }
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || closed || remaining <= 0) {
+        return;
+      }
+      Point next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null || next == WAKE_UP) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  private void writeBatch(List<Point> batch) {
+    writeMetrics.setBufferedEvents(buffer.size());
+    long start = System.nanoTime();
+    try {
+      influxDb.write(BatchPoints.database(databaseName).points(batch).build());
+      writeMetrics.recordFlush(batch.size(), System.nanoTime() - start);
+    } catch (RuntimeException e) {
+      writeMetrics.recordFailedFlush();
+      LOG.error("Could not write batch of {} points to InfluxDB", batch.size(), e);
+    }
+  }
+}
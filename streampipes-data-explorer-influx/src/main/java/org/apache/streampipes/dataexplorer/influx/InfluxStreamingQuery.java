@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.influx;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataexplorer.query.StreamedRowsConsumer;
+
+import org.influxdb.InfluxDB;
+import org.influxdb.dto.Query;
+import org.influxdb.dto.QueryResult;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executes a chunked InfluxDB query and hands the chunks over from the HTTP client thread to the consuming thread.
+ * <p>
+ * The hand-over queue is bounded, so that the response is only read as fast as the consumer writes the rows. The
+ * rows of each chunk are passed on without copying them. Chunked queries return the timestamps as RFC3339 strings,
+ * they are converted to epoch milliseconds like the timestamps of regular queries.
+ */
+public class InfluxStreamingQuery {
+
+  private static final int BUFFERED_CHUNKS = 4;
+  private static final long OFFER_INTERVAL_MILLIS = 100;
+  // the client marks the end of the response with an additional chunk before it completes the query
+  private static final String DONE_MARKER = "DONE";
+  private static final Chunk END = new Chunk(null, null);
+
+  private final InfluxDB influxDB;
+  private final long timeoutMillis;
+  private final BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(BUFFERED_CHUNKS);
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+
+  public InfluxStreamingQuery(InfluxDB influxDB,
+                              long timeoutMillis) {
+    this.influxDB = influxDB;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Executes the query and passes the rows of each chunk to the consumer. Returns when the last chunk has been
+   * consumed, the query is cancelled if the consumer fails.
+   */
+  public void execute(Query query,
+                      int chunkSize,
+                      boolean ignoreMissingValues,
+                      StreamedRowsConsumer consumer) throws IOException {
+    influxDB.query(
+        query,
+        chunkSize,
+        (cancellable, result) -> {
+          if (!DONE_MARKER.equals(result.getError()) && !put(new Chunk(result, null))) {
+            cancellable.cancel();
+          }
+        },
+        () -> put(END),
+        error -> put(new Chunk(null, error)));
+
+    try {
+      var chunk = take();
+      while (chunk != END) {
+        if (chunk.error() != null) {
+          throw new SpRuntimeException("Streaming query failed: " + chunk.error().getMessage(), chunk.error());
+        }
+        consume(chunk.result(), ignoreMissingValues, consumer);
+        chunk = take();
+      }
+    } finally {
+      cancelled.set(true);
+    }
+  }
+
+  private void consume(QueryResult queryResult,
+                       boolean ignoreMissingValues,
+                       StreamedRowsConsumer consumer) throws IOException {
+    if (queryResult.hasError()) {
+      throw new SpRuntimeException("Streaming query failed: " + queryResult.getError());
+    }
+    if (queryResult.getResults() == null) {
+      return;
+    }
+
+    for (QueryResult.Result result : queryResult.getResults()) {
+      if (result.hasError()) {
+        throw new SpRuntimeException("Streaming query failed: " + result.getError());
+      }
+      if (result.getSeries() != null) {
+        for (QueryResult.Series series : result.getSeries()) {
+          var rows = series.getValues();
+          if (ignoreMissingValues) {
+            rows.removeIf(row -> row.contains(null));
+          }
+          rows.forEach(row -> row.set(0, toEpochMillis(row.get(0))));
+          consumer.accept(series.getColumns(), rows);
+        }
+      }
+    }
+  }
+
+  private Double toEpochMillis(Object timestamp) {
+    if (timestamp instanceof Number number) {
+      return number.doubleValue();
+    } else {
+      return (double) Instant.parse(timestamp.toString()).toEpochMilli();
+    }
+  }
+
+  /**
+   * Called by the HTTP client thread, waits while the queue is full.
+   *
+   * @return false if the query has been cancelled in the meantime
+   */
+  private boolean put(Chunk chunk) {
+    try {
+      while (!chunks.offer(chunk, OFFER_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (cancelled.get()) {
+          return false;
+        }
+      }
+      return !cancelled.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private Chunk take() throws InterruptedIOException {
+    try {
+      var chunk = chunks.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+      if (chunk == null) {
+        throw new SpRuntimeException("Streaming query did not deliver data within " + timeoutMillis + " ms");
+      }
+      return chunk;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Streaming query was interrupted");
+    }
+  }
+
+  private record Chunk(QueryResult result,
+                       Throwable error) {
+  }
+}
@@ -22,7 +22,9 @@ import org.apache.streampipes.commons.environment.Environment;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.dataexplorer.TimeSeriesStorage;
 import org.apache.streampipes.dataexplorer.influx.client.InfluxClientProvider;
+import org.apache.streampipes.dataexplorer.influx.client.InfluxConnectionSettings;
 import org.apache.streampipes.dataexplorer.influx.sanitize.InfluxNameSanitizer;
+import org.apache.streampipes.extensions.api.monitoring.SpWriteMetrics;
 import org.apache.streampipes.model.datalake.DataLakeMeasure;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.schema.EventPropertyPrimitive;
@@ -30,29 +32,49 @@ import org.apache.streampipes.model.schema.EventPropertyPrimitive;
 import org.influxdb.InfluxDB;
 import org.influxdb.dto.Point;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public class TimeSeriesStorageInflux extends TimeSeriesStorage {
 
   private final InfluxDB influxDb;
 
+  private final InfluxBatchWriter writer;
+
   private final PropertyHandler propertyHandler;
 
 
   public TimeSeriesStorageInflux(
       DataLakeMeasure measure,
       Environment environment,
-      InfluxClientProvider influxClientProvider
+      InfluxClientProvider influxClientProvider,
+      SpWriteMetrics writeMetrics
   ) throws SpRuntimeException {
     super(measure);
     influxDb = influxClientProvider.getInitializedInfluxDBClient(environment);
+    writer = InfluxBatchWriter.from(
+        influxDb,
+        InfluxConnectionSettings.from(environment).getDatabaseName(),
+        measure.getMeasureName(),
+        environment,
+        writeMetrics
+    );
     propertyHandler = new PropertyHandler();
   }
 
   protected void writeToTimeSeriesStorage(Event event) throws SpRuntimeException {
+    writer.write(makePoint(event));
+  }
+
+  @Override
+  protected void writeToTimeSeriesStorage(List<Event> events) throws SpRuntimeException {
+    writer.write(events.stream().map(this::makePoint).toList());
+  }
+
+  private Point makePoint(Event event) {
     var point = initializePointWithTimestamp(event);
     iterateOverallEventProperties(event, point);
-    influxDb.write(point.build());
+    return point.build();
   }
 
   private void iterateOverallEventProperties(
@@ -85,16 +107,14 @@ public class TimeSeriesStorageInflux extends TimeSeriesStorage {
   }
 
   /**
-   * Shuts down the connection to the InfluxDB server
+   * Writes all buffered points and shuts down the connection to the InfluxDB server
    */
   public void close() throws SpRuntimeException {
-    influxDb.flush();
     try {
-      Thread.sleep(1000);
-    } catch (InterruptedException e) {
-      throw new SpRuntimeException(e);
+      writer.close();
+    } finally {
+      influxDb.close();
     }
-    influxDb.close();
   }
 
   /**
@@ -23,6 +23,9 @@ import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.dataexplorer.influx.auth.InfluxAuthMode;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import org.influxdb.InfluxDB;
 import org.influxdb.InfluxDBFactory;
 import org.influxdb.dto.Query;
@@ -53,12 +56,41 @@ public class InfluxClientProvider {
    * @return InfluxDB
    */
   public static InfluxDB getInfluxDBClient(InfluxConnectionSettings settings) {
+    return connect(settings, makeHttpClientBuilder(settings));
+  }
+
+  /**
+   * Create a new InfluxDB client which keeps up to the given number of idle HTTP connections open.
+   * The client is meant to be shared by concurrent queries and must be closed by its owner.
+   * Chunked queries, which are executed asynchronously, are limited to the same number of concurrent requests.
+   *
+   * @param settings           Connection settings
+   * @param maxIdleConnections Maximum number of idle connections kept in the pool
+   * @return InfluxDB
+   */
+  public static InfluxDB getPooledInfluxDBClient(InfluxConnectionSettings settings,
+                                                 int maxIdleConnections) {
+    var dispatcher = new Dispatcher();
+    dispatcher.setMaxRequestsPerHost(maxIdleConnections);
+    var okHttpClientBuilder = makeHttpClientBuilder(settings)
+        .connectionPool(new ConnectionPool(maxIdleConnections, 5, TimeUnit.MINUTES))
+        .dispatcher(dispatcher);
+    return connect(settings, okHttpClientBuilder);
+  }
+
+  private static OkHttpClient.Builder makeHttpClientBuilder(InfluxConnectionSettings settings) {
     if (settings.getAuthMode() == InfluxAuthMode.TOKEN) {
-      var okHttpClientBuilder = InfluxClientUtils.getHttpClientBuilder(settings.getToken());
+      return InfluxClientUtils.getHttpClientBuilder(settings.getToken());
+    } else {
+      return InfluxClientUtils.getHttpClientBuilder();
+    }
+  }
 
+  private static InfluxDB connect(InfluxConnectionSettings settings,
+                                  OkHttpClient.Builder okHttpClientBuilder) {
+    if (settings.getAuthMode() == InfluxAuthMode.TOKEN) {
       return InfluxDBFactory.connect(settings.getConnectionUrl(), okHttpClientBuilder);
     } else {
-      var okHttpClientBuilder = InfluxClientUtils.getHttpClientBuilder();
       return InfluxDBFactory.connect(
           settings.getConnectionUrl(),
           settings.getUsername(),
@@ -88,11 +120,8 @@ public class InfluxClientProvider {
       createDatabase(influxDb, databaseName);
     }
 
-    // setting up the database
+    // setting up the database, writes are batched by the InfluxBatchWriter
     influxDb.setDatabase(databaseName);
-    var batchSize = 2000;
-    var flushDuration = 500;
-    influxDb.enableBatch(batchSize, flushDuration, TimeUnit.MILLISECONDS);
 
     return influxDb;
   }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.influx.client;
+
+import org.apache.streampipes.commons.environment.Environment;
+
+import org.influxdb.InfluxDB;
+
+import java.util.function.Supplier;
+
+/**
+ * A long-lived InfluxDB client shared by all data explorer queries.
+ * The underlying HTTP client keeps a pool of connections, so that concurrent queries do not open and close a new
+ * connection each time. The client is created on first use.
+ */
+public class SharedInfluxQueryClient implements AutoCloseable {
+
+  private final Supplier<InfluxDB> clientFactory;
+  private volatile InfluxDB influxDb;
+
+  public SharedInfluxQueryClient(Environment environment) {
+    this(() -> InfluxClientProvider.getPooledInfluxDBClient(
+        InfluxConnectionSettings.from(environment),
+        environment.getTsStorageQueryMaxConnections().getValueOrDefault()));
+  }
+
+  public SharedInfluxQueryClient(Supplier<InfluxDB> clientFactory) {
+    this.clientFactory = clientFactory;
+  }
+
+  public InfluxDB getClient() {
+    var client = influxDb;
+    if (client == null) {
+      synchronized (this) {
+        client = influxDb;
+        if (client == null) {
+          client = clientFactory.get();
+          influxDb = client;
+        }
+      }
+    }
+    return client;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (influxDb != null) {
+      influxDb.close();
+      influxDb = null;
+    }
+  }
+}
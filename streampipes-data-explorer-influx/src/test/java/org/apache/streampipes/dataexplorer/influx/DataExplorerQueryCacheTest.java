@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.influx;
+
+import org.apache.streampipes.extensions.api.monitoring.SpCacheMetrics;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+
+import org.influxdb.dto.Query;
+import org.influxdb.dto.QueryResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DataExplorerQueryCacheTest {
+
+  private static final long WINDOW_MILLIS = 5000;
+  private static final String MEASUREMENT = "measurement";
+
+  private Clock clock;
+  private String resourceId;
+  private SpCacheMetrics metrics;
+  private DataExplorerQueryCache cache;
+  private AtomicInteger executions;
+
+  @BeforeEach
+  public void setUp() {
+    clock = Mockito.mock(Clock.class);
+    Mockito.when(clock.millis()).thenReturn(100_000L);
+    resourceId = UUID.randomUUID().toString();
+    metrics = SpMonitoringManager.INSTANCE.registerCacheMetrics(resourceId);
+    cache = new DataExplorerQueryCache(true, 2, 10, WINDOW_MILLIS, clock, metrics);
+    executions = new AtomicInteger();
+  }
+
+  @Test
+  public void identicalQueriesAreServedFromCache() {
+    var first = cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+    var second = cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+
+    assertSame(first, second);
+    assertEquals(1, executions.get());
+    assertEquals(1, metrics.getHits());
+    assertEquals(1, metrics.getMisses());
+  }
+
+  @Test
+  public void liveQueriesExpireWithRefreshWindow() {
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+
+    Mockito.when(clock.millis()).thenReturn(100_000L + WINDOW_MILLIS);
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+
+    assertEquals(2, executions.get());
+  }
+
+  @Test
+  public void historicQueriesExpireWithRefreshWindow() {
+    // late or backfilled events may still be written to past time ranges
+    var statement = "SELECT * FROM m WHERE time >= 1000ms AND time < 10000ms";
+    cache.get(MEASUREMENT, query(statement), loader(1));
+
+    Mockito.when(clock.millis()).thenReturn(100_000L + WINDOW_MILLIS);
+    cache.get(MEASUREMENT, query(statement), loader(1));
+
+    assertEquals(2, executions.get());
+  }
+
+  @Test
+  public void metricsAreReportedToMonitoringManager() {
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+    cache.get(MEASUREMENT, query("SELECT a FROM m"), loader(1));
+
+    var cacheMetrics = SpMonitoringManager.INSTANCE.getMetricsSnapshot(resourceId).getCacheMetrics();
+    assertEquals(2, cacheMetrics.getHits());
+    assertEquals(2, cacheMetrics.getMisses());
+    assertEquals(0.5, cacheMetrics.getHitRate());
+    assertEquals(2, cacheMetrics.getSize());
+  }
+
+  @Test
+  public void leastRecentlyUsedEntryIsEvicted() {
+    cache.get(MEASUREMENT, query("SELECT a FROM m"), loader(1));
+    cache.get(MEASUREMENT, query("SELECT b FROM m"), loader(1));
+    cache.get(MEASUREMENT, query("SELECT a FROM m"), loader(1));
+    cache.get(MEASUREMENT, query("SELECT c FROM m"), loader(1));
+    cache.get(MEASUREMENT, query("SELECT b FROM m"), loader(1));
+
+    assertEquals(4, executions.get());
+    assertEquals(2, metrics.getEvictions());
+    assertEquals(2, metrics.getSize());
+  }
+
+  @Test
+  public void largeResultsAreNotCached() {
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(11));
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(11));
+
+    assertEquals(2, executions.get());
+    assertEquals(0, metrics.getSize());
+  }
+
+  @Test
+  public void deletingDataInvalidatesEntriesOfMeasurement() {
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+    cache.get("other", query("SELECT * FROM other"), loader(1));
+
+    cache.invalidate(MEASUREMENT);
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+    cache.get("other", query("SELECT * FROM other"), loader(1));
+
+    assertEquals(3, executions.get());
+    assertEquals(1, metrics.getInvalidations());
+  }
+
+  @Test
+  public void failedQueriesAreNotCached() {
+    Supplier<QueryResult> failingLoader = () -> {
+      executions.incrementAndGet();
+      throw new RuntimeException("Connection refused");
+    };
+    assertThrows(RuntimeException.class,
+        () -> cache.get(MEASUREMENT, query("SELECT * FROM m"), failingLoader));
+
+    cache.get(MEASUREMENT, query("SELECT * FROM m"), loader(1));
+
+    assertEquals(2, executions.get());
+  }
+
+  private Query query(String command) {
+    return new Query(command, "sp");
+  }
+
+  private Supplier<QueryResult> loader(int rows) {
+    return () -> {
+      executions.incrementAndGet();
+      var series = new QueryResult.Series();
+      series.setColumns(List.of("time", "value"));
+      List<Object> row = List.of(1.0, 2.0);
+      series.setValues(Collections.nCopies(rows, row));
+      var result = new QueryResult.Result();
+      result.setSeries(List.of(series));
+      var queryResult = new QueryResult();
+      queryResult.setResults(List.of(result));
+      return queryResult;
+    };
+  }
+}
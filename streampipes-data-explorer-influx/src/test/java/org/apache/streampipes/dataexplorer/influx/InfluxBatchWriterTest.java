@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.influx;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+import org.apache.streampipes.extensions.api.monitoring.SpWriteMetrics;
+
+import org.influxdb.InfluxDB;
+import org.influxdb.dto.BatchPoints;
+import org.influxdb.dto.Point;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InfluxBatchWriterTest {
+
+  private static final String DATABASE = "sp";
+
+  @Test
+  public void writesFullBatchesAndDrainsRemainderOnClose() {
+    var influxDbMock = Mockito.mock(InfluxDB.class);
+    // long linger time, so only the batch size and close() trigger writes
+    var metrics = makeWriteMetrics();
+    var writer = new InfluxBatchWriter(influxDbMock, DATABASE, "test", 3, 60000, 100, metrics);
+
+    for (int i = 0; i < 7; i++) {
+      writer.write(makePoint(i));
+    }
+    writer.close();
+
+    var captor = ArgumentCaptor.forClass(BatchPoints.class);
+    Mockito.verify(influxDbMock, Mockito.times(3)).write(captor.capture());
+
+    var batches = captor.getAllValues();
+    assertEquals(3, batches.get(0).getPoints().size());
+    assertEquals(3, batches.get(1).getPoints().size());
+    assertEquals(1, batches.get(2).getPoints().size());
+    assertEquals(DATABASE, batches.get(0).getDatabase());
+
+    assertEquals(7, metrics.getEvents());
+    assertEquals(3, metrics.getFlushes());
+    assertEquals(0, metrics.getFailedFlushes());
+    assertEquals(0, metrics.getBufferedEvents());
+  }
+
+  @Test
+  public void countsFailedFlushes() {
+    var influxDbMock = Mockito.mock(InfluxDB.class);
+    Mockito.doThrow(new RuntimeException("unavailable"))
+           .when(influxDbMock).write(Mockito.any(BatchPoints.class));
+    var metrics = makeWriteMetrics();
+    var writer = new InfluxBatchWriter(influxDbMock, DATABASE, "test", 10, 60000, 100, metrics);
+
+    writer.write(makePoint(0));
+    writer.write(makePoint(1));
+    writer.close();
+
+    assertEquals(1, metrics.getFailedFlushes());
+    assertEquals(0, metrics.getEvents());
+  }
+
+  @Test
+  public void rejectsWritesAfterClose() {
+    var writer = new InfluxBatchWriter(Mockito.mock(InfluxDB.class), DATABASE, "test", 10, 10, 100,
+        makeWriteMetrics());
+    writer.close();
+
+    assertThrows(SpRuntimeException.class, () -> writer.write(makePoint(0)));
+  }
+
+  private SpWriteMetrics makeWriteMetrics() {
+    // a fresh resource per writer, as the metrics of the monitoring manager are shared
+    return SpMonitoringManager.INSTANCE.registerWriteMetrics(UUID.randomUUID().toString());
+  }
+
+  private Point makePoint(long timestamp) {
+    return Point.measurement("test")
+        .time(timestamp, TimeUnit.MILLISECONDS)
+        .addField("value", timestamp)
+        .build();
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.influx;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.influxdb.InfluxDB;
+import org.influxdb.dto.Query;
+import org.influxdb.dto.QueryResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InfluxStreamingQueryTest {
+
+  private static final List<String> COLUMNS = List.of("time", "value");
+
+  @Test
+  public void chunksAreStreamedWithEpochTimestamps() throws IOException {
+    var influxDB = mockChunkedQuery(List.of(
+        chunk(row("2022-11-16T05:54:37.051Z", 1.0), row("2022-11-16T05:54:38.051Z", null)),
+        chunk(row("2022-11-16T05:54:39.051Z", 3.0))), null);
+    var consumed = new ArrayList<List<Object>>();
+
+    new InfluxStreamingQuery(influxDB, 5000)
+        .execute(new Query("SELECT * FROM m"), 2, true, (columns, rows) -> {
+          assertEquals(COLUMNS, columns);
+          consumed.addAll(rows);
+        });
+
+    assertEquals(2, consumed.size());
+    assertEquals(List.of(1668578077051.0, 1.0), consumed.get(0));
+    assertEquals(List.of(1668578079051.0, 3.0), consumed.get(1));
+  }
+
+  @Test
+  public void failedQueryIsReported() {
+    var influxDB = mockChunkedQuery(List.of(chunk(row("2022-11-16T05:54:37.051Z", 1.0))),
+        new IOException("connection reset"));
+
+    assertThrows(SpRuntimeException.class, () -> new InfluxStreamingQuery(influxDB, 5000)
+        .execute(new Query("SELECT * FROM m"), 2, false, (columns, rows) -> {
+        }));
+  }
+
+  @SuppressWarnings("unchecked")
+  private InfluxDB mockChunkedQuery(List<QueryResult> chunks,
+                                    Throwable failure) {
+    var influxDB = Mockito.mock(InfluxDB.class);
+    Mockito.doAnswer(invocation -> {
+      BiConsumer<InfluxDB.Cancellable, QueryResult> onNext = invocation.getArgument(2);
+      Runnable onComplete = invocation.getArgument(3);
+      Consumer<Throwable> onFailure = invocation.getArgument(4);
+      // like the HTTP client, the chunks are delivered on a separate thread
+      new Thread(() -> {
+        var cancellable = Mockito.mock(InfluxDB.Cancellable.class);
+        chunks.forEach(chunk -> onNext.accept(cancellable, chunk));
+        if (failure != null) {
+          onFailure.accept(failure);
+        } else {
+          var done = new QueryResult();
+          done.setError("DONE");
+          onNext.accept(cancellable, done);
+          onComplete.run();
+        }
+      }).start();
+      return null;
+    }).when(influxDB).query(
+        ArgumentMatchers.any(Query.class),
+        ArgumentMatchers.anyInt(),
+        ArgumentMatchers.any(BiConsumer.class),
+        ArgumentMatchers.any(Runnable.class),
+        ArgumentMatchers.any(Consumer.class));
+    return influxDB;
+  }
+
+  @SafeVarargs
+  private QueryResult chunk(List<Object>... rows) {
+    var series = new QueryResult.Series();
+    series.setColumns(COLUMNS);
+    series.setValues(new ArrayList<>(Arrays.asList(rows)));
+    var result = new QueryResult.Result();
+    result.setSeries(List.of(series));
+    var queryResult = new QueryResult();
+    queryResult.setResults(List.of(result));
+    return queryResult;
+  }
+
+  private List<Object> row(String time,
+                           Double value) {
+    return new ArrayList<>(Arrays.asList(time, value));
+  }
+}
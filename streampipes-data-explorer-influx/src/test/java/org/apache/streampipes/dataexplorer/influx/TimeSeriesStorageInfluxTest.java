@@ -19,8 +19,10 @@
 package org.apache.streampipes.dataexplorer.influx;
 
 
+import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.dataexplorer.influx.client.InfluxClientProvider;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
 import org.apache.streampipes.model.datalake.DataLakeMeasure;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.runtime.EventFactory;
@@ -36,6 +38,7 @@ import org.apache.streampipes.vocabulary.SO;
 import org.apache.streampipes.vocabulary.XSD;
 
 import org.influxdb.InfluxDB;
+import org.influxdb.dto.BatchPoints;
 import org.influxdb.dto.Point;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,6 +50,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -288,6 +292,36 @@ public class TimeSeriesStorageInfluxTest {
     assertEquals(expected, actualPoint);
   }
 
+  @Test
+  public void onEventsWritesAllPointsInOrder() {
+    var eventSchema = getEventSchemaBuilderWithTimestamp()
+        .withEventProperty(
+            EventPropertyPrimitiveTestBuilder
+                .create()
+                .withRuntimeName(FIELD_NAME)
+                .withRuntimeType(XSD.INTEGER)
+                .build())
+        .build();
+
+    var influxStore = getInfluxStore(eventSchema);
+    influxStore.onEvents(List.of(
+        getEvent(eventSchema, Map.of(FIELD_NAME, 1)),
+        getEvent(eventSchema, Map.of(FIELD_NAME, 2))
+    ));
+    influxStore.close();
+
+    var batchArgumentCaptor = ArgumentCaptor.forClass(BatchPoints.class);
+    Mockito.verify(influxDBMock).write(batchArgumentCaptor.capture());
+
+    assertEquals(
+        List.of(
+            getPointBuilderWithTimestamp().addField(FIELD_NAME, 1).build(),
+            getPointBuilderWithTimestamp().addField(FIELD_NAME, 2).build()
+        ),
+        batchArgumentCaptor.getValue().getPoints()
+    );
+  }
+
   /**
    * Initialize a Point builder with a timestamp
    */
@@ -302,11 +336,21 @@ public class TimeSeriesStorageInfluxTest {
    */
   private Point executeOnEvent(TimeSeriesStorageInflux timeSeriesStorageInflux, Event event) {
     timeSeriesStorageInflux.onEvent(event);
-    var pointArgumentCaptor = ArgumentCaptor.forClass(Point.class);
+    return getWrittenPoint(timeSeriesStorageInflux);
+  }
 
-    Mockito.verify(influxDBMock).write(pointArgumentCaptor.capture());
+  /**
+   * Closes the store, which drains the batch writer, and returns the single written data point
+   */
+  private Point getWrittenPoint(TimeSeriesStorageInflux timeSeriesStorageInflux) {
+    timeSeriesStorageInflux.close();
+    var batchArgumentCaptor = ArgumentCaptor.forClass(BatchPoints.class);
+
+    Mockito.verify(influxDBMock).write(batchArgumentCaptor.capture());
 
-    return pointArgumentCaptor.getValue();
+    var points = batchArgumentCaptor.getValue().getPoints();
+    assertEquals(1, points.size());
+    return points.get(0);
   }
 
   /**
@@ -352,10 +396,7 @@ public class TimeSeriesStorageInfluxTest {
     var influxStore = getInfluxStore(eventSchema);
 
     influxStore.onEvent(event);
-    var pointArgumentCaptor = ArgumentCaptor.forClass(Point.class);
-
-    Mockito.verify(influxDBMock).write(pointArgumentCaptor.capture());
-    return pointArgumentCaptor.getValue();
+    return getWrittenPoint(influxStore);
   }
 
   /**
@@ -386,7 +427,12 @@ public class TimeSeriesStorageInfluxTest {
     Mockito.when(influxClientProviderMock.getInitializedInfluxDBClient(ArgumentMatchers.any()))
            .thenReturn(influxDBMock);
 
-    return new TimeSeriesStorageInflux(measure, null, influxClientProviderMock);
+    return new TimeSeriesStorageInflux(
+        measure,
+        Environments.getEnvironment(),
+        influxClientProviderMock,
+        SpMonitoringManager.INSTANCE.registerWriteMetrics(measure.getMeasureName())
+    );
   }
 
 }
\ No newline at end of file
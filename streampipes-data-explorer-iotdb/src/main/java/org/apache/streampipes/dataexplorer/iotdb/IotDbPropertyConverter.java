@@ -44,33 +44,42 @@ public class IotDbPropertyConverter {
       PrimitiveField primitiveField,
       String sanitizedRuntimeName
   ) {
-    var runtimeType = eventPropertyPrimitive.getRuntimeType();
-    Object value;
-    TSDataType iotDbType;
+    var iotDbType = toIotDbType(eventPropertyPrimitive.getRuntimeType());
+    Object value = switch (iotDbType) {
+      case INT32 -> primitiveField.getAsInt();
+      case INT64 -> primitiveField.getAsLong();
+      case FLOAT -> primitiveField.getAsFloat();
+      case DOUBLE -> primitiveField.getAsDouble();
+      case BOOLEAN -> primitiveField.getAsBoolean();
+      default -> primitiveField.getAsString();
+    };
 
+    return new IotDbMeasurementRecord(sanitizedRuntimeName, iotDbType, value);
+  }
+
+  /**
+   * Maps the runtime type of a primitive event property to the corresponding IoTDB data type.
+   *
+   * @param runtimeType The runtime type of the property
+   * @return The IoTDB data type used to store values of this runtime type
+   * @throws SpRuntimeException If the runtime type cannot be mapped to an IoTDB data type
+   */
+  public TSDataType toIotDbType(String runtimeType) throws SpRuntimeException {
     if (XSD.INTEGER.toString().equals(runtimeType)) {
-      iotDbType = TSDataType.INT32;
-      value = primitiveField.getAsInt();
+      return TSDataType.INT32;
     } else if (XSD.LONG.toString().equals(runtimeType)) {
-      iotDbType = TSDataType.INT64;
-      value = primitiveField.getAsLong();
+      return TSDataType.INT64;
     } else if (XSD.FLOAT.toString().equals(runtimeType)) {
-      iotDbType = TSDataType.FLOAT;
-      value = primitiveField.getAsFloat();
-     }else if (XSD.DOUBLE.toString().equals(runtimeType) || SO.NUMBER.equals(runtimeType)) {
-      iotDbType = TSDataType.DOUBLE;
-      value = primitiveField.getAsDouble();
+      return TSDataType.FLOAT;
+    } else if (XSD.DOUBLE.toString().equals(runtimeType) || SO.NUMBER.equals(runtimeType)) {
+      return TSDataType.DOUBLE;
     } else if (XSD.BOOLEAN.toString().equals(runtimeType)) {
-      iotDbType = TSDataType.BOOLEAN;
-      value = primitiveField.getAsBoolean();
-    } else if (XSD.STRING.toString().equals(runtimeType)){
-      iotDbType = TSDataType.TEXT;
-      value = primitiveField.getAsString();
+      return TSDataType.BOOLEAN;
+    } else if (XSD.STRING.toString().equals(runtimeType)) {
+      return TSDataType.TEXT;
     } else {
       throw new SpRuntimeException("Unsupported runtime type '%s' - cannot be mapped to a IoTDB data type".formatted(runtimeType));
     }
-
-    return new IotDbMeasurementRecord(sanitizedRuntimeName, iotDbType, value);
   }
 
   /**
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.iotdb;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+
+/**
+ * Describes a single column of an IoTDB tablet.
+ * <p>
+ * Columns are derived once from the schema of a data lake measure so that neither the sanitized
+ * measurement name nor the IoTDB data type needs to be determined again for each event.
+ *
+ * @param runtimeName     The runtime name of the event property.
+ * @param measurementName The sanitized name of the measurement in IoTDB.
+ * @param dataType        The IoTDB data type of the column.
+ */
+public record IotDbTabletColumn(String runtimeName,
+                                String measurementName,
+                                TSDataType dataType) {
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.iotdb;
+
+import org.apache.iotdb.rpc.IoTDBConnectionException;
+import org.apache.iotdb.rpc.StatementExecutionException;
+import org.apache.iotdb.session.pool.SessionPool;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.write.record.Tablet;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.field.AbstractField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates events of one measure in a columnar IoTDB {@link Tablet} and inserts them as an
+ * aligned time series with a single RPC.
+ * <p>
+ * The tablet is flushed as soon as it holds the configured maximum number of rows, periodically
+ * by a shared scheduler so that events are not held back when the input rate is low, and when
+ * the writer is closed. Values are written directly into the primitive column arrays of the tablet;
+ * missing or unconvertible values are marked as null in the column bitmap.
+ * <p>
+ * If an insert fails, the buffered rows are kept and inserted with the next flush. While the tablet
+ * is full and cannot be inserted, further events are rejected with an exception.
+ */
+public class IotDbTabletWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IotDbTabletWriter.class);
+
+  private static final ScheduledExecutorService FLUSH_SCHEDULER =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "iotdb-tablet-flush");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private final SessionPool sessionPool;
+  private final String timestampSelector;
+  private final IotDbTabletColumn[] columns;
+  private final Tablet tablet;
+  private final ScheduledFuture<?> scheduledFlush;
+
+  /**
+   * @param sessionPool         The session pool used to insert the tablets.
+   * @param deviceId            The IoTDB device the tablet rows belong to.
+   * @param timestampSelector   The selector of the timestamp field of incoming events.
+   * @param columns             The precomputed measurement columns.
+   * @param maxRows             The number of rows after which the tablet is flushed.
+   * @param flushIntervalMillis The interval in which non-empty tablets are flushed.
+   */
+  public IotDbTabletWriter(SessionPool sessionPool,
+                           String deviceId,
+                           String timestampSelector,
+                           List<IotDbTabletColumn> columns,
+                           int maxRows,
+                           long flushIntervalMillis) {
+    this.sessionPool = sessionPool;
+    this.timestampSelector = timestampSelector;
+    this.columns = columns.toArray(new IotDbTabletColumn[0]);
+    this.tablet = new Tablet(
+        deviceId,
+        columns.stream()
+            .map(column -> new MeasurementSchema(column.measurementName(), column.dataType()))
+            .toList(),
+        maxRows
+    );
+    this.tablet.initBitMaps();
+    this.scheduledFlush = FLUSH_SCHEDULER.scheduleWithFixedDelay(
+        this::tryFlush,
+        flushIntervalMillis,
+        flushIntervalMillis,
+        TimeUnit.MILLISECONDS
+    );
+  }
+
+  /**
+   * Appends the event as a new row to the tablet and flushes the tablet once it is full.
+   *
+   * @param event The event to append.
+   * @throws SpRuntimeException If the tablet is still full because the previous flush failed and it
+   *                            can still not be inserted.
+   */
+  public synchronized void write(Event event) throws SpRuntimeException {
+    if (tablet.rowSize == tablet.getMaxRowNumber()) {
+      flush();
+    }
+
+    var timestamp = extractTimestamp(event);
+    if (timestamp == null) {
+      LOG.warn("Timestamp of input event is null - skipping event");
+      return;
+    }
+
+    int row = tablet.rowSize;
+    int writtenValues = 0;
+    for (int i = 0; i < columns.length; i++) {
+      // rows are reused after a flush, so the null marker of each cell is always set explicitly
+      if (setValue(i, row, event)) {
+        tablet.bitMaps[i].unmark(row);
+        writtenValues++;
+      } else {
+        tablet.bitMaps[i].mark(row);
+      }
+    }
+
+    if (writtenValues == 0) {
+      LOG.warn("Event only consists of timestamp and does not include any measurement - skipping event");
+      return;
+    }
+
+    tablet.addTimestamp(row, timestamp);
+    tablet.rowSize++;
+    if (tablet.rowSize == tablet.getMaxRowNumber()) {
+      tryFlush();
+    }
+  }
+
+  /**
+   * Inserts all buffered rows into IoTDB.
+   *
+   * @throws SpRuntimeException If the rows could not be inserted. The rows are kept in this case.
+   */
+  public synchronized void flush() throws SpRuntimeException {
+    if (tablet.rowSize == 0) {
+      return;
+    }
+    try {
+      sessionPool.insertAlignedTablet(tablet);
+    } catch (IoTDBConnectionException | StatementExecutionException e) {
+      throw new SpRuntimeException(
+          "Failed to write %d events to IoTDB - %s".formatted(tablet.rowSize, e.getMessage()), e);
+    }
+    tablet.reset();
+  }
+
+  /**
+   * Stops the periodic flush and inserts all remaining rows.
+   *
+   * @throws SpRuntimeException If the remaining rows could not be inserted.
+   */
+  public void close() throws SpRuntimeException {
+    scheduledFlush.cancel(false);
+    flush();
+  }
+
+  private void tryFlush() {
+    try {
+      flush();
+    } catch (SpRuntimeException e) {
+      LOG.error("{} - retrying with the next flush", e.getMessage());
+    }
+  }
+
+  private Long extractTimestamp(Event event) {
+    var value = event.getFieldBySelector(timestampSelector).getAsPrimitive().getRawValue();
+    if (value instanceof Number number) {
+      return number.longValue();
+    }
+    return value == null ? null : Long.parseLong(value.toString());
+  }
+
+  private boolean setValue(int columnIndex, int row, Event event) {
+    var column = columns[columnIndex];
+    var value = event.getOptionalFieldByRuntimeName(column.runtimeName())
+        .filter(AbstractField::isPrimitive)
+        .map(field -> field.getAsPrimitive().getRawValue())
+        .orElse(null);
+
+    if (value == null) {
+      return false;
+    }
+
+    try {
+      var columnValues = tablet.values[columnIndex];
+      switch (column.dataType()) {
+        case INT32 -> ((int[]) columnValues)[row] =
+            value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString());
+        case INT64 -> ((long[]) columnValues)[row] =
+            value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+        case FLOAT -> ((float[]) columnValues)[row] =
+            value instanceof Number number ? number.floatValue() : Float.parseFloat(value.toString());
+        case DOUBLE -> ((double[]) columnValues)[row] =
+            value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString());
+        case BOOLEAN -> ((boolean[]) columnValues)[row] =
+            value instanceof Boolean bool ? bool : Boolean.parseBoolean(value.toString());
+        case TEXT -> ((Binary[]) columnValues)[row] =
+            new Binary(value.toString().getBytes(StandardCharsets.UTF_8));
+        default -> {
+          return false;
+        }
+      }
+      return true;
+    } catch (NumberFormatException e) {
+      LOG.debug("Value of event field '{}' could not be converted to {} - "
+              + "property will not be written to storage",
+          column.runtimeName(),
+          column.dataType()
+      );
+      return false;
+    }
+  }
+}
@@ -21,6 +21,7 @@ package org.apache.streampipes.dataexplorer.iotdb;
 import org.apache.iotdb.rpc.IoTDBConnectionException;
 import org.apache.iotdb.rpc.StatementExecutionException;
 import org.apache.iotdb.session.pool.SessionPool;
+import org.apache.streampipes.commons.environment.Environment;
 import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.dataexplorer.TimeSeriesStorage;
@@ -40,27 +41,50 @@ public class TimeSeriesStorageIotDb extends TimeSeriesStorage {
 
   private final IotDbPropertyConverter propertyConverter;
   private final SessionPool sessionPool;
+  private final IotDbTabletWriter tabletWriter;
 
   public TimeSeriesStorageIotDb(DataLakeMeasure measure,
                                 IotDbPropertyConverter propertyConverter,
                                 IotDbSessionProvider iotDbSessionProvider) {
+    this(measure, propertyConverter, iotDbSessionProvider, Environments.getEnvironment());
+  }
+
+  public TimeSeriesStorageIotDb(DataLakeMeasure measure,
+                                IotDbPropertyConverter propertyConverter,
+                                IotDbSessionProvider iotDbSessionProvider,
+                                Environment environment) {
     super(measure);
     this.propertyConverter = propertyConverter;
-    this.sessionPool = iotDbSessionProvider.getSessionPool(Environments.getEnvironment());
+    this.sessionPool = iotDbSessionProvider.getSessionPool(environment);
+    this.tabletWriter = environment.getIotDbTabletIngestionEnabled().getValueOrDefault()
+        ? new IotDbTabletWriter(
+            sessionPool,
+            getDeviceId(),
+            measure.getTimestampField(),
+            makeTabletColumns(),
+            environment.getIotDbTabletMaxRows().getValueOrDefault(),
+            environment.getIotDbTabletFlushIntervalMillis().getValueOrDefault()
+        )
+        : null;
   }
 
   @Override
   protected void storeSanitizedRuntimeNames() {
+    var nameSanitizer = new IotDbNameSanitizer();
     measure.getEventSchema()
         .getEventProperties()
         .forEach(ep -> sanitizedRuntimeNames.put(
             ep.getRuntimeName(),
-            new IotDbNameSanitizer().renameReservedKeywords(ep.getRuntimeName())
+            nameSanitizer.renameReservedKeywords(ep.getRuntimeName())
         ));
   }
 
   @Override
   protected void sanitizeRuntimeNamesInEvent(Event event) {
+    // the tablet writer reads fields by their original runtime name and uses the precomputed column names
+    if (tabletWriter != null) {
+      return;
+    }
     event.getRaw()
         .keySet()
         .forEach(runtimeName -> {
@@ -83,6 +107,11 @@ public class TimeSeriesStorageIotDb extends TimeSeriesStorage {
       return;
     }
 
+    if (tabletWriter != null) {
+      tabletWriter.write(event);
+      return;
+    }
+
     var timestampValue = event.getFieldBySelector(measure.getTimestampField())
         .getAsPrimitive()
         .getAsLong();
@@ -108,7 +137,49 @@ public class TimeSeriesStorageIotDb extends TimeSeriesStorage {
 
   @Override
   public void close() throws SpRuntimeException {
-    this.sessionPool.close();
+    try {
+      if (tabletWriter != null) {
+        tabletWriter.close();
+      }
+    } finally {
+      this.sessionPool.close();
+    }
+  }
+
+  /**
+   * Derives the tablet columns from the schema of the measure.
+   * <p>
+   * Sanitized names and IoTDB data types are resolved once here, properties which cannot be stored
+   * in IoTDB are excluded.
+   *
+   * @return The columns of the tablets written for this measure.
+   */
+  private List<IotDbTabletColumn> makeTabletColumns() {
+    var columns = new ArrayList<IotDbTabletColumn>();
+    allEventProperties.forEach(ep -> {
+      if (ep.getRuntimeName().equals(measure.getTimestampFieldName())) {
+        return;
+      }
+      if (!(ep instanceof EventPropertyPrimitive primitive)) {
+        LOG.warn("Non-primitive event property '{}' is not supported by IoTDB - "
+            + "property will not be written to storage", ep.getRuntimeName());
+        return;
+      }
+      try {
+        columns.add(new IotDbTabletColumn(
+            ep.getRuntimeName(),
+            sanitizedRuntimeNames.get(ep.getRuntimeName()),
+            propertyConverter.toIotDbType(primitive.getRuntimeType())
+        ));
+      } catch (SpRuntimeException e) {
+        LOG.warn("{} - property '{}' will not be written to storage", e.getMessage(), ep.getRuntimeName());
+      }
+    });
+    return columns;
+  }
+
+  private String getDeviceId() {
+    return "root.streampipes.%s".formatted(measure.getMeasureName());
   }
 
   /**
@@ -162,7 +233,7 @@ public class TimeSeriesStorageIotDb extends TimeSeriesStorage {
   private void insertIntoIotDb(long timestampValue, ArrayList<IotDbMeasurementRecord> iotDbRecords) {
     try {
       sessionPool.insertAlignedRecordsOfOneDevice(
-          "root.streampipes.%s".formatted(measure.getMeasureName()),
+          getDeviceId(),
           List.of(timestampValue),
           List.of(iotDbRecords.stream().map(IotDbMeasurementRecord::measurementName).toList()),
           List.of(iotDbRecords.stream().map(IotDbMeasurementRecord::dataType).toList()),
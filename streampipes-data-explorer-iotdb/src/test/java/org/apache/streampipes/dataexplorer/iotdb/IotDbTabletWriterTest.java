@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.iotdb;
+
+import org.apache.iotdb.rpc.IoTDBConnectionException;
+import org.apache.iotdb.session.pool.SessionPool;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.write.record.Tablet;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class IotDbTabletWriterTest {
+
+  private static final String TIMESTAMP = "timestamp";
+
+  private final List<FlushedTablet> flushedTablets = new ArrayList<>();
+  private SessionPool sessionPool;
+  private boolean failInserts;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    sessionPool = mock(SessionPool.class);
+    // the tablet is reset after each flush, so its content is copied when it is inserted
+    doAnswer(invocation -> {
+      if (failInserts) {
+        throw new IoTDBConnectionException("IoTDB is not available");
+      }
+      Tablet tablet = invocation.getArgument(0);
+      flushedTablets.add(new FlushedTablet(
+          tablet.rowSize,
+          Arrays.copyOf(tablet.timestamps, tablet.rowSize),
+          Arrays.copyOf((int[]) tablet.values[0], tablet.rowSize),
+          ((Binary[]) tablet.values[1])[0],
+          tablet.bitMaps[0].isMarked(0)
+      ));
+      return null;
+    }).when(sessionPool).insertAlignedTablet(any(Tablet.class));
+  }
+
+  @Test
+  public void flushesWhenTabletIsFull() {
+    var writer = makeWriter(2);
+
+    writer.write(makeEvent(1L, Map.of("count", 1, "name", "a")));
+    writer.write(makeEvent(2L, Map.of("count", 2, "name", "b")));
+    writer.write(makeEvent(3L, Map.of("count", 3, "name", "c")));
+
+    assertEquals(1, flushedTablets.size());
+    assertEquals(2, flushedTablets.get(0).rowSize());
+    assertArrayEquals(new long[]{1L, 2L}, flushedTablets.get(0).timestamps());
+    assertArrayEquals(new int[]{1, 2}, flushedTablets.get(0).counts());
+    assertEquals(new Binary("a".getBytes(StandardCharsets.UTF_8)), flushedTablets.get(0).firstName());
+
+    writer.close();
+
+    assertEquals(2, flushedTablets.size());
+    assertEquals(1, flushedTablets.get(1).rowSize());
+    assertArrayEquals(new int[]{3}, flushedTablets.get(1).counts());
+  }
+
+  @Test
+  public void marksMissingAndUnconvertibleValuesAsNull() {
+    var writer = makeWriter(10);
+
+    writer.write(makeEvent(1L, Map.of("count", "not-a-number", "name", "a")));
+    writer.close();
+
+    assertEquals(1, flushedTablets.size());
+    assertTrue(flushedTablets.get(0).firstCountIsNull());
+  }
+
+  @Test
+  public void unmarksReusedRowsAfterFlush() {
+    var writer = makeWriter(1);
+
+    writer.write(makeEvent(1L, Map.of("name", "a")));
+    writer.write(makeEvent(2L, Map.of("count", 2, "name", "b")));
+
+    assertEquals(2, flushedTablets.size());
+    assertTrue(flushedTablets.get(0).firstCountIsNull());
+    assertFalse(flushedTablets.get(1).firstCountIsNull());
+    writer.close();
+  }
+
+  @Test
+  public void skipsEventsWithoutMeasurements() {
+    var writer = makeWriter(10);
+
+    writer.write(makeEvent(1L, Map.of()));
+    writer.close();
+
+    assertTrue(flushedTablets.isEmpty());
+  }
+
+  @Test
+  public void keepsRowsWhenInsertFails() {
+    var writer = makeWriter(10);
+
+    writer.write(makeEvent(1L, Map.of("count", 1, "name", "a")));
+    failInserts = true;
+    assertThrows(SpRuntimeException.class, writer::flush);
+
+    failInserts = false;
+    writer.write(makeEvent(2L, Map.of("count", 2, "name", "b")));
+    writer.close();
+
+    assertEquals(1, flushedTablets.size());
+    assertEquals(2, flushedTablets.get(0).rowSize());
+    assertArrayEquals(new long[]{1L, 2L}, flushedTablets.get(0).timestamps());
+  }
+
+  @Test
+  public void rejectsEventsWhileFullTabletCannotBeInserted() {
+    var writer = makeWriter(1);
+    failInserts = true;
+
+    writer.write(makeEvent(1L, Map.of("count", 1, "name", "a")));
+    assertThrows(SpRuntimeException.class, () -> writer.write(makeEvent(2L, Map.of("count", 2, "name", "b"))));
+
+    failInserts = false;
+    writer.write(makeEvent(3L, Map.of("count", 3, "name", "c")));
+
+    assertEquals(2, flushedTablets.size());
+    assertArrayEquals(new int[]{1}, flushedTablets.get(0).counts());
+    assertArrayEquals(new int[]{3}, flushedTablets.get(1).counts());
+    writer.close();
+  }
+
+  private IotDbTabletWriter makeWriter(int maxRows) {
+    return new IotDbTabletWriter(
+        sessionPool,
+        "root.streampipes.test",
+        "s0::" + TIMESTAMP,
+        List.of(
+            new IotDbTabletColumn("count", "count", TSDataType.INT32),
+            new IotDbTabletColumn("name", "sanitized_name", TSDataType.TEXT)
+        ),
+        maxRows,
+        60000
+    );
+  }
+
+  private Event makeEvent(long timestamp, Map<String, Object> values) {
+    Map<String, Object> data = new HashMap<>(values);
+    data.put(TIMESTAMP, timestamp);
+    return EventFactory.fromMap(
+        data,
+        new SourceInfo("test-topic", "s0"),
+        new SchemaInfo(new EventSchema(), new ArrayList<>())
+    );
+  }
+
+  private record FlushedTablet(int rowSize,
+                               long[] timestamps,
+                               int[] counts,
+                               Binary firstName,
+                               boolean firstCountIsNull) {
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer;
+
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.model.datalake.SpQueryResult;
+import org.apache.streampipes.model.datalake.SpQueryStatus;
+import org.apache.streampipes.model.datalake.param.ProvidedRestQueryParams;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Executes the queries of a multi-query request concurrently on a bounded, shared executor.
+ * <p>
+ * The results are returned in the order of the query params. A query which fails or does not finish within the
+ * timeout of the request does not fail the whole request, instead its result has the status
+ * {@link SpQueryStatus#ERROR} and carries the error message and the forId of the query.
+ */
+public class ParallelQueryExecution {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ParallelQueryExecution.class);
+
+  private static final int QUEUE_CAPACITY = 1000;
+
+  private static final class SharedExecutor {
+    private static final ExecutorService INSTANCE =
+        makeExecutor(Environments.getEnvironment().getDataExplorerQueryParallelism().getValueOrDefault());
+  }
+
+  private final ExecutorService executorService;
+  private final long timeoutMillis;
+
+  public ParallelQueryExecution() {
+    this(SharedExecutor.INSTANCE,
+        Environments.getEnvironment().getDataExplorerQueryTimeoutMillis().getValueOrDefault());
+  }
+
+  public ParallelQueryExecution(ExecutorService executorService,
+                                long timeoutMillis) {
+    this.executorService = executorService;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Executes each query as a separate task.
+   */
+  public List<SpQueryResult> execute(List<ProvidedRestQueryParams> queryParams,
+                                     Function<ProvidedRestQueryParams, SpQueryResult> query) {
+    List<QueryTask> tasks = new ArrayList<>(queryParams.size());
+    for (int i = 0; i < queryParams.size(); i++) {
+      var params = queryParams.get(i);
+      tasks.add(new QueryTask(List.of(i), () -> List.of(query.apply(params))));
+    }
+    return execute(queryParams, tasks);
+  }
+
+  /**
+   * Executes the given tasks, each task produces the results of the queries at its indices.
+   */
+  public List<SpQueryResult> execute(List<ProvidedRestQueryParams> queryParams,
+                                     List<QueryTask> tasks) {
+    var results = new ArrayList<SpQueryResult>(Collections.nCopies(queryParams.size(), null));
+    if (tasks.size() == 1) {
+      // nothing to parallelize, the query is executed on the request thread
+      var task = tasks.get(0);
+      try {
+        collect(queryParams, task, task.execution().get(), results);
+      } catch (RuntimeException e) {
+        LOG.warn("Data lake query failed", e);
+        addErrors(queryParams, task, getErrorMessage(e), results);
+      }
+      return results;
+    }
+
+    var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    List<Future<List<SpQueryResult>>> futures = new ArrayList<>(tasks.size());
+    for (QueryTask task : tasks) {
+      futures.add(executorService.submit(task.execution()::get));
+    }
+
+    for (int i = 0; i < tasks.size(); i++) {
+      var task = tasks.get(i);
+      var future = futures.get(i);
+      try {
+        var remaining = Math.max(0, deadline - System.nanoTime());
+        collect(queryParams, task, future.get(remaining, TimeUnit.NANOSECONDS), results);
+      } catch (TimeoutException e) {
+        future.cancel(true);
+        addErrors(queryParams, task, "Query did not finish within " + timeoutMillis + " ms", results);
+      } catch (ExecutionException e) {
+        LOG.warn("Data lake query failed", e.getCause());
+        addErrors(queryParams, task, getErrorMessage(e.getCause()), results);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.forEach(f -> f.cancel(true));
+        addErrors(queryParams, task, "Query was interrupted", results);
+      }
+    }
+    return results;
+  }
+
+  private void collect(List<ProvidedRestQueryParams> queryParams,
+                       QueryTask task,
+                       List<SpQueryResult> taskResults,
+                       List<SpQueryResult> results) {
+    for (int i = 0; i < task.indices().size(); i++) {
+      var index = task.indices().get(i);
+      var result = taskResults.get(i);
+      if (result.getForId() == null) {
+        result.setForId(getForId(queryParams.get(index)));
+      }
+      results.set(index, result);
+    }
+  }
+
+  private void addErrors(List<ProvidedRestQueryParams> queryParams,
+                         QueryTask task,
+                         String errorMessage,
+                         List<SpQueryResult> results) {
+    for (Integer index : task.indices()) {
+      if (results.get(index) == null) {
+        var result = new SpQueryResult();
+        result.setSpQueryStatus(SpQueryStatus.ERROR);
+        result.setErrorMessage(errorMessage);
+        result.setForId(getForId(queryParams.get(index)));
+        results.set(index, result);
+      }
+    }
+  }
+
+  private String getErrorMessage(Throwable e) {
+    return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+  }
+
+  private String getForId(ProvidedRestQueryParams params) {
+    return params.getAsString(QueryResultProvider.FOR_ID_KEY);
+  }
+
+  private static ExecutorService makeExecutor(int parallelism) {
+    var threadCount = new AtomicInteger();
+    var executor = new ThreadPoolExecutor(
+        parallelism,
+        parallelism,
+        60,
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+        runnable -> {
+          var thread = new Thread(runnable, "data-lake-query-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        // if the queue is full, the requesting thread executes the query itself
+        new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * A unit of work of a multi-query request.
+   *
+   * @param indices   The indices of the queries whose results are produced by this task
+   * @param execution Executes the queries, returns the results in the order of the indices
+   */
+  public record QueryTask(List<Integer> indices,
+                          Supplier<List<SpQueryResult>> execution) {
+  }
+}
@@ -18,10 +18,13 @@
 
 package org.apache.streampipes.dataexplorer;
 
+import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.dataexplorer.api.IDataExplorerQueryManagement;
 import org.apache.streampipes.dataexplorer.export.ConfiguredOutputWriter;
 import org.apache.streampipes.dataexplorer.export.OutputFormat;
+import org.apache.streampipes.dataexplorer.param.ProvidedRestQueryParamConverter;
 import org.apache.streampipes.dataexplorer.query.DataExplorerQueryExecutor;
+import org.apache.streampipes.dataexplorer.query.StreamedRowsConsumer;
 import org.apache.streampipes.dataexplorer.utils.DataExplorerUtils;
 import org.apache.streampipes.model.datalake.DataLakeMeasure;
 import org.apache.streampipes.model.datalake.SpQueryResult;
@@ -30,6 +33,7 @@ import org.apache.streampipes.model.datalake.param.SupportedRestQueryParams;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,17 +53,60 @@ public class StreamedQueryResultProvider extends QueryResultProvider {
     this.format = format;
   }
 
+  /**
+   * Writes the query result to the output stream. If the query executor supports streaming queries, the rows are
+   * written as they are received from the database, otherwise the result is fetched page by page.
+   */
   public void getDataAsStream(OutputStream outputStream) throws IOException {
+    if (queryExecutor.supportsStreamingQueries() && isStreamable()) {
+      streamData(outputStream);
+    } else {
+      pageData(outputStream);
+    }
+  }
+
+  private void streamData(OutputStream outputStream) throws IOException {
+    var measurement = findByMeasurementName(queryParams.getMeasurementId()).get();
+    var configuredWriter = ConfiguredOutputWriter
+        .getConfiguredWriter(format, queryParams, measurement, ignoreMissingData);
+    var chunkSize = Environments.getEnvironment().getDataExplorerExportChunkSize().getValueOrDefault();
+    var rowWriter = new StreamedRowWriter(configuredWriter, outputStream, measurement);
+
+    configuredWriter.beforeFirstItem(outputStream);
+    if (isSliceable()) {
+      var slices = TimeSlicedQueryStream.makeSlices(
+          queryParams.getAsLong(SupportedRestQueryParams.QP_START_DATE),
+          queryParams.getAsLong(SupportedRestQueryParams.QP_END_DATE),
+          Environments.getEnvironment().getDataExplorerExportParallelism().getValueOrDefault());
+      List<TimeSlicedQueryStream.SliceQuery> sliceQueries = slices.stream()
+          .map(slice -> (TimeSlicedQueryStream.SliceQuery) consumer -> queryExecutor.executeStreamingQuery(
+              ProvidedRestQueryParamConverter.getSelectQueryParams(makeSliceParams(slice)),
+              chunkSize,
+              ignoreMissingData,
+              consumer))
+          .toList();
+      new TimeSlicedQueryStream().stream(sliceQueries, rowWriter);
+    } else {
+      queryExecutor.executeStreamingQuery(
+          ProvidedRestQueryParamConverter.getSelectQueryParams(new ProvidedRestQueryParams(queryParams)),
+          chunkSize,
+          ignoreMissingData,
+          rowWriter);
+    }
+    configuredWriter.afterLastItem(outputStream);
+  }
+
+  private void pageData(OutputStream outputStream) throws IOException {
     var usesLimit = queryParams.has(SupportedRestQueryParams.QP_LIMIT);
+    var measurement = findByMeasurementName(queryParams.getMeasurementId()).get();
     var configuredWriter = ConfiguredOutputWriter
-        .getConfiguredWriter(format, queryParams, ignoreMissingData);
+        .getConfiguredWriter(format, queryParams, measurement, ignoreMissingData);
 
     if (!queryParams.has(SupportedRestQueryParams.QP_LIMIT)) {
       queryParams.update(SupportedRestQueryParams.QP_LIMIT, MAX_RESULTS_PER_QUERY);
     }
 
     var limit = queryParams.getAsInt(SupportedRestQueryParams.QP_LIMIT);
-    var measurement = findByMeasurementName(queryParams.getMeasurementId()).get();
 
     SpQueryResult dataResult;
 
@@ -85,6 +132,39 @@ public class StreamedQueryResultProvider extends QueryResultProvider {
     configuredWriter.afterLastItem(outputStream);
   }
 
+  /**
+   * Grouped and auto-aggregated queries are paged, as their results consist of several series or depend on the
+   * amount of data.
+   */
+  private boolean isStreamable() {
+    return !queryParams.has(SupportedRestQueryParams.QP_GROUP_BY)
+        && !queryParams.has(SupportedRestQueryParams.QP_AUTO_AGGREGATE);
+  }
+
+  /**
+   * Only plain queries over a closed time range in ascending order are split into time slices, as limits, offsets
+   * and aggregations refer to the whole time range.
+   */
+  private boolean isSliceable() {
+    return queryParams.has(SupportedRestQueryParams.QP_START_DATE)
+        && queryParams.has(SupportedRestQueryParams.QP_END_DATE)
+        && !queryParams.has(SupportedRestQueryParams.QP_LIMIT)
+        && !queryParams.has(SupportedRestQueryParams.QP_OFFSET)
+        && !queryParams.has(SupportedRestQueryParams.QP_PAGE)
+        && !queryParams.has(SupportedRestQueryParams.QP_AGGREGATION_FUNCTION)
+        && !queryParams.has(SupportedRestQueryParams.QP_TIME_INTERVAL)
+        && !queryParams.has(SupportedRestQueryParams.QP_COUNT_ONLY)
+        && !ProvidedRestQueryParamConverter.ORDER_DESCENDING.equals(
+            queryParams.getAsString(SupportedRestQueryParams.QP_ORDER));
+  }
+
+  private ProvidedRestQueryParams makeSliceParams(TimeSlicedQueryStream.TimeSlice slice) {
+    var sliceParams = new ProvidedRestQueryParams(queryParams);
+    sliceParams.update(SupportedRestQueryParams.QP_START_DATE, slice.startTime());
+    sliceParams.update(SupportedRestQueryParams.QP_END_DATE, slice.endTime());
+    return sliceParams;
+  }
+
   private boolean queryNextPage(int lastResultsCount,
                                 boolean usesLimit,
                                 int limit) {
@@ -110,9 +190,48 @@ public class StreamedQueryResultProvider extends QueryResultProvider {
    */
   private void changeTimestampHeader(DataLakeMeasure measurement,
                                      SpQueryResult dataResult) {
-    var timeFieldIndex = dataResult.getHeaders().indexOf(TIME_FIELD);
+    changeTimestampHeader(measurement, dataResult.getHeaders());
+  }
+
+  private void changeTimestampHeader(DataLakeMeasure measurement,
+                                     List<String> headers) {
+    var timeFieldIndex = headers.indexOf(TIME_FIELD);
     if (timeFieldIndex > -1) {
-      dataResult.getHeaders().set(timeFieldIndex, measurement.getTimestampFieldName());
+      headers.set(timeFieldIndex, measurement.getTimestampFieldName());
+    }
+  }
+
+  /**
+   * Writes streamed rows with the configured writer, the columns are taken from the first chunk.
+   */
+  private final class StreamedRowWriter implements StreamedRowsConsumer {
+
+    private final ConfiguredOutputWriter writer;
+    private final OutputStream outputStream;
+    private final DataLakeMeasure measurement;
+
+    private List<String> columns;
+    private boolean firstItem = true;
+
+    private StreamedRowWriter(ConfiguredOutputWriter writer,
+                              OutputStream outputStream,
+                              DataLakeMeasure measurement) {
+      this.writer = writer;
+      this.outputStream = outputStream;
+      this.measurement = measurement;
+    }
+
+    @Override
+    public void accept(List<String> chunkColumns,
+                       List<List<Object>> rows) throws IOException {
+      if (columns == null) {
+        columns = new ArrayList<>(chunkColumns);
+        changeTimestampHeader(measurement, columns);
+      }
+      for (List<Object> row : rows) {
+        writer.writeItem(outputStream, row, columns, firstItem);
+        firstItem = false;
+      }
     }
   }
 }
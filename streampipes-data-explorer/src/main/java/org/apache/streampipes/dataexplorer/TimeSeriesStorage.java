@@ -54,6 +54,15 @@ public abstract class TimeSeriesStorage implements ITimeSeriesStorage {
     writeToTimeSeriesStorage(event);
   }
 
+  @Override
+  public void onEvents(List<Event> events) throws SpRuntimeException {
+    for (Event event : events) {
+      validateInputEventAndLogMissingFields(event);
+      sanitizeRuntimeNamesInEvent(event);
+    }
+    writeToTimeSeriesStorage(events);
+  }
+
   private void validateInputEventAndLogMissingFields(Event event) {
     checkEventIsNotNull(event);
 
@@ -142,4 +151,13 @@ public abstract class TimeSeriesStorage implements ITimeSeriesStorage {
   protected abstract void sanitizeRuntimeNamesInEvent(Event event);
 
   protected abstract void writeToTimeSeriesStorage(Event event) throws SpRuntimeException;
+
+  /**
+   * Writes a batch of validated and sanitized events, by default one after another
+   */
+  protected void writeToTimeSeriesStorage(List<Event> events) throws SpRuntimeException {
+    for (Event event : events) {
+      writeToTimeSeriesStorage(event);
+    }
+  }
 }
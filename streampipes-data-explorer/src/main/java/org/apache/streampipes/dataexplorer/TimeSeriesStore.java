@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.List;
 
 public class TimeSeriesStore {
 
@@ -61,6 +62,14 @@ public class TimeSeriesStore {
     return true;
   }
 
+  public void onEvents(List<Event> events) throws SpRuntimeException {
+    if (imageStore != null) {
+      events.forEach(imageStore::onEvent);
+    }
+
+    this.timeSeriesStorage.onEvents(events);
+  }
+
   public void close() throws SpRuntimeException {
     if (imageStore != null) {
       try {
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer;
+
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataexplorer.query.StreamedRowsConsumer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams an export whose time range is split into consecutive slices.
+ * <p>
+ * Up to {@code parallelism} slices of an export are fetched concurrently on a shared executor, each of them buffers
+ * a bounded number of chunks. The chunks are passed to the consumer in the order of the slices, so that the rows
+ * keep the order of the query. A slice which does not deliver its next chunk within the timeout fails the export.
+ */
+public class TimeSlicedQueryStream {
+
+  private static final int BUFFERED_CHUNKS_PER_SLICE = 4;
+  private static final long OFFER_INTERVAL_MILLIS = 100;
+  private static final Chunk END = new Chunk(null, null, null);
+
+  private static final class SharedExecutor {
+    private static final ExecutorService INSTANCE =
+        makeExecutor(Environments.getEnvironment().getDataExplorerExportParallelism().getValueOrDefault());
+  }
+
+  private final ExecutorService executorService;
+  private final int parallelism;
+  private final long timeoutMillis;
+
+  public TimeSlicedQueryStream() {
+    this(SharedExecutor.INSTANCE,
+        Environments.getEnvironment().getDataExplorerExportParallelism().getValueOrDefault(),
+        Environments.getEnvironment().getDataExplorerQueryTimeoutMillis().getValueOrDefault());
+  }
+
+  public TimeSlicedQueryStream(ExecutorService executorService,
+                               int parallelism,
+                               long timeoutMillis) {
+    this.executorService = executorService;
+    this.parallelism = Math.max(1, parallelism);
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Splits the time range into at most {@code sliceCount} slices of equal length. Like the time boundaries of a
+   * select query, start and end time of the range and of each slice are exclusive, each millisecond of the range is
+   * covered by exactly one slice.
+   */
+  public static List<TimeSlice> makeSlices(long startTime,
+                                           long endTime,
+                                           int sliceCount) {
+    var span = endTime - startTime;
+    var count = (int) Math.max(1, Math.min(sliceCount, span));
+    var step = span / count;
+    var slices = new ArrayList<TimeSlice>(count);
+    for (int i = 0; i < count; i++) {
+      var sliceStart = i == 0 ? startTime : startTime + step * i - 1;
+      var sliceEnd = i == count - 1 ? endTime : startTime + step * (i + 1);
+      slices.add(new TimeSlice(sliceStart, sliceEnd));
+    }
+    return slices;
+  }
+
+  /**
+   * Executes the slice queries and passes their chunks to the consumer in the order of the slices.
+   * Returns when all slices have been consumed, pending slices are cancelled if the consumer fails.
+   */
+  public void stream(List<SliceQuery> slices,
+                     StreamedRowsConsumer consumer) throws IOException {
+    var cancelled = new AtomicBoolean();
+    var buffers = new ArrayList<SliceBuffer>(slices.size());
+    try {
+      for (int i = 0; i < slices.size(); i++) {
+        while (buffers.size() < Math.min(slices.size(), i + parallelism)) {
+          var buffer = new SliceBuffer(cancelled);
+          var slice = slices.get(buffers.size());
+          executorService.execute(() -> buffer.fill(slice));
+          buffers.add(buffer);
+        }
+        buffers.get(i).drainTo(consumer);
+        buffers.set(i, null);
+      }
+    } finally {
+      cancelled.set(true);
+    }
+  }
+
+  private static ExecutorService makeExecutor(int parallelism) {
+    var threadCount = new AtomicInteger();
+    var executor = new ThreadPoolExecutor(
+        parallelism,
+        parallelism,
+        60,
+        TimeUnit.SECONDS,
+        // slices must not run on the requesting thread, as it drains the slices of its export in order
+        new LinkedBlockingQueue<>(),
+        runnable -> {
+          var thread = new Thread(runnable, "data-lake-export-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+    );
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * A query which streams the rows of a single time slice.
+   */
+  @FunctionalInterface
+  public interface SliceQuery {
+    void execute(StreamedRowsConsumer consumer) throws IOException;
+  }
+
+  /**
+   * A time slice of an export.
+   *
+   * @param startTime The exclusive start time in epoch milliseconds
+   * @param endTime   The exclusive end time in epoch milliseconds
+   */
+  public record TimeSlice(long startTime,
+                          long endTime) {
+  }
+
+  private record Chunk(List<String> columns,
+                       List<List<Object>> rows,
+                       Exception error) {
+  }
+
+  private final class SliceBuffer {
+
+    private final BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(BUFFERED_CHUNKS_PER_SLICE);
+    private final AtomicBoolean cancelled;
+
+    private SliceBuffer(AtomicBoolean cancelled) {
+      this.cancelled = cancelled;
+    }
+
+    private void fill(SliceQuery slice) {
+      try {
+        slice.execute((columns, rows) -> put(new Chunk(columns, rows, null)));
+        put(END);
+      } catch (SliceCancelledException e) {
+        // the export has been aborted, nobody consumes this slice anymore
+      } catch (Exception e) {
+        try {
+          put(new Chunk(null, null, e));
+        } catch (SliceCancelledException ignored) {
+          // the export has been aborted in the meantime
+        }
+      }
+    }
+
+    private void put(Chunk chunk) {
+      try {
+        while (!chunks.offer(chunk, OFFER_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+          if (cancelled.get()) {
+            throw new SliceCancelledException();
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SliceCancelledException();
+      }
+    }
+
+    private void drainTo(StreamedRowsConsumer consumer) throws IOException {
+      var chunk = take();
+      while (chunk != END) {
+        if (chunk.error() instanceof IOException e) {
+          throw e;
+        } else if (chunk.error() != null) {
+          throw new SpRuntimeException("Export of time slice failed: " + chunk.error().getMessage(), chunk.error());
+        }
+        consumer.accept(chunk.columns(), chunk.rows());
+        chunk = take();
+      }
+    }
+
+    private Chunk take() throws InterruptedIOException {
+      try {
+        var chunk = chunks.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (chunk == null) {
+          throw new SpRuntimeException("Time slice did not deliver data within " + timeoutMillis + " ms");
+        }
+        return chunk;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Export was interrupted");
+      }
+    }
+  }
+
+  private static final class SliceCancelledException extends RuntimeException {
+    private SliceCancelledException() {
+      super("Export was cancelled", null, false, false);
+    }
+  }
+}
@@ -101,6 +101,31 @@ public class SelectQueryParams {
     }
   }
 
+  public int getOffset() {
+    if (Objects.nonNull(offsetClauseParams)) {
+      return offsetClauseParams.offset();
+    } else {
+      return 0;
+    }
+  }
+
+  /**
+   * Returns a copy of these params which only selects the given page of the result.
+   */
+  public SelectQueryParams forPage(int limit,
+                                   int offset) {
+    var page = new SelectQueryParams(index);
+    page.selectParams = selectParams;
+    page.whereParams = whereParams;
+    page.groupByTagsClauseParams = groupByTagsClauseParams;
+    page.groupByTimeClauseParams = groupByTimeClauseParams;
+    page.orderByClauseParams = orderByClauseParams;
+    page.fillClauseParams = fillClauseParams;
+    page.limitParams = LimitClauseParams.from(limit);
+    page.offsetClauseParams = OffsetClauseParams.from(offset);
+    return page;
+  }
+
   private <T> void prepareBuilder(IDataLakeQueryBuilder<T> builder) {
     if (Objects.nonNull(this.whereParams)) {
       this.whereParams.buildStatement(builder);
@@ -28,8 +28,10 @@ import org.apache.streampipes.model.datalake.SpQueryStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public abstract class DataExplorerQueryExecutor<X, W> {
 
@@ -44,7 +46,7 @@ public abstract class DataExplorerQueryExecutor<X, W> {
                                     Optional<String> forIdOpt,
                                     boolean ignoreMissingValues) throws RuntimeException {
     X query = makeSelectQuery(params);
-    var result = executeQuery(query, forIdOpt, ignoreMissingValues);
+    var result = postQuery(fetchResult(query, () -> executeSelectQuery(params, query)), forIdOpt, ignoreMissingValues);
     if (maximumAmountOfEvents != -1) {
       return validateAndReturnQueryResult(result, params.getLimit(), maximumAmountOfEvents);
     } else {
@@ -82,16 +84,74 @@ public abstract class DataExplorerQueryExecutor<X, W> {
   public SpQueryResult executeQuery(X query,
                                     Optional<String> forIdOpt,
                                     boolean ignoreMissingValues) {
+    return postQuery(fetchResult(query, () -> executeQuery(query)), forIdOpt, ignoreMissingValues);
+  }
+
+  private W fetchResult(X query,
+                        Supplier<W> execution) {
     if (LOG.isDebugEnabled()) {
       LOG.debug("Data Lake Query {}", asQueryString(query));
     }
 
-    W result = executeQuery(query);
+    W result = execution.get();
     if (LOG.isDebugEnabled()) {
       LOG.debug("Data Lake Query Result: {}", result.toString());
     }
 
-    return postQuery(result, forIdOpt, ignoreMissingValues);
+    return result;
+  }
+
+  /**
+   * Executes a select query created from the given params.
+   * Implementations can override this method to serve identical select queries from a cache.
+   */
+  protected W executeSelectQuery(SelectQueryParams params,
+                                 X query) {
+    return executeQuery(query);
+  }
+
+  /**
+   * Indicates whether this executor streams the rows of a select query from the database with
+   * {@link #executeStreamingQuery(SelectQueryParams, int, boolean, StreamedRowsConsumer)}, instead of falling back
+   * to paged select queries.
+   */
+  public boolean supportsStreamingQueries() {
+    return false;
+  }
+
+  /**
+   * Executes a select query and passes the rows to the consumer in chunks as they are received from the database,
+   * without materializing the complete result. Returns when all rows have been consumed.
+   * <p>
+   * By default, the result is fetched with one select query per chunk, using limit and offset. Pages are advanced by
+   * the rows returned by the database, as rows with missing values may be dropped from a page afterwards. Executors
+   * which can stream results from the database should override this method and {@link #supportsStreamingQueries()}.
+   */
+  public void executeStreamingQuery(SelectQueryParams params,
+                                    int chunkSize,
+                                    boolean ignoreMissingValues,
+                                    StreamedRowsConsumer consumer) throws IOException {
+    int pageSize = Math.max(1, chunkSize);
+    int limit = params.getLimit();
+    long remaining = limit == Integer.MIN_VALUE ? Long.MAX_VALUE : limit;
+    int offset = params.getOffset();
+    while (remaining > 0) {
+      int currentPageSize = (int) Math.min(pageSize, remaining);
+      var result = executeQuery(params.forPage(currentPageSize, offset), -1, Optional.empty(), ignoreMissingValues);
+      if (result.getAllDataSeries().isEmpty()) {
+        return;
+      }
+      // the total of a series counts all rows of the page, including those dropped due to missing values
+      var series = result.getAllDataSeries().get(0);
+      if (!series.getRows().isEmpty()) {
+        consumer.accept(result.getHeaders(), series.getRows());
+      }
+      if (series.getTotal() < currentPageSize) {
+        return;
+      }
+      offset += currentPageSize;
+      remaining -= currentPageSize;
+    }
   }
 
   protected abstract SpQueryResult postQuery(W queryResult,
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.query;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives the rows of a streamed query chunk by chunk.
+ */
+@FunctionalInterface
+public interface StreamedRowsConsumer {
+
+  /**
+   * @param columns The column names of the rows, the first column is the timestamp
+   * @param rows    The rows of the chunk, the timestamp is given in epoch milliseconds
+   */
+  void accept(List<String> columns,
+              List<List<Object>> rows) throws IOException;
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer;
+
+import org.apache.streampipes.model.datalake.SpQueryResult;
+import org.apache.streampipes.model.datalake.SpQueryStatus;
+import org.apache.streampipes.model.datalake.param.ProvidedRestQueryParams;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelQueryExecutionTest {
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  public void setUp() {
+    executorService = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void queriesAreExecutedConcurrently() {
+    var execution = new ParallelQueryExecution(executorService, 5000);
+    var latch = new CountDownLatch(3);
+    var params = List.of(params("m1", "w1"), params("m2", "w2"), params("m3", "w3"));
+
+    // each query waits until all queries have been started, so this only succeeds if they run concurrently
+    var results = execution.execute(params, qp -> {
+      latch.countDown();
+      await(latch);
+      return resultWithTotal(Integer.parseInt(qp.getMeasurementId().substring(1)));
+    });
+
+    assertEquals(3, results.size());
+    for (int i = 0; i < 3; i++) {
+      assertEquals(i + 1, results.get(i).getTotal());
+      assertEquals("w" + (i + 1), results.get(i).getForId());
+      assertEquals(SpQueryStatus.OK, results.get(i).getSpQueryStatus());
+    }
+  }
+
+  @Test
+  public void failedQueryIsReportedForItsForId() {
+    var execution = new ParallelQueryExecution(executorService, 5000);
+    var params = List.of(params("m1", "w1"), params("m2", "w2"));
+
+    var results = execution.execute(params, qp -> {
+      if (qp.getMeasurementId().equals("m2")) {
+        throw new IllegalArgumentException("Unknown measurement");
+      }
+      return resultWithTotal(1);
+    });
+
+    assertEquals(SpQueryStatus.OK, results.get(0).getSpQueryStatus());
+    assertEquals(SpQueryStatus.ERROR, results.get(1).getSpQueryStatus());
+    assertEquals("w2", results.get(1).getForId());
+    assertEquals("Unknown measurement", results.get(1).getErrorMessage());
+  }
+
+  @Test
+  public void slowQueryIsReportedAsTimeout() {
+    var execution = new ParallelQueryExecution(executorService, 100);
+    var blocker = new CountDownLatch(1);
+    var params = List.of(params("m1", "w1"), params("m2", "w2"));
+
+    var results = execution.execute(params, qp -> {
+      if (qp.getMeasurementId().equals("m2")) {
+        await(blocker);
+      }
+      return resultWithTotal(1);
+    });
+    blocker.countDown();
+
+    assertEquals(SpQueryStatus.OK, results.get(0).getSpQueryStatus());
+    assertEquals(SpQueryStatus.ERROR, results.get(1).getSpQueryStatus());
+    assertTrue(results.get(1).getErrorMessage().contains("100 ms"));
+  }
+
+  @Test
+  public void combinedTaskProducesResultsForAllIndices() {
+    var execution = new ParallelQueryExecution(executorService, 5000);
+    var params = List.of(params("m1", "w1"), params("m2", null), params("m1", "w3"));
+
+    var results = execution.execute(params, List.of(
+        new ParallelQueryExecution.QueryTask(List.of(0, 2), () -> List.of(resultWithTotal(1), resultWithTotal(3))),
+        new ParallelQueryExecution.QueryTask(List.of(1), () -> List.of(resultWithTotal(2)))
+    ));
+
+    assertEquals(1, results.get(0).getTotal());
+    assertEquals(2, results.get(1).getTotal());
+    assertEquals(3, results.get(2).getTotal());
+    assertEquals("w3", results.get(2).getForId());
+    assertNull(results.get(1).getForId());
+  }
+
+  private ProvidedRestQueryParams params(String measurementId,
+                                         String forId) {
+    Map<String, String> providedParams = new HashMap<>();
+    if (forId != null) {
+      providedParams.put(QueryResultProvider.FOR_ID_KEY, forId);
+    }
+    return new ProvidedRestQueryParams(measurementId, providedParams);
+  }
+
+  private SpQueryResult resultWithTotal(int total) {
+    var result = new SpQueryResult();
+    result.setTotal(total);
+    return result;
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
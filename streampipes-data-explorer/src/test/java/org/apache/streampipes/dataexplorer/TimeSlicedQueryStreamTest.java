@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeSlicedQueryStreamTest {
+
+  private static final List<String> COLUMNS = List.of("time", "value");
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  public void setUp() {
+    executorService = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void slicesCoverEachMillisecondOnce() {
+    var slices = TimeSlicedQueryStream.makeSlices(0, 10, 3);
+
+    assertEquals(3, slices.size());
+    for (long time = 1; time < 10; time++) {
+      var matchingSlices = 0;
+      for (TimeSlicedQueryStream.TimeSlice slice : slices) {
+        if (time > slice.startTime() && time < slice.endTime()) {
+          matchingSlices++;
+        }
+      }
+      assertEquals(1, matchingSlices, "time " + time);
+    }
+  }
+
+  @Test
+  public void shortRangeIsNotSplitIntoEmptySlices() {
+    assertEquals(2, TimeSlicedQueryStream.makeSlices(0, 2, 8).size());
+    assertEquals(1, TimeSlicedQueryStream.makeSlices(5, 5, 8).size());
+  }
+
+  @Test
+  public void chunksAreConsumedInSliceOrder() throws IOException {
+    var stream = new TimeSlicedQueryStream(executorService, 3, 5000);
+    var lastSliceDone = new CountDownLatch(1);
+    var slices = List.<TimeSlicedQueryStream.SliceQuery>of(
+        // the first slice only delivers its rows after the last slice has been fetched
+        consumer -> {
+          await(lastSliceDone);
+          consumer.accept(COLUMNS, rows(0, 1));
+          consumer.accept(COLUMNS, rows(2));
+        },
+        consumer -> consumer.accept(COLUMNS, rows(3, 4)),
+        consumer -> {
+          consumer.accept(COLUMNS, rows(5));
+          lastSliceDone.countDown();
+        });
+    var consumed = new ArrayList<Double>();
+
+    stream.stream(slices, (columns, rows) -> rows.forEach(row -> consumed.add((Double) row.get(0))));
+
+    assertEquals(List.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0), consumed);
+  }
+
+  @Test
+  public void failedSliceFailsTheExport() {
+    var stream = new TimeSlicedQueryStream(executorService, 2, 5000);
+    var slices = List.<TimeSlicedQueryStream.SliceQuery>of(
+        consumer -> consumer.accept(COLUMNS, rows(0)),
+        consumer -> {
+          throw new IllegalStateException("database unavailable");
+        });
+
+    var exception = assertThrows(SpRuntimeException.class, () -> stream.stream(slices, (columns, rows) -> {
+    }));
+    assertTrue(exception.getMessage().contains("database unavailable"));
+  }
+
+  @Test
+  public void pendingSlicesAreCancelledIfTheConsumerFails() throws InterruptedException {
+    var stream = new TimeSlicedQueryStream(executorService, 2, 5000);
+    var secondSliceFinished = new CountDownLatch(1);
+    var slices = List.<TimeSlicedQueryStream.SliceQuery>of(
+        consumer -> consumer.accept(COLUMNS, rows(0)),
+        consumer -> {
+          try {
+            // more chunks than the slice buffers, so the slice blocks until it is cancelled
+            for (int i = 0; i < 100; i++) {
+              consumer.accept(COLUMNS, rows(i));
+            }
+          } finally {
+            secondSliceFinished.countDown();
+          }
+        });
+
+    assertThrows(IOException.class, () -> stream.stream(slices, (columns, rows) -> {
+      throw new IOException("client disconnected");
+    }));
+    assertTrue(secondSliceFinished.await(5, TimeUnit.SECONDS));
+  }
+
+  private List<List<Object>> rows(double... timestamps) {
+    var rows = new ArrayList<List<Object>>();
+    for (double timestamp : timestamps) {
+      rows.add(List.of(timestamp, 1));
+    }
+    return rows;
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
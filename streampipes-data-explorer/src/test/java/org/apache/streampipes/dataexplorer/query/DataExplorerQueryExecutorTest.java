@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataexplorer.query;
+
+import org.apache.streampipes.dataexplorer.param.DeleteQueryParams;
+import org.apache.streampipes.dataexplorer.param.SelectQueryParams;
+import org.apache.streampipes.dataexplorer.param.model.LimitClauseParams;
+import org.apache.streampipes.dataexplorer.param.model.OffsetClauseParams;
+import org.apache.streampipes.model.datalake.DataLakeMeasure;
+import org.apache.streampipes.model.datalake.DataSeries;
+import org.apache.streampipes.model.datalake.SpQueryResult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class DataExplorerQueryExecutorTest {
+
+  private static final List<String> COLUMNS = List.of("time", "value");
+
+  @Test
+  public void defaultStreamingQueryFetchesAllRowsPageByPage() throws Exception {
+    var executor = new PagingExecutor(10);
+    List<List<Object>> received = new ArrayList<>();
+    List<Integer> chunkSizes = new ArrayList<>();
+
+    executor.executeStreamingQuery(new SelectQueryParams("m"), 4, false, (columns, rows) -> {
+      assertEquals(COLUMNS, columns);
+      chunkSizes.add(rows.size());
+      received.addAll(rows);
+    });
+
+    assertFalse(executor.supportsStreamingQueries());
+    assertEquals(List.of(4, 4, 2), chunkSizes);
+    assertEquals(makeRows(10), received);
+  }
+
+  @Test
+  public void defaultStreamingQueryRespectsLimitAndOffset() throws Exception {
+    var executor = new PagingExecutor(10);
+    var params = new SelectQueryParams("m");
+    params.withLimitParams(LimitClauseParams.from(5));
+    params.withOffsetParams(OffsetClauseParams.from(3));
+    List<List<Object>> received = new ArrayList<>();
+
+    executor.executeStreamingQuery(params, 4, false, (columns, rows) -> received.addAll(rows));
+
+    assertEquals(makeRows(10).subList(3, 8), received);
+    assertEquals(5, params.getLimit());
+    assertEquals(3, params.getOffset());
+  }
+
+  @Test
+  public void defaultStreamingQueryWithEmptyResult() throws Exception {
+    var executor = new PagingExecutor(0);
+    List<Integer> chunkSizes = new ArrayList<>();
+
+    executor.executeStreamingQuery(new SelectQueryParams("m"), 4, false,
+        (columns, rows) -> chunkSizes.add(rows.size()));
+
+    assertEquals(List.of(), chunkSizes);
+    assertEquals(1, executor.queries);
+  }
+
+  @Test
+  public void defaultStreamingQueryContinuesAfterPagesWithMissingValues() throws Exception {
+    var executor = new PagingExecutor(10, 1, 2, 3, 5);
+    List<List<Object>> received = new ArrayList<>();
+
+    executor.executeStreamingQuery(new SelectQueryParams("m"), 4, true, (columns, rows) -> received.addAll(rows));
+
+    var expected = new ArrayList<>(makeRows(10));
+    expected.removeAll(List.of(makeRow(1), makeRow(2), makeRow(3), makeRow(5)));
+    assertEquals(expected, received);
+    assertEquals(3, executor.queries);
+  }
+
+  private static List<List<Object>> makeRows(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(DataExplorerQueryExecutorTest::makeRow)
+        .toList();
+  }
+
+  private static List<Object> makeRow(int i) {
+    return Arrays.asList((long) i, i * 2);
+  }
+
+  private static class PagingExecutor extends DataExplorerQueryExecutor<SelectQueryParams, SpQueryResult> {
+
+    private final List<List<Object>> rows;
+    private int queries;
+
+    PagingExecutor(int rowCount,
+                   int... rowsWithMissingValues) {
+      this.rows = new ArrayList<>(makeRows(rowCount));
+      for (int i : rowsWithMissingValues) {
+        rows.set(i, Arrays.asList((long) i, null));
+      }
+    }
+
+    @Override
+    public SpQueryResult executeQuery(SelectQueryParams query) {
+      queries++;
+      int from = Math.min(rows.size(), query.getOffset());
+      int to = Math.min(rows.size(), from + query.getLimit());
+      var page = new ArrayList<>(rows.subList(from, to));
+      var result = new SpQueryResult();
+      result.setHeaders(COLUMNS);
+      if (!page.isEmpty()) {
+        result.addDataResult(new DataSeries(page.size(), page, COLUMNS, Map.of()));
+        result.setTotal(page.size());
+      }
+      return result;
+    }
+
+    @Override
+    protected SpQueryResult postQuery(SpQueryResult queryResult,
+                                      Optional<String> forIdOpt,
+                                      boolean ignoreMissingValues) {
+      if (ignoreMissingValues) {
+        // like the database executors, the total still counts the dropped rows
+        queryResult.getAllDataSeries().forEach(series -> series.setRows(series.getRows()
+            .stream()
+            .filter(row -> !row.contains(null))
+            .toList()));
+      }
+      return queryResult;
+    }
+
+    @Override
+    protected String asQueryString(SelectQueryParams query) {
+      return query.getIndex();
+    }
+
+    @Override
+    protected SelectQueryParams makeDeleteQuery(DeleteQueryParams params) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected SelectQueryParams makeSelectQuery(SelectQueryParams params) {
+      return params;
+    }
+
+    @Override
+    public Map<String, Object> getTagValues(String measurementId,
+                                            String fields) {
+      return Map.of();
+    }
+
+    @Override
+    public boolean deleteData(DataLakeMeasure measure) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventStreamCodec;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base class of data formats backed by a Jackson {@link ObjectMapper}.
+ * <p>
+ * Besides the map based conversion, events are read from and written to the streaming parser and generator of the
+ * mapper's factory, so that no intermediate map is created per event.
+ */
+public abstract class JacksonDataFormatDefinition implements SpDataFormatDefinition {
+
+  private final ObjectMapper objectMapper;
+
+  protected JacksonDataFormatDefinition(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Map<String, Object> toMap(byte[] event) throws SpRuntimeException {
+    try {
+      return objectMapper.readValue(event, HashMap.class);
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not convert event to map data structure");
+    }
+  }
+
+  @Override
+  public byte[] fromMap(Map<String, Object> event) throws SpRuntimeException {
+    try {
+      return objectMapper.writeValueAsBytes(event);
+    } catch (JsonProcessingException e) {
+      throw new SpRuntimeException("Could not convert map data structure to JSON string");
+    }
+  }
+
+  @Override
+  public Event toEvent(byte[] event,
+                       SourceInfo sourceInfo,
+                       SchemaInfo schemaInfo) throws SpRuntimeException {
+    try (var parser = objectMapper.getFactory().createParser(event)) {
+      return EventStreamCodec.read(parser, sourceInfo, schemaInfo);
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not convert event to event data structure", e);
+    }
+  }
+
+  @Override
+  public byte[] fromEvent(Event event) throws SpRuntimeException {
+    var output = new ByteArrayBuilder();
+    try (var generator = objectMapper.getFactory().createGenerator(output)) {
+      EventStreamCodec.write(event, generator);
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not convert event to byte array", e);
+    }
+    var result = output.toByteArray();
+    output.release();
+    return result;
+  }
+}
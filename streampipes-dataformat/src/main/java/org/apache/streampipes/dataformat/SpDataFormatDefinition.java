@@ -19,6 +19,11 @@
 package org.apache.streampipes.dataformat;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventConverter;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
 
 import java.io.Serializable;
 import java.util.Map;
@@ -28,4 +33,22 @@ public interface SpDataFormatDefinition extends Serializable {
   Map<String, Object> toMap(byte[] event) throws SpRuntimeException;
 
   byte[] fromMap(Map<String, Object> event) throws SpRuntimeException;
+
+  /**
+   * Converts a serialized event into an event of the given source.
+   * Data formats which support streaming override this method to create the event without an intermediate map.
+   */
+  default Event toEvent(byte[] event,
+                        SourceInfo sourceInfo,
+                        SchemaInfo schemaInfo) throws SpRuntimeException {
+    return EventFactory.fromMap(toMap(event), sourceInfo, schemaInfo);
+  }
+
+  /**
+   * Serializes an event using the output names of its fields.
+   * Data formats which support streaming override this method to write the event without an intermediate map.
+   */
+  default byte[] fromEvent(Event event) throws SpRuntimeException {
+    return fromMap(new EventConverter(event).toMap());
+  }
 }
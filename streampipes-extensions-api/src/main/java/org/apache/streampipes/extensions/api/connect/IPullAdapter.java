@@ -27,4 +27,11 @@ public interface IPullAdapter {
 
   IPollingSettings getPollingInterval();
 
+  /**
+   * Returns how pulls are scheduled if a pull takes longer than the polling interval.
+   */
+  default PullOverrunPolicy getOverrunPolicy() {
+    return PullOverrunPolicy.COALESCE;
+  }
+
 }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.connect;
+
+/**
+ * Defines how a pull adapter is scheduled if a pull is still running when the next pull is due.
+ */
+public enum PullOverrunPolicy {
+
+  /**
+   * Due pulls are dropped while a pull is running.
+   */
+  SKIP,
+
+  /**
+   * All pulls which became due while a pull is running are merged into a single pull, which starts right after the
+   * running pull finished.
+   */
+  COALESCE,
+
+  /**
+   * Pulls which became due while a pull is running are queued up to a limit and run one after another.
+   */
+  QUEUE
+}
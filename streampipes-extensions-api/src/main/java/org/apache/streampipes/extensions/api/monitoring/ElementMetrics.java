@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.monitoring;
+
+import org.apache.streampipes.model.monitoring.SpMetricsEntry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ElementMetrics {
+
+  private final Map<String, SpMetricsCounter> inCounters = new ConcurrentHashMap<>();
+  private final SpMetricsCounter outCounter = new SpMetricsCounter();
+  private volatile SpPullMetrics pullMetrics;
+  private volatile SpWriteMetrics writeMetrics;
+  private volatile SpCacheMetrics cacheMetrics;
+
+  SpMetricsCounter getInCounter(String sourceInfo) {
+    var counter = inCounters.get(sourceInfo);
+    return counter != null ? counter : inCounters.computeIfAbsent(sourceInfo, k -> new SpMetricsCounter());
+  }
+
+  SpMetricsCounter getOutCounter() {
+    return outCounter;
+  }
+
+  synchronized SpPullMetrics getPullMetrics() {
+    if (pullMetrics == null) {
+      pullMetrics = new SpPullMetrics();
+    }
+    return pullMetrics;
+  }
+
+  synchronized SpWriteMetrics getWriteMetrics() {
+    if (writeMetrics == null) {
+      writeMetrics = new SpWriteMetrics();
+    }
+    return writeMetrics;
+  }
+
+  synchronized SpCacheMetrics getCacheMetrics() {
+    if (cacheMetrics == null) {
+      cacheMetrics = new SpCacheMetrics();
+    }
+    return cacheMetrics;
+  }
+
+  void reset() {
+    // counters are reset in place, as running elements keep references to them
+    inCounters.values().forEach(SpMetricsCounter::reset);
+    outCounter.reset();
+    var pull = pullMetrics;
+    if (pull != null) {
+      pull.reset();
+    }
+    var write = writeMetrics;
+    if (write != null) {
+      write.reset();
+    }
+    var cache = cacheMetrics;
+    if (cache != null) {
+      cache.reset();
+    }
+  }
+
+  SpMetricsEntry snapshot() {
+    var entry = new SpMetricsEntry();
+    long lastTimestamp = outCounter.getLastTimestamp();
+    for (var in : inCounters.entrySet()) {
+      var counter = in.getValue();
+      if (counter.getCount() > 0) {
+        entry.getMessagesIn().put(in.getKey(), counter.toMessageCounter());
+        lastTimestamp = Math.max(lastTimestamp, counter.getLastTimestamp());
+      }
+    }
+    entry.setMessagesOut(outCounter.toMessageCounter());
+    entry.setLastTimestamp(lastTimestamp);
+    var pull = pullMetrics;
+    if (pull != null) {
+      entry.setPullMetrics(pull.toPullMetrics());
+    }
+    var write = writeMetrics;
+    if (write != null) {
+      entry.setWriteMetrics(write.toWriteMetrics());
+    }
+    var cache = cacheMetrics;
+    if (cache != null) {
+      entry.setCacheMetrics(cache.toCacheMetrics());
+    }
+    return entry;
+  }
+}
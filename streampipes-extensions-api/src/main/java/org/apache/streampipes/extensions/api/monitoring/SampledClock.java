@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.monitoring;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall clock which is refreshed by a background thread, so that per-event metrics
+ * do not need to call {@link System#currentTimeMillis()} for every event.
+ * The returned time lags behind the actual time by at most {@link #RESOLUTION_MILLIS}.
+ */
+public enum SampledClock {
+
+  INSTANCE;
+
+  public static final long RESOLUTION_MILLIS = 10;
+
+  private volatile long currentTimeMillis;
+
+  SampledClock() {
+    this.currentTimeMillis = System.currentTimeMillis();
+    ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(r -> {
+      var thread = new Thread(r, "sp-sampled-clock");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executorService.scheduleAtFixedRate(
+        () -> this.currentTimeMillis = System.currentTimeMillis(),
+        RESOLUTION_MILLIS,
+        RESOLUTION_MILLIS,
+        TimeUnit.MILLISECONDS);
+  }
+
+  public long now() {
+    return currentTimeMillis;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.monitoring;
+
+import org.apache.streampipes.model.monitoring.CacheMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a single cache, see {@link CacheMetrics}.
+ * Instances are obtained once from the {@link SpMonitoringManager} and are updated by the cache on each lookup.
+ */
+public class SpCacheMetrics {
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+  private volatile long size;
+
+  SpCacheMetrics() {
+  }
+
+  public void recordHit() {
+    hits.increment();
+  }
+
+  public void recordMiss() {
+    misses.increment();
+  }
+
+  /**
+   * Records entries which were removed to keep the cache within its bounds.
+   */
+  public void recordEvictions(long count) {
+    evictions.add(count);
+  }
+
+  /**
+   * Records entries which were removed as their content became outdated.
+   */
+  public void recordInvalidations(long count) {
+    invalidations.add(count);
+  }
+
+  /**
+   * Updates the number of entries which are currently held by the cache.
+   */
+  public void setSize(long size) {
+    this.size = size;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  public long getInvalidations() {
+    return invalidations.sum();
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  void reset() {
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+    invalidations.reset();
+  }
+
+  CacheMetrics toCacheMetrics() {
+    var metrics = new CacheMetrics();
+    long hitCount = hits.sum();
+    long lookups = hitCount + misses.sum();
+    metrics.setHits(hitCount);
+    metrics.setMisses(lookups - hitCount);
+    metrics.setHitRate(lookups > 0 ? (double) hitCount / lookups : 0);
+    metrics.setEvictions(evictions.sum());
+    metrics.setInvalidations(invalidations.sum());
+    metrics.setSize(size);
+    return metrics;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.monitoring;
+
+import org.apache.streampipes.model.monitoring.MessageCounter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Message counter of a single pipeline element input or output.
+ * Instances are obtained once from the {@link SpMonitoringManager} and can be incremented
+ * concurrently from any number of threads without locking.
+ */
+public class SpMetricsCounter {
+
+  private final LongAdder counter = new LongAdder();
+  private volatile long lastTimestamp;
+
+  SpMetricsCounter() {
+  }
+
+  public void increment() {
+    increment(SampledClock.INSTANCE.now());
+  }
+
+  public void increment(long timestamp) {
+    counter.increment();
+    // avoid invalidating the cache line on every event, the sampled clock changes only every few millis
+    if (lastTimestamp != timestamp) {
+      lastTimestamp = timestamp;
+    }
+  }
+
+  public void add(long count) {
+    counter.add(count);
+    long timestamp = SampledClock.INSTANCE.now();
+    if (lastTimestamp != timestamp) {
+      lastTimestamp = timestamp;
+    }
+  }
+
+  public long getCount() {
+    return counter.sum();
+  }
+
+  public long getLastTimestamp() {
+    return lastTimestamp;
+  }
+
+  void reset() {
+    counter.reset();
+    lastTimestamp = 0;
+  }
+
+  MessageCounter toMessageCounter() {
+    var messageCounter = new MessageCounter();
+    messageCounter.setCounter(getCount());
+    messageCounter.setLastTimestamp(lastTimestamp);
+    return messageCounter;
+  }
+}
@@ -25,50 +25,89 @@ import org.apache.streampipes.model.monitoring.SpMetricsEntry;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum SpMonitoringManager {
 
   INSTANCE;
 
   private final Map<String, FixedSizeList<SpLogEntry>> logInfos;
-  private final Map<String, SpMetricsEntry> metricsInfos;
+  private final Map<String, ElementMetrics> metricsInfos;
 
   SpMonitoringManager() {
-    this.logInfos = new HashMap<>();
-    this.metricsInfos = new HashMap<>();
+    this.logInfos = new ConcurrentHashMap<>();
+    this.metricsInfos = new ConcurrentHashMap<>();
   }
 
   public void addErrorMessage(String resourceId,
                               SpLogEntry errorMessageEntry) {
-    if (!logInfos.containsKey(resourceId)) {
-      logInfos.put(resourceId, new FixedSizeList<>(100));
+    var logs = logInfos.computeIfAbsent(resourceId, k -> new FixedSizeList<>(100));
+    synchronized (logs) {
+      logs.add(errorMessageEntry);
     }
-    this.logInfos.get(resourceId).add(errorMessageEntry);
+  }
+
+  /**
+   * Returns the input counter of the given element and source. Runtimes should resolve
+   * the counter once when they start and increment it directly for each event.
+   */
+  public SpMetricsCounter registerInCounter(String resourceId,
+                                            String sourceInfo) {
+    return getElementMetrics(resourceId).getInCounter(sourceInfo);
+  }
+
+  /**
+   * Returns the output counter of the given element, see {@link #registerInCounter(String, String)}.
+   */
+  public SpMetricsCounter registerOutCounter(String resourceId) {
+    return getElementMetrics(resourceId).getOutCounter();
+  }
+
+  /**
+   * Returns the scheduling metrics of the given pull adapter, which are included in its metrics snapshot.
+   */
+  public SpPullMetrics registerPullMetrics(String resourceId) {
+    return getElementMetrics(resourceId).getPullMetrics();
+  }
+
+  /**
+   * Returns the write metrics of the given data sink, which are included in its metrics snapshot.
+   */
+  public SpWriteMetrics registerWriteMetrics(String resourceId) {
+    return getElementMetrics(resourceId).getWriteMetrics();
+  }
+
+  /**
+   * Returns the metrics of a cache held by the given resource, which are included in its metrics snapshot.
+   */
+  public SpCacheMetrics registerCacheMetrics(String resourceId) {
+    return getElementMetrics(resourceId).getCacheMetrics();
   }
 
   public void increaseInCounter(String resourceId,
                                 String sourceInfo,
                                 long timestamp) {
-    var currentEntry = getMetricsEntry(resourceId, timestamp);
-    currentEntry.addInMetrics(sourceInfo, timestamp);
-    this.metricsInfos.put(resourceId, currentEntry);
+    registerInCounter(resourceId, sourceInfo).increment(timestamp);
   }
 
-
   public void increaseOutCounter(String resourceId,
                                  long timestamp) {
-    var currentEntry = getMetricsEntry(resourceId, timestamp);
-    currentEntry.addOutMetrics(timestamp);
-    this.metricsInfos.put(resourceId, currentEntry);
+    registerOutCounter(resourceId).increment(timestamp);
   }
 
   public void resetCounter(String resourceId) {
-    this.metricsInfos.put(resourceId, new SpMetricsEntry());
+    var metrics = this.metricsInfos.get(resourceId);
+    if (metrics != null) {
+      metrics.reset();
+    }
   }
 
   public void resetLogs(String resourceId) {
-    if (this.logInfos.containsKey(resourceId)) {
-      this.logInfos.get(resourceId).clear();
+    var logs = this.logInfos.get(resourceId);
+    if (logs != null) {
+      synchronized (logs) {
+        logs.clear();
+      }
     }
   }
 
@@ -77,28 +116,44 @@ public enum SpMonitoringManager {
     this.resetLogs(resourceId);
   }
 
-  public SpMetricsEntry getMetricsEntry(String resourceId,
-                                        long timestamp) {
-    checkAndPrepareMetrics(resourceId);
-    var currentEntry = this.metricsInfos.get(resourceId);
-    currentEntry.setLastTimestamp(timestamp);
-
-    return currentEntry;
+  public SpMetricsEntry getMetricsSnapshot(String resourceId) {
+    var metrics = this.metricsInfos.get(resourceId);
+    return metrics != null ? metrics.snapshot() : new SpMetricsEntry();
   }
 
   public SpEndpointMonitoringInfo getMonitoringInfo() {
-    var logInfos = makeLogInfos();
-    return new SpEndpointMonitoringInfo(logInfos, metricsInfos);
+    return new SpEndpointMonitoringInfo(makeLogInfos(false), makeMetricsInfos());
+  }
+
+  /**
+   * Returns a consistent snapshot of all metrics and logs and removes the returned log entries,
+   * so that no log entry added concurrently is lost between reading and clearing.
+   */
+  public SpEndpointMonitoringInfo drainMonitoringInfo() {
+    return new SpEndpointMonitoringInfo(makeLogInfos(true), makeMetricsInfos());
   }
 
   public void clearAllLogs() {
-    this.logInfos.forEach((key, value) -> value.clear());
+    this.logInfos.keySet().forEach(this::resetLogs);
   }
 
-  private Map<String, List<SpLogEntry>> makeLogInfos() {
+  private Map<String, SpMetricsEntry> makeMetricsInfos() {
+    var metricsEntries = new HashMap<String, SpMetricsEntry>();
+    this.metricsInfos.forEach((key, value) -> metricsEntries.put(key, value.snapshot()));
+
+    return metricsEntries;
+  }
+
+  private Map<String, List<SpLogEntry>> makeLogInfos(boolean clear) {
     var logEntries = new HashMap<String, List<SpLogEntry>>();
-    this.logInfos.forEach((key, value) ->
-        logEntries.put(key, cloneList(value.getAllItems())));
+    this.logInfos.forEach((key, value) -> {
+      synchronized (value) {
+        logEntries.put(key, cloneList(value.getAllItems()));
+        if (clear) {
+          value.clear();
+        }
+      }
+    });
 
     return logEntries;
   }
@@ -107,15 +162,9 @@ public enum SpMonitoringManager {
     return allItems.stream().map(SpLogEntry::new).toList();
   }
 
-
-  private void checkAndPrepareMetrics(String resourceId) {
-    if (!metricsInfos.containsKey(resourceId)) {
-      addMetricsObject(resourceId);
-    }
-  }
-
-  private void addMetricsObject(String resourceId) {
-    this.metricsInfos.put(resourceId, new SpMetricsEntry());
+  private ElementMetrics getElementMetrics(String resourceId) {
+    var metrics = this.metricsInfos.get(resourceId);
+    return metrics != null ? metrics : this.metricsInfos.computeIfAbsent(resourceId, k -> new ElementMetrics());
   }
 
 }
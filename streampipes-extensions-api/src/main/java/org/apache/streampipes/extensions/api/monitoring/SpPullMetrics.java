@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.monitoring;
+
+import org.apache.streampipes.model.monitoring.PullMetrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scheduling metrics of a single pull adapter, see {@link PullMetrics}.
+ * Instances are obtained once from the {@link SpMonitoringManager} and are updated by the pull scheduler.
+ */
+public class SpPullMetrics {
+
+  private final LongAdder pulls = new LongAdder();
+  private final LongAdder failedPulls = new LongAdder();
+  private final LongAdder skippedPulls = new LongAdder();
+  private final LongAdder totalDuration = new LongAdder();
+  private final LongAccumulator maxDuration = new LongAccumulator(Long::max, 0);
+  private final LongAccumulator maxLag = new LongAccumulator(Long::max, 0);
+  private volatile long lastDuration;
+  private volatile long lastLag;
+
+  SpPullMetrics() {
+  }
+
+  /**
+   * Records a finished pull.
+   *
+   * @param lag      The time between the scheduled and the actual start of the pull in milliseconds
+   * @param duration The duration of the pull in milliseconds
+   * @param failed   Whether the pull failed
+   */
+  public void recordPull(long lag,
+                         long duration,
+                         boolean failed) {
+    pulls.increment();
+    if (failed) {
+      failedPulls.increment();
+    }
+    totalDuration.add(duration);
+    maxDuration.accumulate(duration);
+    maxLag.accumulate(lag);
+    lastDuration = duration;
+    lastLag = lag;
+  }
+
+  /**
+   * Records a due pull which was skipped or merged into another pull as the previous pull was still running.
+   */
+  public void recordSkippedPull() {
+    skippedPulls.increment();
+  }
+
+  public long getPulls() {
+    return pulls.sum();
+  }
+
+  public long getSkippedPulls() {
+    return skippedPulls.sum();
+  }
+
+  void reset() {
+    pulls.reset();
+    failedPulls.reset();
+    skippedPulls.reset();
+    totalDuration.reset();
+    maxDuration.reset();
+    maxLag.reset();
+    lastDuration = 0;
+    lastLag = 0;
+  }
+
+  PullMetrics toPullMetrics() {
+    var metrics = new PullMetrics();
+    long count = pulls.sum();
+    metrics.setPulls(count);
+    metrics.setFailedPulls(failedPulls.sum());
+    metrics.setSkippedPulls(skippedPulls.sum());
+    metrics.setLastDuration(lastDuration);
+    metrics.setAverageDuration(count > 0 ? totalDuration.sum() / count : 0);
+    metrics.setMaxDuration(maxDuration.get());
+    metrics.setLastLag(lastLag);
+    metrics.setMaxLag(maxLag.get());
+    return metrics;
+  }
+}
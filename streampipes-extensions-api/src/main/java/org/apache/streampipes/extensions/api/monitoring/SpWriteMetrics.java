@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.monitoring;
+
+import org.apache.streampipes.model.monitoring.WriteMetrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the batched writes of a single data sink, see {@link WriteMetrics}.
+ * Instances are obtained once from the {@link SpMonitoringManager} and are updated by the sink after each flush,
+ * which helps to tune the batch size and the flush interval.
+ */
+public class SpWriteMetrics {
+
+  private final LongAdder flushes = new LongAdder();
+  private final LongAdder failedFlushes = new LongAdder();
+  private final LongAdder events = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final LongAccumulator maxLatencyNanos = new LongAccumulator(Long::max, 0);
+  private final LongAdder blockedWrites = new LongAdder();
+  private volatile long bufferedEvents;
+
+  SpWriteMetrics() {
+  }
+
+  /**
+   * Records a successful flush.
+   *
+   * @param size         The number of events written by the flush
+   * @param latencyNanos The duration of the flush in nanoseconds
+   */
+  public void recordFlush(int size,
+                          long latencyNanos) {
+    flushes.increment();
+    events.add(size);
+    totalLatencyNanos.add(latencyNanos);
+    maxLatencyNanos.accumulate(latencyNanos);
+  }
+
+  /**
+   * Records a flush which could not be written.
+   */
+  public void recordFailedFlush() {
+    failedFlushes.increment();
+  }
+
+  /**
+   * Records an event which had to wait until the write buffer of the sink had free capacity.
+   */
+  public void recordBlockedWrite() {
+    blockedWrites.increment();
+  }
+
+  /**
+   * Updates the number of events which are currently buffered by the sink and not yet flushed.
+   */
+  public void setBufferedEvents(long bufferedEvents) {
+    this.bufferedEvents = bufferedEvents;
+  }
+
+  public long getFlushes() {
+    return flushes.sum();
+  }
+
+  public long getFailedFlushes() {
+    return failedFlushes.sum();
+  }
+
+  public long getEvents() {
+    return events.sum();
+  }
+
+  public long getBlockedWrites() {
+    return blockedWrites.sum();
+  }
+
+  public long getBufferedEvents() {
+    return bufferedEvents;
+  }
+
+  void reset() {
+    flushes.reset();
+    failedFlushes.reset();
+    events.reset();
+    totalLatencyNanos.reset();
+    maxLatencyNanos.reset();
+    blockedWrites.reset();
+  }
+
+  WriteMetrics toWriteMetrics() {
+    var metrics = new WriteMetrics();
+    long count = flushes.sum();
+    metrics.setFlushes(count);
+    metrics.setFailedFlushes(failedFlushes.sum());
+    metrics.setEvents(events.sum());
+    metrics.setAverageFlushSize(count > 0 ? (double) events.sum() / count : 0);
+    metrics.setAverageLatency(count > 0 ? totalLatencyNanos.sum() / 1e6 / count : 0);
+    metrics.setMaxLatency(maxLatencyNanos.get() / 1e6);
+    metrics.setBlockedWrites(blockedWrites.sum());
+    metrics.setBufferedEvents(bufferedEvents);
+    return metrics;
+  }
+
+  @Override
+  public String toString() {
+    var metrics = toWriteMetrics();
+    return String.format("%d flushes (%d failed), %d events, average flush size %.1f, average latency %.2f ms, "
+            + "max latency %.2f ms, %d blocked writes, %d buffered events",
+        metrics.getFlushes(), metrics.getFailedFlushes(), metrics.getEvents(), metrics.getAverageFlushSize(),
+        metrics.getAverageLatency(), metrics.getMaxLatency(), metrics.getBlockedWrites(), metrics.getBufferedEvents());
+  }
+}
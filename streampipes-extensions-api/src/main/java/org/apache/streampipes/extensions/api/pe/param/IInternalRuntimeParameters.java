@@ -18,6 +18,7 @@
 
 package org.apache.streampipes.extensions.api.pe.param;
 
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
 import org.apache.streampipes.model.runtime.Event;
 
 import java.util.Map;
@@ -28,4 +29,16 @@ public interface IInternalRuntimeParameters {
                   Map<String, Object> mapEvent,
                   String sourceId);
 
+  /**
+   * Creates an event from a serialized payload.
+   * The default implementation deserializes the payload into a map, implementations may override this method to
+   * let the data format create the event without an intermediate map.
+   */
+  default Event makeEvent(IPipelineElementParameters<?, ?> parameters,
+                          byte[] payload,
+                          SpDataFormatDefinition dataFormat,
+                          String sourceId) {
+    return makeEvent(parameters, dataFormat.toMap(payload), sourceId);
+  }
+
 }
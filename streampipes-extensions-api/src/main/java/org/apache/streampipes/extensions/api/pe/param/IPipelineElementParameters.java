@@ -20,6 +20,7 @@ package org.apache.streampipes.extensions.api.pe.param;
 
 import org.apache.streampipes.extensions.api.extractor.IParameterExtractor;
 import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
+import org.apache.streampipes.model.runtime.FieldHandle;
 import org.apache.streampipes.model.runtime.SchemaInfo;
 import org.apache.streampipes.model.runtime.SourceInfo;
 
@@ -50,5 +51,14 @@ public interface IPipelineElementParameters<
 
   Integer getSourceIndex(String sourceId);
 
+  /**
+   * Resolves a field selector of one of the input streams against the compiled input schema.
+   * The returned handle should be obtained once when the pipeline element is started and allows to read
+   * fields from incoming events in constant time.
+   *
+   * @param fieldSelector The selector of the field, e.g., as provided by a mapping property.
+   * @return The {@link FieldHandle} of the field.
+   */
+  FieldHandle getFieldHandle(String fieldSelector);
 
 }
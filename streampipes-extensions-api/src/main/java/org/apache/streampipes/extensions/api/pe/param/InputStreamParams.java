@@ -22,6 +22,7 @@ import org.apache.streampipes.model.SpDataStream;
 import org.apache.streampipes.model.constants.PropertySelectorConstants;
 import org.apache.streampipes.model.grounding.EventGrounding;
 import org.apache.streampipes.model.output.PropertyRenameRule;
+import org.apache.streampipes.model.runtime.CompiledEventSchema;
 import org.apache.streampipes.model.runtime.SchemaInfo;
 import org.apache.streampipes.model.runtime.SourceInfo;
 import org.apache.streampipes.model.schema.EventSchema;
@@ -52,7 +53,11 @@ public class InputStreamParams implements Serializable {
   }
 
   private SchemaInfo makeSchemaInfo(List<PropertyRenameRule> renameRules) {
-    return new SchemaInfo(eventSchema, renameRules);
+    return new SchemaInfo(
+        eventSchema,
+        renameRules,
+        CompiledEventSchema.compile(eventSchema, sourceInfo.getSelectorPrefix())
+    );
   }
 
   private SourceInfo makeSourceInfo(Integer streamId) {
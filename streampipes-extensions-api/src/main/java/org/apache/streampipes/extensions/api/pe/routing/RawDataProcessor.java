@@ -17,9 +17,39 @@
  */
 package org.apache.streampipes.extensions.api.pe.routing;
 
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public interface RawDataProcessor {
 
   void process(Map<String, Object> rawEvent, String sourceInfo);
+
+  default void process(List<Map<String, Object>> rawEvents, String sourceInfo) {
+    for (Map<String, Object> rawEvent : rawEvents) {
+      process(rawEvent, sourceInfo);
+    }
+  }
+
+  /**
+   * Processes a serialized event. Runtimes which know the schema of their input can override this method to decode
+   * the payload directly into an event instead of building an intermediate map.
+   */
+  default void process(byte[] payload,
+                       SpDataFormatDefinition dataFormat,
+                       String sourceInfo) {
+    process(dataFormat.toMap(payload), sourceInfo);
+  }
+
+  default void process(List<byte[]> payloads,
+                       SpDataFormatDefinition dataFormat,
+                       String sourceInfo) {
+    List<Map<String, Object>> rawEvents = new ArrayList<>(payloads.size());
+    for (byte[] payload : payloads) {
+      rawEvents.add(dataFormat.toMap(payload));
+    }
+    process(rawEvents, sourceInfo);
+  }
 }
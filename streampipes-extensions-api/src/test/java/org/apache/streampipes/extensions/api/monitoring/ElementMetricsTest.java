@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ElementMetricsTest {
+
+  private static final String SOURCE = "source";
+  private static final int THREADS = 4;
+  private static final int INCREMENTS_PER_THREAD = 100_000;
+
+  @Test
+  public void parallelIncrementsAreNotLostDuringSnapshots() throws Exception {
+    var metrics = new ElementMetrics();
+    var executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      var futures = startIncrements(metrics, executor, new CountDownLatch(0));
+
+      long previousCount = 0;
+      while (!allDone(futures)) {
+        var entry = metrics.snapshot();
+        var counter = entry.getMessagesIn().get(SOURCE);
+        long count = counter != null ? counter.getCounter() : 0;
+        assertTrue(count >= previousCount, "snapshots must never go backwards");
+        previousCount = count;
+      }
+      awaitAll(futures);
+
+      long expected = (long) THREADS * INCREMENTS_PER_THREAD;
+      var entry = metrics.snapshot();
+      assertEquals(expected, entry.getMessagesIn().get(SOURCE).getCounter());
+      assertEquals(expected, entry.getMessagesOut().getCounter());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void countersStayUsableWhenResetDuringIncrements() throws Exception {
+    var metrics = new ElementMetrics();
+    var inCounter = metrics.getInCounter(SOURCE);
+    var executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      var start = new CountDownLatch(1);
+      var futures = startIncrements(metrics, executor, start);
+      start.countDown();
+      metrics.reset();
+      awaitAll(futures);
+
+      long total = (long) THREADS * INCREMENTS_PER_THREAD;
+      assertTrue(inCounter.getCount() <= total);
+      assertSame(inCounter, metrics.getInCounter(SOURCE));
+
+      metrics.reset();
+      var entry = metrics.snapshot();
+      assertFalse(entry.getMessagesIn().containsKey(SOURCE));
+      assertEquals(0, entry.getMessagesOut().getCounter());
+
+      inCounter.increment();
+      assertEquals(1, metrics.snapshot().getMessagesIn().get(SOURCE).getCounter());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void lastTimestampIsLatestOfAllCounters() {
+    var metrics = new ElementMetrics();
+    metrics.getInCounter(SOURCE).increment(100);
+    metrics.getInCounter("other").increment(300);
+    metrics.getOutCounter().increment(200);
+
+    assertEquals(300, metrics.snapshot().getLastTimestamp());
+  }
+
+  @Test
+  public void writeMetricsAreOnlyReportedOnceRegistered() {
+    var metrics = new ElementMetrics();
+    assertNull(metrics.snapshot().getWriteMetrics());
+
+    metrics.getWriteMetrics().recordFlush(10, 2_000_000);
+    assertEquals(10, metrics.snapshot().getWriteMetrics().getEvents());
+
+    metrics.reset();
+    assertEquals(0, metrics.snapshot().getWriteMetrics().getEvents());
+  }
+
+  @Test
+  public void cacheMetricsAreOnlyReportedOnceRegistered() {
+    var metrics = new ElementMetrics();
+    assertNull(metrics.snapshot().getCacheMetrics());
+
+    metrics.getCacheMetrics().recordHit();
+    metrics.getCacheMetrics().recordMiss();
+    metrics.getCacheMetrics().recordHit();
+    metrics.getCacheMetrics().setSize(3);
+    var cacheMetrics = metrics.snapshot().getCacheMetrics();
+    assertEquals(2, cacheMetrics.getHits());
+    assertEquals(1, cacheMetrics.getMisses());
+    assertEquals(2.0 / 3, cacheMetrics.getHitRate());
+    assertEquals(3, cacheMetrics.getSize());
+
+    metrics.reset();
+    assertEquals(0, metrics.snapshot().getCacheMetrics().getHits());
+    assertEquals(0.0, metrics.snapshot().getCacheMetrics().getHitRate());
+  }
+
+  private List<Future<?>> startIncrements(ElementMetrics metrics,
+                                          ExecutorService executor,
+                                          CountDownLatch start) {
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      futures.add(executor.submit(() -> {
+        start.await();
+        var inCounter = metrics.getInCounter(SOURCE);
+        var outCounter = metrics.getOutCounter();
+        for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+          inCounter.increment();
+          outCounter.increment();
+        }
+        return null;
+      }));
+    }
+    return futures;
+  }
+
+  private boolean allDone(List<Future<?>> futures) {
+    return futures.stream().allMatch(Future::isDone);
+  }
+
+  private void awaitAll(List<Future<?>> futures) throws Exception {
+    for (var future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+  }
+}
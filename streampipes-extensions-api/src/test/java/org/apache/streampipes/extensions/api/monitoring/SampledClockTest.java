@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SampledClockTest {
+
+  @Test
+  public void clockLagsBehindWallClockByAtMostItsResolution() throws InterruptedException {
+    // allow for scheduling delays of the refresh thread on busy machines
+    long tolerance = SampledClock.RESOLUTION_MILLIS + 500;
+    for (int i = 0; i < 10; i++) {
+      long before = System.currentTimeMillis();
+      long now = SampledClock.INSTANCE.now();
+      long after = System.currentTimeMillis();
+
+      assertTrue(now <= after, "sampled time must not be ahead of the wall clock");
+      assertTrue(now >= before - tolerance, "sampled time lags behind by " + (before - now) + " ms");
+      Thread.sleep(SampledClock.RESOLUTION_MILLIS);
+    }
+  }
+
+  @Test
+  public void clockAdvances() throws InterruptedException {
+    long start = SampledClock.INSTANCE.now();
+    Thread.sleep(SampledClock.RESOLUTION_MILLIS * 5);
+
+    assertTrue(SampledClock.INSTANCE.now() > start);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.api.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SpWriteMetricsTest {
+
+  @Test
+  public void flushesAreAggregated() {
+    var metrics = new SpWriteMetrics();
+    metrics.recordFlush(10, 2_000_000);
+    metrics.recordFlush(30, 6_000_000);
+    metrics.recordFailedFlush();
+
+    var writeMetrics = metrics.toWriteMetrics();
+    assertEquals(2, writeMetrics.getFlushes());
+    assertEquals(1, writeMetrics.getFailedFlushes());
+    assertEquals(40, writeMetrics.getEvents());
+    assertEquals(20.0, writeMetrics.getAverageFlushSize());
+    assertEquals(4.0, writeMetrics.getAverageLatency());
+    assertEquals(6.0, writeMetrics.getMaxLatency());
+  }
+
+  @Test
+  public void resetClearsAllValues() {
+    var metrics = new SpWriteMetrics();
+    metrics.recordFlush(10, 2_000_000);
+    metrics.recordFailedFlush();
+    metrics.reset();
+
+    var writeMetrics = metrics.toWriteMetrics();
+    assertEquals(0, writeMetrics.getFlushes());
+    assertEquals(0, writeMetrics.getFailedFlushes());
+    assertEquals(0.0, writeMetrics.getAverageFlushSize());
+    assertEquals(0.0, writeMetrics.getAverageLatency());
+    assertEquals(0.0, writeMetrics.getMaxLatency());
+  }
+
+  @Test
+  public void blockedWritesAndBufferedEventsAreReported() {
+    var metrics = new SpWriteMetrics();
+    metrics.recordBlockedWrite();
+    metrics.recordBlockedWrite();
+    metrics.setBufferedEvents(5);
+
+    var writeMetrics = metrics.toWriteMetrics();
+    assertEquals(2, writeMetrics.getBlockedWrites());
+    assertEquals(5, writeMetrics.getBufferedEvents());
+
+    metrics.reset();
+    assertEquals(0, metrics.getBlockedWrites());
+    // the buffer is not emptied by a reset of the counters
+    assertEquals(5, metrics.getBufferedEvents());
+  }
+}
@@ -19,44 +19,22 @@
 package org.apache.streampipes.extensions.management.connect;
 
 import org.apache.streampipes.extensions.api.connect.IPullAdapter;
-import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
-import org.apache.streampipes.model.monitoring.SpLogEntry;
-import org.apache.streampipes.model.monitoring.SpLogMessage;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeoutException;
 
+/**
+ * Schedules the pulls of a single pull adapter on the shared {@link PullSchedulerService}.
+ */
 public class PullAdapterScheduler {
 
-  protected static final Logger LOGGER = LoggerFactory.getLogger(PullAdapterScheduler.class);
-
-  private ScheduledExecutorService scheduler;
+  private PullSchedulerService.ScheduledPull scheduledPull;
 
   public void schedule(IPullAdapter pullAdapter,
                        String adapterElementId) {
-    final Runnable task = () -> {
-      try {
-        pullAdapter.pullData();
-      } catch (ExecutionException | InterruptedException e) {
-        SpMonitoringManager.INSTANCE.addErrorMessage(
-            adapterElementId,
-            SpLogEntry.from(System.currentTimeMillis(), SpLogMessage.from(e)));
-      } catch (TimeoutException e) {
-        LOGGER.warn("Timeout occurred", e);
-      }
-    };
-
-    scheduler = Executors.newScheduledThreadPool(1);
-    scheduler.scheduleAtFixedRate(task, 1,
-        pullAdapter.getPollingInterval().value(), pullAdapter.getPollingInterval().timeUnit());
+    scheduledPull = PullSchedulerService.getInstance().schedule(pullAdapter, adapterElementId);
   }
 
   public void shutdown() {
-    scheduler.shutdownNow();
+    if (scheduledPull != null) {
+      scheduledPull.cancel();
+    }
   }
 }
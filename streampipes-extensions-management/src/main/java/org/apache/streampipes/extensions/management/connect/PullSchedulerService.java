@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.management.connect;
+
+import org.apache.streampipes.commons.environment.Environment;
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.extensions.api.connect.IPullAdapter;
+import org.apache.streampipes.extensions.api.connect.PullOverrunPolicy;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+import org.apache.streampipes.extensions.api.monitoring.SpPullMetrics;
+import org.apache.streampipes.model.monitoring.SpLogEntry;
+import org.apache.streampipes.model.monitoring.SpLogMessage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Schedules the pulls of all pull adapters running in this extensions service.
+ * <p>
+ * Due pulls are determined by a single dispatcher thread using a hashed timing wheel and are executed on a shared
+ * pool of worker threads. Workers are only started while pulls are running and stop after being idle for a while,
+ * so that the number of threads grows with the number of concurrently running pulls instead of the number of
+ * scheduled pull adapters.
+ * Pulls are scheduled at a fixed rate with a resolution of one tick, and the first pull of an adapter is delayed by
+ * a random jitter to spread the load of adapters which are started at the same time.
+ * If a pull is still running when the next pull is due, the {@link PullOverrunPolicy} of the adapter decides how
+ * the due pull is handled.
+ */
+public class PullSchedulerService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PullSchedulerService.class);
+
+  private static final int WHEEL_SIZE = 512;
+  private static final int MAX_QUEUED_PULLS = 16;
+  private static final long MAX_START_JITTER_MILLIS = 10_000;
+  private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+
+  private final long tickMillis;
+  private final long maxStartJitterMillis;
+  private final Executor executor;
+  private final LongSupplier clock;
+  private final boolean runDispatcher;
+
+  // the following fields are guarded by this
+  private final List<List<ScheduledPull>> wheel;
+  private final long startTime;
+  private long currentTick;
+  private int scheduledPulls;
+  private Thread dispatcher;
+
+  private static final class SharedService {
+    private static final PullSchedulerService INSTANCE = from(Environments.getEnvironment());
+  }
+
+  PullSchedulerService(long tickMillis,
+                       long maxStartJitterMillis,
+                       Executor executor,
+                       LongSupplier clock,
+                       boolean runDispatcher) {
+    this.tickMillis = tickMillis;
+    this.maxStartJitterMillis = maxStartJitterMillis;
+    this.executor = executor;
+    this.clock = clock;
+    this.runDispatcher = runDispatcher;
+    this.wheel = new ArrayList<>(WHEEL_SIZE);
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel.add(new ArrayList<>());
+    }
+    this.startTime = clock.getAsLong();
+  }
+
+  public static PullSchedulerService getInstance() {
+    return SharedService.INSTANCE;
+  }
+
+  public static PullSchedulerService from(Environment env) {
+    int idleThreads = Math.max(0, env.getConnectPullSchedulerThreads().getValueOrDefault());
+    long tickMillis = Math.max(1, env.getConnectPullSchedulerTickMillis().getValueOrDefault());
+    return new PullSchedulerService(
+        tickMillis,
+        MAX_START_JITTER_MILLIS,
+        makeWorkerPool(idleThreads),
+        System::currentTimeMillis,
+        true);
+  }
+
+  /**
+   * Creates the worker pool which executes the pulls.
+   * <p>
+   * Pulls are handed over directly to a worker thread and a new thread is started if all workers are busy, so that
+   * a blocking pull never delays the pulls of other adapters. As every adapter runs at most one pull at a time, the
+   * number of worker threads is bounded by the number of scheduled adapters.
+   *
+   * @param idleThreads The number of worker threads which are kept alive when they are idle
+   * @return The worker pool
+   */
+  static ThreadPoolExecutor makeWorkerPool(int idleThreads) {
+    return new ThreadPoolExecutor(
+        idleThreads,
+        Integer.MAX_VALUE,
+        WORKER_KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        new SynchronousQueue<>(),
+        makeWorkerThreadFactory());
+  }
+
+  /**
+   * Schedules the pulls of the given adapter at the adapter's polling interval.
+   *
+   * @param adapter          The pull adapter
+   * @param adapterElementId The element id of the adapter, used to report errors and metrics
+   * @return A handle to cancel the scheduled pulls
+   */
+  public ScheduledPull schedule(IPullAdapter adapter,
+                                String adapterElementId) {
+    var pollingInterval = adapter.getPollingInterval();
+    long period = Math.max(1, pollingInterval.timeUnit().toMillis(pollingInterval.value()));
+    long jitter = maxStartJitterMillis > 0
+        ? ThreadLocalRandom.current().nextLong(Math.min(period, maxStartJitterMillis))
+        : 0;
+    var pull = new ScheduledPull(
+        adapter,
+        adapterElementId,
+        period,
+        adapter.getOverrunPolicy(),
+        SpMonitoringManager.INSTANCE.registerPullMetrics(adapterElementId));
+
+    synchronized (this) {
+      long now = clock.getAsLong();
+      if (scheduledPulls == 0) {
+        // the wheel was idle, so skip the ticks which have passed in the meantime
+        currentTick = Math.max(currentTick, (now - startTime) / tickMillis);
+        notifyAll();
+      }
+      scheduledPulls++;
+      pull.deadline = now + jitter;
+      insert(pull);
+      startDispatcherIfRequired();
+    }
+    return pull;
+  }
+
+  /**
+   * Triggers all pulls which are due at the given time.
+   */
+  void advance(long now) {
+    List<DuePull> duePulls = new ArrayList<>();
+    synchronized (this) {
+      List<ScheduledPull> due = new ArrayList<>();
+      while (tickTime(currentTick) <= now) {
+        long tickTime = tickTime(currentTick);
+        Iterator<ScheduledPull> it = wheel.get(slot(currentTick)).iterator();
+        while (it.hasNext()) {
+          var pull = it.next();
+          if (pull.cancelled) {
+            it.remove();
+            scheduledPulls--;
+          } else if (pull.deadline <= tickTime) {
+            it.remove();
+            due.add(pull);
+          }
+        }
+        currentTick++;
+      }
+
+      for (var pull : due) {
+        long scheduledTime = pull.deadline;
+        long next = scheduledTime + pull.period;
+        long missed = 0;
+        while (next <= now) {
+          next += pull.period;
+          missed++;
+        }
+        pull.deadline = next;
+        insert(pull);
+        duePulls.add(new DuePull(pull, scheduledTime, missed));
+      }
+    }
+
+    duePulls.forEach(duePull -> duePull.pull().trigger(duePull.scheduledTime(), duePull.missed()));
+  }
+
+  synchronized int getScheduledPullCount() {
+    return scheduledPulls;
+  }
+
+  private void insert(ScheduledPull pull) {
+    long tick = Math.max(currentTick, ceilDiv(pull.deadline - startTime, tickMillis));
+    wheel.get(slot(tick)).add(pull);
+  }
+
+  private long tickTime(long tick) {
+    return startTime + tick * tickMillis;
+  }
+
+  private int slot(long tick) {
+    return (int) (tick % WHEEL_SIZE);
+  }
+
+  private static long ceilDiv(long x,
+                              long y) {
+    return -Math.floorDiv(-x, y);
+  }
+
+  private void startDispatcherIfRequired() {
+    if (runDispatcher && dispatcher == null) {
+      dispatcher = new Thread(this::dispatch, "pull-adapter-scheduler");
+      dispatcher.setDaemon(true);
+      dispatcher.start();
+    }
+  }
+
+  private void dispatch() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        long sleepMillis;
+        synchronized (this) {
+          while (scheduledPulls == 0) {
+            wait();
+          }
+          sleepMillis = tickTime(currentTick) - clock.getAsLong();
+        }
+        if (sleepMillis > 0) {
+          Thread.sleep(sleepMillis);
+        }
+        advance(clock.getAsLong());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (RuntimeException e) {
+        LOG.error("Could not dispatch due pulls", e);
+      }
+    }
+  }
+
+  private static ThreadFactory makeWorkerThreadFactory() {
+    var threadCount = new AtomicInteger();
+    return runnable -> {
+      var thread = new Thread(runnable, "pull-adapter-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private record DuePull(ScheduledPull pull, long scheduledTime, long missed) {
+  }
+
+  /**
+   * The scheduled pulls of a single pull adapter.
+   */
+  public class ScheduledPull {
+
+    private final IPullAdapter adapter;
+    private final String adapterElementId;
+    private final long period;
+    private final SpPullMetrics metrics;
+    private final int maxPendingPulls;
+
+    // guarded by the enclosing service
+    private long deadline;
+
+    // the following fields are guarded by this
+    private final Deque<Long> pendingPulls = new ArrayDeque<>();
+    private boolean running;
+    private Thread runner;
+
+    private volatile boolean cancelled;
+
+    private ScheduledPull(IPullAdapter adapter,
+                          String adapterElementId,
+                          long period,
+                          PullOverrunPolicy overrunPolicy,
+                          SpPullMetrics metrics) {
+      this.adapter = adapter;
+      this.adapterElementId = adapterElementId;
+      this.period = period;
+      this.metrics = metrics;
+      this.maxPendingPulls = switch (overrunPolicy) {
+        case SKIP -> 0;
+        case COALESCE -> 1;
+        case QUEUE -> MAX_QUEUED_PULLS;
+      };
+    }
+
+    /**
+     * Cancels all future pulls and interrupts a currently running pull.
+     */
+    public void cancel() {
+      synchronized (this) {
+        cancelled = true;
+        pendingPulls.clear();
+        if (runner != null) {
+          runner.interrupt();
+        }
+      }
+    }
+
+    private void trigger(long scheduledTime,
+                         long missed) {
+      for (long i = 0; i < missed; i++) {
+        metrics.recordSkippedPull();
+      }
+      synchronized (this) {
+        if (cancelled) {
+          return;
+        }
+        if (!running) {
+          running = true;
+        } else {
+          if (pendingPulls.size() < maxPendingPulls) {
+            pendingPulls.add(scheduledTime);
+          } else {
+            metrics.recordSkippedPull();
+          }
+          return;
+        }
+      }
+      submit(scheduledTime);
+    }
+
+    private void submit(long scheduledTime) {
+      try {
+        executor.execute(() -> run(scheduledTime));
+      } catch (RejectedExecutionException e) {
+        LOG.error("Could not execute pull of adapter {}", adapterElementId, e);
+        synchronized (this) {
+          running = false;
+          pendingPulls.clear();
+        }
+      }
+    }
+
+    private void run(long scheduledTime) {
+      synchronized (this) {
+        if (cancelled) {
+          running = false;
+          return;
+        }
+        runner = Thread.currentThread();
+      }
+
+      long start = clock.getAsLong();
+      boolean failed = false;
+      try {
+        adapter.pullData();
+      } catch (ExecutionException | InterruptedException | RuntimeException e) {
+        failed = true;
+        if (!cancelled) {
+          SpMonitoringManager.INSTANCE.addErrorMessage(
+              adapterElementId,
+              SpLogEntry.from(System.currentTimeMillis(), SpLogMessage.from(e)));
+        }
+      } catch (TimeoutException e) {
+        failed = true;
+        LOG.warn("Timeout occurred", e);
+      }
+      metrics.recordPull(Math.max(0, start - scheduledTime), clock.getAsLong() - start, failed);
+
+      Long next;
+      synchronized (this) {
+        runner = null;
+        // clear a possible interrupt of cancel() before the worker thread is reused
+        Thread.interrupted();
+        next = cancelled ? null : pendingPulls.poll();
+        if (next == null) {
+          running = false;
+        }
+      }
+      if (next != null) {
+        submit(next);
+      }
+    }
+  }
+}
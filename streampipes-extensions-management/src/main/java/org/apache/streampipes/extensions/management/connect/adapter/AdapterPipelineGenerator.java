@@ -27,7 +27,10 @@ public class AdapterPipelineGenerator extends AdapterPipelineGeneratorBase {
 
   public AdapterPipeline generatePipeline(AdapterDescription adapterDescription) {
 
-    var pipelineElements = makeAdapterPipelineElements(adapterDescription.getRules(), true);
+    var pipelineElements = makeAdapterPipelineElements(
+        adapterDescription.getRules(),
+        adapterDescription.getElementId()
+    );
 
     if (hasValidGrounding(adapterDescription)) {
       return new AdapterPipeline(
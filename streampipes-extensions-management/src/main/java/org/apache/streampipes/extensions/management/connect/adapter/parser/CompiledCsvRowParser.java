@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.management.connect.adapter.parser;
+
+import org.apache.streampipes.commons.exceptions.connect.ParseException;
+import org.apache.streampipes.connect.shared.DatatypeUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Converts csv rows to events with column types that are fixed once, instead of guessing the type of every value.
+ * The header names are interned and the converter of each column is resolved when the parser is created, so that
+ * converting a row only parses the values.
+ */
+class CompiledCsvRowParser {
+
+  private final String[] header;
+  private final List<Function<String, Object>> converters;
+
+  private CompiledCsvRowParser(String[] header,
+                               List<Function<String, Object>> converters) {
+    this.header = header;
+    this.converters = converters;
+  }
+
+  /**
+   * Creates a parser whose column types are guessed from the given sample row in the same way as the parser without
+   * fixed column types guesses the type of every value.
+   */
+  static CompiledCsvRowParser fromSample(String[] header,
+                                         String[] sample) throws ParseException {
+    checkRow(header, sample);
+    var internedHeader = Arrays.stream(header)
+        .map(String::intern)
+        .toArray(String[]::new);
+    var converters = Arrays.stream(sample)
+        .map(value -> DatatypeUtils.makeConverter(DatatypeUtils.getXsdDatatype(value, false)))
+        .toList();
+    return new CompiledCsvRowParser(internedHeader, converters);
+  }
+
+  Map<String, Object> toEvent(String[] values) throws ParseException {
+    checkRow(header, values);
+
+    // presized, so that the map is not rehashed while the row is added
+    var event = new HashMap<String, Object>((int) (header.length / 0.75f) + 1);
+    for (int i = 0; i < header.length; i++) {
+      event.put(header[i], converters.get(i).apply(values[i]));
+    }
+
+    return event;
+  }
+
+  static void checkRow(String[] header,
+                       String[] values) throws ParseException {
+    if (header == null) {
+      throw new ParseException("Header of csv could not be parsed");
+    }
+
+    if (values == null) {
+      throw new ParseException("Row in csv is empty");
+    }
+
+    if (header.length != values.length) {
+      throw new ParseException(
+          "Row in csv does not have the same length as header. header: %s row: %s"
+              .formatted(Arrays.toString(header), Arrays.toString(values)));
+    }
+  }
+}
@@ -44,10 +44,20 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 public class CsvParser implements IParser {
@@ -59,13 +69,26 @@ public class CsvParser implements IParser {
 
   public static final String DELIMITER = "delimiter";
   public static final String HEADER = "header";
+  public static final String FIXED_COLUMN_TYPES = "fixed-column-types";
 
   public static final String DESCRIPTION = "Can be used to read CSV";
 
+  // number of rows that are converted by one task when parsing with fixed column types
+  static final int BATCH_SIZE = 1024;
+
+  private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+  private static final int MAX_PENDING_BATCHES = 2 * PARALLELISM;
+  private static final int QUEUE_CAPACITY = 1000;
+
+  private static final class SharedExecutor {
+    private static final ExecutorService INSTANCE = makeExecutor();
+  }
+
   private final ParserUtils parserUtils;
 
   private boolean header;
   private char delimiter;
+  private boolean fixedColumnTypes;
 
   public CsvParser() {
     parserUtils = new ParserUtils();
@@ -77,6 +100,13 @@ public class CsvParser implements IParser {
     this.delimiter = delimiter;
   }
 
+  public CsvParser(boolean header,
+                   char delimiter,
+                   boolean fixedColumnTypes) {
+    this(header, delimiter);
+    this.fixedColumnTypes = fixedColumnTypes;
+  }
+
   @Override
   public IParser fromDescription(List<StaticProperty> config) {
     var extractor = StaticPropertyExtractor.from(config);
@@ -86,7 +116,12 @@ public class CsvParser implements IParser {
     boolean header = extractor.selectedMultiValues(HEADER, String.class).stream()
         .anyMatch("Header"::equals);
 
-    return new CsvParser(header, delimiter);
+    // parser configurations created before the option was introduced do not contain it
+    boolean fixedColumnTypes = config.stream()
+        .anyMatch(sp -> FIXED_COLUMN_TYPES.equals(sp.getInternalName()))
+        && extractor.slideToggleValue(FIXED_COLUMN_TYPES);
+
+    return new CsvParser(header, delimiter, fixedColumnTypes);
   }
 
 
@@ -98,6 +133,9 @@ public class CsvParser implements IParser {
         .requiredMultiValueSelection(Labels.from(HEADER, "Header",
                 "Does the CSV file include a header or not"),
             List.of(new Option("Header", "Header")))
+        .requiredSlideToggle(Labels.from(FIXED_COLUMN_TYPES, "Fixed column types",
+            "Use the data types of the first row for all rows instead of detecting the type of each value. "
+                + "Recommended for large files, which are then parsed in parallel"), false)
         .build();
   }
 
@@ -115,6 +153,11 @@ public class CsvParser implements IParser {
 
   @Override
   public void parse(InputStream inputStream, IParserEventHandler handler) throws ParseException {
+    if (fixedColumnTypes) {
+      parseWithFixedColumnTypes(inputStream, handler);
+      return;
+    }
+
     var csvReader = getCsvReader(inputStream);
 
     var headerAndSample = getHeaderAndFirstSample(csvReader);
@@ -134,20 +177,110 @@ public class CsvParser implements IParser {
   }
 
 
-  private Map<String, Object> toMap(String[] header, String[] values, boolean preferFloat) throws ParseException {
-    if (header == null) {
-      throw new ParseException("Header of csv could not be parsed");
+  /**
+   * Parses the rows with the column types of the first row. Rows are read in batches, which are converted to events
+   * by the shared executor, while the events are handed to the handler in the order of the rows on the calling thread.
+   */
+  private void parseWithFixedColumnTypes(InputStream inputStream,
+                                         IParserEventHandler handler) throws ParseException {
+    var reader = new BufferedReader(new InputStreamReader(inputStream));
+    var csvParser = makeCsvParser();
+
+    String[] headers = {};
+    String[] sample;
+
+    try {
+      // use first row as headers
+      if (header) {
+        headers = parseLine(csvParser, reader.readLine());
+      }
+      // read first data sample that is used to determine the data types
+      sample = parseLine(csvParser, reader.readLine());
+
+      // create headers if not available in data
+      if (!header && sample != null) {
+        headers = makeHeaders(sample.length);
+      }
+    } catch (IOException e) {
+      throw new ParseException("Could not read header of csv", e);
     }
 
-    if (values == null) {
-      throw new ParseException("Row in csv is empty");
+    var rowParser = CompiledCsvRowParser.fromSample(headers, sample);
+    handler.handle(rowParser.toEvent(sample));
+
+    Queue<Future<List<Map<String, Object>>>> pendingBatches = new ArrayDeque<>();
+    try {
+      List<String> batch = new ArrayList<>(BATCH_SIZE);
+      String line;
+      while ((line = readLine(reader)) != null) {
+        batch.add(line);
+        if (batch.size() == BATCH_SIZE) {
+          var lines = batch;
+          pendingBatches.add(SharedExecutor.INSTANCE.submit(() -> toEvents(rowParser, lines)));
+          batch = new ArrayList<>(BATCH_SIZE);
+
+          if (pendingBatches.size() >= MAX_PENDING_BATCHES) {
+            handleBatch(pendingBatches.poll(), handler);
+          }
+        }
+      }
+
+      while (!pendingBatches.isEmpty()) {
+        handleBatch(pendingBatches.poll(), handler);
+      }
+
+      // the remaining rows are too few to be worth a task
+      toEvents(rowParser, batch).forEach(handler::handle);
+    } finally {
+      pendingBatches.forEach(future -> future.cancel(true));
     }
+  }
+
+  private List<Map<String, Object>> toEvents(CompiledCsvRowParser rowParser,
+                                             List<String> lines) throws ParseException {
+    // the csv parser is not thread-safe, each batch uses its own instance
+    var csvParser = makeCsvParser();
+    var events = new ArrayList<Map<String, Object>>(lines.size());
+    for (var line : lines) {
+      try {
+        events.add(rowParser.toEvent(csvParser.parseLine(line)));
+      } catch (IOException e) {
+        throw new ParseException("Could not parse row: " + line, e);
+      }
+    }
+    return events;
+  }
+
+  private void handleBatch(Future<List<Map<String, Object>>> batch,
+                           IParserEventHandler handler) throws ParseException {
+    try {
+      batch.get().forEach(handler::handle);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ParseException("Interrupted while parsing csv", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ParseException("Could not parse csv", e.getCause());
+    }
+  }
 
-    if (header.length != values.length) {
-      throw new ParseException(
-          "Row in csv does not have the same length as header. header: %s row: %s"
-              .formatted(Arrays.toString(header), Arrays.toString(values)));
+  private String readLine(BufferedReader reader) throws ParseException {
+    try {
+      return reader.readLine();
+    } catch (IOException e) {
+      throw new ParseException("Could not read row of csv", e);
     }
+  }
+
+  private String[] parseLine(CSVParser csvParser,
+                             String line) throws IOException {
+    return line != null ? csvParser.parseLine(line) : null;
+  }
+
+  private Map<String, Object> toMap(String[] header, String[] values, boolean preferFloat) throws ParseException {
+    CompiledCsvRowParser.checkRow(header, values);
 
     var event = new HashMap<String, Object>();
     for (int i = 0; i < header.length; i++) {
@@ -162,17 +295,26 @@ public class CsvParser implements IParser {
   private CSVReader getCsvReader(InputStream inputStream) {
 
     var reader = new BufferedReader(new InputStreamReader(inputStream));
-    CSVParser parser = new CSVParserBuilder()
-        .withSeparator(delimiter)
-        .withIgnoreQuotations(true)
-        .build();
 
     return new CSVReaderBuilder(reader)
         .withSkipLines(0)
-        .withCSVParser(parser)
+        .withCSVParser(makeCsvParser())
         .build();
   }
 
+  private CSVParser makeCsvParser() {
+    return new CSVParserBuilder()
+        .withSeparator(delimiter)
+        .withIgnoreQuotations(true)
+        .build();
+  }
+
+  private String[] makeHeaders(int columnCount) {
+    return IntStream.range(0, columnCount)
+        .mapToObj(i -> "key_" + i)
+        .toArray(String[]::new);
+  }
+
   private Tuple2<String[], String[]> getHeaderAndFirstSample(CSVReader csvReader) throws ParseException {
     String[] headers = {};
     String[] sample;
@@ -187,9 +329,7 @@ public class CsvParser implements IParser {
 
       // create headers if not available in data
       if (!header) {
-        headers = IntStream.range(0, sample.length)
-            .mapToObj(i -> "key_" + i)
-            .toArray(String[]::new);
+        headers = makeHeaders(sample.length);
       }
 
     } catch (IOException | CsvValidationException e) {
@@ -199,5 +339,24 @@ public class CsvParser implements IParser {
     return new Tuple2<>(headers, sample);
   }
 
+  private static ExecutorService makeExecutor() {
+    var threadCount = new AtomicInteger();
+    var executor = new ThreadPoolExecutor(
+        PARALLELISM,
+        PARALLELISM,
+        60,
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+        runnable -> {
+          var thread = new Thread(runnable, "csv-parser-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        // if the queue is full, the reading thread converts the batch itself
+        new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
 
 }
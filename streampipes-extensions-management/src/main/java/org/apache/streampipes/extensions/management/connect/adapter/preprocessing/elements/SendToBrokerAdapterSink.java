@@ -21,6 +21,7 @@ import org.apache.streampipes.commons.environment.Environment;
 import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.dataformat.SpDataFormatDefinition;
 import org.apache.streampipes.extensions.api.connect.IAdapterPipelineElement;
+import org.apache.streampipes.extensions.api.monitoring.SpMetricsCounter;
 import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
 import org.apache.streampipes.extensions.management.connect.adapter.util.TransportFormatSelector;
 import org.apache.streampipes.extensions.management.monitoring.ExtensionsLogger;
@@ -39,9 +40,11 @@ public class SendToBrokerAdapterSink implements IAdapterPipelineElement {
   protected SpDataFormatDefinition dataFormatDefinition;
   protected TransportProtocol protocol;
   private final EventProducer producer;
+  private final SpMetricsCounter outCounter;
 
   public SendToBrokerAdapterSink(AdapterDescription adapterDescription) {
     this.adapterDescription = adapterDescription;
+    this.outCounter = SpMonitoringManager.INSTANCE.registerOutCounter(adapterDescription.getElementId());
     this.protocol = adapterDescription
         .getEventGrounding()
         .getTransportProtocol();
@@ -73,9 +76,7 @@ public class SendToBrokerAdapterSink implements IAdapterPipelineElement {
     try {
       if (event != null) {
         sendToBroker(dataFormatDefinition.fromMap(event));
-        SpMonitoringManager.INSTANCE.increaseOutCounter(
-            adapterDescription.getElementId(),
-            System.currentTimeMillis());
+        outCounter.increment();
       }
     } catch (RuntimeException e) {
       new ExtensionsLogger(adapterDescription.getElementId()).error(e);
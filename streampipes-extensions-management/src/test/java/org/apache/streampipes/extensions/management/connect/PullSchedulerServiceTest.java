@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.management.connect;
+
+import org.apache.streampipes.extensions.api.connect.IPollingSettings;
+import org.apache.streampipes.extensions.api.connect.IPullAdapter;
+import org.apache.streampipes.extensions.api.connect.PullOverrunPolicy;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+import org.apache.streampipes.extensions.management.connect.adapter.util.PollingSettings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PullSchedulerServiceTest {
+
+  private static final long TICK_MILLIS = 10;
+  private static final long START_TIME = 1_000;
+
+  private AtomicLong clock;
+  private Queue<Runnable> workerQueue;
+  private PullSchedulerService scheduler;
+
+  @BeforeEach
+  public void setUp() {
+    clock = new AtomicLong(START_TIME);
+    workerQueue = new ArrayDeque<>();
+    scheduler = new PullSchedulerService(TICK_MILLIS, 0, workerQueue::add, clock::get, false);
+  }
+
+  @Test
+  public void pullsAreTriggeredAtFixedRate() {
+    var adapter = new CountingAdapter(100, PullOverrunPolicy.COALESCE);
+    scheduler.schedule(adapter, "adapter");
+
+    for (int i = 0; i < 5; i++) {
+      advanceTo(START_TIME + i * 100);
+      runWorkers();
+    }
+
+    assertEquals(5, adapter.pulls.get());
+  }
+
+  @Test
+  public void skipPolicyDropsPullsDuringOverrun() {
+    var elementId = UUID.randomUUID().toString();
+    var adapter = new CountingAdapter(100, PullOverrunPolicy.SKIP);
+    scheduler.schedule(adapter, elementId);
+
+    advanceTo(START_TIME);
+    advanceTo(START_TIME + 100);
+    advanceTo(START_TIME + 200);
+    runWorkers();
+
+    assertEquals(1, adapter.pulls.get());
+    assertEquals(2, SpMonitoringManager.INSTANCE.registerPullMetrics(elementId).getSkippedPulls());
+  }
+
+  @Test
+  public void coalescePolicyMergesPullsDuringOverrun() {
+    var elementId = UUID.randomUUID().toString();
+    var adapter = new CountingAdapter(100, PullOverrunPolicy.COALESCE);
+    scheduler.schedule(adapter, elementId);
+
+    advanceTo(START_TIME);
+    advanceTo(START_TIME + 100);
+    advanceTo(START_TIME + 200);
+    advanceTo(START_TIME + 300);
+    runWorkers();
+
+    var metrics = SpMonitoringManager.INSTANCE.registerPullMetrics(elementId);
+    assertEquals(2, adapter.pulls.get());
+    assertEquals(2, metrics.getPulls());
+    assertEquals(2, metrics.getSkippedPulls());
+  }
+
+  @Test
+  public void queuePolicyRunsAllPullsDuringOverrun() {
+    var adapter = new CountingAdapter(100, PullOverrunPolicy.QUEUE);
+    scheduler.schedule(adapter, "adapter");
+
+    advanceTo(START_TIME);
+    advanceTo(START_TIME + 100);
+    advanceTo(START_TIME + 200);
+    advanceTo(START_TIME + 300);
+    runWorkers();
+
+    assertEquals(4, adapter.pulls.get());
+  }
+
+  @Test
+  public void missedTicksAreCountedAsSkipped() {
+    var elementId = UUID.randomUUID().toString();
+    var adapter = new CountingAdapter(100, PullOverrunPolicy.QUEUE);
+    scheduler.schedule(adapter, elementId);
+
+    advanceTo(START_TIME + 350);
+    runWorkers();
+
+    assertEquals(1, adapter.pulls.get());
+    assertEquals(3, SpMonitoringManager.INSTANCE.registerPullMetrics(elementId).getSkippedPulls());
+  }
+
+  @Test
+  public void failingPullsAreRescheduled() {
+    var adapter = new CountingAdapter(100, PullOverrunPolicy.COALESCE) {
+      @Override
+      public void pullData() {
+        super.pullData();
+        throw new IllegalStateException("pull failed");
+      }
+    };
+    scheduler.schedule(adapter, UUID.randomUUID().toString());
+
+    for (int i = 0; i < 3; i++) {
+      advanceTo(START_TIME + i * 100);
+      runWorkers();
+    }
+
+    assertEquals(3, adapter.pulls.get());
+  }
+
+  @Test
+  public void cancelledPullsAreNotTriggered() {
+    var adapter = new CountingAdapter(100, PullOverrunPolicy.QUEUE);
+    var scheduledPull = scheduler.schedule(adapter, "adapter");
+
+    advanceTo(START_TIME);
+    advanceTo(START_TIME + 100);
+    scheduledPull.cancel();
+    runWorkers();
+    advanceTo(START_TIME + 200);
+    runWorkers();
+
+    assertEquals(0, adapter.pulls.get());
+    assertEquals(0, scheduler.getScheduledPullCount());
+  }
+
+  @Test
+  public void pullsWithLongPeriodsSurviveWheelRevolutions() {
+    var adapter = new CountingAdapter(60_000, PullOverrunPolicy.COALESCE);
+    scheduler.schedule(adapter, "adapter");
+
+    advanceTo(START_TIME);
+    runWorkers();
+    advanceTo(START_TIME + 59_990);
+    runWorkers();
+    assertEquals(1, adapter.pulls.get());
+
+    advanceTo(START_TIME + 60_000);
+    runWorkers();
+    assertEquals(2, adapter.pulls.get());
+  }
+
+  @Test
+  public void blockingPullsDoNotDelayOtherPulls() throws InterruptedException {
+    var workerPool = PullSchedulerService.makeWorkerPool(1);
+    var releaseBlockingPull = new CountDownLatch(1);
+    var otherPull = new CountDownLatch(1);
+    try {
+      workerPool.execute(() -> {
+        try {
+          releaseBlockingPull.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      workerPool.execute(otherPull::countDown);
+
+      assertTrue(otherPull.await(5, TimeUnit.SECONDS));
+      assertEquals(2, workerPool.getPoolSize());
+    } finally {
+      releaseBlockingPull.countDown();
+      workerPool.shutdown();
+    }
+  }
+
+  private void advanceTo(long time) {
+    clock.set(time);
+    scheduler.advance(time);
+  }
+
+  private void runWorkers() {
+    Runnable task;
+    while ((task = workerQueue.poll()) != null) {
+      task.run();
+    }
+  }
+
+  private static class CountingAdapter implements IPullAdapter {
+
+    final AtomicInteger pulls = new AtomicInteger();
+    private final long periodMillis;
+    private final PullOverrunPolicy overrunPolicy;
+
+    CountingAdapter(long periodMillis,
+                    PullOverrunPolicy overrunPolicy) {
+      this.periodMillis = periodMillis;
+      this.overrunPolicy = overrunPolicy;
+    }
+
+    @Override
+    public void pullData() {
+      pulls.incrementAndGet();
+    }
+
+    @Override
+    public IPollingSettings getPollingInterval() {
+      return new PollingSettings((int) periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public PullOverrunPolicy getOverrunPolicy() {
+      return overrunPolicy;
+    }
+  }
+}
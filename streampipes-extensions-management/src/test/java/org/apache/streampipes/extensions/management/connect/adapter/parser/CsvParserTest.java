@@ -28,7 +28,9 @@ import org.apache.streampipes.sdk.utils.Datatypes;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -165,4 +167,76 @@ public class CsvParserTest extends ParserTest {
     verify(mockEventHandler, times(1)).handle(expectedEvent);
   }
 
+  @Test
+  public void parseWithFixedColumnTypes() {
+    var event = toStream("k1;k2;k3\nv1;2;2.5\nv2;3;3");
+    var mockEventHandler = mock(IParserEventHandler.class);
+
+    var parser = new CsvParser(true, ';', true);
+    parser.parse(event, mockEventHandler);
+
+    Map<String, Object> expectedEvent = new HashMap<>();
+    expectedEvent.put(K1, "v1");
+    expectedEvent.put(K2, 2);
+    expectedEvent.put("k3", 2.5f);
+    verify(mockEventHandler, times(1)).handle(expectedEvent);
+
+    expectedEvent.put(K1, "v2");
+    expectedEvent.put(K2, 3);
+    expectedEvent.put("k3", 3.0f);
+    verify(mockEventHandler, times(1)).handle(expectedEvent);
+  }
+
+  @Test
+  public void parseWithFixedColumnTypesKeepsOrderOfRows() {
+    var rowCount = 10 * CsvParser.BATCH_SIZE + 7;
+    var csv = new StringBuilder("k1,k2");
+    for (int i = 0; i < rowCount; i++) {
+      csv.append("\nv").append(i).append(',').append(i);
+    }
+    var events = new ArrayList<Map<String, Object>>();
+
+    var parser = new CsvParser(true, ',', true);
+    parser.parse(toStream(csv.toString()), events::add);
+
+    assertEquals(rowCount, events.size());
+    for (int i = 0; i < rowCount; i++) {
+      assertEquals("v" + i, events.get(i).get(K1));
+      assertEquals(i, events.get(i).get(K2));
+    }
+  }
+
+  @Test
+  public void parseWithFixedColumnTypesParseException() {
+    var csv = new StringBuilder("k1,k2");
+    for (int i = 0; i < 3 * CsvParser.BATCH_SIZE; i++) {
+      csv.append("\nv").append(i).append(',').append(i);
+    }
+    csv.append("\nv");
+    for (int i = 0; i < 3 * CsvParser.BATCH_SIZE; i++) {
+      csv.append("\nv").append(i).append(',').append(i);
+    }
+    var parser = new CsvParser(true, ',', true);
+
+    assertThrows(ParseException.class, () -> parser.parse(toStream(csv.toString()), event -> { }));
+  }
+
+  @Test
+  public void parseWithFixedColumnTypesReadException() {
+    var csv = toStream("k1,k2\nv1,1\nv2,2\n");
+    var failingStream = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        var value = csv.read();
+        if (value == -1) {
+          throw new IOException("Connection reset");
+        }
+        return value;
+      }
+    };
+    var parser = new CsvParser(true, ',', true);
+
+    assertThrows(ParseException.class, () -> parser.parse(failingStream, event -> { }));
+  }
+
 }
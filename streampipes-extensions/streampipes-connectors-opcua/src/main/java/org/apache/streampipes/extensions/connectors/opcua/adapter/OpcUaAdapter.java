@@ -31,6 +31,7 @@ import org.apache.streampipes.extensions.api.extractor.IStaticPropertyExtractor;
 import org.apache.streampipes.extensions.api.runtime.SupportsRuntimeConfig;
 import org.apache.streampipes.extensions.connectors.opcua.client.SpOpcUaClient;
 import org.apache.streampipes.extensions.connectors.opcua.config.OpcUaAdapterConfig;
+import org.apache.streampipes.extensions.connectors.opcua.config.OpcUaSubscriptionSettings;
 import org.apache.streampipes.extensions.connectors.opcua.config.SharedUserConfiguration;
 import org.apache.streampipes.extensions.connectors.opcua.config.SpOpcUaConfigExtractor;
 import org.apache.streampipes.extensions.connectors.opcua.model.OpcNode;
@@ -40,7 +41,9 @@ import org.apache.streampipes.extensions.management.connect.adapter.util.Polling
 import org.apache.streampipes.model.AdapterType;
 import org.apache.streampipes.model.connect.guess.GuessSchema;
 import org.apache.streampipes.model.connect.rules.schema.DeleteRuleDescription;
+import org.apache.streampipes.model.staticproperty.Option;
 import org.apache.streampipes.model.staticproperty.StaticProperty;
+import org.apache.streampipes.model.staticproperty.StaticPropertyGroup;
 import org.apache.streampipes.sdk.StaticProperties;
 import org.apache.streampipes.sdk.builder.adapter.AdapterConfigurationBuilder;
 import org.apache.streampipes.sdk.helpers.Alternatives;
@@ -57,6 +60,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,9 +70,15 @@ import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.ADAPTER_TYPE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.DEADBAND_TYPE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.DEADBAND_VALUE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PUBLISHING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PULLING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PULL_MODE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.QUEUE_SIZE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.SAMPLING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.SUBSCRIPTION_MODE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.SUBSCRIPTION_SETTINGS;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaUtil.getSchema;
 
 public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsRuntimeConfig {
@@ -89,7 +99,7 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
   /**
    * This variable is used to map the node ids during the subscription to the labels of the nodes
    */
-  private final Map<String, String> nodeIdToLabelMapping;
+  private final Map<NodeId, String> nodeIdToLabelMapping;
 
   public OpcUaAdapter() {
     super();
@@ -124,13 +134,16 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
         this.pullingIntervalMilliSeconds = spOpcUaClient.getSpOpcConfig().getPullIntervalMilliSeconds();
       } else {
         this.numberProperties = this.allNodeIds.size();
-        this.spOpcUaClient.createListSubscription(this.allNodeIds, this);
+        this.allNodes.forEach(node -> this.nodeIdToLabelMapping.put(node.getNodeId(), node.getLabel()));
+        this.spOpcUaClient.createListSubscription(
+            this.allNodeIds,
+            this.spOpcUaClient.getSpOpcConfig().getSubscriptionSettings(),
+            this
+        );
       }
 
-      this.allNodes.forEach(node -> this.nodeIdToLabelMapping.put(node.getNodeId().toString(), node.getLabel()));
-
-
     } catch (Exception e) {
+      this.spOpcUaClient.disconnect();
       throw new AdapterException("The Connection to the OPC UA server could not be established.", e.getCause());
     }
   }
@@ -165,30 +178,27 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
     }
   }
 
-  public void onSubscriptionValue(UaMonitoredItem item,
-                                  DataValue value) {
-
-    String key = this.nodeIdToLabelMapping.get(item.getReadValueId().getNodeId().toString());
-
-    OpcNode currNode = this.allNodes.stream()
-        .filter(node -> key.equals(node.getLabel()))
-        .findFirst()
-        .orElse(null);
+  /**
+   * Handles all value changes received with one publish response and emits them as a single event.
+   */
+  public void onSubscriptionValues(List<UaMonitoredItem> items,
+                                   List<DataValue> values) {
 
-    if (currNode != null) {
-      event.put(currNode.getLabel(), value.getValue().getValue());
+    for (int i = 0; i < items.size(); i++) {
+      String label = this.nodeIdToLabelMapping.get(items.get(i).getReadValueId().getNodeId());
 
-      // ensure that event is complete and all opc ua subscriptions transmitted at least one value
-      if (event.keySet().size() >= this.numberProperties) {
-        Map<String, Object> newEvent = new HashMap<>();
-        // deep copy of event to prevent preprocessor error
-        for (String k : event.keySet()) {
-          newEvent.put(k, event.get(k));
-        }
-        collector.collect(newEvent);
+      if (label != null) {
+        event.put(label, values.get(i).getValue().getValue());
+      } else {
+        LOG.error("No value is added, because subscription item {} could not be found within all nodes",
+            items.get(i));
       }
-    } else {
-      LOG.error("No event is produced, because subscription item {} could not be found within all nodes", item);
+    }
+
+    // ensure that event is complete and all opc ua subscriptions transmitted at least one value
+    if (event.keySet().size() >= this.numberProperties) {
+      // copy of event to prevent preprocessor error
+      collector.collect(new HashMap<>(event));
     }
   }
 
@@ -231,7 +241,7 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
 
   @Override
   public IAdapterConfiguration declareConfig() {
-    var builder = AdapterConfigurationBuilder.create(ID, 2, OpcUaAdapter::new)
+    var builder = AdapterConfigurationBuilder.create(ID, 3, OpcUaAdapter::new)
         .withAssets(Assets.DOCUMENTATION, Assets.ICON)
         .withLocales(Locales.EN)
         .withCategory(AdapterType.Generic, AdapterType.Manufacturing)
@@ -239,11 +249,33 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
             Alternatives.from(Labels.withId(PULL_MODE),
                 StaticProperties.integerFreeTextProperty(
                     Labels.withId(PULLING_INTERVAL))),
-            Alternatives.from(Labels.withId(SUBSCRIPTION_MODE)));
+            Alternatives.from(Labels.withId(SUBSCRIPTION_MODE), makeSubscriptionSettings()));
     SharedUserConfiguration.appendSharedOpcUaConfig(builder, true);
     return builder.buildConfiguration();
   }
 
+  /**
+   * Creates the configuration of the subscription mode, initialized with the default subscription settings.
+   */
+  public static StaticPropertyGroup makeSubscriptionSettings() {
+    var deadbandValue = StaticProperties.doubleFreeTextProperty(Labels.withId(DEADBAND_VALUE));
+    deadbandValue.setValue("0.0");
+
+    return StaticProperties.group(
+        Labels.withId(SUBSCRIPTION_SETTINGS),
+        StaticProperties.integerFreeTextProperty(
+            Labels.withId(PUBLISHING_INTERVAL), OpcUaSubscriptionSettings.DEFAULT_PUBLISHING_INTERVAL),
+        StaticProperties.integerFreeTextProperty(
+            Labels.withId(SAMPLING_INTERVAL), OpcUaSubscriptionSettings.DEFAULT_SAMPLING_INTERVAL),
+        StaticProperties.integerFreeTextProperty(
+            Labels.withId(QUEUE_SIZE), OpcUaSubscriptionSettings.DEFAULT_QUEUE_SIZE),
+        StaticProperties.singleValueSelection(
+            Labels.withId(DEADBAND_TYPE),
+            Arrays.asList(new Option("None", true), new Option("Absolute"), new Option("Percent"))),
+        deadbandValue
+    );
+  }
+
 
   @Override
   public GuessSchema onSchemaRequested(IAdapterParameterExtractor extractor,
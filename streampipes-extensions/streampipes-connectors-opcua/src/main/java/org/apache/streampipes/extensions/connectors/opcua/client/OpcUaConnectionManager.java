@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.connectors.opcua.client;
+
+import org.apache.streampipes.commons.exceptions.SpConfigurationException;
+import org.apache.streampipes.extensions.connectors.opcua.config.MiloOpcUaConfigurationProvider;
+import org.apache.streampipes.extensions.connectors.opcua.config.OpcUaConfig;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Shares OPC UA sessions between all adapters, sinks and configuration requests of this service.
+ * <p>
+ * One client is connected per server URL and identity. Each user acquires the client and releases it once it is no
+ * longer needed, the session is closed when the last user released it. Users must not disconnect the acquired
+ * client themselves and must remove the subscriptions they created before releasing it.
+ */
+public class OpcUaConnectionManager {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OpcUaConnectionManager.class);
+
+  private static final class SharedManager {
+    private static final OpcUaConnectionManager INSTANCE =
+        new OpcUaConnectionManager(OpcUaConnectionManager::connectClient);
+  }
+
+  private final ClientFactory clientFactory;
+
+  // guarded by this
+  private final Map<ConnectionKey, SharedConnection> connections = new HashMap<>();
+
+  OpcUaConnectionManager(ClientFactory clientFactory) {
+    this.clientFactory = clientFactory;
+  }
+
+  public static OpcUaConnectionManager getInstance() {
+    return SharedManager.INSTANCE;
+  }
+
+  /**
+   * Returns the connected client for the server and identity of the given config, connecting a new client if no
+   * other user holds one.
+   *
+   * @param config The OPC UA config to connect with
+   * @return A connected client, which must be released with {@link #release(OpcUaConfig)}
+   */
+  public OpcUaClient acquire(OpcUaConfig config)
+      throws UaException, ExecutionException, InterruptedException, SpConfigurationException, URISyntaxException {
+    var key = ConnectionKey.from(config);
+    SharedConnection connection;
+    boolean connect = false;
+
+    synchronized (this) {
+      connection = connections.get(key);
+      if (connection == null) {
+        connection = new SharedConnection();
+        connections.put(key, connection);
+        connect = true;
+      }
+      connection.references++;
+    }
+
+    if (connect) {
+      try {
+        var client = clientFactory.connect(config);
+        LOG.info("Connected shared OPC UA session to {}", config.getOpcServerURL());
+        connection.client.complete(client);
+        return client;
+      } catch (Exception e) {
+        connection.client.completeExceptionally(e);
+        discard(key, connection);
+        throw e;
+      }
+    }
+
+    try {
+      return connection.client.get();
+    } catch (ExecutionException | InterruptedException e) {
+      release(key, connection);
+      throw e;
+    }
+  }
+
+  /**
+   * Releases a client acquired with {@link #acquire(OpcUaConfig)}, the client is disconnected once it is released by
+   * all users.
+   *
+   * @param config The OPC UA config the client was acquired with
+   */
+  public void release(OpcUaConfig config) {
+    var key = ConnectionKey.from(config);
+    SharedConnection connection;
+    synchronized (this) {
+      connection = connections.get(key);
+    }
+    if (connection != null) {
+      release(key, connection);
+    }
+  }
+
+  synchronized int getConnectionCount() {
+    return connections.size();
+  }
+
+  private void release(ConnectionKey key,
+                       SharedConnection connection) {
+    synchronized (this) {
+      connection.references--;
+      if (connection.references > 0) {
+        return;
+      }
+      connections.remove(key, connection);
+    }
+
+    var client = connection.client.getNow(null);
+    if (client != null) {
+      LOG.info("Disconnecting shared OPC UA session from {}", key.serverUrl());
+      client.disconnect();
+    }
+  }
+
+  private synchronized void discard(ConnectionKey key,
+                                    SharedConnection connection) {
+    connections.remove(key, connection);
+  }
+
+  private static OpcUaClient connectClient(OpcUaConfig config)
+      throws UaException, ExecutionException, InterruptedException, SpConfigurationException, URISyntaxException {
+    var client = OpcUaClient.create(new MiloOpcUaConfigurationProvider().makeClientConfig(config));
+    client.connect().get();
+    return client;
+  }
+
+  @FunctionalInterface
+  interface ClientFactory {
+    OpcUaClient connect(OpcUaConfig config)
+        throws UaException, ExecutionException, InterruptedException, SpConfigurationException, URISyntaxException;
+  }
+
+  private static final class SharedConnection {
+    private final CompletableFuture<OpcUaClient> client = new CompletableFuture<>();
+    private int references;
+  }
+
+  private record ConnectionKey(String serverUrl,
+                               boolean unauthenticated,
+                               String username,
+                               String password) {
+
+    static ConnectionKey from(OpcUaConfig config) {
+      return config.isUnauthenticated()
+          ? new ConnectionKey(config.getOpcServerURL(), true, null, null)
+          : new ConnectionKey(config.getOpcServerURL(), false, config.getUsername(), config.getPassword());
+    }
+
+    @Override
+    public String toString() {
+      return serverUrl;
+    }
+  }
+}
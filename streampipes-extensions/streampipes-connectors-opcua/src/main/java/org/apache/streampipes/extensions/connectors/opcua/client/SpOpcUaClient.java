@@ -21,23 +21,24 @@ package org.apache.streampipes.extensions.connectors.opcua.client;
 
 import org.apache.streampipes.commons.exceptions.SpConfigurationException;
 import org.apache.streampipes.extensions.connectors.opcua.adapter.OpcUaAdapter;
-import org.apache.streampipes.extensions.connectors.opcua.config.MiloOpcUaConfigurationProvider;
 import org.apache.streampipes.extensions.connectors.opcua.config.OpcUaConfig;
+import org.apache.streampipes.extensions.connectors.opcua.config.OpcUaSubscriptionSettings;
 
 import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
-import org.eclipse.milo.opcua.sdk.client.api.config.OpcUaClientConfig;
 import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaMonitoredItem;
 import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
-import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscriptionManager;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
-import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DataChangeTrigger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringParameters;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
@@ -47,9 +48,7 @@ import org.slf4j.LoggerFactory;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
@@ -60,10 +59,13 @@ public class SpOpcUaClient<T extends OpcUaConfig> {
 
   private static final Logger LOG = LoggerFactory.getLogger(SpOpcUaClient.class);
 
+  // servers limit the number of operations per service call, so monitored items are created in chunks
+  private static final int MAX_MONITORED_ITEMS_PER_REQUEST = 1000;
+
   private OpcUaClient client;
   private final T spOpcConfig;
 
-  private static final AtomicLong clientHandles = new AtomicLong(1L);
+  private UaSubscription subscription;
 
   public SpOpcUaClient(T config) {
     this.spOpcConfig = config;
@@ -78,107 +80,146 @@ public class SpOpcUaClient<T extends OpcUaConfig> {
   }
 
   /***
-   * Establishes appropriate connection to OPC UA endpoint depending on the {@link SpOpcUaClient} instance
+   * Establishes appropriate connection to OPC UA endpoint depending on the {@link SpOpcUaClient} instance.
+   * The session is shared with all other clients connecting to the same server with the same identity.
    *
    * @throws UaException An exception occurring during OPC connection
    */
   public void connect()
       throws UaException, ExecutionException, InterruptedException, SpConfigurationException, URISyntaxException {
-    OpcUaClientConfig clientConfig = new MiloOpcUaConfigurationProvider().makeClientConfig(spOpcConfig);
-    this.client = OpcUaClient.create(clientConfig);
-    client.connect().get();
+    this.client = OpcUaConnectionManager.getInstance().acquire(spOpcConfig);
   }
 
+  /***
+   * Deletes the subscription created by this client and releases the shared session.
+   */
   public void disconnect() {
-    client.disconnect();
+    if (client == null) {
+      return;
+    }
+    deleteSubscription();
+    OpcUaConnectionManager.getInstance().release(spOpcConfig);
+    client = null;
   }
 
   /***
    * Register subscriptions for given OPC UA nodes
    * @param nodes List of {@link org.eclipse.milo.opcua.stack.core.types.builtin.NodeId}
+   * @param settings the settings of the subscription and its monitored items
    * @param opcUaAdapter current instance of {@link OpcUaAdapter}
    * @throws Exception
    */
   public void createListSubscription(List<NodeId> nodes,
+                                     OpcUaSubscriptionSettings settings,
                                      OpcUaAdapter opcUaAdapter) throws Exception {
-    client.getSubscriptionManager().addSubscriptionListener(new UaSubscriptionManager.SubscriptionListener() {
+    checkInitialValues(nodes);
+    initSubscription(nodes, settings, opcUaAdapter);
+  }
+
+  public void initSubscription(List<NodeId> nodes,
+                               OpcUaSubscriptionSettings settings,
+                               OpcUaAdapter opcUaAdapter) throws Exception {
+    UaSubscription subscription = this.client
+        .getSubscriptionManager()
+        .createSubscription(settings.getPublishingIntervalMilliSeconds())
+        .get();
+
+    subscription.addNotificationListener(new UaSubscription.NotificationListener() {
+      @Override
+      public void onDataChangeNotification(UaSubscription subscription,
+                                           List<UaMonitoredItem> monitoredItems,
+                                           List<DataValue> dataValues,
+                                           DateTime publishTime) {
+        // all value changes of one publish response are handed over at once
+        opcUaAdapter.onSubscriptionValues(monitoredItems, dataValues);
+      }
+
       @Override
       public void onSubscriptionTransferFailed(UaSubscription subscription, StatusCode statusCode) {
         LOG.warn("Transfer for subscriptionId={} failed: {}", subscription.getSubscriptionId(), statusCode);
         try {
-          initSubscription(nodes, opcUaAdapter);
+          initSubscription(nodes, settings, opcUaAdapter);
         } catch (Exception e) {
           LOG.error("Re-creating the subscription failed", e);
         }
       }
     });
+    this.subscription = subscription;
 
-    initSubscription(nodes, opcUaAdapter);
-  }
-
-
-  public void initSubscription(List<NodeId> nodes,
-                               OpcUaAdapter opcUaAdapter) throws Exception {
-    /*
-     * create a subscription @ 1000ms
-     */
-    UaSubscription subscription = this.client.getSubscriptionManager().createSubscription(1000.0).get();
-
-    List<CompletableFuture<DataValue>> values = new ArrayList<>();
-
-    for (NodeId node : nodes) {
-      values.add(this.client.readValue(0, TimestampsToReturn.Both, node));
-    }
-
-    for (CompletableFuture<DataValue> value : values) {
-      if (value.get().getValue().toString().contains("null")) {
-        LOG.error("Node has no value");
-      }
-    }
-
-
-    List<ReadValueId> readValues = new ArrayList<>();
-    // Read a specific value attribute
-    for (NodeId node : nodes) {
-      readValues.add(new ReadValueId(node, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE));
-    }
-
+    ExtensionObject filter = makeFilter(settings);
     List<MonitoredItemCreateRequest> requests = new ArrayList<>();
 
-    for (ReadValueId readValue : readValues) {
+    for (NodeId node : nodes) {
       // important: client handle must be unique per item
-      UInteger clientHandle = uint(clientHandles.getAndIncrement());
-
       MonitoringParameters parameters = new MonitoringParameters(
-          clientHandle,
-          1000.0,     // sampling interval
-          null,      // filter, null means use default
-          uint(10),   // queue size
+          subscription.nextClientHandle(),
+          settings.getSamplingIntervalMilliSeconds(),
+          filter,
+          uint(settings.getQueueSize()),
           true         // discard oldest
       );
 
+      var readValue = new ReadValueId(node, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
       requests.add(new MonitoredItemCreateRequest(readValue, MonitoringMode.Reporting, parameters));
     }
 
-    UaSubscription.ItemCreationCallback onItemCreated =
-        (item, i) -> item.setValueConsumer(opcUaAdapter::onSubscriptionValue);
-    List<UaMonitoredItem> items = subscription.createMonitoredItems(
-        TimestampsToReturn.Both,
-        requests,
-        onItemCreated
-    ).get();
-
-    for (UaMonitoredItem item : items) {
-      NodeId tagId = item.getReadValueId().getNodeId();
-      if (item.getStatusCode().isGood()) {
-        LOG.info("item created for nodeId=" + tagId);
-      } else {
-        LOG.error("failed to create item for " + item.getReadValueId().getNodeId() + item.getStatusCode());
+    int createdItems = 0;
+    for (int i = 0; i < requests.size(); i += MAX_MONITORED_ITEMS_PER_REQUEST) {
+      var chunk = requests.subList(i, Math.min(i + MAX_MONITORED_ITEMS_PER_REQUEST, requests.size()));
+      List<UaMonitoredItem> items = subscription.createMonitoredItems(TimestampsToReturn.Both, chunk).get();
+
+      for (UaMonitoredItem item : items) {
+        if (item.getStatusCode().isGood()) {
+          createdItems++;
+        } else {
+          LOG.error("failed to create item for " + item.getReadValueId().getNodeId() + item.getStatusCode());
+        }
       }
     }
+    LOG.info("Created {} of {} monitored items for subscriptionId={}",
+        createdItems, requests.size(), subscription.getSubscriptionId());
   }
 
   public T getSpOpcConfig() {
     return spOpcConfig;
   }
+
+  /***
+   * Reads the initial values of all nodes with a single request and logs nodes without a value.
+   */
+  private void checkInitialValues(List<NodeId> nodes) throws ExecutionException, InterruptedException {
+    List<DataValue> values = this.client.readValues(0, TimestampsToReturn.Both, nodes).get();
+
+    for (int i = 0; i < values.size(); i++) {
+      if (values.get(i).getValue().isNull()) {
+        LOG.error("Node {} has no value", nodes.get(i));
+      }
+    }
+  }
+
+  private ExtensionObject makeFilter(OpcUaSubscriptionSettings settings) {
+    if (!settings.hasDeadband()) {
+      // null means use default
+      return null;
+    }
+    var filter = new DataChangeFilter(
+        DataChangeTrigger.StatusValue,
+        uint(settings.getDeadbandType().getValue()),
+        settings.getDeadbandValue()
+    );
+    return ExtensionObject.encode(client.getStaticSerializationContext(), filter);
+  }
+
+  private void deleteSubscription() {
+    if (subscription != null) {
+      try {
+        client.getSubscriptionManager().deleteSubscription(subscription.getSubscriptionId()).get();
+      } catch (ExecutionException e) {
+        LOG.warn("Could not delete subscriptionId={}", subscription.getSubscriptionId(), e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      subscription = null;
+    }
+  }
 }
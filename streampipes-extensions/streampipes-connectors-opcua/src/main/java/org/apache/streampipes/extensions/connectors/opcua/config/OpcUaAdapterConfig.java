@@ -21,6 +21,7 @@ package org.apache.streampipes.extensions.connectors.opcua.config;
 public class OpcUaAdapterConfig extends OpcUaConfig {
 
   private Integer pullIntervalMilliSeconds;
+  private OpcUaSubscriptionSettings subscriptionSettings = new OpcUaSubscriptionSettings();
 
   public Integer getPullIntervalMilliSeconds() {
     return pullIntervalMilliSeconds;
@@ -30,6 +31,14 @@ public class OpcUaAdapterConfig extends OpcUaConfig {
     this.pullIntervalMilliSeconds = pullIntervalMilliSeconds;
   }
 
+  public OpcUaSubscriptionSettings getSubscriptionSettings() {
+    return subscriptionSettings;
+  }
+
+  public void setSubscriptionSettings(OpcUaSubscriptionSettings subscriptionSettings) {
+    this.subscriptionSettings = subscriptionSettings;
+  }
+
   public boolean inPullMode() {
     return pullIntervalMilliSeconds != null;
   }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.connectors.opcua.config;
+
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DeadbandType;
+
+/**
+ * Settings of the subscription and monitored items created in subscription mode.
+ */
+public class OpcUaSubscriptionSettings {
+
+  public static final int DEFAULT_PUBLISHING_INTERVAL = 1000;
+  public static final int DEFAULT_SAMPLING_INTERVAL = 1000;
+  public static final int DEFAULT_QUEUE_SIZE = 10;
+
+  private double publishingIntervalMilliSeconds = DEFAULT_PUBLISHING_INTERVAL;
+  private double samplingIntervalMilliSeconds = DEFAULT_SAMPLING_INTERVAL;
+  private int queueSize = DEFAULT_QUEUE_SIZE;
+  private DeadbandType deadbandType = DeadbandType.None;
+  private double deadbandValue = 0.0;
+
+  public double getPublishingIntervalMilliSeconds() {
+    return publishingIntervalMilliSeconds;
+  }
+
+  public void setPublishingIntervalMilliSeconds(double publishingIntervalMilliSeconds) {
+    this.publishingIntervalMilliSeconds = publishingIntervalMilliSeconds;
+  }
+
+  public double getSamplingIntervalMilliSeconds() {
+    return samplingIntervalMilliSeconds;
+  }
+
+  public void setSamplingIntervalMilliSeconds(double samplingIntervalMilliSeconds) {
+    this.samplingIntervalMilliSeconds = samplingIntervalMilliSeconds;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  public void setQueueSize(int queueSize) {
+    this.queueSize = queueSize;
+  }
+
+  public DeadbandType getDeadbandType() {
+    return deadbandType;
+  }
+
+  public void setDeadbandType(DeadbandType deadbandType) {
+    this.deadbandType = deadbandType;
+  }
+
+  public double getDeadbandValue() {
+    return deadbandValue;
+  }
+
+  public void setDeadbandValue(double deadbandValue) {
+    this.deadbandValue = deadbandValue;
+  }
+
+  public boolean hasDeadband() {
+    return deadbandType != DeadbandType.None;
+  }
+}
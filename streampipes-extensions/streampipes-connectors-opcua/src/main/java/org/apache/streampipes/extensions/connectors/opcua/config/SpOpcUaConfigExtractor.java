@@ -22,19 +22,26 @@ import org.apache.streampipes.extensions.api.extractor.IParameterExtractor;
 import org.apache.streampipes.extensions.api.extractor.IStaticPropertyExtractor;
 import org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaUtil;
 
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DeadbandType;
+
 import java.util.List;
 
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.ACCESS_MODE;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.ADAPTER_TYPE;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.AVAILABLE_NODES;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.DEADBAND_TYPE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.DEADBAND_VALUE;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.OPC_HOST_OR_URL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.OPC_SERVER_HOST;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.OPC_SERVER_PORT;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.OPC_SERVER_URL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.OPC_URL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PASSWORD;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PUBLISHING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PULLING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PULL_MODE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.QUEUE_SIZE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.SAMPLING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.UNAUTHENTICATED;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.USERNAME;
 
@@ -57,11 +64,27 @@ public class SpOpcUaConfigExtractor {
           extractor.singleValueParameter(PULLING_INTERVAL.name(), Integer.class);
 
       config.setPullIntervalMilliSeconds(pullIntervalSeconds);
+    } else {
+      config.setSubscriptionSettings(extractSubscriptionSettings(extractor));
     }
 
     return config;
   }
 
+  private static OpcUaSubscriptionSettings extractSubscriptionSettings(IStaticPropertyExtractor extractor) {
+    var settings = new OpcUaSubscriptionSettings();
+
+    settings.setPublishingIntervalMilliSeconds(
+        extractor.singleValueParameter(PUBLISHING_INTERVAL.name(), Integer.class));
+    settings.setSamplingIntervalMilliSeconds(
+        extractor.singleValueParameter(SAMPLING_INTERVAL.name(), Integer.class));
+    settings.setQueueSize(extractor.singleValueParameter(QUEUE_SIZE.name(), Integer.class));
+    settings.setDeadbandType(DeadbandType.valueOf(extractor.selectedSingleValue(DEADBAND_TYPE.name(), String.class)));
+    settings.setDeadbandValue(extractor.singleValueParameter(DEADBAND_VALUE.name(), Double.class));
+
+    return settings;
+  }
+
   public static OpcUaConfig extractSinkConfig(IParameterExtractor extractor) {
     return extractSharedConfig(extractor, new OpcUaConfig());
   }
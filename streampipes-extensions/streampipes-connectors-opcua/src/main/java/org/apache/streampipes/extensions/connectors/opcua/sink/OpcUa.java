@@ -20,6 +20,7 @@ package org.apache.streampipes.extensions.connectors.opcua.sink;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.extensions.connectors.opcua.client.SpOpcUaClient;
+import org.apache.streampipes.extensions.connectors.opcua.config.OpcUaConfig;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.runtime.field.PrimitiveField;
 import org.apache.streampipes.vocabulary.XSD;
@@ -42,6 +43,7 @@ public class OpcUa {
 
   private static final Logger LOG = LoggerFactory.getLogger(OpcUa.class);
 
+  private SpOpcUaClient<OpcUaConfig> spOpcUaClient;
   private OpcUaClient opcUaClient;
   private OpcUaParameters params;
 
@@ -79,8 +81,9 @@ public class OpcUa {
     try {
       this.params = params;
       this.node = NodeId.parse(params.getSelectedNode());
-      opcUaClient = new SpOpcUaClient<>(params.getConfig()).getClient();
-      opcUaClient.connect().get();
+      spOpcUaClient = new SpOpcUaClient<>(params.getConfig());
+      spOpcUaClient.connect();
+      opcUaClient = spOpcUaClient.getClient();
 
     } catch (Exception e) {
       throw new SpRuntimeException("Could not connect to OPC-UA server: " + params.getConfig().getOpcServerURL());
@@ -134,7 +137,7 @@ public class OpcUa {
   }
 
   public void onDetach() throws SpRuntimeException {
-    opcUaClient.disconnect();
+    spOpcUaClient.disconnect();
   }
 
   private Variant getValue(Event inputEvent) {
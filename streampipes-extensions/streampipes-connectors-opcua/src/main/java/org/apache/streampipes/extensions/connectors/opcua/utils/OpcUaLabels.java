@@ -41,5 +41,11 @@ public enum OpcUaLabels {
   ADAPTER_TYPE,
   PULL_MODE,
   SUBSCRIPTION_MODE,
+  SUBSCRIPTION_SETTINGS,
+  PUBLISHING_INTERVAL,
+  SAMPLING_INTERVAL,
+  QUEUE_SIZE,
+  DEADBAND_TYPE,
+  DEADBAND_VALUE,
   MAPPING_PROPERY;
 }
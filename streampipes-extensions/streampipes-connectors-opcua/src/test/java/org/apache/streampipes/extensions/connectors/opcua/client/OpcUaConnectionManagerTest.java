@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.connectors.opcua.client;
+
+import org.apache.streampipes.extensions.connectors.opcua.config.OpcUaConfig;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class OpcUaConnectionManagerTest {
+
+  private static final String SERVER_URL = "opc.tcp://example.com:4840";
+
+  private final AtomicInteger connects = new AtomicInteger();
+
+  @Test
+  public void testSharesSessionForSameServerAndIdentity() throws Exception {
+    var client = mock(OpcUaClient.class);
+    var manager = new OpcUaConnectionManager(config -> connect(client));
+
+    var first = manager.acquire(makeConfig(SERVER_URL, "user"));
+    var second = manager.acquire(makeConfig(SERVER_URL, "user"));
+
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(1, connects.get());
+    Assertions.assertEquals(1, manager.getConnectionCount());
+  }
+
+  @Test
+  public void testOpensSessionPerIdentity() throws Exception {
+    var manager = new OpcUaConnectionManager(config -> connect(mock(OpcUaClient.class)));
+
+    var first = manager.acquire(makeConfig(SERVER_URL, "user"));
+    var second = manager.acquire(makeConfig(SERVER_URL, "other"));
+    var third = manager.acquire(makeConfig("opc.tcp://other.com:4840", "user"));
+
+    Assertions.assertNotSame(first, second);
+    Assertions.assertNotSame(first, third);
+    Assertions.assertEquals(3, manager.getConnectionCount());
+  }
+
+  @Test
+  public void testDisconnectsAfterLastRelease() throws Exception {
+    var client = mock(OpcUaClient.class);
+    var manager = new OpcUaConnectionManager(config -> connect(client));
+    var config = makeConfig(SERVER_URL, "user");
+
+    manager.acquire(config);
+    manager.acquire(config);
+
+    manager.release(config);
+    verify(client, never()).disconnect();
+
+    manager.release(config);
+    verify(client, times(1)).disconnect();
+    Assertions.assertEquals(0, manager.getConnectionCount());
+
+    manager.acquire(config);
+    Assertions.assertEquals(2, connects.get());
+  }
+
+  @Test
+  public void testDoesNotKeepFailedConnections() throws Exception {
+    var client = mock(OpcUaClient.class);
+    var failing = new AtomicInteger(1);
+    var manager = new OpcUaConnectionManager(config -> {
+      if (failing.getAndDecrement() > 0) {
+        throw new UaException(StatusCodes.Bad_Timeout);
+      }
+      return connect(client);
+    });
+    var config = makeConfig(SERVER_URL, "user");
+
+    Assertions.assertThrows(UaException.class, () -> manager.acquire(config));
+    Assertions.assertEquals(0, manager.getConnectionCount());
+    Assertions.assertSame(client, manager.acquire(config));
+  }
+
+  private OpcUaClient connect(OpcUaClient client) {
+    connects.incrementAndGet();
+    return client;
+  }
+
+  private OpcUaConfig makeConfig(String serverUrl,
+                                 String username) {
+    var config = new OpcUaConfig();
+    config.setOpcServerURL(serverUrl);
+    config.setUsername(username);
+    config.setPassword("password");
+    return config;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.connectors.opcua.migration;
+
+import org.apache.streampipes.extensions.api.extractor.IStaticPropertyExtractor;
+import org.apache.streampipes.extensions.connectors.opcua.migration.config.OpcUaAdapterVersionedConfig;
+import org.apache.streampipes.model.staticproperty.StaticPropertyGroup;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.SUBSCRIPTION_SETTINGS;
+import static org.mockito.Mockito.mock;
+
+public class OpcUaAdapterMigrationV3Test {
+
+  private OpcUaAdapterMigrationV3 migrationV3;
+
+  @BeforeEach
+  public void setUp() {
+    migrationV3 = new OpcUaAdapterMigrationV3();
+  }
+
+  @Test
+  public void testOPCUAAdapterMigrationV3() {
+    var adapterDescription = OpcUaAdapterVersionedConfig.getOpcUaAdapterDescriptionV1();
+    var extractorMock = mock(IStaticPropertyExtractor.class);
+
+    var migratedDescription = migrationV3.migrate(adapterDescription, extractorMock)
+                                         .element();
+
+    var subscriptionSettings = migrationV3
+        .extractSubscriptionModeAlternative(migratedDescription)
+        .getStaticProperty();
+
+    Assertions.assertInstanceOf(StaticPropertyGroup.class, subscriptionSettings);
+    Assertions.assertEquals(SUBSCRIPTION_SETTINGS.name(), subscriptionSettings.getInternalName());
+    Assertions.assertEquals(5, ((StaticPropertyGroup) subscriptionSettings).getStaticProperties().size());
+  }
+}
@@ -26,7 +26,9 @@ import org.apache.streampipes.sinks.databases.jvm.couchdb.CouchDbSink;
 import org.apache.streampipes.sinks.databases.jvm.ditto.DittoSink;
 import org.apache.streampipes.sinks.databases.jvm.iotdb.IotDbSink;
 import org.apache.streampipes.sinks.databases.jvm.postgresql.PostgreSqlSink;
+import org.apache.streampipes.sinks.databases.jvm.postgresql.migrations.PostgreSqlSinkMigrationV1;
 import org.apache.streampipes.sinks.databases.jvm.redis.RedisSink;
+import org.apache.streampipes.sinks.databases.jvm.redis.migrations.RedisSinkMigrationV1;
 
 import java.util.Collections;
 import java.util.List;
@@ -50,6 +52,9 @@ public class DatabaseSinksExtensionModuleExport implements IExtensionModuleExpor
 
   @Override
   public List<IModelMigrator<?, ?>> migrators() {
-    return Collections.emptyList();
+    return List.of(
+        new PostgreSqlSinkMigrationV1(),
+        new RedisSinkMigrationV1()
+    );
   }
 }
@@ -21,27 +21,51 @@ package org.apache.streampipes.sinks.databases.jvm.jdbcclient;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.CompiledInsertStatement;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.DbDescription;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcBatchParameters;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcConnectionParameters;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcWriteMode;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.StatementHandler;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.SupportedDbEngines;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.TableDescription;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.utils.SQLStatementUtils;
 
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class JdbcClient {
 
   private static final Logger LOG = LoggerFactory.getLogger(JdbcClient.class);
 
+  private static final int CONNECTION_VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private static final class FlushScheduler {
+    // a flush blocks on the database, so slow databases must not delay the flushes of all other sinks
+    private static final ScheduledExecutorService INSTANCE = makeFlushScheduler(
+        Math.max(2, Runtime.getRuntime().availableProcessors()));
+  }
+
   protected DbDescription dbDescription;
 
   protected TableDescription tableDescription;
@@ -50,6 +74,17 @@ public class JdbcClient {
 
   protected StatementHandler statementHandler;
 
+  /**
+   * The batch settings, null if events are written one by one with {@link JdbcClient#save(Event)}
+   */
+  protected JdbcBatchParameters batchParameters;
+
+  private CompiledInsertStatement compiledInsertStatement;
+  private PreparedStatement batchStatement;
+  private final List<Map<String, Object>> batch = new ArrayList<>();
+  private ScheduledFuture<?> flushTask;
+  private String connectionUrl;
+
   /**
    * A wrapper class for all supported SQL data types (INT, BIGINT, FLOAT, DOUBLE, VARCHAR(255)).
    * If no matching type is found, it is interpreted as a String (VARCHAR(255))
@@ -57,6 +92,42 @@ public class JdbcClient {
   public JdbcClient() {
   }
 
+  /**
+   * Initializes the connection for batched writes with {@link JdbcClient#saveBatched(Event)}. The INSERT statement is
+   * compiled once from the event schema, buffered events are written when the batch is full or when the flush
+   * interval has elapsed.
+   */
+  protected void initializeJdbc(EventSchema eventSchema,
+                                JdbcConnectionParameters connectionParameters,
+                                SupportedDbEngines dbEngine,
+                                JdbcBatchParameters batchParameters) throws SpRuntimeException {
+    this.batchParameters = batchParameters;
+    initializeJdbc(eventSchema, connectionParameters, dbEngine);
+    startBatchedWrites();
+  }
+
+  /**
+   * Compiles the INSERT statement for the connected table and schedules the periodic flush.
+   */
+  void startBatchedWrites() throws SpRuntimeException {
+    this.compiledInsertStatement = new CompiledInsertStatement(this.tableDescription, this.dbDescription);
+    var dbEngine = this.dbDescription.getEngine();
+    if (batchParameters.getWriteMode() == JdbcWriteMode.COPY && dbEngine != SupportedDbEngines.POSTGRESQL) {
+      LOG.warn("COPY is not supported by {}, batches are written with INSERT statements", dbEngine);
+    }
+    try {
+      connection.setAutoCommit(false);
+    } catch (SQLException e) {
+      throw new SpRuntimeException("Could not disable auto-commit: " + e.getMessage());
+    }
+    long flushInterval = batchParameters.getFlushIntervalMillis();
+    this.flushTask = FlushScheduler.INSTANCE.scheduleAtFixedRate(
+        this::flushQuietly,
+        flushInterval,
+        flushInterval,
+        TimeUnit.MILLISECONDS);
+  }
+
   protected void initializeJdbc(EventSchema eventSchema,
                                 JdbcConnectionParameters connectionParameters,
                                 SupportedDbEngines dbEngine) throws SpRuntimeException {
@@ -170,8 +241,8 @@ public class JdbcClient {
   protected void ensureTableExists(String url, String databaseName) throws SpRuntimeException {
     try {
       // Database should exist by now so we can establish a connection
-      connection = DriverManager.getConnection(url + databaseName, this.dbDescription.getUsername(),
-          this.dbDescription.getPassword());
+      this.connectionUrl = url + databaseName;
+      connection = openConnection();
       this.statementHandler.setStatement(connection.createStatement());
       ResultSet rs = connection.getMetaData().getTables(null, null, this.tableDescription.getName(), null);
       if (rs.next()) {
@@ -233,6 +304,176 @@ public class JdbcClient {
     }
   }
 
+  /**
+   * Adds the event to the current batch, the batch is written once it reaches the configured batch size.
+   *
+   * @param event The event which should be saved to the table
+   * @throws SpRuntimeException When the batch could not be written
+   */
+  protected synchronized void saveBatched(final Event event) throws SpRuntimeException {
+    if (event == null) {
+      throw new SpRuntimeException("event is null");
+    }
+    batch.add(event.getRaw());
+    if (batch.size() >= batchParameters.getBatchSize()) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes all buffered events to the table.
+   *
+   * @throws SpRuntimeException When the batch could not be written, the events of the batch are discarded
+   */
+  public synchronized void flush() throws SpRuntimeException {
+    if (batch.isEmpty()) {
+      return;
+    }
+    var rows = new ArrayList<>(batch);
+    batch.clear();
+    try {
+      writeBatch(rows);
+    } catch (SQLException e) {
+      rollbackQuietly();
+      if (e.getSQLState() != null && e.getSQLState().startsWith("42")) {
+        // see save(Event), the table got deleted and is recreated
+        LOG.warn("Table '" + this.tableDescription.getName() + "' was unexpectedly not found and gets recreated.");
+        this.tableDescription.setTableMissing();
+        createTable();
+        this.tableDescription.setTableExists();
+      } else if (!isConnectionValid()) {
+        LOG.warn("Connection to the database was lost, reconnecting...");
+        reconnect();
+      } else {
+        throw new SpRuntimeException("Could not write " + rows.size() + " events: " + e.getMessage());
+      }
+      try {
+        writeBatch(rows);
+      } catch (SQLException e1) {
+        rollbackQuietly();
+        throw new SpRuntimeException("Could not write " + rows.size() + " events: " + e1.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Stops the periodic flush and writes all buffered events, should be called before {@link JdbcClient#closeAll()}.
+   */
+  protected void closeBatchedWrites() {
+    if (flushTask != null) {
+      flushTask.cancel(false);
+      flushTask = null;
+    }
+    flushQuietly();
+    synchronized (this) {
+      closeBatchStatement();
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      LOG.error(e.getMessage());
+    }
+  }
+
+  private void writeBatch(List<Map<String, Object>> rows) throws SQLException {
+    checkConnected();
+    if (batchParameters.getWriteMode() == JdbcWriteMode.COPY
+        && this.dbDescription.getEngine() == SupportedDbEngines.POSTGRESQL) {
+      copyBatch(rows);
+    } else {
+      insertBatch(rows);
+    }
+    connection.commit();
+  }
+
+  private void insertBatch(List<Map<String, Object>> rows) throws SQLException {
+    if (batchStatement == null) {
+      batchStatement = connection.prepareStatement(compiledInsertStatement.getInsertStatement());
+    }
+    for (Map<String, Object> row : rows) {
+      compiledInsertStatement.bind(batchStatement, row);
+      batchStatement.addBatch();
+    }
+    try {
+      batchStatement.executeBatch();
+    } finally {
+      batchStatement.clearBatch();
+    }
+  }
+
+  private void copyBatch(List<Map<String, Object>> rows) throws SQLException {
+    var csv = new StringBuilder();
+    rows.forEach(row -> compiledInsertStatement.appendCsvRow(csv, row));
+    copyIn(compiledInsertStatement.getCopyStatement(), csv.toString());
+  }
+
+  /**
+   * Streams the given CSV rows to the table with the PostgreSQL COPY protocol.
+   */
+  protected void copyIn(String copyStatement,
+                        String csv) throws SQLException {
+    try {
+      new CopyManager(connection.unwrap(BaseConnection.class)).copyIn(copyStatement, new StringReader(csv));
+    } catch (IOException e) {
+      throw new SQLException("Could not copy events: " + e.getMessage(), e);
+    }
+  }
+
+  private boolean isConnectionValid() {
+    try {
+      return connection != null && connection.isValid(CONNECTION_VALIDATION_TIMEOUT_SECONDS);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  private void reconnect() throws SpRuntimeException {
+    closeBatchStatement();
+    closeAll();
+    try {
+      connection = openConnection();
+      connection.setAutoCommit(false);
+      this.statementHandler.setStatement(connection.createStatement());
+    } catch (SQLException e) {
+      throw new SpRuntimeException("Could not reconnect to the server: " + e.getMessage());
+    }
+  }
+
+  protected Connection openConnection() throws SQLException {
+    var properties = new Properties();
+    properties.setProperty("user", this.dbDescription.getUsername());
+    properties.setProperty("password", this.dbDescription.getPassword());
+    if (batchParameters != null && this.dbDescription.getEngine() == SupportedDbEngines.POSTGRESQL) {
+      // lets the driver send batched inserts as multi-row INSERT statements
+      properties.setProperty("reWriteBatchedInserts", "true");
+    }
+    return DriverManager.getConnection(connectionUrl, properties);
+  }
+
+  private void rollbackQuietly() {
+    try {
+      if (connection != null) {
+        connection.rollback();
+      }
+    } catch (SQLException e) {
+      LOG.warn("Exception when rolling back the transaction: " + e.getMessage());
+    }
+  }
+
+  private void closeBatchStatement() {
+    try {
+      if (batchStatement != null) {
+        batchStatement.close();
+      }
+    } catch (SQLException e) {
+      LOG.warn("Exception when closing the batch statement: " + e.getMessage());
+    }
+    batchStatement = null;
+  }
+
   protected void createTable() throws SpRuntimeException {
     String createStatement = "CREATE TABLE ";
 
@@ -296,4 +537,16 @@ public class JdbcClient {
       throw new SpRuntimeException("Connection is not established.");
     }
   }
+
+  private static ScheduledExecutorService makeFlushScheduler(int threads) {
+    var threadCount = new AtomicInteger();
+    var scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+      var thread = new Thread(runnable, "jdbc-sink-flush-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    // flush tasks of detached sinks are removed instead of staying in the queue until their next run
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
 }
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.jdbcclient.model;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyNested;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.sdk.utils.Datatypes;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.utils.SQLStatementUtils;
+import org.apache.streampipes.vocabulary.XSD;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * An INSERT statement which is compiled once from the event schema of the input stream.
+ * <p>
+ * The columns are derived in the same way as in
+ * {@link SQLStatementUtils#extractEventProperties(List, String, DbDescription)}, so that they match the columns of a
+ * table created by {@link TableDescription#createTable(String, StatementHandler, DbDescription, TableDescription)}.
+ * Each column knows the path of its value within the event, so binding an event does not need to inspect the
+ * structure of the event.
+ */
+public class CompiledInsertStatement {
+
+  private final List<Column> columns;
+  private final String insertStatement;
+  private final String copyStatement;
+
+  public CompiledInsertStatement(TableDescription tableDescription,
+                                 DbDescription dbDescription) throws SpRuntimeException {
+    SQLStatementUtils.checkRegEx(tableDescription.getName(), "Tablename", dbDescription);
+    var columns = new ArrayList<Column>();
+    addColumns(tableDescription.getEventSchema().getEventProperties(), new ArrayList<>(), dbDescription, columns);
+    this.columns = Collections.unmodifiableList(columns);
+
+    String columnNames = this.columns.stream().map(Column::name).collect(Collectors.joining(", "));
+    String placeholders = this.columns.stream().map(c -> "?").collect(Collectors.joining(", "));
+    this.insertStatement = "INSERT INTO " + tableDescription.getName()
+        + " ( " + columnNames + " ) VALUES ( " + placeholders + " );";
+    this.copyStatement = "COPY " + tableDescription.getName()
+        + " ( " + columnNames + " ) FROM STDIN WITH (FORMAT csv)";
+  }
+
+  private void addColumns(List<EventProperty> properties,
+                          List<String> parentPath,
+                          DbDescription dbDescription,
+                          List<Column> columns) throws SpRuntimeException {
+    for (EventProperty property : properties) {
+      SQLStatementUtils.checkRegEx(property.getRuntimeName(), "Column name", dbDescription);
+      var path = new ArrayList<>(parentPath);
+      path.add(property.getRuntimeName());
+      if (property instanceof EventPropertyNested) {
+        addColumns(((EventPropertyNested) property).getEventProperties(), path, dbDescription, columns);
+      } else {
+        String runtimeType = property instanceof EventPropertyPrimitive
+            ? ((EventPropertyPrimitive) property).getRuntimeType()
+            : XSD.STRING.toString();
+        var dataType = DbDataTypeFactory.getDataType(
+            DbDataTypeFactory.getFromUri(runtimeType, dbDescription.getEngine()));
+        String columnName = String.join("_", path);
+        if (dbDescription.isColumnNameQuoted()) {
+          columnName = "\"" + columnName + "\"";
+        }
+        columns.add(new Column(columnName, path.toArray(new String[0]), dataType));
+      }
+    }
+  }
+
+  public String getInsertStatement() {
+    return insertStatement;
+  }
+
+  public String getCopyStatement() {
+    return copyStatement;
+  }
+
+  /**
+   * Sets the parameters of an INSERT statement prepared from {@link #getInsertStatement()}.
+   */
+  public void bind(PreparedStatement preparedStatement,
+                   Map<String, Object> event) throws SQLException {
+    for (int i = 0; i < columns.size(); i++) {
+      var column = columns.get(i);
+      var value = column.getValue(event);
+      int index = i + 1;
+      if (value == null) {
+        preparedStatement.setNull(index, column.sqlType());
+        continue;
+      }
+      switch (column.dataType()) {
+        case Integer -> preparedStatement.setInt(index, asNumber(value).intValue());
+        case Long -> preparedStatement.setLong(index, asNumber(value).longValue());
+        case Float -> preparedStatement.setFloat(index, asNumber(value).floatValue());
+        case Double -> preparedStatement.setDouble(index, asNumber(value).doubleValue());
+        case Boolean -> preparedStatement.setBoolean(index, asBoolean(value));
+        default -> preparedStatement.setString(index, value.toString());
+      }
+    }
+  }
+
+  /**
+   * Appends the event as a row in the CSV format expected by the COPY statement of {@link #getCopyStatement()}.
+   */
+  public void appendCsvRow(StringBuilder csv,
+                           Map<String, Object> event) {
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        csv.append(',');
+      }
+      var column = columns.get(i);
+      var value = column.getValue(event);
+      if (value == null) {
+        // an unquoted empty value is NULL
+        continue;
+      }
+      switch (column.dataType()) {
+        case Integer -> csv.append(asNumber(value).intValue());
+        case Long -> csv.append(asNumber(value).longValue());
+        case Float -> csv.append(asNumber(value).floatValue());
+        case Double -> csv.append(asNumber(value).doubleValue());
+        case Boolean -> csv.append(asBoolean(value));
+        default -> csv.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+      }
+    }
+    csv.append('\n');
+  }
+
+  private Number asNumber(Object value) {
+    return value instanceof Number ? (Number) value : Double.valueOf(value.toString());
+  }
+
+  private boolean asBoolean(Object value) {
+    return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString());
+  }
+
+  private record Column(String name,
+                        String[] path,
+                        Datatypes dataType) {
+
+    @SuppressWarnings("unchecked")
+    Object getValue(Map<String, Object> event) {
+      Object current = event;
+      for (String key : path) {
+        if (!(current instanceof Map)) {
+          return null;
+        }
+        current = ((Map<String, Object>) current).get(key);
+      }
+      return current;
+    }
+
+    int sqlType() {
+      return switch (dataType) {
+        case Integer -> Types.INTEGER;
+        case Long -> Types.BIGINT;
+        case Float -> Types.REAL;
+        case Double -> Types.DOUBLE;
+        case Boolean -> Types.BOOLEAN;
+        default -> Types.VARCHAR;
+      };
+    }
+  }
+}
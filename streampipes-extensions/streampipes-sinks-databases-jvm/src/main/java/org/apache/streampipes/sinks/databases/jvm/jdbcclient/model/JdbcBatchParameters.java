@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.jdbcclient.model;
+
+public class JdbcBatchParameters {
+
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final JdbcWriteMode writeMode;
+
+  /**
+   * @param batchSize           The number of events which are written at once
+   * @param flushIntervalMillis The maximum time an event is buffered before it is written
+   * @param writeMode           How a batch is written to the table
+   */
+  public JdbcBatchParameters(int batchSize,
+                             long flushIntervalMillis,
+                             JdbcWriteMode writeMode) {
+    this.batchSize = Math.max(1, batchSize);
+    this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+    this.writeMode = writeMode;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public long getFlushIntervalMillis() {
+    return flushIntervalMillis;
+  }
+
+  public JdbcWriteMode getWriteMode() {
+    return writeMode;
+  }
+}
@@ -43,7 +43,8 @@ public class PostgreSql extends JdbcClient {
     initializeJdbc(
         parameters.getGraph().getInputStreams().get(0).getEventSchema(),
         parameters,
-        SupportedDbEngines.POSTGRESQL);
+        SupportedDbEngines.POSTGRESQL,
+        parameters.getBatchParameters());
   }
 
   @Override
@@ -59,13 +60,14 @@ public class PostgreSql extends JdbcClient {
 
   public void onEvent(Event event) {
     try {
-      save(event);
+      saveBatched(event);
     } catch (SpRuntimeException e) {
       LOG.error(e.getMessage());
     }
   }
 
   public void onDetach() throws SpRuntimeException {
+    closeBatchedWrites();
     closeAll();
   }
 }
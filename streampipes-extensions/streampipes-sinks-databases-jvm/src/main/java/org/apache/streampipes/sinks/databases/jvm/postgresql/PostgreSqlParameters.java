@@ -19,12 +19,16 @@
 package org.apache.streampipes.sinks.databases.jvm.postgresql;
 
 import org.apache.streampipes.model.graph.DataSinkInvocation;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcBatchParameters;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcConnectionParameters;
 
 public class PostgreSqlParameters extends JdbcConnectionParameters {
 
+  private final JdbcBatchParameters batchParameters;
+
   public PostgreSqlParameters(DataSinkInvocation graph, String postgreSqlHost, Integer postgreSqlPort,
-                              String databaseName, String tableName, String user, String password, Boolean sslEnabled) {
+                              String databaseName, String tableName, String user, String password, Boolean sslEnabled,
+                              JdbcBatchParameters batchParameters) {
     super(
         graph,
         postgreSqlHost,
@@ -36,5 +40,10 @@ public class PostgreSqlParameters extends JdbcConnectionParameters {
         sslEnabled,
         "org.postgresql.ssl.NonValidatingFactory",
         true);
+    this.batchParameters = batchParameters;
+  }
+
+  public JdbcBatchParameters getBatchParameters() {
+    return batchParameters;
   }
 }
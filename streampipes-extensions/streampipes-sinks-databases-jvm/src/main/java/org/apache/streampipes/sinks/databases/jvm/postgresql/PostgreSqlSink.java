@@ -23,6 +23,8 @@ import org.apache.streampipes.extensions.api.pe.context.EventSinkRuntimeContext;
 import org.apache.streampipes.model.DataSinkType;
 import org.apache.streampipes.model.graph.DataSinkDescription;
 import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcBatchParameters;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcWriteMode;
 import org.apache.streampipes.sdk.builder.DataSinkBuilder;
 import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
 import org.apache.streampipes.sdk.helpers.EpRequirements;
@@ -45,13 +47,18 @@ public class PostgreSqlSink extends StreamPipesDataSink {
   private static final String SSL_MODE = "ssl_mode";
   private static final String SSL_ENABLED = "ssl_enabled";
   private static final String SSL_DISABLED = "ssl_disabled";
+  public static final String BATCH_SIZE_KEY = "batch_size";
+  public static final String FLUSH_INTERVAL_KEY = "flush_interval";
+  public static final String WRITE_MODE_KEY = "write_mode";
+  public static final String WRITE_MODE_INSERT = "write_mode_insert";
+  public static final String WRITE_MODE_COPY = "write_mode_copy";
 
   private PostgreSql postgreSql;
 
   @Override
   public DataSinkDescription declareModel() {
     return DataSinkBuilder
-        .create("org.apache.streampipes.sinks.databases.jvm.postgresql", 0)
+        .create("org.apache.streampipes.sinks.databases.jvm.postgresql", 1)
         .withLocales(Locales.EN)
         .withAssets(Assets.DOCUMENTATION, Assets.ICON)
         .category(DataSinkType.DATABASE)
@@ -68,6 +75,12 @@ public class PostgreSqlSink extends StreamPipesDataSink {
             Options.from(
                 new Tuple2<>("Yes", SSL_ENABLED),
                 new Tuple2<>("No", SSL_DISABLED)))
+        .requiredIntegerParameter(Labels.withId(BATCH_SIZE_KEY), 500)
+        .requiredIntegerParameter(Labels.withId(FLUSH_INTERVAL_KEY), 1000)
+        .requiredSingleValueSelection(Labels.withId(WRITE_MODE_KEY),
+            Options.from(
+                new Tuple2<>("Insert", WRITE_MODE_INSERT),
+                new Tuple2<>("Copy", WRITE_MODE_COPY)))
         .build();
   }
 
@@ -82,6 +95,9 @@ public class PostgreSqlSink extends StreamPipesDataSink {
     String user = extractor.singleValueParameter(DATABASE_USER_KEY, String.class);
     String password = extractor.secretValue(DATABASE_PASSWORD_KEY);
     String sslSelection = extractor.selectedSingleValueInternalName(SSL_MODE, String.class);
+    Integer batchSize = extractor.singleValueParameter(BATCH_SIZE_KEY, Integer.class);
+    Integer flushInterval = extractor.singleValueParameter(FLUSH_INTERVAL_KEY, Integer.class);
+    String writeMode = extractor.selectedSingleValueInternalName(WRITE_MODE_KEY, String.class);
 
     PostgreSqlParameters params = new PostgreSqlParameters(
         parameters.getModel(),
@@ -91,7 +107,11 @@ public class PostgreSqlSink extends StreamPipesDataSink {
         tableName,
         user,
         password,
-        sslSelection.equals(SSL_ENABLED));
+        sslSelection.equals(SSL_ENABLED),
+        new JdbcBatchParameters(
+            batchSize,
+            flushInterval,
+            writeMode.equals(WRITE_MODE_COPY) ? JdbcWriteMode.COPY : JdbcWriteMode.INSERT));
 
     this.postgreSql = new PostgreSql();
     postgreSql.onInvocation(params);
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.postgresql.migrations;
+
+import org.apache.streampipes.extensions.api.extractor.IDataSinkParameterExtractor;
+import org.apache.streampipes.extensions.api.migration.IDataSinkMigrator;
+import org.apache.streampipes.model.extensions.svcdiscovery.SpServiceTagPrefix;
+import org.apache.streampipes.model.graph.DataSinkInvocation;
+import org.apache.streampipes.model.migration.MigrationResult;
+import org.apache.streampipes.model.migration.ModelMigratorConfig;
+import org.apache.streampipes.model.staticproperty.OneOfStaticProperty;
+import org.apache.streampipes.sdk.StaticProperties;
+import org.apache.streampipes.sdk.helpers.Labels;
+import org.apache.streampipes.sdk.helpers.Options;
+import org.apache.streampipes.sdk.helpers.Tuple2;
+import org.apache.streampipes.sinks.databases.jvm.postgresql.PostgreSqlSink;
+
+public class PostgreSqlSinkMigrationV1 implements IDataSinkMigrator {
+
+  @Override
+  public ModelMigratorConfig config() {
+    return new ModelMigratorConfig(
+        "org.apache.streampipes.sinks.databases.jvm.postgresql",
+        SpServiceTagPrefix.DATA_SINK,
+        0,
+        1
+    );
+  }
+
+  /**
+   * Adds the static properties for batched writes to the sink. Existing sinks keep writing each event
+   * immediately with INSERT statements.
+   */
+  @Override
+  public MigrationResult<DataSinkInvocation> migrate(
+      DataSinkInvocation element,
+      IDataSinkParameterExtractor extractor
+  ) throws RuntimeException {
+    var staticProperties = element.getStaticProperties();
+    staticProperties.add(StaticProperties.integerFreeTextProperty(
+        Labels.from(
+            PostgreSqlSink.BATCH_SIZE_KEY,
+            "Batch Size",
+            "The number of events which are written to the table at once"),
+        1));
+    staticProperties.add(StaticProperties.integerFreeTextProperty(
+        Labels.from(
+            PostgreSqlSink.FLUSH_INTERVAL_KEY,
+            "Flush Interval (ms)",
+            "The maximum time in milliseconds an event is buffered before it is written to the table"),
+        1000));
+    staticProperties.add(createDefaultWriteMode());
+
+    return MigrationResult.success(element);
+  }
+
+  private static OneOfStaticProperty createDefaultWriteMode() {
+    var label = Labels.from(
+        PostgreSqlSink.WRITE_MODE_KEY,
+        "Write Mode",
+        "Write batches with INSERT statements or with the COPY command"
+    );
+    var writeModeStaticProperty = new OneOfStaticProperty(
+        label.getInternalId(),
+        label.getLabel(),
+        label.getDescription()
+    );
+
+    var options = Options.from(
+        new Tuple2<>("Insert", PostgreSqlSink.WRITE_MODE_INSERT),
+        new Tuple2<>("Copy", PostgreSqlSink.WRITE_MODE_COPY));
+    options.get(0)
+           .setSelected(true);
+    writeModeStaticProperty.setOptions(options);
+    return writeModeStaticProperty;
+  }
+}
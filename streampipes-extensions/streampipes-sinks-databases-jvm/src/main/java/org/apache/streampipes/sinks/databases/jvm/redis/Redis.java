@@ -19,23 +19,53 @@
 package org.apache.streampipes.sinks.databases.jvm.redis;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpWriteMetrics;
 import org.apache.streampipes.model.runtime.Event;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.exceptions.JedisException;
-
+import redis.clients.jedis.params.SetParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes events to Redis in batches. The buffered events are written with a single pipeline when the batch is full
+ * or when the flush interval has elapsed. With auto increment, the keys of a batch are reserved with a single INCRBY.
+ * The size and latency of the flushes are reported to the write metrics of the sink.
+ */
 public class Redis {
 
+  private static final Logger LOG = LoggerFactory.getLogger(Redis.class);
+
   private static final String EVENT_PREFIX = "sp:event:";
 
   private static final String EVENT_COUNT = "sp:events";
 
-  private static JedisPool jedisPool = null;
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final class FlushScheduler {
+    // a flush blocks on its Redis server, so slow servers must not delay the flushes of all other sinks
+    private static final ScheduledExecutorService INSTANCE = makeFlushScheduler(
+        Math.max(2, Runtime.getRuntime().availableProcessors()));
+  }
+
+  private final SpWriteMetrics writeMetrics;
+
+  private JedisPool jedisPool;
 
   private String primaryKey;
 
@@ -49,40 +79,98 @@ public class Redis {
 
   private Integer ttl;
 
+  private int batchSize;
+
+  private final List<PendingEvent> batch = new ArrayList<>();
+
+  private ScheduledFuture<?> flushTask;
+
+  public Redis(SpWriteMetrics writeMetrics) {
+    this.writeMetrics = writeMetrics;
+  }
+
   public void onInvocation(RedisParameters parameters) {
-    if (jedisPool == null) {
-      initialPool(parameters);
-    }
+    onInvocation(parameters, makePool(parameters));
+  }
+
+  void onInvocation(RedisParameters parameters,
+                    JedisPool jedisPool) {
+    this.jedisPool = jedisPool;
     primaryKey = parameters.getPrimaryKey();
     autoIncrement = parameters.isAutoIncrement();
     password = parameters.getRedisPassword();
     clientName = parameters.getRedisClient();
     index = parameters.getRedisIndex();
     ttl = parameters.getTTL();
+    batchSize = Math.max(1, parameters.getBatchSize());
+    long flushInterval = Math.max(1, parameters.getFlushIntervalMillis());
+    flushTask = FlushScheduler.INSTANCE.scheduleAtFixedRate(
+        this::flushQuietly,
+        flushInterval,
+        flushInterval,
+        TimeUnit.MILLISECONDS);
   }
 
-  public void onEvent(Event event) throws SpRuntimeException {
+  public synchronized void onEvent(Event event) throws SpRuntimeException {
+    batch.add(new PendingEvent(autoIncrement ? null : getPrimaryKeyValue(event), getEventValue(event)));
+    if (batch.size() >= batchSize) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes all buffered events.
+   *
+   * @throws SpRuntimeException When the events could not be written, the events of the batch are discarded and the
+   *                            flush is counted as failed
+   */
+  public synchronized void flush() throws SpRuntimeException {
+    if (batch.isEmpty()) {
+      return;
+    }
+    var events = new ArrayList<>(batch);
+    batch.clear();
+    long start = System.nanoTime();
     try (Jedis jedis = getJedis()) {
-      final String eventKey = getEventKey(event, autoIncrement ? jedis.incr(EVENT_COUNT) : 0L);
-      jedis.set(eventKey, getEventValue(event));
-      if (ttl > -1) {
-        jedis.expire(eventKey, ttl);
+      long firstId = autoIncrement ? jedis.incrBy(EVENT_COUNT, events.size()) - events.size() + 1 : 0L;
+      Pipeline pipeline = jedis.pipelined();
+      for (int i = 0; i < events.size(); i++) {
+        var event = events.get(i);
+        String eventKey = EVENT_PREFIX + (autoIncrement ? String.valueOf(firstId + i) : event.primaryKey());
+        if (ttl > 0) {
+          pipeline.set(eventKey, event.value(), SetParams.setParams().ex(ttl));
+        } else {
+          pipeline.set(eventKey, event.value());
+          if (ttl == 0) {
+            pipeline.expire(eventKey, 0);
+          }
+        }
       }
+      pipeline.sync();
     } catch (SpRuntimeException e) {
+      writeMetrics.recordFailedFlush();
       throw e;
     } catch (Exception ex) {
-      throw new SpRuntimeException("Could not persist event to redis", ex);
+      writeMetrics.recordFailedFlush();
+      throw new SpRuntimeException("Could not persist " + events.size() + " events to redis", ex);
     }
+    writeMetrics.recordFlush(events.size(), System.nanoTime() - start);
   }
 
   public void onDetach() throws SpRuntimeException {
+    if (flushTask != null) {
+      flushTask.cancel(false);
+      flushTask = null;
+    }
+    flushQuietly();
+    LOG.info("Redis sink writes: {}", writeMetrics);
     if (jedisPool != null && !jedisPool.isClosed()) {
       jedisPool.close();
     }
     jedisPool = null;
   }
 
-  private void initialPool(RedisParameters parameters) {
+  private static JedisPool makePool(RedisParameters parameters) {
     JedisPoolConfig config = new JedisPoolConfig();
     config.setMaxTotal(parameters.getRedisPoolMaxActive());
     config.setMaxIdle(parameters.getRedisPoolMaxIdle());
@@ -90,10 +178,30 @@ public class Redis {
     config.setTestWhileIdle(false);
     config.setTestOnBorrow(false);
     config.setTestOnReturn(false);
-    jedisPool = new JedisPool(config, parameters.getRedisHost(),
+    return new JedisPool(config, parameters.getRedisHost(),
         parameters.getRedisPort(), parameters.getRedisPoolTimeout());
   }
 
+  private static ScheduledExecutorService makeFlushScheduler(int threads) {
+    var threadCount = new AtomicInteger();
+    var scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+      var thread = new Thread(runnable, "redis-sink-flush-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    // flush tasks of detached sinks are removed instead of staying in the queue until their next run
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      LOG.error(e.getMessage(), e);
+    }
+  }
+
   private Jedis getJedis() throws SpRuntimeException {
     Jedis jedis = jedisPool.getResource();
     try {
@@ -114,20 +222,19 @@ public class Redis {
     return jedis;
   }
 
-  private String getEventKey(Event event, Long count) {
-    if (autoIncrement) {
-      return EVENT_PREFIX + count;
-    } else {
-      String value = event.getFieldBySelector(primaryKey).getAsPrimitive().getAsString();
-      return EVENT_PREFIX + value;
-    }
+  private String getPrimaryKeyValue(Event event) {
+    return event.getFieldBySelector(primaryKey).getAsPrimitive().getAsString();
   }
 
   private String getEventValue(Event event) throws SpRuntimeException {
     try {
-      return new ObjectMapper().writeValueAsString(event.getRaw());
+      return MAPPER.writeValueAsString(event.getRaw());
     } catch (JsonProcessingException e) {
       throw new SpRuntimeException("Could not convert event to JSON", e);
     }
   }
+
+  private record PendingEvent(String primaryKey,
+                              String value) {
+  }
 }
@@ -44,6 +44,10 @@ public class RedisParameters {
 
   private final Integer redisPoolTimeout;
 
+  private final Integer batchSize;
+
+  private final Integer flushIntervalMillis;
+
   public RedisParameters(String primaryKey,
                          Boolean autoIncrement,
                          Integer ttl,
@@ -55,7 +59,9 @@ public class RedisParameters {
                          Integer redisPoolMaxActive,
                          Integer redisPoolMaxIdle,
                          Integer redisPoolMaxWait,
-                         Integer redisPoolTimeout) {
+                         Integer redisPoolTimeout,
+                         Integer batchSize,
+                         Integer flushIntervalMillis) {
     this.primaryKey = primaryKey;
     this.autoIncrement = autoIncrement;
     this.ttl = ttl;
@@ -68,6 +74,8 @@ public class RedisParameters {
     this.redisPoolMaxIdle = redisPoolMaxIdle;
     this.redisPoolMaxWait = redisPoolMaxWait;
     this.redisPoolTimeout = redisPoolTimeout;
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
   }
 
   public String getPrimaryKey() {
@@ -117,4 +125,12 @@ public class RedisParameters {
   public Integer getRedisPoolTimeout() {
     return redisPoolTimeout;
   }
+
+  public Integer getBatchSize() {
+    return batchSize;
+  }
+
+  public Integer getFlushIntervalMillis() {
+    return flushIntervalMillis;
+  }
 }
@@ -19,6 +19,7 @@
 package org.apache.streampipes.sinks.databases.jvm.redis;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
 import org.apache.streampipes.extensions.api.pe.context.EventSinkRuntimeContext;
 import org.apache.streampipes.model.DataSinkType;
 import org.apache.streampipes.model.graph.DataSinkDescription;
@@ -60,12 +61,16 @@ public class RedisSink extends StreamPipesDataSink {
 
   private static final String REDIS_POOL_TIMEOUT_KEY = "redis_pool_timeout";
 
+  public static final String BATCH_SIZE_KEY = "batch_size";
+
+  public static final String FLUSH_INTERVAL_KEY = "flush_interval";
+
   private Redis redis;
 
   @Override
   public DataSinkDescription declareModel() {
     return DataSinkBuilder
-        .create("org.apache.streampipes.sinks.databases.jvm.redis", 0)
+        .create("org.apache.streampipes.sinks.databases.jvm.redis", 1)
         .withLocales(Locales.EN)
         .withAssets(Assets.DOCUMENTATION, Assets.ICON)
         .category(DataSinkType.DATABASE)
@@ -86,6 +91,8 @@ public class RedisSink extends StreamPipesDataSink {
         .requiredIntegerParameter(Labels.withId(REDIS_POOL_MAX_IDLE_KEY), 8)
         .requiredIntegerParameter(Labels.withId(REDIS_POOL_MAX_WAIT_KEY), -1)
         .requiredIntegerParameter(Labels.withId(REDIS_POOL_TIMEOUT_KEY), 2000)
+        .requiredIntegerParameter(Labels.withId(BATCH_SIZE_KEY), 100)
+        .requiredIntegerParameter(Labels.withId(FLUSH_INTERVAL_KEY), 1000)
         .build();
   }
 
@@ -105,15 +112,17 @@ public class RedisSink extends StreamPipesDataSink {
     Integer redisPoolMaxIdle = extractor.singleValueParameter(REDIS_POOL_MAX_IDLE_KEY, Integer.class);
     Integer redisPoolMaxWait = extractor.singleValueParameter(REDIS_POOL_MAX_WAIT_KEY, Integer.class);
     Integer redisPoolTimeout = extractor.singleValueParameter(REDIS_POOL_TIMEOUT_KEY, Integer.class);
+    Integer batchSize = extractor.singleValueParameter(BATCH_SIZE_KEY, Integer.class);
+    Integer flushInterval = extractor.singleValueParameter(FLUSH_INTERVAL_KEY, Integer.class);
     String redisPassword = "";
     String redisClient = "";
 
     RedisParameters
         params = new RedisParameters(primaryKey, autoIncrement, ttl, redisHost,
         redisPort, redisPassword, redisClient, redisIndex, redisPoolMaxActive, redisPoolMaxIdle,
-        redisPoolMaxWait, redisPoolTimeout);
+        redisPoolMaxWait, redisPoolTimeout, batchSize, flushInterval);
 
-    this.redis = new Redis();
+    this.redis = new Redis(SpMonitoringManager.INSTANCE.registerWriteMetrics(parameters.getModel().getElementId()));
     redis.onInvocation(params);
   }
 
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.redis.migrations;
+
+import org.apache.streampipes.extensions.api.extractor.IDataSinkParameterExtractor;
+import org.apache.streampipes.extensions.api.migration.IDataSinkMigrator;
+import org.apache.streampipes.model.extensions.svcdiscovery.SpServiceTagPrefix;
+import org.apache.streampipes.model.graph.DataSinkInvocation;
+import org.apache.streampipes.model.migration.MigrationResult;
+import org.apache.streampipes.model.migration.ModelMigratorConfig;
+import org.apache.streampipes.sdk.StaticProperties;
+import org.apache.streampipes.sdk.helpers.Labels;
+import org.apache.streampipes.sinks.databases.jvm.redis.RedisSink;
+
+public class RedisSinkMigrationV1 implements IDataSinkMigrator {
+
+  @Override
+  public ModelMigratorConfig config() {
+    return new ModelMigratorConfig(
+        "org.apache.streampipes.sinks.databases.jvm.redis",
+        SpServiceTagPrefix.DATA_SINK,
+        0,
+        1
+    );
+  }
+
+  /**
+   * Adds the static properties for pipelined writes to the sink. Existing sinks keep writing each event immediately.
+   */
+  @Override
+  public MigrationResult<DataSinkInvocation> migrate(
+      DataSinkInvocation element,
+      IDataSinkParameterExtractor extractor
+  ) throws RuntimeException {
+    var staticProperties = element.getStaticProperties();
+    staticProperties.add(StaticProperties.integerFreeTextProperty(
+        Labels.from(
+            RedisSink.BATCH_SIZE_KEY,
+            "Batch Size",
+            "The number of events which are written to Redis in a single pipeline"),
+        1));
+    staticProperties.add(StaticProperties.integerFreeTextProperty(
+        Labels.from(
+            RedisSink.FLUSH_INTERVAL_KEY,
+            "Flush Interval (ms)",
+            "The maximum time in milliseconds an event is buffered before it is written to Redis"),
+        1000));
+
+    return MigrationResult.success(element);
+  }
+}
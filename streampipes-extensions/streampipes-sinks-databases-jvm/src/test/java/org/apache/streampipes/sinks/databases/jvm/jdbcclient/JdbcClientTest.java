@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.jdbcclient;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.DbDescription;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcBatchParameters;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcConnectionParameters;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcWriteMode;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.StatementHandler;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.SupportedDbEngines;
+import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.TableDescription;
+import org.apache.streampipes.vocabulary.XSD;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JdbcClientTest {
+
+  private Connection connection;
+  private PreparedStatement preparedStatement;
+  private Connection newConnection;
+  private PreparedStatement newPreparedStatement;
+
+  private final List<String> copyStatements = new ArrayList<>();
+  private final List<String> copiedRows = new ArrayList<>();
+  private int createdTables;
+  private JdbcClient client;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    connection = mock(Connection.class);
+    preparedStatement = mock(PreparedStatement.class);
+    when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+    newConnection = mock(Connection.class);
+    newPreparedStatement = mock(PreparedStatement.class);
+    when(newConnection.prepareStatement(anyString())).thenReturn(newPreparedStatement);
+
+    client = new JdbcClient() {
+      @Override
+      protected Connection openConnection() {
+        return newConnection;
+      }
+
+      @Override
+      protected void createTable() {
+        createdTables++;
+      }
+
+      @Override
+      protected void copyIn(String copyStatement,
+                            String csv) {
+        copyStatements.add(copyStatement);
+        copiedRows.add(csv);
+      }
+    };
+    var schema = new EventSchema(List.of(
+        new EventPropertyPrimitive(XSD.INTEGER.toString(), "count", "", List.of()),
+        new EventPropertyPrimitive(XSD.STRING.toString(), "name", "", List.of())));
+    var connectionParameters = new JdbcConnectionParameters(null, "localhost", 5432, "sp", "user", "secret",
+        "events", false, null, false);
+    client.dbDescription = new DbDescription(connectionParameters, SupportedDbEngines.POSTGRESQL);
+    client.tableDescription = new TableDescription("events", schema);
+    client.statementHandler = new StatementHandler(null, null);
+    client.connection = connection;
+  }
+
+  @AfterEach
+  public void tearDown() {
+    client.closeBatchedWrites();
+  }
+
+  @Test
+  public void testBatchIsWrittenWhenFull() throws SQLException {
+    start(JdbcWriteMode.INSERT);
+
+    save(1, "a");
+    verify(preparedStatement, never()).executeBatch();
+
+    save(2, "b");
+    verify(preparedStatement).setInt(1, 1);
+    verify(preparedStatement).setInt(1, 2);
+    verify(preparedStatement, times(2)).addBatch();
+    verify(preparedStatement).executeBatch();
+    verify(connection).setAutoCommit(false);
+    verify(connection).commit();
+  }
+
+  @Test
+  public void testRemainingEventsAreWrittenOnClose() throws SQLException {
+    start(JdbcWriteMode.INSERT);
+
+    save(1, "a");
+    client.closeBatchedWrites();
+
+    verify(preparedStatement).executeBatch();
+    verify(connection).commit();
+    verify(preparedStatement).close();
+  }
+
+  @Test
+  public void testCopyWritesCsvRows() throws SQLException {
+    start(JdbcWriteMode.COPY);
+
+    save(1, "a");
+    save(2, "with \"quotes\"");
+
+    assertEquals(List.of("COPY events ( count, name ) FROM STDIN WITH (FORMAT csv)"), copyStatements);
+    assertEquals(List.of("1,\"a\"\n2,\"with \"\"quotes\"\"\"\n"), copiedRows);
+    verify(connection).commit();
+  }
+
+  @Test
+  public void testMissingTableIsRecreatedAndBatchRetried() throws SQLException {
+    when(preparedStatement.executeBatch())
+        .thenThrow(new SQLException("relation does not exist", "42P01"))
+        .thenReturn(new int[]{1, 1});
+    start(JdbcWriteMode.INSERT);
+
+    save(1, "a");
+    save(2, "b");
+
+    assertEquals(1, createdTables);
+    verify(connection).rollback();
+    verify(preparedStatement, times(2)).executeBatch();
+    verify(preparedStatement, times(4)).addBatch();
+    verify(connection).commit();
+  }
+
+  @Test
+  public void testLostConnectionIsReopenedAndBatchRetried() throws SQLException {
+    when(preparedStatement.executeBatch()).thenThrow(new SQLException("connection reset", "08006"));
+    when(connection.isValid(5)).thenReturn(false);
+    start(JdbcWriteMode.INSERT);
+
+    save(1, "a");
+    save(2, "b");
+
+    verify(connection).close();
+    verify(newConnection).setAutoCommit(false);
+    verify(newPreparedStatement, times(2)).addBatch();
+    verify(newPreparedStatement).executeBatch();
+    verify(newConnection).commit();
+  }
+
+  @Test
+  public void testOtherErrorsAreRethrown() throws SQLException {
+    when(preparedStatement.executeBatch()).thenThrow(new SQLException("value too long", "22001"));
+    when(connection.isValid(5)).thenReturn(true);
+    start(JdbcWriteMode.INSERT);
+
+    save(1, "a");
+
+    assertThrows(SpRuntimeException.class, () -> save(2, "b"));
+    verify(connection).rollback();
+    assertEquals(0, createdTables);
+  }
+
+  private void start(JdbcWriteMode writeMode) {
+    client.batchParameters = new JdbcBatchParameters(2, 60000, writeMode);
+    client.startBatchedWrites();
+  }
+
+  private void save(int count,
+                    String name) {
+    client.saveBatched(EventFactory.fromMap(Map.of("count", count, "name", name)));
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.jdbcclient.model;
+
+import org.apache.streampipes.model.schema.EventPropertyNested;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.vocabulary.XSD;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class CompiledInsertStatementTest {
+
+  private CompiledInsertStatement statement;
+
+  @BeforeEach
+  public void setUp() {
+    var schema = new EventSchema(List.of(
+        new EventPropertyPrimitive(XSD.INTEGER.toString(), "count", "", List.of()),
+        new EventPropertyPrimitive(XSD.STRING.toString(), "name", "", List.of()),
+        new EventPropertyNested("location", List.of(
+            new EventPropertyPrimitive(XSD.DOUBLE.toString(), "lat", "", List.of()))),
+        new EventPropertyPrimitive(XSD.BOOLEAN.toString(), "active", "", List.of())
+    ));
+    var connectionParameters = new JdbcConnectionParameters(null, "localhost", 5432, "sp", "user", "secret",
+        "events", false, null, false);
+    statement = new CompiledInsertStatement(new TableDescription("events", schema),
+        new DbDescription(connectionParameters, SupportedDbEngines.POSTGRESQL));
+  }
+
+  @Test
+  public void testStatements() {
+    assertEquals("INSERT INTO events ( count, name, location_lat, active ) VALUES ( ?, ?, ?, ? );",
+        statement.getInsertStatement());
+    assertEquals("COPY events ( count, name, location_lat, active ) FROM STDIN WITH (FORMAT csv)",
+        statement.getCopyStatement());
+  }
+
+  @Test
+  public void testBindConvertsValuesByColumnType() throws SQLException {
+    var preparedStatement = mock(PreparedStatement.class);
+
+    statement.bind(preparedStatement, Map.of(
+        "count", 3L,
+        "name", "pump",
+        "location", Map.of("lat", "49.5"),
+        "active", "true"));
+
+    verify(preparedStatement).setInt(1, 3);
+    verify(preparedStatement).setString(2, "pump");
+    verify(preparedStatement).setDouble(3, 49.5);
+    verify(preparedStatement).setBoolean(4, true);
+  }
+
+  @Test
+  public void testBindMissingValuesAsNull() throws SQLException {
+    var preparedStatement = mock(PreparedStatement.class);
+    var event = new HashMap<String, Object>();
+    event.put("count", null);
+    event.put("location", "not nested");
+
+    statement.bind(preparedStatement, event);
+
+    verify(preparedStatement).setNull(1, Types.INTEGER);
+    verify(preparedStatement).setNull(2, Types.VARCHAR);
+    verify(preparedStatement).setNull(3, Types.DOUBLE);
+    verify(preparedStatement).setNull(4, Types.BOOLEAN);
+  }
+
+  @Test
+  public void testCsvRowQuotesAndEscapesStrings() {
+    var csv = new StringBuilder();
+
+    statement.appendCsvRow(csv, Map.of(
+        "count", 1,
+        "name", "a \"quoted\", multi\nline value",
+        "location", Map.of("lat", 1.5),
+        "active", false));
+    statement.appendCsvRow(csv, Map.of("count", 2, "name", ""));
+
+    assertEquals("1,\"a \"\"quoted\"\", multi\nline value\",1.5,false\n"
+        + "2,\"\",,\n", csv.toString());
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.redis;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+import org.apache.streampipes.model.runtime.EventFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.params.SetParams;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RedisTest {
+
+  private final String elementId = "redis-sink-" + UUID.randomUUID();
+
+  private JedisPool pool;
+  private Jedis jedis;
+  private Pipeline pipeline;
+  private Redis redis;
+
+  @BeforeEach
+  public void setUp() {
+    pool = mock(JedisPool.class);
+    jedis = mock(Jedis.class);
+    pipeline = mock(Pipeline.class);
+    when(pool.getResource()).thenReturn(jedis);
+    when(jedis.pipelined()).thenReturn(pipeline);
+    redis = new Redis(SpMonitoringManager.INSTANCE.registerWriteMetrics(elementId));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    redis.onDetach();
+    SpMonitoringManager.INSTANCE.reset(elementId);
+  }
+
+  @Test
+  public void testAutoIncrementReservesKeysOfBatchWithSingleIncrBy() {
+    when(jedis.incrBy("sp:events", 2)).thenReturn(12L);
+    redis.onInvocation(makeParameters(true, -1, 2), pool);
+
+    save("a", 1);
+    verify(jedis, never()).pipelined();
+    save("b", 2);
+
+    InOrder order = inOrder(jedis, pipeline);
+    order.verify(jedis).incrBy("sp:events", 2);
+    order.verify(pipeline).set("sp:event:11", "{\"id\":\"a\",\"value\":1}");
+    order.verify(pipeline).set("sp:event:12", "{\"id\":\"b\",\"value\":2}");
+    order.verify(pipeline).sync();
+    order.verify(jedis).close();
+    verify(pipeline, never()).expire(anyString(), anyLong());
+  }
+
+  @Test
+  public void testPrimaryKeyAndTtlAreSetWithValue() {
+    redis.onInvocation(makeParameters(false, 30, 1), pool);
+
+    save("a", 1);
+
+    verify(jedis, never()).incrBy(anyString(), anyLong());
+    verify(pipeline).set(eq("sp:event:a"), eq("{\"id\":\"a\",\"value\":1}"), any(SetParams.class));
+    verify(pipeline, never()).expire(anyString(), anyLong());
+    verify(pipeline).sync();
+  }
+
+  @Test
+  public void testZeroTtlExpiresKeyImmediately() {
+    redis.onInvocation(makeParameters(false, 0, 1), pool);
+
+    save("a", 1);
+
+    InOrder order = inOrder(pipeline);
+    order.verify(pipeline).set("sp:event:a", "{\"id\":\"a\",\"value\":1}");
+    order.verify(pipeline).expire("sp:event:a", 0);
+    order.verify(pipeline).sync();
+  }
+
+  @Test
+  public void testRemainingEventsAreWrittenOnDetach() {
+    redis.onInvocation(makeParameters(false, -1, 10), pool);
+
+    save("a", 1);
+    verify(jedis, never()).pipelined();
+    redis.onDetach();
+
+    verify(pipeline).set("sp:event:a", "{\"id\":\"a\",\"value\":1}");
+    verify(pipeline).sync();
+    verify(pool).close();
+  }
+
+  @Test
+  public void testFlushesAreReportedToWriteMetrics() {
+    redis.onInvocation(makeParameters(false, -1, 2), pool);
+
+    save("a", 1);
+    save("b", 2);
+    save("c", 3);
+    redis.flush();
+    doThrowOnSync();
+    save("d", 4);
+    assertThrows(SpRuntimeException.class, () -> save("e", 5));
+
+    var metrics = SpMonitoringManager.INSTANCE.getMetricsSnapshot(elementId).getWriteMetrics();
+    assertEquals(2, metrics.getFlushes());
+    assertEquals(1, metrics.getFailedFlushes());
+    assertEquals(3, metrics.getEvents());
+    assertEquals(1.5, metrics.getAverageFlushSize());
+  }
+
+  private void doThrowOnSync() {
+    doThrow(new IllegalStateException("connection reset")).when(pipeline).sync();
+  }
+
+  private void save(String id,
+                    int value) {
+    redis.onEvent(EventFactory.fromMap(Map.of("id", id, "value", value)));
+  }
+
+  private RedisParameters makeParameters(boolean autoIncrement,
+                                         int ttl,
+                                         int batchSize) {
+    return new RedisParameters("o::id", autoIncrement, ttl, "localhost", 6379, "", "", -1, 8, 8, -1, 2000,
+        batchSize, 60000);
+  }
+}
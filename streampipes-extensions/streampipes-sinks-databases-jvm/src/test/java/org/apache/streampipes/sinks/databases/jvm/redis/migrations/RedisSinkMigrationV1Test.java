@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.redis.migrations;
+
+import org.apache.streampipes.model.graph.DataSinkInvocation;
+import org.apache.streampipes.model.staticproperty.FreeTextStaticProperty;
+import org.apache.streampipes.sdk.extractor.DataSinkParameterExtractor;
+import org.apache.streampipes.sinks.databases.jvm.redis.RedisSink;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class RedisSinkMigrationV1Test {
+
+  @Test
+  public void testMigrationKeepsWritingEachEventImmediately() {
+    var element = new DataSinkInvocation();
+    element.setStaticProperties(new ArrayList<>());
+
+    var result = new RedisSinkMigrationV1().migrate(element, mock(DataSinkParameterExtractor.class));
+
+    assertTrue(result.success());
+    var properties = result.element().getStaticProperties();
+    assertEquals(2, properties.size());
+    var batchSize = (FreeTextStaticProperty) properties.get(0);
+    assertEquals(RedisSink.BATCH_SIZE_KEY, batchSize.getInternalName());
+    assertEquals("1", batchSize.getValue());
+    var flushInterval = (FreeTextStaticProperty) properties.get(1);
+    assertEquals(RedisSink.FLUSH_INTERVAL_KEY, flushInterval.getInternalName());
+    assertEquals("1000", flushInterval.getValue());
+  }
+}
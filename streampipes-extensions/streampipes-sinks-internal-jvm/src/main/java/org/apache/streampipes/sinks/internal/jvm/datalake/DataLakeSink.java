@@ -22,6 +22,7 @@ import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.dataexplorer.TimeSeriesStore;
 import org.apache.streampipes.dataexplorer.management.DataExplorerDispatcher;
+import org.apache.streampipes.extensions.api.pe.IBatchDataSink;
 import org.apache.streampipes.extensions.api.pe.context.EventSinkRuntimeContext;
 import org.apache.streampipes.model.DataSinkType;
 import org.apache.streampipes.model.datalake.DataLakeMeasure;
@@ -39,7 +40,9 @@ import org.apache.streampipes.sdk.helpers.Options;
 import org.apache.streampipes.wrapper.params.compat.SinkParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataSink;
 
-public class DataLakeSink extends StreamPipesDataSink {
+import java.util.List;
+
+public class DataLakeSink extends StreamPipesDataSink implements IBatchDataSink {
 
   private static final String DATABASE_MEASUREMENT_KEY = "db_measurement";
   private static final String TIMESTAMP_MAPPING_KEY = "timestamp_mapping";
@@ -101,7 +104,8 @@ public class DataLakeSink extends StreamPipesDataSink {
         .sanitizeAndRegister();
 
     this.timeSeriesStore = new TimeSeriesStore(
-        new DataExplorerDispatcher().getDataExplorerManager().getTimeseriesStorage(measure),
+        new DataExplorerDispatcher().getDataExplorerManager()
+            .getTimeseriesStorage(measure, parameters.getModel().getElementId()),
         measure,
         Environments.getEnvironment(),
         true
@@ -114,6 +118,11 @@ public class DataLakeSink extends StreamPipesDataSink {
     this.timeSeriesStore.onEvent(event);
   }
 
+  @Override
+  public void onEvents(List<Event> events) throws SpRuntimeException {
+    this.timeSeriesStore.onEvents(events);
+  }
+
   @Override
   public void onDetach() throws SpRuntimeException {
     this.timeSeriesStore.close();
@@ -102,7 +102,11 @@ public class SpKafkaConsumer implements EventConsumer, Runnable,
     Duration duration = Duration.of(100, ChronoUnit.MILLIS);
     while (isRunning) {
       ConsumerRecords<byte[], byte[]> records = consumer.poll(duration);
-      records.forEach(record -> eventProcessor.onEvent(record.value()));
+      if (!records.isEmpty()) {
+        List<byte[]> batch = new ArrayList<>(records.count());
+        records.forEach(record -> batch.add(record.value()));
+        eventProcessor.onEvents(batch);
+      }
     }
     LOG.info("Closing Kafka Consumer.");
     consumer.close();
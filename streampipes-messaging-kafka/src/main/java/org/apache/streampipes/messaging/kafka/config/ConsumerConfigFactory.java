@@ -17,6 +17,7 @@
  */
 package org.apache.streampipes.messaging.kafka.config;
 
+import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.model.grounding.KafkaTransportProtocol;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -50,6 +51,9 @@ public class ConsumerConfigFactory extends AbstractConfigFactory {
     props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, SESSION_TIMEOUT_MS_CONFIG_DEFAULT);
     props.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG,
         getConfigOrDefault(protocol::getMessageMaxBytes, FETCH_MAX_BYTES_CONFIG_DEFAULT));
+    // limits the size of the batches passed to the runtime, see SpKafkaConsumer
+    props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+        Environments.getEnvironment().getConsumerMaxBatchSize().getValueOrDefault());
 
     props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, KEY_DESERIALIZER_CLASS_CONFIG_DEFAULT);
     props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, VALUE_DESERIALIZER_CLASS_CONFIG_DEFAULT);
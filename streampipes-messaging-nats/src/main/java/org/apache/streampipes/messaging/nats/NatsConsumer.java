@@ -18,6 +18,7 @@
 
 package org.apache.streampipes.messaging.nats;
 
+import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.messaging.EventConsumer;
 import org.apache.streampipes.messaging.InternalEventProcessor;
@@ -25,17 +26,27 @@ import org.apache.streampipes.model.grounding.NatsTransportProtocol;
 import org.apache.streampipes.model.nats.NatsConfig;
 
 import io.nats.client.Connection;
-import io.nats.client.Dispatcher;
+import io.nats.client.Message;
 import io.nats.client.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 
 public class NatsConsumer extends AbstractNatsConnector implements EventConsumer {
 
-  private Dispatcher dispatcher;
+  private static final Logger LOG = LoggerFactory.getLogger(NatsConsumer.class);
+
+  private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+  private static final Duration DRAIN_TIMEOUT = Duration.ofMillis(1);
+
   private Subscription subscription;
   private NatsConfig natsConfig;
+  private volatile boolean running;
 
   public NatsConsumer(NatsTransportProtocol protocol) {
     this.natsConfig = makeNatsConfig(protocol);
@@ -64,7 +75,8 @@ public class NatsConsumer extends AbstractNatsConnector implements EventConsumer
   @Override
   public void disconnect() throws SpRuntimeException {
     try {
-      dispatcher.unsubscribe(this.subscription);
+      this.running = false;
+      this.subscription.unsubscribe();
       super.disconnect();
     } catch (InterruptedException | TimeoutException e) {
       e.printStackTrace();
@@ -77,9 +89,48 @@ public class NatsConsumer extends AbstractNatsConnector implements EventConsumer
   }
 
   private void createSubscription(InternalEventProcessor<byte[]> eventProcessor) {
-    dispatcher = natsConnection.createDispatcher((message) -> {});
+    this.subscription = natsConnection.subscribe(subject);
+    this.running = true;
+
+    Thread thread = new Thread(() -> poll(eventProcessor), "nats-consumer-" + subject);
+    thread.setDaemon(true);
+    thread.start();
+  }
 
-    this.subscription = dispatcher.subscribe(subject, (message) ->
-        eventProcessor.onEvent(message.getData()));
+  private void poll(InternalEventProcessor<byte[]> eventProcessor) {
+    int maxBatchSize = Environments.getEnvironment().getConsumerMaxBatchSize().getValueOrDefault();
+    while (running) {
+      try {
+        Message message = subscription.nextMessage(POLL_TIMEOUT);
+        if (message != null) {
+          eventProcessor.onEvents(drainBatch(message, maxBatchSize));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      } catch (RuntimeException e) {
+        if (!subscription.isActive()) {
+          // subscription has been closed by disconnect()
+          running = false;
+        } else {
+          LOG.error("Error while processing messages from subject {}", subject, e);
+        }
+      }
+    }
+  }
+
+  private List<byte[]> drainBatch(Message first,
+                                  int maxBatchSize) throws InterruptedException {
+    List<byte[]> batch = new ArrayList<>();
+    batch.add(first.getData());
+    // only take messages which are already buffered by the client, never wait for a full batch
+    while (batch.size() < maxBatchSize && subscription.getPendingMessageCount() > 0) {
+      Message next = subscription.nextMessage(DRAIN_TIMEOUT);
+      if (next == null) {
+        break;
+      }
+      batch.add(next.getData());
+    }
+    return batch;
   }
 }
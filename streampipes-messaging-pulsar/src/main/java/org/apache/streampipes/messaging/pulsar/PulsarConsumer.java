@@ -18,22 +18,35 @@
 
 package org.apache.streampipes.messaging.pulsar;
 
+import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.messaging.EventConsumer;
 import org.apache.streampipes.messaging.InternalEventProcessor;
 import org.apache.streampipes.model.grounding.PulsarTransportProtocol;
 
+import org.apache.pulsar.client.api.BatchReceivePolicy;
 import org.apache.pulsar.client.api.Consumer;
 import org.apache.pulsar.client.api.Message;
-import org.apache.pulsar.client.api.MessageListener;
+import org.apache.pulsar.client.api.Messages;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class PulsarConsumer implements EventConsumer {
 
+  private static final Logger LOG = LoggerFactory.getLogger(PulsarConsumer.class);
+
+  private static final int BATCH_TIMEOUT_MILLIS = 100;
+
   private PulsarClient pulsarClient;
   private Consumer<byte[]> consumer;
   private PulsarTransportProtocol protocolSettings;
+  private volatile boolean running;
 
   public PulsarConsumer(PulsarTransportProtocol protocolSettings) {
     this.protocolSettings = protocolSettings;
@@ -54,21 +67,55 @@ public class PulsarConsumer implements EventConsumer {
       consumer = pulsarClient.newConsumer()
           .topic(protocolSettings.getTopicDefinition().getActualTopicName())
           .subscriptionName("streampipes")
-          .messageListener(new MessageListener<byte[]>() {
-            @Override
-            public void received(Consumer<byte[]> consumer, Message<byte[]> msg) {
-              eventProcessor.onEvent(msg.getData());
-            }
-          })
+          .batchReceivePolicy(BatchReceivePolicy.builder()
+              .maxNumMessages(Environments.getEnvironment().getConsumerMaxBatchSize().getValueOrDefault())
+              .timeout(BATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+              .build())
           .subscribe();
+      running = true;
+
+      Thread thread = new Thread(() -> receive(eventProcessor),
+          "pulsar-consumer-" + protocolSettings.getTopicDefinition().getActualTopicName());
+      thread.setDaemon(true);
+      thread.start();
     } catch (PulsarClientException e) {
       throw new SpRuntimeException(e);
     }
   }
 
+  private void receive(InternalEventProcessor<byte[]> eventProcessor) {
+    while (running) {
+      try {
+        Messages<byte[]> messages = consumer.batchReceive();
+        if (messages.size() > 0) {
+          List<byte[]> batch = new ArrayList<>(messages.size());
+          for (Message<byte[]> message : messages) {
+            batch.add(message.getData());
+          }
+          process(eventProcessor, batch);
+          consumer.acknowledge(messages);
+        }
+      } catch (PulsarClientException e) {
+        // consumer has been closed by disconnect()
+        running = false;
+      }
+    }
+  }
+
+  private void process(InternalEventProcessor<byte[]> eventProcessor,
+                       List<byte[]> batch) {
+    try {
+      eventProcessor.onEvents(batch);
+    } catch (RuntimeException e) {
+      LOG.error("Error while processing messages from topic {}",
+          protocolSettings.getTopicDefinition().getActualTopicName(), e);
+    }
+  }
+
   @Override
   public void disconnect() throws SpRuntimeException {
     try {
+      running = false;
       consumer.close();
       pulsarClient.close();
     } catch (PulsarClientException e) {
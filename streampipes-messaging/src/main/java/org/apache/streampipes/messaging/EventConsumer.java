@@ -22,6 +22,11 @@ import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 
 public interface EventConsumer {
 
+  /**
+   * Connects to the broker. Consumers which fetch messages in batches (Kafka, NATS, Pulsar)
+   * deliver them through {@link InternalEventProcessor#onEvents(java.util.List)},
+   * all others call {@link InternalEventProcessor#onEvent(Object)} per message.
+   */
   void connect(InternalEventProcessor<byte[]> eventProcessor) throws SpRuntimeException;
 
   void disconnect() throws SpRuntimeException;
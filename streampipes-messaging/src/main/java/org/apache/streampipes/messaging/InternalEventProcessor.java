@@ -18,7 +18,20 @@
 
 package org.apache.streampipes.messaging;
 
+import java.util.List;
+
 public interface InternalEventProcessor<T> {
 
   void onEvent(T event);
+
+  /**
+   * Receives all messages a consumer fetched from the broker at once, in broker order.
+   * Processors which can amortize per-message overhead should override this method,
+   * by default each message is passed to {@link #onEvent(Object)}.
+   */
+  default void onEvents(List<T> events) {
+    for (T event : events) {
+      onEvent(event);
+    }
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.local;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.messaging.EventConsumer;
+import org.apache.streampipes.messaging.InternalEventProcessor;
+import org.apache.streampipes.model.grounding.LocalTransportProtocol;
+
+import java.util.Map;
+
+/**
+ * Consumer for the {@link LocalTransportProtocol}. Events are received as maps, consuming raw bytes is not
+ * supported.
+ */
+public class LocalConsumer implements EventConsumer {
+
+  private final String topicName;
+  private LocalTopic topic;
+  private InternalEventProcessor<Map<String, Object>> eventProcessor;
+
+  public LocalConsumer(LocalTransportProtocol protocol) {
+    this.topicName = protocol.getTopicDefinition().getActualTopicName();
+  }
+
+  public void connectLocal(InternalEventProcessor<Map<String, Object>> eventProcessor) {
+    this.eventProcessor = eventProcessor;
+    this.topic = LocalEventBus.INSTANCE.subscribe(topicName, eventProcessor);
+  }
+
+  @Override
+  public void connect(InternalEventProcessor<byte[]> eventProcessor) throws SpRuntimeException {
+    throw new SpRuntimeException("The local transport protocol does not support serialized events");
+  }
+
+  @Override
+  public void disconnect() throws SpRuntimeException {
+    if (topic != null) {
+      topic = null;
+      LocalEventBus.INSTANCE.unsubscribe(topicName, eventProcessor);
+    }
+  }
+
+  @Override
+  public boolean isConnected() {
+    return topic != null;
+  }
+}
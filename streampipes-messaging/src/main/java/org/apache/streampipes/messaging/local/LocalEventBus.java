@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.local;
+
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.messaging.InternalEventProcessor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory replacement for a message broker which connects producers and consumers living in the same JVM.
+ * Topics are created when the first producer or subscriber connects and removed when the last one disconnects.
+ * Both happen atomically per topic, so that a connecting producer or subscriber never obtains a topic which is
+ * concurrently removed.
+ */
+public enum LocalEventBus {
+
+  INSTANCE;
+
+  private final Map<String, LocalTopic> topics;
+  private final int queueSize;
+
+  LocalEventBus() {
+    this.topics = new ConcurrentHashMap<>();
+    this.queueSize = Environments.getEnvironment().getLocalTransportQueueSize().getValueOrDefault();
+  }
+
+  public LocalTopic registerProducer(String topicName) {
+    return acquire(topicName, LocalTopic::registerProducer);
+  }
+
+  public void unregisterProducer(String topicName) {
+    release(topicName, LocalTopic::unregisterProducer);
+  }
+
+  public LocalTopic subscribe(String topicName,
+                              InternalEventProcessor<Map<String, Object>> subscriber) {
+    return acquire(topicName, topic -> topic.subscribe(subscriber));
+  }
+
+  public void unsubscribe(String topicName,
+                          InternalEventProcessor<Map<String, Object>> subscriber) {
+    release(topicName, topic -> topic.unsubscribe(subscriber));
+  }
+
+  boolean hasTopic(String topicName) {
+    return topics.containsKey(topicName);
+  }
+
+  private LocalTopic acquire(String topicName,
+                             Consumer<LocalTopic> registration) {
+    return topics.compute(topicName, (name, topic) -> {
+      var currentTopic = topic != null ? topic : new LocalTopic(name, queueSize);
+      registration.accept(currentTopic);
+      return currentTopic;
+    });
+  }
+
+  private void release(String topicName,
+                       Consumer<LocalTopic> deregistration) {
+    topics.computeIfPresent(topicName, (name, topic) -> {
+      deregistration.accept(topic);
+      if (topic.isUnused()) {
+        topic.close();
+        return null;
+      } else {
+        return topic;
+      }
+    });
+  }
+}
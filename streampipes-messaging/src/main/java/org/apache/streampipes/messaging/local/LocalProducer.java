@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.local;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.messaging.EventProducer;
+import org.apache.streampipes.model.grounding.LocalTransportProtocol;
+
+import java.util.Map;
+
+/**
+ * Producer for the {@link LocalTransportProtocol}. Events are published as maps and are never serialized,
+ * publishing raw bytes is not supported.
+ */
+public class LocalProducer implements EventProducer {
+
+  private final String topicName;
+  private transient LocalTopic topic;
+
+  public LocalProducer(LocalTransportProtocol protocol) {
+    this.topicName = protocol.getTopicDefinition().getActualTopicName();
+  }
+
+  @Override
+  public void connect() throws SpRuntimeException {
+    this.topic = LocalEventBus.INSTANCE.registerProducer(topicName);
+  }
+
+  public void publish(Map<String, Object> event) {
+    topic.publish(event);
+  }
+
+  @Override
+  public void publish(byte[] event) {
+    throw new SpRuntimeException("The local transport protocol does not support serialized events");
+  }
+
+  @Override
+  public void disconnect() throws SpRuntimeException {
+    if (topic != null) {
+      topic = null;
+      LocalEventBus.INSTANCE.unregisterProducer(topicName);
+    }
+  }
+
+  @Override
+  public boolean isConnected() {
+    return topic != null;
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.local;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.messaging.InternalEventProcessor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A single in-memory topic backed by a bounded queue. Publishers block when the queue is full, events are
+ * delivered to all subscribers by one dispatcher thread so that subscribers see events in publish order,
+ * similar to a broker consumer thread.
+ * <p>
+ * Events published before the first subscriber has connected are kept in the queue. If the queue is full while
+ * there is no subscriber, publishing fails instead of blocking forever.
+ * Topics are obtained and released through the {@link LocalEventBus}.
+ */
+public class LocalTopic {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LocalTopic.class);
+
+  private final String topicName;
+  private final int queueSize;
+  private final BlockingQueue<Map<String, Object>> queue;
+  private final List<InternalEventProcessor<Map<String, Object>>> subscribers;
+  private final Object subscriberLock;
+  private final AtomicInteger producerCount;
+  private final Thread dispatcher;
+
+  private volatile boolean running;
+
+  LocalTopic(String topicName, int queueSize) {
+    this.topicName = topicName;
+    this.queueSize = queueSize;
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.subscribers = new CopyOnWriteArrayList<>();
+    this.subscriberLock = new Object();
+    this.producerCount = new AtomicInteger(0);
+    this.running = true;
+    this.dispatcher = new Thread(this::dispatch, "sp-local-" + topicName);
+    this.dispatcher.setDaemon(true);
+    this.dispatcher.start();
+  }
+
+  public void publish(Map<String, Object> event) {
+    if (!running) {
+      throw new SpRuntimeException("Local topic " + topicName + " has been closed");
+    }
+    try {
+      if (!queue.offer(event)) {
+        if (subscribers.isEmpty()) {
+          throw new SpRuntimeException("Local topic " + topicName + " has no subscriber and its buffer of "
+              + queueSize + " events is full");
+        }
+        queue.put(event);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SpRuntimeException("Interrupted while publishing to local topic " + topicName);
+    }
+  }
+
+  public int getQueueSize() {
+    return queue.size();
+  }
+
+  void subscribe(InternalEventProcessor<Map<String, Object>> subscriber) {
+    synchronized (subscriberLock) {
+      subscribers.add(subscriber);
+      subscriberLock.notifyAll();
+    }
+  }
+
+  void unsubscribe(InternalEventProcessor<Map<String, Object>> subscriber) {
+    subscribers.remove(subscriber);
+  }
+
+  void registerProducer() {
+    producerCount.incrementAndGet();
+  }
+
+  void unregisterProducer() {
+    producerCount.decrementAndGet();
+  }
+
+  boolean isUnused() {
+    return subscribers.isEmpty() && producerCount.get() <= 0;
+  }
+
+  boolean isRunning() {
+    return running;
+  }
+
+  void close() {
+    running = false;
+    dispatcher.interrupt();
+    queue.clear();
+  }
+
+  private void dispatch() {
+    try {
+      while (running) {
+        var event = queue.take();
+        // an event taken while there is no subscriber is held back until a subscriber connects
+        while (!deliver(event)) {
+          awaitSubscriber();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean deliver(Map<String, Object> event) {
+    if (subscribers.isEmpty()) {
+      return false;
+    }
+    for (InternalEventProcessor<Map<String, Object>> subscriber : subscribers) {
+      deliver(subscriber, event);
+    }
+    return true;
+  }
+
+  private void awaitSubscriber() throws InterruptedException {
+    synchronized (subscriberLock) {
+      while (subscribers.isEmpty()) {
+        subscriberLock.wait();
+      }
+    }
+  }
+
+  private void deliver(InternalEventProcessor<Map<String, Object>> subscriber,
+                       Map<String, Object> event) {
+    try {
+      subscriber.onEvent(event);
+    } catch (RuntimeException e) {
+      LOG.error("Could not deliver event on local topic {}", topicName, e);
+    }
+  }
+}
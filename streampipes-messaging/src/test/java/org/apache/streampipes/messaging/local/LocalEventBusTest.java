@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.local;
+
+import org.apache.streampipes.messaging.InternalEventProcessor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalEventBusTest {
+
+  private final LocalEventBus bus = LocalEventBus.INSTANCE;
+
+  @Test
+  public void removesTopicWhenLastParticipantDisconnects() {
+    var topicName = UUID.randomUUID().toString();
+    InternalEventProcessor<Map<String, Object>> subscriber = event -> {
+    };
+
+    var producerTopic = bus.registerProducer(topicName);
+    var consumerTopic = bus.subscribe(topicName, subscriber);
+    assertSame(producerTopic, consumerTopic);
+
+    bus.unsubscribe(topicName, subscriber);
+    assertTrue(bus.hasTopic(topicName));
+    assertTrue(producerTopic.isRunning());
+
+    bus.unregisterProducer(topicName);
+    assertFalse(bus.hasTopic(topicName));
+    assertFalse(producerTopic.isRunning());
+  }
+
+  @Test
+  public void keepsTopicOfProducerWhenConsumerDisconnects() throws InterruptedException {
+    var topicName = UUID.randomUUID().toString();
+    InternalEventProcessor<Map<String, Object>> firstSubscriber = event -> {
+    };
+    bus.subscribe(topicName, firstSubscriber);
+    var producerTopic = bus.registerProducer(topicName);
+    bus.unsubscribe(topicName, firstSubscriber);
+
+    List<Object> received = new CopyOnWriteArrayList<>();
+    var consumerTopic = bus.subscribe(topicName, event -> received.add(event.get("i")));
+    producerTopic.publish(Map.of("i", 1));
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (received.isEmpty() && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(5);
+    }
+    assertSame(producerTopic, consumerTopic);
+    assertEquals(List.of(1), received);
+    bus.unregisterProducer(topicName);
+  }
+
+  @Test
+  public void producerNeverObtainsRemovedTopicWhileConsumersChurn() throws InterruptedException {
+    var topicName = UUID.randomUUID().toString();
+    var closedTopicObtained = new AtomicBoolean(false);
+    var done = new CountDownLatch(2);
+
+    var consumer = new Thread(() -> {
+      InternalEventProcessor<Map<String, Object>> subscriber = event -> {
+      };
+      for (int i = 0; i < 5000; i++) {
+        bus.subscribe(topicName, subscriber);
+        bus.unsubscribe(topicName, subscriber);
+      }
+      done.countDown();
+    });
+    var producer = new Thread(() -> {
+      for (int i = 0; i < 5000; i++) {
+        var topic = bus.registerProducer(topicName);
+        if (!topic.isRunning()) {
+          closedTopicObtained.set(true);
+        }
+        bus.unregisterProducer(topicName);
+      }
+      done.countDown();
+    });
+    consumer.start();
+    producer.start();
+
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+    assertFalse(closedTopicObtained.get());
+    assertFalse(bus.hasTopic(topicName));
+  }
+}
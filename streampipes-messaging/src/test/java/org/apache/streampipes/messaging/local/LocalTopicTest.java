@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.local;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.messaging.InternalEventProcessor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalTopicTest {
+
+  private LocalTopic topic;
+
+  @AfterEach
+  public void tearDown() {
+    topic.close();
+  }
+
+  @Test
+  public void deliversEventsInPublishOrder() throws InterruptedException {
+    topic = new LocalTopic("ordered", 16);
+    List<Integer> received = new CopyOnWriteArrayList<>();
+    topic.subscribe(event -> received.add((Integer) event.get("i")));
+
+    IntStream.range(0, 1000).forEach(i -> topic.publish(Map.of("i", i)));
+
+    awaitSize(received, 1000);
+    assertEquals(IntStream.range(0, 1000).boxed().toList(), received);
+  }
+
+  @Test
+  public void stopsDeliveringToUnsubscribedProcessor() throws InterruptedException {
+    topic = new LocalTopic("unsubscribe", 16);
+    List<Object> first = new CopyOnWriteArrayList<>();
+    List<Object> second = new CopyOnWriteArrayList<>();
+    InternalEventProcessor<Map<String, Object>> firstSubscriber = event -> first.add(event.get("i"));
+    topic.subscribe(firstSubscriber);
+    topic.subscribe(event -> second.add(event.get("i")));
+
+    topic.publish(Map.of("i", 0));
+    awaitSize(second, 1);
+    topic.unsubscribe(firstSubscriber);
+    topic.publish(Map.of("i", 1));
+    awaitSize(second, 2);
+
+    assertEquals(List.of(0), first);
+    assertEquals(List.of(0, 1), second);
+  }
+
+  @Test
+  public void buffersEventsUntilFirstSubscriberConnects() throws InterruptedException {
+    topic = new LocalTopic("buffered", 16);
+    topic.publish(Map.of("i", 0));
+    topic.publish(Map.of("i", 1));
+
+    List<Object> received = new CopyOnWriteArrayList<>();
+    topic.subscribe(event -> received.add(event.get("i")));
+
+    awaitSize(received, 2);
+    assertEquals(List.of(0, 1), received);
+  }
+
+  @Test
+  public void rejectsEventsWhenBufferIsFullWithoutSubscriber() throws InterruptedException {
+    topic = new LocalTopic("rejected", 2);
+
+    // the queue holds two events and the dispatcher holds back at most one more
+    assertThrows(SpRuntimeException.class, () -> IntStream.range(0, 4).forEach(i -> topic.publish(Map.of("i", i))));
+
+    List<Object> received = new CopyOnWriteArrayList<>();
+    topic.subscribe(event -> received.add(event.get("i")));
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    assertTrue(received.size() >= 2);
+    assertEquals(IntStream.range(0, received.size()).boxed().toList(), received);
+  }
+
+  private void awaitSize(List<?> list, int size) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (list.size() < size && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(5);
+    }
+  }
+}
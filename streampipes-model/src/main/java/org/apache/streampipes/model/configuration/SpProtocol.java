@@ -23,7 +23,8 @@ public enum SpProtocol {
   JMS("JMS", "org.apache.streampipes.model.grounding.JmsTransportProtocol"),
   MQTT("MQTT", "org.apache.streampipes.model.grounding.MqttTransportProtocol"),
   NATS("NATS", "org.apache.streampipes.model.grounding.NatsTransportProtocol"),
-  PULSAR("PULSAR", "org.apache.streampipes.model.grounding.PulsarTransportProtocol");
+  PULSAR("PULSAR", "org.apache.streampipes.model.grounding.PulsarTransportProtocol"),
+  LOCAL("Local", "org.apache.streampipes.model.grounding.LocalTransportProtocol");
 
   private final String name;
   private final String protocolClass;
@@ -21,17 +21,27 @@ package org.apache.streampipes.model.connect.rules.stream;
 import org.apache.streampipes.model.connect.rules.ITransformationRuleVisitor;
 import org.apache.streampipes.model.connect.rules.TransformationRulePriority;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class RemoveDuplicatesTransformationRuleDescription extends StreamTransformationRuleDescription {
 
   private String filterTimeWindow;
 
+  /**
+   * Runtime names of the fields that identify a duplicate event, all fields are compared if empty
+   */
+  private List<String> keyFields;
+
   public RemoveDuplicatesTransformationRuleDescription() {
     super();
+    this.keyFields = new ArrayList<>();
   }
 
   public RemoveDuplicatesTransformationRuleDescription(RemoveDuplicatesTransformationRuleDescription other) {
     super(other);
     this.filterTimeWindow = other.getFilterTimeWindow();
+    this.keyFields = other.getKeyFields() != null ? new ArrayList<>(other.getKeyFields()) : new ArrayList<>();
   }
 
   public String getFilterTimeWindow() {
@@ -42,6 +52,14 @@ public class RemoveDuplicatesTransformationRuleDescription extends StreamTransfo
     this.filterTimeWindow = filterTimeWindow;
   }
 
+  public List<String> getKeyFields() {
+    return keyFields;
+  }
+
+  public void setKeyFields(List<String> keyFields) {
+    this.keyFields = keyFields;
+  }
+
   @Override
   public void accept(ITransformationRuleVisitor visitor) {
     visitor.visit(this);
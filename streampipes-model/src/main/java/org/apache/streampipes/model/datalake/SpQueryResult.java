@@ -32,6 +32,7 @@ public class SpQueryResult {
   private int sourceIndex;
   private SpQueryStatus spQueryStatus;
   private String forId;
+  private String errorMessage;
 
   private long lastTimestamp;
 
@@ -104,6 +105,14 @@ public class SpQueryResult {
     this.forId = forId;
   }
 
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+
   public long getLastTimestamp() {
     return lastTimestamp;
   }
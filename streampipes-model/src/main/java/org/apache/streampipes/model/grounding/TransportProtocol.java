@@ -27,6 +27,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 @JsonSubTypes({
     @JsonSubTypes.Type(JmsTransportProtocol.class),
     @JsonSubTypes.Type(KafkaTransportProtocol.class),
+    @JsonSubTypes.Type(LocalTransportProtocol.class),
     @JsonSubTypes.Type(MqttTransportProtocol.class),
     @JsonSubTypes.Type(NatsTransportProtocol.class),
     @JsonSubTypes.Type(PulsarTransportProtocol.class)
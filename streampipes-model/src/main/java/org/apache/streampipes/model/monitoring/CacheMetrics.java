@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.model.monitoring;
+
+/**
+ * Metrics of a cache, e.g., the query cache of the data explorer or the duplicate cache of an adapter.
+ * The hit rate is the share of hits among all lookups.
+ */
+public class CacheMetrics {
+
+  private long hits;
+  private long misses;
+  private double hitRate;
+  private long evictions;
+  private long invalidations;
+  private long size;
+
+  public CacheMetrics() {
+  }
+
+  public long getHits() {
+    return hits;
+  }
+
+  public void setHits(long hits) {
+    this.hits = hits;
+  }
+
+  public long getMisses() {
+    return misses;
+  }
+
+  public void setMisses(long misses) {
+    this.misses = misses;
+  }
+
+  public double getHitRate() {
+    return hitRate;
+  }
+
+  public void setHitRate(double hitRate) {
+    this.hitRate = hitRate;
+  }
+
+  public long getEvictions() {
+    return evictions;
+  }
+
+  public void setEvictions(long evictions) {
+    this.evictions = evictions;
+  }
+
+  public long getInvalidations() {
+    return invalidations;
+  }
+
+  public void setInvalidations(long invalidations) {
+    this.invalidations = invalidations;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public void setSize(long size) {
+    this.size = size;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.model.monitoring;
+
+/**
+ * Scheduling metrics of a pull adapter. Durations and lags are given in milliseconds, the lag is the time between
+ * the scheduled and the actual start of a pull.
+ */
+public class PullMetrics {
+
+  private long pulls;
+  private long failedPulls;
+  private long skippedPulls;
+  private long lastDuration;
+  private long averageDuration;
+  private long maxDuration;
+  private long lastLag;
+  private long maxLag;
+
+  public PullMetrics() {
+  }
+
+  public long getPulls() {
+    return pulls;
+  }
+
+  public void setPulls(long pulls) {
+    this.pulls = pulls;
+  }
+
+  public long getFailedPulls() {
+    return failedPulls;
+  }
+
+  public void setFailedPulls(long failedPulls) {
+    this.failedPulls = failedPulls;
+  }
+
+  public long getSkippedPulls() {
+    return skippedPulls;
+  }
+
+  public void setSkippedPulls(long skippedPulls) {
+    this.skippedPulls = skippedPulls;
+  }
+
+  public long getLastDuration() {
+    return lastDuration;
+  }
+
+  public void setLastDuration(long lastDuration) {
+    this.lastDuration = lastDuration;
+  }
+
+  public long getAverageDuration() {
+    return averageDuration;
+  }
+
+  public void setAverageDuration(long averageDuration) {
+    this.averageDuration = averageDuration;
+  }
+
+  public long getMaxDuration() {
+    return maxDuration;
+  }
+
+  public void setMaxDuration(long maxDuration) {
+    this.maxDuration = maxDuration;
+  }
+
+  public long getLastLag() {
+    return lastLag;
+  }
+
+  public void setLastLag(long lastLag) {
+    this.lastLag = lastLag;
+  }
+
+  public long getMaxLag() {
+    return maxLag;
+  }
+
+  public void setMaxLag(long maxLag) {
+    this.maxLag = maxLag;
+  }
+}
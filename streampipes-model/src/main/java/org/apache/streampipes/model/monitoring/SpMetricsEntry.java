@@ -29,6 +29,9 @@ public class SpMetricsEntry {
   private long lastTimestamp;
   private Map<String, MessageCounter> messagesIn;
   private MessageCounter messagesOut;
+  private PullMetrics pullMetrics;
+  private WriteMetrics writeMetrics;
+  private CacheMetrics cacheMetrics;
 
   public SpMetricsEntry() {
     this.messagesIn = new HashMap<>();
@@ -59,6 +62,30 @@ public class SpMetricsEntry {
     this.messagesOut = messagesOut;
   }
 
+  public PullMetrics getPullMetrics() {
+    return pullMetrics;
+  }
+
+  public void setPullMetrics(PullMetrics pullMetrics) {
+    this.pullMetrics = pullMetrics;
+  }
+
+  public WriteMetrics getWriteMetrics() {
+    return writeMetrics;
+  }
+
+  public void setWriteMetrics(WriteMetrics writeMetrics) {
+    this.writeMetrics = writeMetrics;
+  }
+
+  public CacheMetrics getCacheMetrics() {
+    return cacheMetrics;
+  }
+
+  public void setCacheMetrics(CacheMetrics cacheMetrics) {
+    this.cacheMetrics = cacheMetrics;
+  }
+
   public void addOutMetrics(long lastTimestamp) {
     this.messagesOut.setLastTimestamp(lastTimestamp);
     this.messagesOut.setCounter(this.messagesOut.getCounter() + 1);
@@ -80,5 +107,7 @@ public class SpMetricsEntry {
     this.messagesIn.clear();
     this.messagesOut.setCounter(0);
     this.messagesOut.setLastTimestamp(0);
+    this.pullMetrics = null;
+    this.writeMetrics = null;
   }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.model.monitoring;
+
+/**
+ * Metrics of the batched writes of a data sink. Latencies are given in milliseconds.
+ * Blocked writes count the events which had to wait for a full write buffer, buffered events is the number of
+ * events waiting for the next flush.
+ */
+public class WriteMetrics {
+
+  private long flushes;
+  private long failedFlushes;
+  private long events;
+  private double averageFlushSize;
+  private double averageLatency;
+  private double maxLatency;
+  private long blockedWrites;
+  private long bufferedEvents;
+
+  public WriteMetrics() {
+  }
+
+  public long getFlushes() {
+    return flushes;
+  }
+
+  public void setFlushes(long flushes) {
+    this.flushes = flushes;
+  }
+
+  public long getFailedFlushes() {
+    return failedFlushes;
+  }
+
+  public void setFailedFlushes(long failedFlushes) {
+    this.failedFlushes = failedFlushes;
+  }
+
+  public long getEvents() {
+    return events;
+  }
+
+  public void setEvents(long events) {
+    this.events = events;
+  }
+
+  public double getAverageFlushSize() {
+    return averageFlushSize;
+  }
+
+  public void setAverageFlushSize(double averageFlushSize) {
+    this.averageFlushSize = averageFlushSize;
+  }
+
+  public double getAverageLatency() {
+    return averageLatency;
+  }
+
+  public void setAverageLatency(double averageLatency) {
+    this.averageLatency = averageLatency;
+  }
+
+  public double getMaxLatency() {
+    return maxLatency;
+  }
+
+  public void setMaxLatency(double maxLatency) {
+    this.maxLatency = maxLatency;
+  }
+
+  public long getBlockedWrites() {
+    return blockedWrites;
+  }
+
+  public void setBlockedWrites(long blockedWrites) {
+    this.blockedWrites = blockedWrites;
+  }
+
+  public long getBufferedEvents() {
+    return bufferedEvents;
+  }
+
+  public void setBufferedEvents(long bufferedEvents) {
+    this.bufferedEvents = bufferedEvents;
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.model.runtime;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.constants.PropertySelectorConstants;
+import org.apache.streampipes.model.runtime.FieldHandle.FieldKind;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyNested;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.vocabulary.XSD;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves a handle for every property of an event schema (nested properties included, items of lists excluded),
+ * so that fields of events created for this schema can be accessed through {@link FieldHandle}s instead of scanning
+ * the field map.
+ */
+public class CompiledEventSchema implements Serializable {
+
+  private static final Set<String> LONG_TYPES = Set.of(
+      XSD.LONG.toString(),
+      XSD.INTEGER.toString(),
+      XSD.INT.toString(),
+      XSD.SHORT.toString(),
+      XSD.BYTE.toString()
+  );
+
+  private static final Set<String> DOUBLE_TYPES = Set.of(
+      XSD.DOUBLE.toString(),
+      XSD.FLOAT.toString(),
+      XSD.DECIMAL.toString()
+  );
+
+  private final String selectorPrefix;
+  private final List<FieldHandle> handles;
+  private final Map<String, FieldHandle> handlesBySelector;
+  private final Map<String, FieldHandle> handlesByRuntimeName;
+  private final Map<String, Map<String, FieldHandle>> childHandlesBySelector;
+
+  private CompiledEventSchema(String selectorPrefix) {
+    this.selectorPrefix = selectorPrefix;
+    this.handles = new ArrayList<>();
+    this.handlesBySelector = new HashMap<>();
+    this.handlesByRuntimeName = new HashMap<>();
+    this.childHandlesBySelector = new HashMap<>();
+  }
+
+  public static CompiledEventSchema compile(EventSchema eventSchema,
+                                            String selectorPrefix) {
+    var compiledSchema = new CompiledEventSchema(selectorPrefix);
+    if (eventSchema != null) {
+      compiledSchema.addProperties(eventSchema.getEventProperties(), selectorPrefix, new String[0]);
+    }
+    return compiledSchema;
+  }
+
+  public String getSelectorPrefix() {
+    return selectorPrefix;
+  }
+
+  public int size() {
+    return handles.size();
+  }
+
+  public List<FieldHandle> getHandles() {
+    return handles;
+  }
+
+  public Optional<FieldHandle> findHandle(String fieldSelector) {
+    return Optional.ofNullable(handlesBySelector.get(fieldSelector));
+  }
+
+  public FieldHandle getHandle(String fieldSelector) {
+    return findHandle(fieldSelector)
+        .orElseThrow(() -> new SpRuntimeException("Field " + fieldSelector + " not found in schema"));
+  }
+
+  public Optional<FieldHandle> findHandleByRuntimeName(String runtimeName) {
+    return Optional.ofNullable(handlesByRuntimeName.get(runtimeName));
+  }
+
+  /**
+   * Returns the handles of the properties directly below the given selector, indexed by their runtime name.
+   * Top-level properties are found below the selector prefix of this schema.
+   */
+  public Map<String, FieldHandle> getChildHandles(String parentSelector) {
+    return childHandlesBySelector.getOrDefault(parentSelector, Map.of());
+  }
+
+  private void addProperties(List<EventProperty> properties,
+                             String prefix,
+                             String[] parentPath) {
+    for (EventProperty property : properties) {
+      var selector = prefix + PropertySelectorConstants.PROPERTY_DELIMITER + property.getRuntimeName();
+      var path = Arrays.copyOf(parentPath, parentPath.length + 1);
+      path[parentPath.length] = selector;
+      var handle = new FieldHandle(handles.size(), selector, path, property.getRuntimeName(), getKind(property));
+      handles.add(handle);
+      handlesBySelector.put(selector, handle);
+      childHandlesBySelector.computeIfAbsent(prefix, key -> new HashMap<>()).put(property.getRuntimeName(), handle);
+      if (parentPath.length == 0) {
+        handlesByRuntimeName.putIfAbsent(property.getRuntimeName(), handle);
+      }
+      if (property instanceof EventPropertyNested) {
+        addProperties(((EventPropertyNested) property).getEventProperties(), selector, path);
+      }
+    }
+  }
+
+  private FieldKind getKind(EventProperty property) {
+    if (property instanceof EventPropertyPrimitive) {
+      var runtimeType = ((EventPropertyPrimitive) property).getRuntimeType();
+      if (LONG_TYPES.contains(runtimeType)) {
+        return FieldKind.LONG;
+      } else if (DOUBLE_TYPES.contains(runtimeType)) {
+        return FieldKind.DOUBLE;
+      } else if (XSD.BOOLEAN.toString().equals(runtimeType)) {
+        return FieldKind.BOOLEAN;
+      }
+    }
+    return FieldKind.OTHER;
+  }
+}
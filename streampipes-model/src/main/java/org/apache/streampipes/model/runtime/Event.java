@@ -20,6 +20,7 @@ package org.apache.streampipes.model.runtime;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.model.constants.PropertySelectorConstants;
 import org.apache.streampipes.model.runtime.field.AbstractField;
+import org.apache.streampipes.model.runtime.field.NestedField;
 import org.apache.streampipes.model.runtime.field.PrimitiveField;
 import org.apache.streampipes.model.schema.EventSchema;
 
@@ -71,6 +72,15 @@ public class Event {
   }
 
   public Optional<AbstractField> getOptionalFieldByRuntimeName(String runtimeName) {
+    var compiledSchema = getCompiledSchema();
+    if (compiledSchema != null) {
+      var field = compiledSchema.findHandleByRuntimeName(runtimeName)
+          .map(handle -> fieldMap.get(handle.getSelector()))
+          .orElse(null);
+      if (field != null && field.getFieldNameIn().equals(runtimeName)) {
+        return Optional.of(field);
+      }
+    }
     return fieldMap
         .entrySet()
         .stream()
@@ -90,9 +100,75 @@ public class Event {
   }
 
   public AbstractField getFieldBySelector(String fieldSelector) {
+    var compiledSchema = getCompiledSchema();
+    if (compiledSchema != null && !fieldMap.containsKey(fieldSelector)) {
+      var handle = compiledSchema.findHandle(fieldSelector);
+      if (handle.isPresent()) {
+        return getFieldByHandle(handle.get());
+      }
+    }
     return getFieldBySelector(fieldSelector, fieldMap);
   }
 
+  /**
+   * Returns the field referenced by a handle of the compiled input schema.
+   * Falls back to a lookup by selector if the field map does not follow the path of the handle.
+   */
+  public AbstractField getFieldByHandle(FieldHandle handle) {
+    var field = followPath(handle);
+    return field != null ? field : getFieldBySelector(handle.getSelector(), fieldMap);
+  }
+
+  /**
+   * Returns the field referenced by a handle of the compiled input schema, or an empty optional if the event does
+   * not contain the field.
+   */
+  public Optional<AbstractField> findFieldByHandle(FieldHandle handle) {
+    var field = followPath(handle);
+    return field != null ? Optional.of(field) : findFieldBySelector(handle.getSelector(), fieldMap);
+  }
+
+  public double getDoubleByHandle(FieldHandle handle) {
+    var field = getFieldByHandle(handle);
+    return field.getRawValue() instanceof Number number ? number.doubleValue() : field.getAsPrimitive().getAsDouble();
+  }
+
+  public long getLongByHandle(FieldHandle handle) {
+    var field = getFieldByHandle(handle);
+    return field.getRawValue() instanceof Number number ? number.longValue() : field.getAsPrimitive().getAsLong();
+  }
+
+  public boolean getBooleanByHandle(FieldHandle handle) {
+    var field = getFieldByHandle(handle);
+    return field.getRawValue() instanceof Boolean value ? value : field.getAsPrimitive().getAsBoolean();
+  }
+
+  private CompiledEventSchema getCompiledSchema() {
+    var compiledSchema = schemaInfo != null ? schemaInfo.getCompiledSchema() : null;
+    return compiledSchema != null
+        && sourceInfo != null
+        && compiledSchema.getSelectorPrefix().equals(sourceInfo.getSelectorPrefix()) ? compiledSchema : null;
+  }
+
+  /**
+   * Follows the path of the handle through the (nested) field maps, using the selectors precomputed by the
+   * compiled schema as keys.
+   *
+   * @return The field or null if the field map does not contain the path
+   */
+  private AbstractField followPath(FieldHandle handle) {
+    var path = handle.getPath();
+    Map<String, AbstractField> currentFieldMap = fieldMap;
+    for (int i = 0; i < path.length - 1; i++) {
+      var field = currentFieldMap.get(path[i]);
+      if (!(field instanceof NestedField)) {
+        return null;
+      }
+      currentFieldMap = ((NestedField) field).getRawValue();
+    }
+    return currentFieldMap.get(path[path.length - 1]);
+  }
+
   private AbstractField getFieldBySelector(String fieldSelector, Map<String, AbstractField>
       currentFieldMap) {
     if (currentFieldMap.containsKey(fieldSelector)) {
@@ -102,6 +178,21 @@ public class Event {
     }
   }
 
+  private Optional<AbstractField> findFieldBySelector(String fieldSelector,
+                                                      Map<String, AbstractField> currentFieldMap) {
+    if (currentFieldMap.containsKey(fieldSelector)) {
+      return Optional.of(currentFieldMap.get(fieldSelector));
+    } else {
+      return currentFieldMap
+          .entrySet()
+          .stream()
+          .filter(entry -> entry.getValue() instanceof NestedField)
+          .filter(entry -> fieldSelector.startsWith(entry.getKey() + PropertySelectorConstants.PROPERTY_DELIMITER))
+          .findFirst()
+          .flatMap(entry -> findFieldBySelector(fieldSelector, entry.getValue().getAsComposite().getRawValue()));
+    }
+  }
+
   private Map<String, AbstractField> getNestedItem(String fieldSelector, Map<String,
       AbstractField> currentFieldMap) {
     String key = currentFieldMap.keySet().stream().filter(fieldSelector::startsWith)
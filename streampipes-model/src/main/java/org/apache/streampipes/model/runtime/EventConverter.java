@@ -51,7 +51,15 @@ public class EventConverter {
     return toMap(false);
   }
 
-  private Object makeEntry(AbstractField value, Boolean renameProperties) {
+  /**
+   * Returns the value of the given field in the same representation as in the map returned by
+   * {@link Event#getRaw()}.
+   */
+  public static Object toRawValue(AbstractField field) {
+    return makeEntry(field, false);
+  }
+
+  private static Object makeEntry(AbstractField value, Boolean renameProperties) {
     if (value instanceof PrimitiveField) {
       return value.getRawValue();
     } else if (value instanceof ListField) {
@@ -70,7 +78,7 @@ public class EventConverter {
     }
   }
 
-  private String getValue(AbstractField field, Boolean renameProperties) {
+  private static String getValue(AbstractField field, Boolean renameProperties) {
     return renameProperties ? field.getFieldNameOut() : field.getFieldNameIn();
   }
 }
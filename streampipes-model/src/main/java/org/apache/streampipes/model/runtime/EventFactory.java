@@ -77,6 +77,29 @@ public class EventFactory {
     return new Event(fields, sourceInfo, schemaInfo);
   }
 
+  /**
+   * Creates an event from top-level values which are already available by index, without building an
+   * intermediate map.
+   *
+   * @param runtimeNames The runtime names of the top-level fields
+   * @param values       The values of the fields in the order of the runtime names
+   */
+  public static Event fromValues(String[] runtimeNames,
+                                 Object[] values,
+                                 SourceInfo sourceInfo,
+                                 SchemaInfo schemaInfo) {
+
+    Map<String, AbstractField> fields = new LinkedTreeMap<>();
+    String selectorPrefix = sourceInfo.getSelectorPrefix();
+
+    for (int i = 0; i < runtimeNames.length; i++) {
+      String currentSelector = makeSelector(runtimeNames[i], selectorPrefix);
+      fields.put(currentSelector, makeField(runtimeNames[i], values[i], currentSelector, schemaInfo));
+    }
+
+    return new Event(fields, sourceInfo, schemaInfo);
+  }
+
   public static Event makeSubset(Event event, List<String> fieldSelectors) {
     Map<String, AbstractField> fieldMap = makeFieldMap(event.getFields(), fieldSelectors);
     return new Event(fieldMap, event.getSourceInfo(), event.getSchemaInfo());
@@ -147,7 +170,7 @@ public class EventFactory {
     }
   }
 
-  private static String getNewRuntimeName(String currentSelector, String
+  static String getNewRuntimeName(String currentSelector, String
       runtimeName, List<PropertyRenameRule>
                                               renameRules) {
     return renameRules
@@ -157,7 +180,7 @@ public class EventFactory {
         .map(PropertyRenameRule::getNewRuntimeName).orElse(runtimeName);
   }
 
-  private static String makeSelector(String key, String selectorPrefix) {
+  static String makeSelector(String key, String selectorPrefix) {
     return selectorPrefix + PropertySelectorConstants.PROPERTY_DELIMITER + key;
   }
 }
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.model.runtime;
+
+import org.apache.streampipes.model.output.PropertyRenameRule;
+import org.apache.streampipes.model.runtime.field.AbstractField;
+import org.apache.streampipes.model.runtime.field.ListField;
+import org.apache.streampipes.model.runtime.field.NestedField;
+import org.apache.streampipes.model.runtime.field.PrimitiveField;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.gson.internal.LinkedTreeMap;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads events from and writes events to Jackson token streams, without an intermediate map.
+ * <p>
+ * The resulting events are equal to the events created by {@link EventFactory#fromMap(Map, SourceInfo, SchemaInfo)}
+ * from the map a Jackson {@code ObjectMapper} would produce for the same input, and {@link #write(Event,
+ * JsonGenerator)} produces the same document as serializing the map of {@link EventConverter#toMap()}.
+ * If the schema info contains a compiled schema for the selector prefix of the source, runtime names and selectors
+ * of known properties are taken from the compiled schema instead of being created for every event.
+ */
+public final class EventStreamCodec {
+
+  private EventStreamCodec() {
+  }
+
+  /**
+   * Reads the next JSON object of the parser into an event.
+   *
+   * @param parser     The parser positioned before the object.
+   * @param sourceInfo The source the event belongs to.
+   * @param schemaInfo The schema info of the source.
+   * @return The event.
+   * @throws IOException If the input is not a valid event.
+   */
+  public static Event read(JsonParser parser,
+                           SourceInfo sourceInfo,
+                           SchemaInfo schemaInfo) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("Expected an object but found " + parser.currentToken());
+    }
+    var selectorPrefix = sourceInfo.getSelectorPrefix();
+    var compiledSchema = schemaInfo.getCompiledSchema();
+    var indexedSchema = compiledSchema != null && compiledSchema.getSelectorPrefix().equals(selectorPrefix)
+        ? compiledSchema
+        : null;
+
+    var fields = new Reader(parser, schemaInfo.getRenameRules(), indexedSchema)
+        .readObject(selectorPrefix, indexedSchema != null);
+    return new Event(fields, sourceInfo, schemaInfo);
+  }
+
+  /**
+   * Writes the event as JSON object using the (renamed) output names of its fields.
+   * Values other than strings, numbers and booleans are written by the codec of the generator,
+   * so the generator should be created by the factory of an {@code ObjectMapper}.
+   *
+   * @param event     The event to write.
+   * @param generator The generator to write to.
+   * @throws IOException If the event could not be written.
+   */
+  public static void write(Event event,
+                           JsonGenerator generator) throws IOException {
+    writeObject(event.getFields(), generator);
+  }
+
+  private static void writeObject(Map<String, AbstractField> fields,
+                                  JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    for (AbstractField field : fields.values()) {
+      generator.writeFieldName(field.getFieldNameOut());
+      writeValue(field, generator);
+    }
+    generator.writeEndObject();
+  }
+
+  private static void writeValue(AbstractField field,
+                                 JsonGenerator generator) throws IOException {
+    if (field instanceof PrimitiveField) {
+      writePrimitive(field.getRawValue(), generator);
+    } else if (field instanceof ListField listField) {
+      generator.writeStartArray();
+      for (AbstractField item : listField.getRawValue()) {
+        writeValue(item, generator);
+      }
+      generator.writeEndArray();
+    } else {
+      writeObject(field.getAsComposite().getRawValue(), generator);
+    }
+  }
+
+  private static void writePrimitive(Object value,
+                                     JsonGenerator generator) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof String stringValue) {
+      generator.writeString(stringValue);
+    } else if (value instanceof Integer intValue) {
+      generator.writeNumber(intValue);
+    } else if (value instanceof Long longValue) {
+      generator.writeNumber(longValue);
+    } else if (value instanceof Double doubleValue) {
+      generator.writeNumber(doubleValue);
+    } else if (value instanceof Float floatValue) {
+      generator.writeNumber(floatValue);
+    } else if (value instanceof Boolean booleanValue) {
+      generator.writeBoolean(booleanValue);
+    } else if (value instanceof Short shortValue) {
+      generator.writeNumber(shortValue);
+    } else if (value instanceof BigInteger bigIntegerValue) {
+      generator.writeNumber(bigIntegerValue);
+    } else if (value instanceof BigDecimal bigDecimalValue) {
+      generator.writeNumber(bigDecimalValue);
+    } else {
+      // any other value is serialized by the codec of the generator, as it would be when serializing a map
+      generator.writeObject(value);
+    }
+  }
+
+  private static class Reader {
+
+    private final JsonParser parser;
+    private final List<PropertyRenameRule> renameRules;
+    private final CompiledEventSchema compiledSchema;
+
+    Reader(JsonParser parser,
+           List<PropertyRenameRule> renameRules,
+           CompiledEventSchema compiledSchema) {
+      this.parser = parser;
+      this.renameRules = renameRules;
+      this.compiledSchema = compiledSchema;
+    }
+
+    /**
+     * Reads the fields of the current object until its end token.
+     *
+     * @param parentSelector The selector of the object.
+     * @param indexed        Whether the fields of the object are part of the compiled schema.
+     */
+    Map<String, AbstractField> readObject(String parentSelector,
+                                          boolean indexed) throws IOException {
+      Map<String, AbstractField> fields = new LinkedTreeMap<>();
+      var childHandles = indexed ? compiledSchema.getChildHandles(parentSelector) : Map.<String, FieldHandle>of();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var name = parser.currentName();
+        var handle = childHandles.get(name);
+        parser.nextToken();
+        if (handle != null) {
+          fields.put(handle.getSelector(), readValue(handle.getRuntimeName(), handle.getSelector(), true));
+        } else {
+          var selector = EventFactory.makeSelector(name, parentSelector);
+          fields.put(selector, readValue(name, selector, false));
+        }
+      }
+      return fields;
+    }
+
+    private AbstractField readValue(String runtimeName,
+                                    String selector,
+                                    boolean indexed) throws IOException {
+      var fieldNameOut = getFieldNameOut(selector, runtimeName);
+      return switch (parser.currentToken()) {
+        case START_OBJECT -> new NestedField(runtimeName, fieldNameOut, readObject(selector, indexed));
+        case START_ARRAY -> new ListField(runtimeName, fieldNameOut, readList(selector));
+        default -> new PrimitiveField(runtimeName, fieldNameOut, readPrimitive());
+      };
+    }
+
+    private List<AbstractField> readList(String selector) throws IOException {
+      List<AbstractField> items = new ArrayList<>();
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        // list items are not part of the compiled schema
+        items.add(readValue("", selector + "::" + items.size(), false));
+      }
+      return items;
+    }
+
+    private Object readPrimitive() throws IOException {
+      return switch (parser.currentToken()) {
+        case VALUE_STRING -> parser.getText();
+        case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+        case VALUE_TRUE -> Boolean.TRUE;
+        case VALUE_FALSE -> Boolean.FALSE;
+        case VALUE_NULL -> null;
+        case VALUE_EMBEDDED_OBJECT -> parser.getEmbeddedObject();
+        default -> throw new IOException("Unexpected token " + parser.currentToken());
+      };
+    }
+
+    private String getFieldNameOut(String selector,
+                                   String runtimeName) {
+      return renameRules.isEmpty() ? runtimeName : EventFactory.getNewRuntimeName(selector, runtimeName, renameRules);
+    }
+  }
+}
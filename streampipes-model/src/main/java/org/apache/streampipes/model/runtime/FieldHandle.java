@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.model.runtime;
+
+import java.io.Serializable;
+
+/**
+ * A field of an input stream which has been resolved against the compiled input schema.
+ * Handles should be obtained once (e.g., in onPipelineStarted) and can then be used to read fields of incoming
+ * events by following the pre-split path of the field through the field map, without parsing selectors.
+ */
+public class FieldHandle implements Serializable {
+
+  private final int index;
+  private final String selector;
+  private final String[] path;
+  private final String runtimeName;
+  private final FieldKind kind;
+
+  FieldHandle(int index,
+              String selector,
+              String[] path,
+              String runtimeName,
+              FieldKind kind) {
+    this.index = index;
+    this.selector = selector;
+    this.path = path;
+    this.runtimeName = runtimeName;
+    this.kind = kind;
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public String getSelector() {
+    return selector;
+  }
+
+  /**
+   * The selectors of the nested properties leading to this field, followed by the selector of the field itself.
+   */
+  String[] getPath() {
+    return path;
+  }
+
+  public String getRuntimeName() {
+    return runtimeName;
+  }
+
+  public FieldKind getKind() {
+    return kind;
+  }
+
+  public enum FieldKind {
+    LONG,
+    DOUBLE,
+    BOOLEAN,
+    OTHER
+  }
+}
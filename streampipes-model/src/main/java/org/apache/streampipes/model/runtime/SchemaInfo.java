@@ -28,12 +28,20 @@ public class SchemaInfo implements Serializable {
 
   private EventSchema eventSchema;
   private List<PropertyRenameRule> renameRules;
+  private CompiledEventSchema compiledSchema;
 
   public SchemaInfo(EventSchema eventSchema, List<PropertyRenameRule> renameRules) {
     this.eventSchema = eventSchema;
     this.renameRules = renameRules;
   }
 
+  public SchemaInfo(EventSchema eventSchema,
+                    List<PropertyRenameRule> renameRules,
+                    CompiledEventSchema compiledSchema) {
+    this(eventSchema, renameRules);
+    this.compiledSchema = compiledSchema;
+  }
+
   public EventSchema getEventSchema() {
     return eventSchema;
   }
@@ -42,6 +50,10 @@ public class SchemaInfo implements Serializable {
     return renameRules;
   }
 
+  public CompiledEventSchema getCompiledSchema() {
+    return compiledSchema;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -25,6 +25,7 @@ import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.graph.DataSinkDescription;
 import org.apache.streampipes.model.grounding.JmsTransportProtocol;
 import org.apache.streampipes.model.grounding.KafkaTransportProtocol;
+import org.apache.streampipes.model.grounding.LocalTransportProtocol;
 import org.apache.streampipes.model.grounding.MqttTransportProtocol;
 import org.apache.streampipes.model.grounding.NatsTransportProtocol;
 import org.apache.streampipes.model.grounding.PulsarTransportProtocol;
@@ -173,10 +174,6 @@ public class Cloner {
     }
   }
 
-//Refactoring end
-
-  }
-
   public List<TransportProtocol> protocols(List<TransportProtocol> protocols) {
     return protocols.stream().map(this::protocol).collect(Collectors.toList());
   }
@@ -192,6 +189,8 @@ public class Cloner {
       return new NatsTransportProtocol((NatsTransportProtocol) protocol);
     } else if (protocol instanceof PulsarTransportProtocol) {
       return new PulsarTransportProtocol((PulsarTransportProtocol) protocol);
+    } else if (protocol instanceof LocalTransportProtocol) {
+      return new LocalTransportProtocol((LocalTransportProtocol) protocol);
     } else {
       logger.error("Could not clone protocol of type {}", protocol.getClass().getCanonicalName());
       return protocol;
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.model.runtime;
+
+import org.apache.streampipes.model.constants.PropertySelectorConstants;
+import org.apache.streampipes.model.runtime.field.PrimitiveField;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyNested;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.vocabulary.XSD;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestCompiledEventSchema {
+
+  @Test
+  public void testPrimitiveHandles() {
+    var event = makeEvent(RuntimeTestUtils.multiplePropertiesMap());
+    var compiledSchema = event.getSchemaInfo().getCompiledSchema();
+
+    var timestamp = compiledSchema.getHandle("s0::timestamp");
+    var sensor1 = compiledSchema.getHandle("s0::sensor1");
+
+    Assertions.assertEquals(1L, event.getLongByHandle(timestamp));
+    Assertions.assertEquals(2.0, event.getDoubleByHandle(sensor1));
+    Assertions.assertSame(event.getFieldBySelector("s0::sensor1"), event.getFieldByHandle(sensor1));
+  }
+
+  @Test
+  public void testNestedHandle() {
+    var event = makeEvent(RuntimeTestUtils.nestedMap());
+    var handle = event.getSchemaInfo().getCompiledSchema().getHandle("s0::nested::timestamp2");
+
+    Assertions.assertEquals(2L, event.getLongByHandle(handle));
+    Assertions.assertEquals(Integer.valueOf(2), event.getFieldBySelector("s0::nested::timestamp2")
+        .getAsPrimitive()
+        .getAsInt());
+  }
+
+  @Test
+  public void testHandleAfterValueUpdate() {
+    var event = makeEvent(RuntimeTestUtils.multiplePropertiesMap());
+    var handle = event.getSchemaInfo().getCompiledSchema().getHandle("s0::sensor1");
+
+    event.updateFieldBySelector("s0::sensor1", 5.5);
+
+    Assertions.assertEquals(5.5, event.getDoubleByHandle(handle));
+  }
+
+  @Test
+  public void testHandleAfterFieldRemoval() {
+    var event = makeEvent(RuntimeTestUtils.multiplePropertiesMap());
+    var handle = event.getSchemaInfo().getCompiledSchema().getHandle("s0::sensor1");
+
+    event.removeFieldBySelector("s0::sensor1");
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> event.getFieldByHandle(handle));
+  }
+
+  @Test
+  public void testRuntimeNameLookup() {
+    var event = makeEvent(RuntimeTestUtils.multiplePropertiesMap());
+
+    Assertions.assertEquals(Integer.valueOf(3), event.getFieldByRuntimeName("sensor2")
+        .getAsPrimitive()
+        .getAsInt());
+  }
+
+  @Test
+  public void testFindFieldByHandle() {
+    var event = makeEvent(RuntimeTestUtils.nestedMap());
+    var compiledSchema = event.getSchemaInfo().getCompiledSchema();
+    var nestedHandle = compiledSchema.getHandle("s0::nested::timestamp2");
+    var sensorHandle = compiledSchema.getHandle("s0::sensor1");
+
+    Assertions.assertEquals(2L, event.findFieldByHandle(nestedHandle).orElseThrow().getAsPrimitive().getAsLong());
+    Assertions.assertTrue(event.findFieldByHandle(sensorHandle).isEmpty());
+
+    event.removeFieldBySelector("s0::timestamp");
+    Assertions.assertEquals(2L, event.findFieldByHandle(nestedHandle).orElseThrow().getAsPrimitive().getAsLong());
+  }
+
+  @Test
+  public void testEventFromValues() {
+    var sourceInfo = RuntimeTestUtils.getSourceInfo();
+    var compiledSchema = CompiledEventSchema.compile(makeSchema(), PropertySelectorConstants.FIRST_STREAM_ID_PREFIX);
+    var schemaInfo = new SchemaInfo(makeSchema(), Collections.emptyList(), compiledSchema);
+
+    var event = EventFactory.fromValues(
+        new String[]{"timestamp", "sensor1"},
+        new Object[]{1L, 2.0},
+        sourceInfo,
+        schemaInfo);
+
+    Assertions.assertEquals(1L, event.getLongByHandle(compiledSchema.getHandle("s0::timestamp")));
+    Assertions.assertEquals(2.0, event.getDoubleByHandle(compiledSchema.getHandle("s0::sensor1")));
+    Assertions.assertEquals(Map.of("timestamp", 1L, "sensor1", 2.0), event.getRaw());
+  }
+
+  @Test
+  public void testHandleAfterFieldReplacement() {
+    var event = makeEvent(RuntimeTestUtils.nestedMap());
+    var handle = event.getSchemaInfo().getCompiledSchema().getHandle("s0::nested::timestamp2");
+    var replacement = new PrimitiveField("timestamp2", "timestamp2", 7L);
+
+    event.updateFieldBySelector("s0::nested::timestamp2", replacement);
+
+    Assertions.assertSame(replacement, event.getFieldByHandle(handle));
+    Assertions.assertEquals(7L, event.getLongByHandle(handle));
+  }
+
+  @Test
+  public void testHandleOfStringValue() {
+    var runtimeMap = new LinkedHashMap<String, Object>();
+    runtimeMap.put("sensor1", "2.5");
+    var event = makeEvent(runtimeMap);
+
+    Assertions.assertEquals(2.5, event.getDoubleByHandle(event.getSchemaInfo()
+        .getCompiledSchema()
+        .getHandle("s0::sensor1")));
+  }
+
+  @Test
+  public void testHandlesOfFieldsInDifferentOrder() {
+    var runtimeMap = new LinkedHashMap<String, Object>();
+    runtimeMap.put("nested", new LinkedHashMap<>(Map.of("timestamp2", 4L)));
+    runtimeMap.put("sensor2", 3);
+    runtimeMap.put("timestamp", 1L);
+    var event = makeEvent(runtimeMap);
+    var compiledSchema = event.getSchemaInfo().getCompiledSchema();
+
+    Assertions.assertEquals(1L, event.getLongByHandle(compiledSchema.getHandle("s0::timestamp")));
+    Assertions.assertEquals(3L, event.getLongByHandle(compiledSchema.getHandle("s0::sensor2")));
+    Assertions.assertEquals(4L, event.getLongByHandle(compiledSchema.getHandle("s0::nested::timestamp2")));
+  }
+
+  private Event makeEvent(Map<String, Object> runtimeMap) {
+    var sourceInfo = RuntimeTestUtils.getSourceInfo();
+    var schemaInfo = new SchemaInfo(
+        makeSchema(),
+        Collections.emptyList(),
+        CompiledEventSchema.compile(makeSchema(), PropertySelectorConstants.FIRST_STREAM_ID_PREFIX));
+    return EventFactory.fromMap(runtimeMap, sourceInfo, schemaInfo);
+  }
+
+  private EventSchema makeSchema() {
+    return new EventSchema(List.of(
+        primitive(XSD.LONG.toString(), "timestamp"),
+        primitive(XSD.DOUBLE.toString(), "sensor1"),
+        primitive(XSD.INTEGER.toString(), "sensor2"),
+        new EventPropertyNested("nested", List.of(
+            primitive(XSD.LONG.toString(), "timestamp"),
+            primitive(XSD.LONG.toString(), "timestamp2")))
+    ));
+  }
+
+  private EventProperty primitive(String runtimeType, String runtimeName) {
+    return new EventPropertyPrimitive(runtimeType, runtimeName, "", Collections.emptyList());
+  }
+}
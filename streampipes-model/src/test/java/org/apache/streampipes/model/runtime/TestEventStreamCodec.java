@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.model.runtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TestEventStreamCodec {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void testReadNestedEvent() throws IOException {
+    Map<String, Object> runtimeMap = RuntimeTestUtils.nestedMap();
+    runtimeMap.put("list", RuntimeTestUtils.listMap().get("list"));
+    var sourceInfo = RuntimeTestUtils.getSourceInfo();
+
+    Event event = read(objectMapper.writeValueAsBytes(runtimeMap), sourceInfo);
+
+    Assertions.assertEquals(RuntimeTestUtils.makeSimpleEvent(runtimeMap, sourceInfo).getRaw(), event.getRaw());
+    Assertions.assertEquals(2, event.getFieldBySelector("s0::nested::timestamp2").getAsPrimitive().getAsInt());
+    Assertions.assertEquals(3, event.getFieldBySelector("s0::list").getAsList().getRawValue().size());
+  }
+
+  @Test
+  public void testWriteRoundTrip() throws IOException {
+    Map<String, Object> runtimeMap = RuntimeTestUtils.nestedMap();
+    runtimeMap.put("value", 1.5);
+    runtimeMap.put("name", "sensor");
+    runtimeMap.put("active", true);
+    var sourceInfo = RuntimeTestUtils.getSourceInfo();
+
+    Event event = read(objectMapper.writeValueAsBytes(runtimeMap), sourceInfo);
+
+    var output = new ByteArrayOutputStream();
+    try (var generator = objectMapper.getFactory().createGenerator(output)) {
+      EventStreamCodec.write(event, generator);
+    }
+
+    Assertions.assertEquals(runtimeMap, objectMapper.readValue(output.toByteArray(), HashMap.class));
+  }
+
+  private Event read(byte[] payload,
+                     SourceInfo sourceInfo) throws IOException {
+    try (var parser = objectMapper.getFactory().createParser(payload)) {
+      return EventStreamCodec.read(parser, sourceInfo, new SchemaInfo(null, Collections.emptyList()));
+    }
+  }
+}
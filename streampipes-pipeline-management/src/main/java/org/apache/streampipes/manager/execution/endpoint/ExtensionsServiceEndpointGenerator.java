@@ -51,6 +51,15 @@ public class ExtensionsServiceEndpointGenerator implements IExtensionsServiceEnd
     return selectService(appId, spServiceUrlProvider, customServiceTags);
   }
 
+  /**
+   * Returns the base URLs of all healthy service instances which provide the given pipeline element.
+   */
+  public List<String> getEndpointBaseUrls(String appId,
+                                          SpServiceUrlProvider spServiceUrlProvider,
+                                          Set<SpServiceTag> customServiceTags) {
+    return getServiceEndpoints(appId, spServiceUrlProvider, customServiceTags);
+  }
+
   private String selectService(String appId,
                                SpServiceUrlProvider spServiceUrlProvider,
                                Set<SpServiceTag> customServiceTags) throws NoServiceEndpointsAvailableException {
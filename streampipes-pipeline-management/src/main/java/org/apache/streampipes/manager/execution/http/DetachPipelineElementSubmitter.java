@@ -31,6 +31,12 @@ public class DetachPipelineElementSubmitter extends PipelineElementSubmitter {
     super(pipeline);
   }
 
+  @Override
+  protected List<PipelineElementStatus> submitElements(List<InvocableStreamPipesEntity> processorsAndSinks) {
+    // producers are stopped before their consumers
+    return submission.detach(processorsAndSinks, this::submitElement);
+  }
+
   @Override
   protected PipelineElementStatus submitElement(EndpointSelectable pipelineElement) {
     return performDetach(pipelineElement);
@@ -64,6 +64,11 @@ public class InvokePipelineElementSubmitter extends PipelineElementSubmitter {
         graph.ifPresent(this::performDetach);
       }
     }
+    // elements which did not respond in time might have been started nevertheless
+    for (InvocableStreamPipesEntity element : submission.awaitTimedOutRequests()) {
+      LOG.info("Detaching pipeline element {} which did not respond in time", element.getName());
+      performDetach(element);
+    }
   }
 
   private Optional<InvocableStreamPipesEntity> findPipelineElements(String elementId,
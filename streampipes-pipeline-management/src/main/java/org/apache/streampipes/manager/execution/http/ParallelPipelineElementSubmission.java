@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.execution.http;
+
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.model.SpDataStream;
+import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
+import org.apache.streampipes.model.graph.DataProcessorInvocation;
+import org.apache.streampipes.model.pipeline.PipelineElementStatus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Submits invocation or detach requests of the data processors and sinks of a pipeline concurrently.
+ * <p>
+ * The elements are grouped into levels by their position in the pipeline: level 0 contains all elements whose
+ * output is not consumed by any other element of the pipeline (i.e., the sinks), level 1 all elements which
+ * produce events for elements of level 0 and so on. When invoking, the levels are submitted from the sinks
+ * upward, so that each consumer is running before its producer starts. When detaching, the order is reversed.
+ * All elements of a level are submitted concurrently on a bounded, shared executor, each element must respond
+ * within the configured timeout, otherwise a failed status is reported for this element.
+ * <p>
+ * HTTP requests cannot be interrupted, so a request which did not respond in time is not cancelled but kept as a
+ * pending request: the element might still be started by the extensions service, which is why callers must
+ * include these elements when rolling back (see {@link #awaitTimedOutRequests()}).
+ */
+public class ParallelPipelineElementSubmission {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ParallelPipelineElementSubmission.class);
+
+  private static final int QUEUE_CAPACITY = 1000;
+
+  private static final class SharedExecutor {
+    private static final ExecutorService INSTANCE =
+        makeExecutor(Environments.getEnvironment().getPipelineElementInvocationParallelism().getValueOrDefault());
+  }
+
+  private final ExecutorService executorService;
+  private final long timeoutMillis;
+  private final Map<InvocableStreamPipesEntity, Future<PipelineElementStatus>> timedOutRequests =
+      new IdentityHashMap<>();
+
+  public ParallelPipelineElementSubmission() {
+    this(SharedExecutor.INSTANCE,
+        Environments.getEnvironment().getPipelineElementInvocationTimeoutMillis().getValueOrDefault());
+  }
+
+  public ParallelPipelineElementSubmission(ExecutorService executorService,
+                                           long timeoutMillis) {
+    this.executorService = executorService;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Submits all elements, consumers first.
+   *
+   * @return the status of each element, in the order of the given elements
+   */
+  public List<PipelineElementStatus> invoke(List<InvocableStreamPipesEntity> elements,
+                                            Function<InvocableStreamPipesEntity, PipelineElementStatus> request) {
+    return submit(makeLevels(elements), elements, request);
+  }
+
+  /**
+   * Submits all elements, producers first.
+   *
+   * @return the status of each element, in the order of the given elements
+   */
+  public List<PipelineElementStatus> detach(List<InvocableStreamPipesEntity> elements,
+                                            Function<InvocableStreamPipesEntity, PipelineElementStatus> request) {
+    var levels = makeLevels(elements);
+    Collections.reverse(levels);
+    return submit(levels, elements, request);
+  }
+
+  private List<PipelineElementStatus> submit(List<List<Integer>> levels,
+                                             List<InvocableStreamPipesEntity> elements,
+                                             Function<InvocableStreamPipesEntity, PipelineElementStatus> request) {
+    var statuses = new ArrayList<PipelineElementStatus>(Collections.nCopies(elements.size(), null));
+    var interrupted = false;
+    for (List<Integer> level : levels) {
+      if (interrupted) {
+        // elements of the remaining levels are not submitted at all
+        level.forEach(index -> statuses.set(index, makeInterruptedStatus(elements.get(index))));
+      } else {
+        interrupted = !submitLevel(level, elements, request, statuses);
+      }
+    }
+    return statuses;
+  }
+
+  /**
+   * @return false if the calling thread was interrupted while waiting for the responses of the level
+   */
+  private boolean submitLevel(List<Integer> level,
+                           List<InvocableStreamPipesEntity> elements,
+                           Function<InvocableStreamPipesEntity, PipelineElementStatus> request,
+                           List<PipelineElementStatus> statuses) {
+    var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    List<Future<PipelineElementStatus>> futures = new ArrayList<>(level.size());
+    for (Integer index : level) {
+      var element = elements.get(index);
+      futures.add(executorService.submit(() -> performRequest(element, request)));
+    }
+
+    for (int i = 0; i < level.size(); i++) {
+      var element = elements.get(level.get(i));
+      var future = futures.get(i);
+      try {
+        var remaining = Math.max(0, deadline - System.nanoTime());
+        statuses.set(level.get(i), future.get(remaining, TimeUnit.NANOSECONDS));
+      } catch (TimeoutException e) {
+        timedOutRequests.put(element, future);
+        LOG.error("Pipeline element {} did not respond within {} ms", element.getName(), timeoutMillis);
+        statuses.set(level.get(i), makeErrorStatus(element,
+            "Pipeline element did not respond within " + timeoutMillis + " ms"));
+      } catch (ExecutionException e) {
+        statuses.set(level.get(i), makeErrorStatus(element, e.getCause().getMessage()));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        for (int j = i; j < level.size(); j++) {
+          var pendingElement = elements.get(level.get(j));
+          var pendingFuture = futures.get(j);
+          pendingFuture.cancel(true);
+          // a request which was already sent might still start the element, so it is rolled back as well
+          timedOutRequests.put(pendingElement, pendingFuture);
+          statuses.set(level.get(j), makeInterruptedStatus(pendingElement));
+        }
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Waits for the requests which did not respond within the timeout, at most for the configured timeout once more.
+   *
+   * @return the elements whose requests timed out, these may have been started despite their failed status
+   */
+  public List<InvocableStreamPipesEntity> awaitTimedOutRequests() {
+    var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    for (var request : timedOutRequests.entrySet()) {
+      try {
+        var remaining = Math.max(0, deadline - System.nanoTime());
+        request.getValue().get(remaining, TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        LOG.warn("Pipeline element {} still did not respond", request.getKey().getName());
+      } catch (ExecutionException | CancellationException e) {
+        // the element is detached anyway
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return new ArrayList<>(timedOutRequests.keySet());
+  }
+
+  private PipelineElementStatus performRequest(InvocableStreamPipesEntity element,
+                                               Function<InvocableStreamPipesEntity, PipelineElementStatus> request) {
+    try {
+      return request.apply(element);
+    } catch (RuntimeException e) {
+      LOG.error("Could not submit pipeline element {}", element.getName(), e);
+      return makeErrorStatus(element, e.getMessage());
+    }
+  }
+
+  private PipelineElementStatus makeInterruptedStatus(InvocableStreamPipesEntity element) {
+    return makeErrorStatus(element, "Request was interrupted");
+  }
+
+  private PipelineElementStatus makeErrorStatus(InvocableStreamPipesEntity element,
+                                                String message) {
+    return new PipelineElementStatus(element.getSelectedEndpointUrl(), element.getName(), false, message);
+  }
+
+  /**
+   * Groups the indices of the elements by their distance to the end of the pipeline, consumers first.
+   */
+  static List<List<Integer>> makeLevels(List<InvocableStreamPipesEntity> elements) {
+    Map<String, List<Integer>> consumersByTopic = new HashMap<>();
+    for (int i = 0; i < elements.size(); i++) {
+      for (SpDataStream stream : elements.get(i).getInputStreams()) {
+        var index = i;
+        getTopic(stream).ifPresent(topic -> consumersByTopic.computeIfAbsent(topic, t -> new ArrayList<>())
+            .add(index));
+      }
+    }
+
+    var depths = new Integer[elements.size()];
+    TreeMap<Integer, List<Integer>> levels = new TreeMap<>();
+    for (int i = 0; i < elements.size(); i++) {
+      var depth = getDepth(i, elements, consumersByTopic, depths, new HashSet<>());
+      levels.computeIfAbsent(depth, d -> new ArrayList<>()).add(i);
+    }
+    return new ArrayList<>(levels.values());
+  }
+
+  private static int getDepth(int index,
+                              List<InvocableStreamPipesEntity> elements,
+                              Map<String, List<Integer>> consumersByTopic,
+                              Integer[] depths,
+                              Set<Integer> visited) {
+    if (depths[index] != null) {
+      return depths[index];
+    }
+    // pipelines are acyclic, the check only prevents endless recursion for invalid pipelines
+    if (!visited.add(index)) {
+      return 0;
+    }
+    var depth = 0;
+    var element = elements.get(index);
+    if (element instanceof DataProcessorInvocation) {
+      var consumers = getTopic(((DataProcessorInvocation) element).getOutputStream())
+          .map(topic -> consumersByTopic.getOrDefault(topic, List.of()))
+          .orElse(List.of());
+      for (Integer consumer : consumers) {
+        depth = Math.max(depth, getDepth(consumer, elements, consumersByTopic, depths, visited) + 1);
+      }
+    }
+    depths[index] = depth;
+    return depth;
+  }
+
+  private static Optional<String> getTopic(SpDataStream stream) {
+    if (stream == null
+        || stream.getEventGrounding() == null
+        || stream.getEventGrounding().getTransportProtocol() == null
+        || stream.getEventGrounding().getTransportProtocol().getTopicDefinition() == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(stream.getEventGrounding().getTransportProtocol().getTopicDefinition()
+        .getActualTopicName());
+  }
+
+  private static ExecutorService makeExecutor(int parallelism) {
+    var threadCount = new AtomicInteger();
+    var executor = new ThreadPoolExecutor(
+        parallelism,
+        parallelism,
+        60,
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+        runnable -> {
+          var thread = new Thread(runnable, "pipeline-element-submission-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        // if the queue is full, the submitting thread performs the request itself
+        new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
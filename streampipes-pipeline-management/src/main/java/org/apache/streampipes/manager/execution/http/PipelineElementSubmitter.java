@@ -32,16 +32,18 @@ public abstract class PipelineElementSubmitter {
   protected final String pipelineName;
 
   protected final PipelineOperationStatus status;
+  protected final ParallelPipelineElementSubmission submission;
 
   public PipelineElementSubmitter(Pipeline pipeline) {
     this.pipelineId = pipeline.getPipelineId();
     this.pipelineName = pipeline.getName();
     this.status = new PipelineOperationStatus(pipelineId, pipelineName);
+    this.submission = new ParallelPipelineElementSubmission();
   }
 
   public PipelineOperationStatus submit(List<InvocableStreamPipesEntity> processorsAndSinks) {
     // First, try handling all data processors and sinks
-    processorsAndSinks.forEach(g -> status.addPipelineElementStatus(submitElement(g)));
+    submitElements(processorsAndSinks).forEach(status::addPipelineElementStatus);
 
     applySuccess(processorsAndSinks);
     return status;
@@ -60,6 +62,13 @@ public abstract class PipelineElementSubmitter {
     }
   }
 
+  /**
+   * Submits all elements concurrently, consumers are invoked before their producers.
+   */
+  protected List<PipelineElementStatus> submitElements(List<InvocableStreamPipesEntity> processorsAndSinks) {
+    return submission.invoke(processorsAndSinks, this::submitElement);
+  }
+
   protected PipelineElementStatus performDetach(EndpointSelectable pipelineElement) {
     String endpointUrl = pipelineElement.getSelectedEndpointUrl() + pipelineElement.getDetachPath();
     return new DetachHttpRequest().execute(pipelineElement, endpointUrl, this.pipelineId);
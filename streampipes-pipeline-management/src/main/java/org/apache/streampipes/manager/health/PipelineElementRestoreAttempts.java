@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.health;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks failed attempts to restore pipeline elements.
+ * <p>
+ * After a failed attempt, the next attempt is delayed by an exponentially growing number of health check runs,
+ * after {@link #MAX_FAILED_ATTEMPTS} failed attempts, the element is not restored anymore.
+ */
+public class PipelineElementRestoreAttempts {
+
+  public static final int MAX_FAILED_ATTEMPTS = 10;
+  private static final int MAX_BACKOFF_RUNS = 16;
+
+  private final Map<String, Attempts> attempts = new ConcurrentHashMap<>();
+
+  public boolean shouldRetry(String instanceId,
+                             long currentRun) {
+    var current = attempts.get(instanceId);
+    return current == null
+        || (current.failedAttempts() < MAX_FAILED_ATTEMPTS && currentRun >= current.nextAttemptRun());
+  }
+
+  /**
+   * @return the number of failed attempts including the current one
+   */
+  public int recordFailure(String instanceId,
+                           long currentRun) {
+    return attempts.compute(instanceId, (id, current) -> {
+      var failedAttempts = current == null ? 1 : current.failedAttempts() + 1;
+      var backoff = Math.min(1L << Math.min(failedAttempts - 1, 30), MAX_BACKOFF_RUNS);
+      return new Attempts(failedAttempts, currentRun + backoff);
+    }).failedAttempts();
+  }
+
+  public void reset(String instanceId) {
+    attempts.remove(instanceId);
+  }
+
+  private record Attempts(int failedAttempts,
+                          long nextAttemptRun) {
+  }
+}
@@ -19,14 +19,18 @@ package org.apache.streampipes.manager.health;
 
 
 import org.apache.streampipes.commons.constants.InstanceIdExtractor;
+import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.commons.exceptions.NoServiceEndpointsAvailableException;
+import org.apache.streampipes.commons.prometheus.pipelines.PipelinesMetrics;
 import org.apache.streampipes.commons.prometheus.pipelines.PipelinesStats;
 import org.apache.streampipes.manager.execution.endpoint.ExtensionsServiceEndpointGenerator;
 import org.apache.streampipes.manager.execution.endpoint.ExtensionsServiceEndpointUtils;
 import org.apache.streampipes.manager.execution.http.InvokeHttpRequest;
+import org.apache.streampipes.manager.execution.http.ParallelPipelineElementSubmission;
 import org.apache.streampipes.manager.storage.RunningPipelineElementStorage;
 import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
 import org.apache.streampipes.model.pipeline.Pipeline;
+import org.apache.streampipes.model.pipeline.PipelineElementStatus;
 import org.apache.streampipes.model.pipeline.PipelineHealthStatus;
 import org.apache.streampipes.storage.management.StorageDispatcher;
 import org.apache.streampipes.svcdiscovery.api.model.SpServiceUrlProvider;
@@ -34,159 +38,185 @@ import org.apache.streampipes.svcdiscovery.api.model.SpServiceUrlProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.apache.streampipes.manager.pipeline.PipelineManager.getPipeline;
 
+/**
+ * Checks whether all elements of running pipelines are still running and tries to restore missing elements.
+ * <p>
+ * The endpoints of the running pipeline elements are only recomputed if the running pipelines have changed. The
+ * running instances of all endpoints are fetched concurrently, missing elements are restored concurrently with an
+ * exponential backoff between failed attempts.
+ */
 public class PipelineHealthCheck implements Runnable {
 
   private static final Logger LOG = LoggerFactory.getLogger(PipelineHealthCheck.class);
-  private static final int MAX_FAILED_ATTEMPTS = 10;
-
-  private static final Map<String, Integer> failedRestartAttempts = new HashMap<>();
 
   private static final PipelinesStats pipelinesStats = new PipelinesStats();
 
+  private static final class SharedExecutor {
+    private static final ExecutorService INSTANCE = makeExecutor(
+        Environments.getEnvironment().getPipelineElementInvocationParallelism().getValueOrDefault());
+  }
+
+  private final PipelineElementRestoreAttempts restoreAttempts = new PipelineElementRestoreAttempts();
+  private final RunningPipelineElementInstances runningInstances =
+      new RunningPipelineElementInstances(SharedExecutor.INSTANCE);
+
+  private Map<String, List<InvocableStreamPipesEntity>> cachedRunningElements = Map.of();
+  private Set<String> cachedEndpoints = Set.of();
+  private long currentRun = 0;
+
   public PipelineHealthCheck() {
 
   }
 
   public void checkAndRestorePipelineElements() {
-    List<Pipeline> allPipelines = getAllPipelines();
-    List<Pipeline> runningPipelines = getRunningPipelines(allPipelines);
+    var timer = PipelinesMetrics.HEALTH_CHECK_DURATION.startTimer();
+    try {
+      currentRun++;
+      List<Pipeline> allPipelines = getAllPipelines();
+      List<Pipeline> runningPipelines = getRunningPipelines(allPipelines);
 
-    pipelinesStats.clear();
-    pipelinesStats.setAllPipelines(allPipelines.size());
-    pipelinesStats.setRunningPipelines(runningPipelines.size());
-    pipelinesStats.setStoppedPipelines(pipelinesStats.getAllPipelines() - pipelinesStats.getRunningPipelines());
+      pipelinesStats.clear();
+      pipelinesStats.setAllPipelines(allPipelines.size());
+      pipelinesStats.setRunningPipelines(runningPipelines.size());
+      pipelinesStats.setStoppedPipelines(pipelinesStats.getAllPipelines() - pipelinesStats.getRunningPipelines());
 
-    if (!runningPipelines.isEmpty()) {
-      Map<String, List<InvocableStreamPipesEntity>> endpointMap = generateEndpointMap();
-      List<String> allRunningInstances = findRunningInstances(endpointMap.keySet());
+      if (!runningPipelines.isEmpty()) {
+        Set<String> allRunningInstances = findRunningInstances();
 
-      runningPipelines.forEach(pipeline -> checkAndRestorePipeline(pipeline, allRunningInstances));
+        checkAndRestorePipelines(runningPipelines, allRunningInstances);
 
-      int healthNum = pipelinesStats.getRunningPipelines() - pipelinesStats.getFailedPipelines()
-              - pipelinesStats.getAttentionRequiredPipelines();
-      pipelinesStats.setHealthyPipelines(healthNum);
-      pipelinesStats.setElementCount(getElementsCount(allPipelines));
+        int healthNum = pipelinesStats.getRunningPipelines() - pipelinesStats.getFailedPipelines()
+            - pipelinesStats.getAttentionRequiredPipelines();
+        pipelinesStats.setHealthyPipelines(healthNum);
+        pipelinesStats.setElementCount(getElementsCount(allPipelines));
+      }
+      pipelinesStats.metrics();
+    } finally {
+      timer.observeDuration();
     }
-    pipelinesStats.metrics();
   }
 
-  private void checkAndRestorePipeline(Pipeline pipeline, List<String> allRunningInstances) {
-    AtomicBoolean shouldUpdatePipeline = new AtomicBoolean(false);
-    List<String> failedInstances = new ArrayList<>();
-    List<String> recoveredInstances = new ArrayList<>();
-    List<String> pipelineNotifications = new ArrayList<>();
-    List<InvocableStreamPipesEntity> graphs = RunningPipelineElementStorage
-            .runningProcessorsAndSinks
-            .get(pipeline.getPipelineId());
-
-    graphs.forEach(graph -> checkAndRestoreGraph(allRunningInstances, shouldUpdatePipeline, failedInstances, recoveredInstances, pipelineNotifications, graph));
+  private void checkAndRestorePipelines(List<Pipeline> runningPipelines,
+                                        Set<String> allRunningInstances) {
+    List<InvocableStreamPipesEntity> missingGraphs = new ArrayList<>();
+    List<Pipeline> missingGraphPipelines = new ArrayList<>();
+
+    runningPipelines.forEach(pipeline -> {
+      var graphs = RunningPipelineElementStorage.runningProcessorsAndSinks.get(pipeline.getPipelineId());
+      if (graphs != null) {
+        graphs.forEach(graph -> {
+          String instanceId = extractInstanceId(graph);
+          if (!allRunningInstances.contains(instanceId) && restoreAttempts.shouldRetry(instanceId, currentRun)) {
+            missingGraphs.add(graph);
+            missingGraphPipelines.add(pipeline);
+          }
+        });
+      }
+    });
 
-    if (shouldUpdatePipeline.get()) {
-      updatePipelineStatus(pipeline, failedInstances, recoveredInstances, pipelineNotifications);
+    if (!missingGraphs.isEmpty()) {
+      restoreGraphs(missingGraphs, missingGraphPipelines);
     }
   }
 
-  private void checkAndRestoreGraph(List<String> allRunningInstances, AtomicBoolean shouldUpdatePipeline, List<String> failedInstances, List<String> recoveredInstances, List<String> pipelineNotifications, InvocableStreamPipesEntity graph) {
-    String instanceId = extractInstanceId(graph);
-    if (allRunningInstances.stream().noneMatch(runningInstanceId -> runningInstanceId.equals(instanceId))) {
-      if (shouldRetry(instanceId)) {
-        handleRetry(shouldUpdatePipeline, failedInstances, recoveredInstances, pipelineNotifications, graph);
+  private void restoreGraphs(List<InvocableStreamPipesEntity> missingGraphs,
+                             List<Pipeline> missingGraphPipelines) {
+    var timer = PipelinesMetrics.RESTORE_DURATION.startTimer();
+    List<PipelineElementStatus> statuses;
+    try {
+      statuses = new ParallelPipelineElementSubmission().invoke(missingGraphs, this::restoreGraph);
+    } finally {
+      timer.observeDuration();
+    }
+
+    Map<String, PipelineRestoreResult> results = new LinkedHashMap<>();
+    for (int i = 0; i < missingGraphs.size(); i++) {
+      var graph = missingGraphs.get(i);
+      var pipeline = missingGraphPipelines.get(i);
+      var result = results.computeIfAbsent(pipeline.getPipelineId(), id -> new PipelineRestoreResult());
+      if (statuses.get(i).isSuccess()) {
+        // the element id of the status is the endpoint the element has been invoked at
+        handleSuccess(result, pipeline, graph, statuses.get(i).getElementId());
+      } else {
+        handleFailure(result, pipeline, graph);
       }
     }
+
+    results.forEach(this::updatePipelineStatus);
   }
 
-  private void handleRetry(AtomicBoolean shouldUpdatePipeline, List<String> failedInstances, List<String> recoveredInstances, List<String> pipelineNotifications, InvocableStreamPipesEntity graph) {
-    String endpointUrl = graph.getSelectedEndpointUrl();
-    shouldUpdatePipeline.set(true);
-    boolean success;
+  private PipelineElementStatus restoreGraph(InvocableStreamPipesEntity graph) {
     try {
-      endpointUrl = findEndpointUrl(graph);
-      success = new InvokeHttpRequest().execute(graph, endpointUrl, "").isSuccess();
+      String endpointUrl = findEndpointUrl(graph);
+      return new InvokeHttpRequest().execute(graph, endpointUrl, "");
     } catch (NoServiceEndpointsAvailableException e) {
-      success = false;
-    }
-    if (!success) {
-      handleFailure(failedInstances, pipelineNotifications, graph);
-    } else {
-      handleSuccess(recoveredInstances, pipelineNotifications, graph, endpointUrl);
+      return new PipelineElementStatus(graph.getSelectedEndpointUrl(), graph.getName(), false, e.getMessage());
     }
   }
 
-  private void updatePipelineStatus(Pipeline pipeline, List<String> failedInstances, List<String> recoveredInstances, List<String> pipelineNotifications) {
-    var currentPipeline = getPipeline(pipeline.getPipelineId());
-    if (!failedInstances.isEmpty()) {
+  private void updatePipelineStatus(String pipelineId,
+                                    PipelineRestoreResult result) {
+    var currentPipeline = getPipeline(pipelineId);
+    if (!result.failedInstances.isEmpty()) {
       currentPipeline.setHealthStatus(PipelineHealthStatus.FAILURE);
       pipelinesStats.failedIncrease();
-    } else if (!recoveredInstances.isEmpty()) {
+    } else if (!result.recoveredInstances.isEmpty()) {
       currentPipeline.setHealthStatus(PipelineHealthStatus.REQUIRES_ATTENTION);
       pipelinesStats.attentionRequiredIncrease();
     }
-    currentPipeline.setPipelineNotifications(pipelineNotifications);
+    currentPipeline.setPipelineNotifications(result.pipelineNotifications);
     StorageDispatcher.INSTANCE.getNoSqlStore().getPipelineStorageAPI().updatePipeline(currentPipeline);
   }
 
-  private void handleFailure(List<String> failedInstances, List<String> pipelineNotifications, InvocableStreamPipesEntity graph) {
-    failedInstances.add(extractInstanceId(graph));
-    addFailedAttemptNotification(pipelineNotifications, graph);
-    increaseFailedAttempt(extractInstanceId(graph));
+  private void handleFailure(PipelineRestoreResult result,
+                             Pipeline pipeline,
+                             InvocableStreamPipesEntity graph) {
+    String instanceId = extractInstanceId(graph);
+    result.failedInstances.add(instanceId);
+    addFailedAttemptNotification(result.pipelineNotifications, graph);
+    int failedAttempts = restoreAttempts.recordFailure(instanceId, currentRun);
     LOG.info("Could not restore pipeline element {} of pipeline {} ({}/{})",
-            graph.getName(),
-            "",
-            failedRestartAttempts.get(extractInstanceId(graph)),
-            MAX_FAILED_ATTEMPTS);
+        graph.getName(),
+        pipeline.getName(),
+        failedAttempts,
+        PipelineElementRestoreAttempts.MAX_FAILED_ATTEMPTS);
   }
 
-  private void handleSuccess(List<String> recoveredInstances, List<String> pipelineNotifications, InvocableStreamPipesEntity graph, String endpointUrl) {
-    recoveredInstances.add(extractInstanceId(graph));
-    addSuccessfulRestoreNotification(pipelineNotifications, graph);
-    resetFailedAttempts(extractInstanceId(graph));
+  private void handleSuccess(PipelineRestoreResult result,
+                             Pipeline pipeline,
+                             InvocableStreamPipesEntity graph,
+                             String endpointUrl) {
+    String instanceId = extractInstanceId(graph);
+    result.recoveredInstances.add(instanceId);
+    addSuccessfulRestoreNotification(result.pipelineNotifications, graph);
+    restoreAttempts.reset(instanceId);
     graph.setSelectedEndpointUrl(endpointUrl);
-    LOG.info("Successfully restored pipeline element {} of pipeline {}", graph.getName(),
-            "");
+    // the element might now run at a different endpoint
+    cachedRunningElements = Map.of();
+    LOG.info("Successfully restored pipeline element {} of pipeline {}", graph.getName(), pipeline.getName());
   }
 
-
-//Refactoring end
-
   private String findEndpointUrl(InvocableStreamPipesEntity graph) throws NoServiceEndpointsAvailableException {
     SpServiceUrlProvider serviceUrlProvider = ExtensionsServiceEndpointUtils.getPipelineElementType(graph);
     return new ExtensionsServiceEndpointGenerator().getEndpointResourceUrl(graph.getAppId(), serviceUrlProvider);
   }
 
-  private boolean shouldRetry(String instanceId) {
-    if (!failedRestartAttempts.containsKey(instanceId)) {
-      return true;
-    } else {
-      return failedRestartAttempts.get(instanceId) < MAX_FAILED_ATTEMPTS;
-    }
-  }
-
-  private void resetFailedAttempts(String instanceId) {
-    failedRestartAttempts.put(instanceId, 0);
-  }
-
-  private void increaseFailedAttempt(String instanceId) {
-    if (!failedRestartAttempts.containsKey(instanceId)) {
-      failedRestartAttempts.put(instanceId, 1);
-    } else {
-      Integer currentAttempt = failedRestartAttempts.get(instanceId) + 1;
-      failedRestartAttempts.put(instanceId, currentAttempt);
-    }
-  }
-
   private void addSuccessfulRestoreNotification(List<String> pipelineNotifications,
                                                 InvocableStreamPipesEntity graph) {
     pipelineNotifications.add(getCurrentDatetime()
@@ -213,42 +243,42 @@ public class PipelineHealthCheck implements Runnable {
     return InstanceIdExtractor.extractId(graph.getElementId());
   }
 
-
-  private List<String> findRunningInstances(Set<String> endpoints) {
-    List<String> allRunningInstances = new ArrayList<>();
-    endpoints.forEach(endpoint -> {
-      try {
-        allRunningInstances.addAll(new PipelineElementEndpointHealthCheck(endpoint).checkRunningInstances());
-      } catch (IOException e) {
-        LOG.error("Pipeline element endpoint {} is unavailable", endpoint);
-      }
-    });
-
-    return allRunningInstances;
+  private Set<String> findRunningInstances() {
+    var timer = PipelinesMetrics.RUNNING_INSTANCES_REFRESH_DURATION.startTimer();
+    try {
+      return runningInstances.fetchAll(getEndpoints());
+    } finally {
+      timer.observeDuration();
+    }
   }
 
-  private Map<String, List<InvocableStreamPipesEntity>> generateEndpointMap() {
-    Map<String, List<InvocableStreamPipesEntity>> endpointMap = new HashMap<>();
-    RunningPipelineElementStorage.runningProcessorsAndSinks.forEach((pipelineId, graphs) ->
-        graphs.forEach(graph -> addEndpoint(endpointMap, graph)));
-
-    return endpointMap;
+  private Set<String> getEndpoints() {
+    var runningElements = new HashMap<>(RunningPipelineElementStorage.runningProcessorsAndSinks);
+    if (!isUnchanged(runningElements)) {
+      Set<String> endpoints = new HashSet<>();
+      runningElements.values().forEach(graphs ->
+          graphs.forEach(graph -> endpoints.add(graph.getSelectedEndpointUrl())));
+      cachedRunningElements = runningElements;
+      cachedEndpoints = endpoints;
+    }
+    return cachedEndpoints;
   }
 
-  private void addEndpoint(Map<String, List<InvocableStreamPipesEntity>> endpointMap,
-                           InvocableStreamPipesEntity graph) {
-    String selectedEndpoint = graph.getSelectedEndpointUrl();
-    if (!endpointMap.containsKey(selectedEndpoint)) {
-      endpointMap.put(selectedEndpoint, new ArrayList<>());
-    }
-    List<InvocableStreamPipesEntity> existingGraphs = endpointMap.get(selectedEndpoint);
-    existingGraphs.add(graph);
-    endpointMap.put(selectedEndpoint, existingGraphs);
+  private boolean isUnchanged(Map<String, List<InvocableStreamPipesEntity>> runningElements) {
+    // the element lists are replaced when a pipeline is started, so comparing references is sufficient
+    return runningElements.size() == cachedRunningElements.size()
+        && runningElements.entrySet().stream()
+        .allMatch(e -> cachedRunningElements.get(e.getKey()) == e.getValue());
   }
 
   @Override
   public void run() {
-    this.checkAndRestorePipelineElements();
+    try {
+      this.checkAndRestorePipelineElements();
+    } catch (RuntimeException e) {
+      // an exception would cancel all further scheduled runs
+      LOG.error("Pipeline health check failed", e);
+    }
   }
 
   private List<Pipeline> getRunningPipelines(List<Pipeline> allPipelines) {
@@ -274,4 +304,19 @@ public class PipelineHealthCheck implements Runnable {
         .sum();
 
   }
+
+  private static ExecutorService makeExecutor(int parallelism) {
+    var threadCount = new AtomicInteger();
+    return Executors.newFixedThreadPool(parallelism, runnable -> {
+      var thread = new Thread(runnable, "pipeline-health-check-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static class PipelineRestoreResult {
+    private final List<String> failedInstances = new ArrayList<>();
+    private final List<String> recoveredInstances = new ArrayList<>();
+    private final List<String> pipelineNotifications = new ArrayList<>();
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Fetches the ids of the running instances of pipeline element endpoints.
+ * <p>
+ * All endpoints are requested concurrently. An endpoint which cannot be reached has no running instances.
+ */
+public class RunningPipelineElementInstances {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RunningPipelineElementInstances.class);
+
+  private final Executor executor;
+  private final InstanceFetcher instanceFetcher;
+
+  public RunningPipelineElementInstances(Executor executor) {
+    this(executor, endpoint -> new PipelineElementEndpointHealthCheck(endpoint).checkRunningInstances());
+  }
+
+  public RunningPipelineElementInstances(Executor executor,
+                                         InstanceFetcher instanceFetcher) {
+    this.executor = executor;
+    this.instanceFetcher = instanceFetcher;
+  }
+
+  /**
+   * Fetches the running instances of the given endpoints.
+   *
+   * @return the ids of all running instances
+   */
+  public Set<String> fetchAll(Collection<String> endpoints) {
+    List<CompletableFuture<Set<String>>> futures = new ArrayList<>(endpoints.size());
+    endpoints.forEach(endpoint -> futures.add(CompletableFuture.supplyAsync(() -> fetch(endpoint), executor)));
+
+    Set<String> allRunningInstances = new HashSet<>();
+    futures.forEach(future -> allRunningInstances.addAll(future.join()));
+    return allRunningInstances;
+  }
+
+  private Set<String> fetch(String endpoint) {
+    try {
+      return new HashSet<>(instanceFetcher.fetch(endpoint));
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Pipeline element endpoint {} is unavailable", endpoint);
+      return Set.of();
+    }
+  }
+
+  @FunctionalInterface
+  public interface InstanceFetcher {
+    List<String> fetch(String endpoint) throws IOException;
+  }
+}
@@ -18,6 +18,8 @@
 
 package org.apache.streampipes.manager.matching;
 
+import org.apache.streampipes.manager.execution.endpoint.ExtensionsServiceEndpointGenerator;
+import org.apache.streampipes.manager.execution.endpoint.ExtensionsServiceEndpointUtils;
 import org.apache.streampipes.manager.util.TopicGenerator;
 import org.apache.streampipes.model.SpDataStream;
 import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
@@ -26,6 +28,7 @@ import org.apache.streampipes.model.configuration.MessagingSettings;
 import org.apache.streampipes.model.configuration.SpProtocol;
 import org.apache.streampipes.model.grounding.JmsTransportProtocol;
 import org.apache.streampipes.model.grounding.KafkaTransportProtocol;
+import org.apache.streampipes.model.grounding.LocalTransportProtocol;
 import org.apache.streampipes.model.grounding.MqttTransportProtocol;
 import org.apache.streampipes.model.grounding.NatsTransportProtocol;
 import org.apache.streampipes.model.grounding.PulsarTransportProtocol;
@@ -33,6 +36,8 @@ import org.apache.streampipes.model.grounding.SimpleTopicDefinition;
 import org.apache.streampipes.model.grounding.TransportProtocol;
 import org.apache.streampipes.storage.management.StorageDispatcher;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -42,17 +47,28 @@ public class ProtocolSelector extends GroundingSelector {
   private final List<SpProtocol> prioritizedProtocols;
 
   private final MessagingSettings messagingSettings;
+  private final ExtensionsServiceEndpointGenerator endpointGenerator;
 
   public ProtocolSelector(NamedStreamPipesEntity source, Set<InvocableStreamPipesEntity> targets) {
+    this(source,
+        targets,
+        StorageDispatcher
+            .INSTANCE
+            .getNoSqlStore()
+            .getSpCoreConfigurationStorage()
+            .get()
+            .getMessagingSettings(),
+        new ExtensionsServiceEndpointGenerator());
+  }
+
+  ProtocolSelector(NamedStreamPipesEntity source,
+                   Set<InvocableStreamPipesEntity> targets,
+                   MessagingSettings messagingSettings,
+                   ExtensionsServiceEndpointGenerator endpointGenerator) {
     super(source, targets);
     this.outputTopic = TopicGenerator.generateRandomTopic();
-    this.messagingSettings = StorageDispatcher
-        .INSTANCE
-        .getNoSqlStore()
-        .getSpCoreConfigurationStorage()
-        .get()
-        .getMessagingSettings();
-
+    this.messagingSettings = messagingSettings;
+    this.endpointGenerator = endpointGenerator;
     this.prioritizedProtocols =
         messagingSettings.getPrioritizedProtocols();
   }
@@ -68,6 +84,11 @@ public class ProtocolSelector extends GroundingSelector {
   }
 
   private TransportProtocol getTransportProtocolForOtherSources() {
+    if (!targets.isEmpty()
+        && supportsProtocol(LocalTransportProtocol.class)
+        && isHostedBySameServiceInstance()) {
+      return new LocalTransportProtocol(outputTopic);
+    }
     for (SpProtocol prioritizedProtocol : prioritizedProtocols) {
       if (prioritizedProtocol.getProtocolClass().equals(KafkaTransportProtocol.class.getCanonicalName())
               && supportsProtocol(KafkaTransportProtocol.class)) {
@@ -124,6 +145,25 @@ public class ProtocolSelector extends GroundingSelector {
     );
   }
 
+  /**
+   * Checks whether all connected elements are provided by exactly one and the same service instance.
+   * If any element is provided by several instances, the elements might be invoked on different instances,
+   * which would not be able to exchange events in memory.
+   */
+  private boolean isHostedBySameServiceInstance() {
+    Set<String> serviceUrls = new HashSet<>();
+    for (InvocableStreamPipesEntity element : buildInvocables()) {
+      List<String> endpoints = endpointGenerator.getEndpointBaseUrls(
+          element.getAppId(),
+          ExtensionsServiceEndpointUtils.getPipelineElementType(element),
+          Collections.emptySet());
+      if (endpoints.size() != 1) {
+        return false;
+      }
+      serviceUrls.add(endpoints.get(0));
+    }
+    return serviceUrls.size() == 1;
+  }
 
   public <T extends TransportProtocol> boolean supportsProtocol(Class<T> protocol) {
     List<InvocableStreamPipesEntity> elements = buildInvocables();
@@ -136,69 +176,4 @@ public class ProtocolSelector extends GroundingSelector {
                     .stream()
                     .anyMatch(protocol::isInstance));
   }
-//Refactoring end
-            && supportsProtocol(JmsTransportProtocol.class)) {
-          return jmsTopic();
-        } else if (prioritizedProtocol.getProtocolClass().equals(MqttTransportProtocol.class.getCanonicalName())
-            && supportsProtocol(MqttTransportProtocol.class)) {
-          return mqttTopic();
-        } else if (prioritizedProtocol.getProtocolClass().equals(NatsTransportProtocol.class.getCanonicalName())
-            && supportsProtocol(NatsTransportProtocol.class)) {
-          return natsTopic();
-        } else if (prioritizedProtocol.getProtocolClass().equals(PulsarTransportProtocol.class.getCanonicalName())
-            && supportsProtocol(PulsarTransportProtocol.class)) {
-          return new PulsarTransportProtocol(messagingSettings.getPulsarUrl(),
-              new SimpleTopicDefinition(outputTopic));
-        }
-      }
-    }
-    return kafkaTopic();
-  }
-
-  private TransportProtocol mqttTopic() {
-    return new MqttTransportProtocol(
-        messagingSettings.getMqttHost(),
-        messagingSettings.getMqttPort(),
-        outputTopic
-    );
-  }
-
-  private TransportProtocol jmsTopic() {
-    return new JmsTransportProtocol(
-        messagingSettings.getJmsHost(),
-        messagingSettings.getJmsPort(),
-        outputTopic
-    );
-  }
-
-  private TransportProtocol natsTopic() {
-    return new NatsTransportProtocol(
-        messagingSettings.getNatsHost(),
-        messagingSettings.getNatsPort(),
-        outputTopic
-    );
-  }
-
-  private TransportProtocol kafkaTopic() {
-    return new KafkaTransportProtocol(
-        messagingSettings.getKafkaHost(),
-        messagingSettings.getKafkaPort(),
-        outputTopic,
-        messagingSettings.getZookeeperHost(),
-        messagingSettings.getZookeeperPort()
-    );
-  }
-
-
-  public <T extends TransportProtocol> boolean supportsProtocol(Class<T> protocol) {
-    List<InvocableStreamPipesEntity> elements = buildInvocables();
-
-    return elements
-        .stream()
-        .allMatch(e -> e
-            .getSupportedGrounding()
-            .getTransportProtocols()
-            .stream()
-            .anyMatch(protocol::isInstance));
-  }
 }
@@ -25,6 +25,7 @@ import org.apache.streampipes.manager.execution.PipelineExecutor;
 import org.apache.streampipes.manager.matching.PipelineVerificationHandlerV2;
 import org.apache.streampipes.manager.recommender.ElementRecommender;
 import org.apache.streampipes.manager.remote.ContainerProvidedOptionsHandler;
+import org.apache.streampipes.manager.runtime.LiveTapSubscription;
 import org.apache.streampipes.manager.runtime.PipelineElementRuntimeInfoFetcher;
 import org.apache.streampipes.manager.storage.PipelineStorageService;
 import org.apache.streampipes.manager.template.PipelineTemplateGenerator;
@@ -46,6 +47,7 @@ import org.apache.streampipes.storage.management.StorageDispatcher;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 /**
@@ -120,6 +122,11 @@ public class Operations {
     return PipelineElementRuntimeInfoFetcher.INSTANCE.getCurrentData(spDataStream);
   }
 
+  public static LiveTapSubscription subscribeToRuntimeInfo(SpDataStream spDataStream,
+                                                           Consumer<String> listener) throws SpRuntimeException {
+    return PipelineElementRuntimeInfoFetcher.INSTANCE.subscribe(spDataStream, listener);
+  }
+
   public static List<PipelineTemplateDescription> getAllPipelineTemplates() {
     return new PipelineTemplateGenerator().getAllPipelineTemplates();
   }
@@ -26,7 +26,7 @@ import org.apache.streampipes.model.client.user.Permission;
 import org.apache.streampipes.model.pipeline.Pipeline;
 import org.apache.streampipes.model.pipeline.PipelineOperationStatus;
 import org.apache.streampipes.resource.management.NotificationsResourceManager;
-import org.apache.streampipes.storage.api.IPermissionStorage;
+import org.apache.streampipes.resource.management.PermissionResourceManager;
 import org.apache.streampipes.storage.api.IPipelineStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
 
@@ -74,7 +74,7 @@ public class PipelineManager {
     Operations.storePipeline(pipeline);
 
     Permission permission = new PermissionManager().makePermission(pipeline, principalSid);
-    getPermissionStorage().addPermission(permission);
+    new PermissionResourceManager().create(permission);
 
     return pipelineId;
   }
@@ -158,8 +158,4 @@ public class PipelineManager {
   private static IPipelineStorage getPipelineStorage() {
     return StorageDispatcher.INSTANCE.getNoSqlStore().getPipelineStorageAPI();
   }
-
-  private static IPermissionStorage getPermissionStorage() {
-    return StorageDispatcher.INSTANCE.getNoSqlStore().getPermissionStorage();
-  }
 }
@@ -22,19 +22,23 @@ import org.apache.streampipes.manager.execution.endpoint.ExtensionsServiceEndpoi
 import org.apache.streampipes.manager.execution.endpoint.ExtensionsServiceEndpointUtils;
 import org.apache.streampipes.manager.execution.http.DetachHttpRequest;
 import org.apache.streampipes.manager.execution.http.InvokeHttpRequest;
+import org.apache.streampipes.manager.execution.http.ParallelPipelineElementSubmission;
 import org.apache.streampipes.manager.matching.PipelineVerificationHandlerV2;
 import org.apache.streampipes.manager.operations.Operations;
+import org.apache.streampipes.manager.runtime.LiveTapSubscription;
 import org.apache.streampipes.model.SpDataStream;
 import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
 import org.apache.streampipes.model.base.NamedStreamPipesEntity;
 import org.apache.streampipes.model.graph.DataProcessorInvocation;
 import org.apache.streampipes.model.pipeline.Pipeline;
+import org.apache.streampipes.model.pipeline.PipelineElementStatus;
 import org.apache.streampipes.model.preview.PipelinePreviewModel;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class PipelinePreview {
@@ -61,6 +65,21 @@ public class PipelinePreview {
 
   public String getPipelineElementPreview(String previewId,
                                           String pipelineElementDomId) throws IllegalArgumentException {
+    return Operations.getRuntimeInfo(getPreviewStream(previewId, pipelineElementDomId));
+  }
+
+  /**
+   * Pushes the latest output event of the pipeline element to the listener whenever new events arrive.
+   */
+  public LiveTapSubscription subscribeToPipelineElementPreview(String previewId,
+                                                               String pipelineElementDomId,
+                                                               Consumer<String> listener)
+      throws IllegalArgumentException {
+    return Operations.subscribeToRuntimeInfo(getPreviewStream(previewId, pipelineElementDomId), listener);
+  }
+
+  private SpDataStream getPreviewStream(String previewId,
+                                        String pipelineElementDomId) throws IllegalArgumentException {
     Optional<NamedStreamPipesEntity> graphOpt = ActivePipelinePreviews
         .INSTANCE
         .getInvocationGraphForPipelineELement(previewId, pipelineElementDomId);
@@ -68,9 +87,9 @@ public class PipelinePreview {
     if (graphOpt.isPresent()) {
       NamedStreamPipesEntity graph = graphOpt.get();
       if (graph instanceof DataProcessorInvocation) {
-        return Operations.getRuntimeInfo(((DataProcessorInvocation) graph).getOutputStream());
+        return ((DataProcessorInvocation) graph).getOutputStream();
       } else if (graph instanceof SpDataStream) {
-        return Operations.getRuntimeInfo((SpDataStream) graph);
+        return (SpDataStream) graph;
       } else {
         throw new IllegalArgumentException("Requested pipeline element is not a data processor");
       }
@@ -88,20 +107,21 @@ public class PipelinePreview {
   }
 
   private void invokeGraphs(List<InvocableStreamPipesEntity> graphs) {
-    graphs.forEach(g -> {
+    new ParallelPipelineElementSubmission().invoke(graphs, g -> {
       try {
         g.setSelectedEndpointUrl(findSelectedEndpoint(g));
-        new InvokeHttpRequest().execute(g, g.getSelectedEndpointUrl(), null);
+        return new InvokeHttpRequest().execute(g, g.getSelectedEndpointUrl(), null);
       } catch (NoServiceEndpointsAvailableException e) {
         e.printStackTrace();
+        return new PipelineElementStatus(null, g.getName(), false, e.getMessage());
       }
     });
   }
 
   private void detachGraphs(List<InvocableStreamPipesEntity> graphs) {
-    graphs.forEach(g -> {
+    new ParallelPipelineElementSubmission().detach(graphs, g -> {
       String endpointUrl = g.getSelectedEndpointUrl() + g.getDetachPath();
-      new DetachHttpRequest().execute(g, endpointUrl, null);
+      return new DetachHttpRequest().execute(g, endpointUrl, null);
     });
   }
 
@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.runtime;
+
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.messaging.EventConsumer;
+import org.apache.streampipes.messaging.InternalEventProcessor;
+import org.apache.streampipes.messaging.SpProtocolManager;
+import org.apache.streampipes.model.SpDataStream;
+import org.apache.streampipes.model.grounding.KafkaTransportProtocol;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shared access to the live events of topics which are shown in pipeline previews.
+ * <p>
+ * There is at most one broker subscription per topic. The most recent events of each topic are kept in a small
+ * ring buffer, so that preview requests are answered from memory. Taps are referenced by their push listeners and
+ * kept alive by requests, a tap without listeners which was not requested for a while is disconnected.
+ * <p>
+ * Each listener has its own bounded queue of pending updates which is drained on a separate sender thread, so a
+ * listener which blocks (e.g., a server-sent event stream of a slow client) delays neither the other listeners nor
+ * the push of updates. If a listener falls behind, its oldest pending updates are dropped.
+ */
+public final class LiveTapService {
+
+  public static final LiveTapService INSTANCE = new LiveTapService();
+
+  private static final Logger LOG = LoggerFactory.getLogger(LiveTapService.class);
+
+  private static final int BUFFER_SIZE = 10;
+  static final int LISTENER_QUEUE_SIZE = 10;
+  private static final long FIRST_EVENT_TIMEOUT_MS = 6000;
+  static final long IDLE_TIMEOUT_MS = 60000;
+  private static final long PUSH_INTERVAL_MS = 250;
+  private static final long EXPIRY_CHECK_INTERVAL_MS = 10000;
+
+  private final Map<String, LiveTap> taps;
+  private final Function<SpDataStream, LiveTap> tapFactory;
+  private final Executor sendExecutor;
+
+  private LiveTapService() {
+    this(LiveTapService::makeTap, makeSendExecutor());
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      var thread = new Thread(runnable, "live-tap");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::pushUpdates, PUSH_INTERVAL_MS, PUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(
+        this::expireIdleTaps,
+        EXPIRY_CHECK_INTERVAL_MS,
+        EXPIRY_CHECK_INTERVAL_MS,
+        TimeUnit.MILLISECONDS
+    );
+  }
+
+  LiveTapService(Function<SpDataStream, LiveTap> tapFactory,
+                 Executor sendExecutor) {
+    this.taps = new ConcurrentHashMap<>();
+    this.tapFactory = tapFactory;
+    this.sendExecutor = sendExecutor;
+  }
+
+  /**
+   * Returns the latest event of the stream as JSON string.
+   * If the stream is not tapped yet, waits for the first event for a few seconds.
+   *
+   * @return the latest event or null if no event arrived
+   */
+  public String getLatestEvent(SpDataStream spDataStream) throws SpRuntimeException {
+    return acquire(spDataStream).awaitLatestEvent(FIRST_EVENT_TIMEOUT_MS);
+  }
+
+  /**
+   * Returns the buffered events of the stream as JSON strings, oldest first.
+   */
+  public List<String> getRecentEvents(SpDataStream spDataStream) throws SpRuntimeException {
+    return acquire(spDataStream).getRecentEvents();
+  }
+
+  /**
+   * Registers a listener which receives the latest event of the stream whenever new events arrived.
+   * Updates are pushed at most every {@value #PUSH_INTERVAL_MS} ms, the current latest event is pushed right away.
+   */
+  public LiveTapSubscription subscribe(SpDataStream spDataStream,
+                                       Consumer<String> listener) throws SpRuntimeException {
+    var tap = acquire(spDataStream);
+    var queuedListener = new QueuedListener(tap.topic, listener, sendExecutor);
+    tap.addListener(queuedListener);
+    return () -> {
+      tap.removeListener(queuedListener);
+      queuedListener.close();
+    };
+  }
+
+  private LiveTap acquire(SpDataStream spDataStream) {
+    var topic = getTopic(spDataStream);
+    var tap = taps.compute(topic, (key, existing) -> {
+      var current = existing != null ? existing : tapFactory.apply(spDataStream);
+      current.touch();
+      return current;
+    });
+    tap.connect();
+    return tap;
+  }
+
+  private static LiveTap makeTap(SpDataStream spDataStream) {
+    var protocol = spDataStream.getEventGrounding().getTransportProtocol();
+    if (Environments.getEnvironment().getSpDebug().getValueOrDefault()) {
+      protocol.setBrokerHostname("localhost");
+      if (protocol instanceof KafkaTransportProtocol) {
+        ((KafkaTransportProtocol) protocol).setKafkaPort(9094);
+      }
+    }
+
+    var protocolDefinition = SpProtocolManager
+        .INSTANCE
+        .findDefinition(protocol)
+        .orElseThrow(() -> {
+          LOG.error("Error while fetching data for preview - protocol {} not found - did you register the protocol? ",
+              protocol.getClass().getCanonicalName());
+          return new SpRuntimeException("Protocol not found");
+        });
+
+    var transportFormat = spDataStream.getEventGrounding().getTransportFormats().get(0);
+    return new LiveTap(
+        getTopic(spDataStream),
+        protocolDefinition.getConsumer(protocol),
+        new SpDataFormatConverterGenerator(transportFormat).makeConverter()
+    );
+  }
+
+  private static String getTopic(SpDataStream spDataStream) {
+    return spDataStream
+        .getEventGrounding()
+        .getTransportProtocol()
+        .getTopicDefinition()
+        .getActualTopicName();
+  }
+
+  void pushUpdates() {
+    taps.values().forEach(tap -> {
+      try {
+        tap.pushUpdate();
+      } catch (RuntimeException e) {
+        LOG.warn("Could not push live event of topic {}", tap.topic, e);
+      }
+    });
+  }
+
+  private void expireIdleTaps() {
+    expireIdleTaps(System.currentTimeMillis());
+  }
+
+  void expireIdleTaps(long now) {
+    taps.keySet().forEach(topic -> {
+      List<LiveTap> expired = new ArrayList<>(1);
+      taps.computeIfPresent(topic, (key, tap) -> {
+        if (tap.isIdle(now)) {
+          expired.add(tap);
+          return null;
+        }
+        return tap;
+      });
+      expired.forEach(LiveTap::disconnect);
+    });
+  }
+
+  private static ExecutorService makeSendExecutor() {
+    var threadCount = new AtomicInteger();
+    // senders may block on slow clients, so the pool grows with the number of concurrently sending listeners
+    return Executors.newCachedThreadPool(runnable -> {
+      var thread = new Thread(runnable, "live-tap-send-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  static final class LiveTap implements InternalEventProcessor<byte[]> {
+
+    private final String topic;
+    private final EventConsumer consumer;
+    private final SpDataFormatConverter converter;
+    private final List<QueuedListener> listeners;
+
+    // ring buffer of the latest events, guarded by this
+    private final byte[][] buffer;
+    private long receivedEvents;
+    private boolean connected;
+
+    private volatile long lastAccess;
+    private volatile boolean updated;
+
+    LiveTap(String topic,
+            EventConsumer consumer,
+            SpDataFormatConverter converter) {
+      this.topic = topic;
+      this.consumer = consumer;
+      this.converter = converter;
+      this.listeners = new CopyOnWriteArrayList<>();
+      this.buffer = new byte[BUFFER_SIZE][];
+    }
+
+    @Override
+    public void onEvent(byte[] event) {
+      synchronized (this) {
+        add(event);
+        notifyAll();
+      }
+      updated = true;
+    }
+
+    @Override
+    public void onEvents(List<byte[]> events) {
+      synchronized (this) {
+        events.forEach(this::add);
+        notifyAll();
+      }
+      updated = true;
+    }
+
+    private void add(byte[] event) {
+      buffer[(int) (receivedEvents % BUFFER_SIZE)] = event;
+      receivedEvents++;
+    }
+
+    synchronized void connect() {
+      if (!connected) {
+        LOG.info("Subscribing to topic {} for live preview", topic);
+        consumer.connect(this);
+        connected = true;
+      }
+    }
+
+    synchronized void disconnect() {
+      if (connected) {
+        LOG.info("Closing idle live preview subscription of topic {}", topic);
+        connected = false;
+        try {
+          consumer.disconnect();
+        } catch (SpRuntimeException e) {
+          LOG.warn("Could not disconnect live preview subscription of topic {}", topic, e);
+        }
+      }
+    }
+
+    void touch() {
+      this.lastAccess = System.currentTimeMillis();
+    }
+
+    boolean isIdle(long now) {
+      return listeners.isEmpty() && now - lastAccess > IDLE_TIMEOUT_MS;
+    }
+
+    void addListener(QueuedListener listener) {
+      listeners.add(listener);
+      // the new listener receives the latest event with the next push
+      updated = true;
+    }
+
+    void removeListener(QueuedListener listener) {
+      listeners.remove(listener);
+      touch();
+    }
+
+    String awaitLatestEvent(long timeoutMillis) {
+      byte[] latest;
+      synchronized (this) {
+        var deadline = System.currentTimeMillis() + timeoutMillis;
+        var remaining = timeoutMillis;
+        while (receivedEvents == 0 && remaining > 0) {
+          try {
+            wait(remaining);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+          }
+          remaining = deadline - System.currentTimeMillis();
+        }
+        latest = getLatest();
+      }
+      return latest != null ? converter.convert(latest) : null;
+    }
+
+    List<String> getRecentEvents() {
+      List<byte[]> events = new ArrayList<>(BUFFER_SIZE);
+      synchronized (this) {
+        var first = Math.max(0, receivedEvents - BUFFER_SIZE);
+        for (long i = first; i < receivedEvents; i++) {
+          events.add(buffer[(int) (i % BUFFER_SIZE)]);
+        }
+      }
+      return events.stream().map(converter::convert).toList();
+    }
+
+    void pushUpdate() {
+      if (!updated || listeners.isEmpty()) {
+        return;
+      }
+      updated = false;
+      byte[] latest;
+      synchronized (this) {
+        latest = getLatest();
+      }
+      if (latest != null) {
+        var event = converter.convert(latest);
+        listeners.forEach(listener -> listener.offer(event));
+      }
+    }
+
+    private byte[] getLatest() {
+      return receivedEvents == 0 ? null : buffer[(int) ((receivedEvents - 1) % BUFFER_SIZE)];
+    }
+  }
+
+  /**
+   * Delivers the updates of a tap to one listener. At most one drain task per listener is running, so updates are
+   * delivered in order and a blocked listener only occupies a single sender thread.
+   */
+  static final class QueuedListener {
+
+    private final String topic;
+    private final Consumer<String> listener;
+    private final Executor executor;
+    private final BlockingQueue<String> pending;
+    private final AtomicBoolean draining;
+
+    private volatile boolean closed;
+
+    QueuedListener(String topic,
+                   Consumer<String> listener,
+                   Executor executor) {
+      this.topic = topic;
+      this.listener = listener;
+      this.executor = executor;
+      this.pending = new ArrayBlockingQueue<>(LISTENER_QUEUE_SIZE);
+      this.draining = new AtomicBoolean();
+    }
+
+    void offer(String event) {
+      if (closed) {
+        return;
+      }
+      while (!pending.offer(event)) {
+        // the listener fell behind, older updates are superseded by the latest one
+        pending.poll();
+      }
+      scheduleDrain();
+    }
+
+    void close() {
+      closed = true;
+      pending.clear();
+    }
+
+    private void scheduleDrain() {
+      if (draining.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+          draining.set(false);
+          LOG.warn("Could not schedule live event delivery of topic {}", topic, e);
+        }
+      }
+    }
+
+    private void drain() {
+      try {
+        String event;
+        while (!closed && (event = pending.poll()) != null) {
+          try {
+            listener.accept(event);
+          } catch (RuntimeException e) {
+            LOG.warn("Could not push live event of topic {}", topic, e);
+          }
+        }
+      } finally {
+        draining.set(false);
+      }
+      // an update offered after the last poll but before the flag was reset must not wait for the next push
+      if (!closed && !pending.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+  }
+}
@@ -20,12 +20,12 @@ package org.apache.streampipes.manager.storage;
 
 import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RunningPipelineElementStorage {
 
-  public static Map<String, List<InvocableStreamPipesEntity>> runningProcessorsAndSinks = new HashMap<>();
+  public static Map<String, List<InvocableStreamPipesEntity>> runningProcessorsAndSinks = new ConcurrentHashMap<>();
 
 }
@@ -26,6 +26,7 @@ import org.apache.streampipes.model.pipeline.PipelineOperationStatus;
 import org.apache.streampipes.model.staticproperty.StaticProperty;
 import org.apache.streampipes.model.template.PipelineTemplateDescription;
 import org.apache.streampipes.model.template.PipelineTemplateInvocation;
+import org.apache.streampipes.resource.management.PermissionResourceManager;
 import org.apache.streampipes.storage.management.StorageDispatcher;
 
 import java.util.ArrayList;
@@ -59,7 +60,7 @@ public class PipelineTemplateInvocationHandler {
     replaceStaticProperties(pipeline);
     Operations.storePipeline(pipeline);
     Permission permission = new PermissionManager().makePermission(pipeline, username);
-    StorageDispatcher.INSTANCE.getNoSqlStore().getPermissionStorage().addPermission(permission);
+    new PermissionResourceManager().create(permission);
     Pipeline storedPipeline =
         StorageDispatcher.INSTANCE.getNoSqlStore().getPipelineStorageAPI().getPipeline(pipeline.getPipelineId());
     return Operations.startPipeline(storedPipeline);
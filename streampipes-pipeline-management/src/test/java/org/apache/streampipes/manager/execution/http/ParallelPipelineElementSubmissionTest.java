@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.execution.http;
+
+import org.apache.streampipes.model.SpDataStream;
+import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
+import org.apache.streampipes.model.graph.DataProcessorInvocation;
+import org.apache.streampipes.model.graph.DataSinkInvocation;
+import org.apache.streampipes.model.grounding.EventGrounding;
+import org.apache.streampipes.model.grounding.KafkaTransportProtocol;
+import org.apache.streampipes.model.pipeline.PipelineElementStatus;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelPipelineElementSubmissionTest {
+
+  private ExecutorService executorService;
+
+  // stream (a) -> processor1 (b) -> processor2 (c) -> sink1
+  //                              -> sink2
+  private DataSinkInvocation sink1;
+  private DataProcessorInvocation processor1;
+  private DataSinkInvocation sink2;
+  private DataProcessorInvocation processor2;
+  private List<InvocableStreamPipesEntity> elements;
+
+  @BeforeEach
+  public void setUp() {
+    executorService = Executors.newFixedThreadPool(4);
+    sink1 = makeSink("sink1", "c");
+    processor1 = makeProcessor("processor1", "a", "b");
+    sink2 = makeSink("sink2", "b");
+    processor2 = makeProcessor("processor2", "b", "c");
+    elements = List.of(sink1, processor1, sink2, processor2);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void testLevels() {
+    var levels = ParallelPipelineElementSubmission.makeLevels(elements);
+
+    assertEquals(List.of(List.of(0, 2), List.of(3), List.of(1)), levels);
+  }
+
+  @Test
+  public void testInvokeStartsConsumersFirst() {
+    var submitted = Collections.synchronizedList(new ArrayList<String>());
+
+    var statuses = new ParallelPipelineElementSubmission(executorService, 1000)
+        .invoke(elements, e -> {
+          submitted.add(e.getName());
+          return new PipelineElementStatus(e.getName(), e.getName(), true, "");
+        });
+
+    assertEquals(4, submitted.size());
+    assertTrue(submitted.indexOf("sink1") < submitted.indexOf("processor2"));
+    assertTrue(submitted.indexOf("sink2") < submitted.indexOf("processor2"));
+    assertEquals("processor1", submitted.get(3));
+    assertEquals(List.of("sink1", "processor1", "sink2", "processor2"),
+        statuses.stream().map(PipelineElementStatus::getElementName).toList());
+  }
+
+  @Test
+  public void testDetachStopsProducersFirst() {
+    var submitted = Collections.synchronizedList(new ArrayList<String>());
+
+    new ParallelPipelineElementSubmission(executorService, 1000)
+        .detach(elements, e -> {
+          submitted.add(e.getName());
+          return new PipelineElementStatus(e.getName(), e.getName(), true, "");
+        });
+
+    assertEquals("processor1", submitted.get(0));
+    assertEquals("processor2", submitted.get(1));
+  }
+
+  @Test
+  public void testTimeoutAndFailureResultInFailedStatus() throws InterruptedException {
+    var release = new CountDownLatch(1);
+
+    var statuses = new ParallelPipelineElementSubmission(executorService, 100)
+        .invoke(List.of(sink1, sink2), e -> {
+          if (e == sink1) {
+            try {
+              release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+              Thread.currentThread().interrupt();
+            }
+            return new PipelineElementStatus(e.getName(), e.getName(), true, "");
+          }
+          throw new IllegalStateException("Service not reachable");
+        });
+    release.countDown();
+
+    assertFalse(statuses.get(0).isSuccess());
+    assertTrue(statuses.get(0).getOptionalMessage().contains("100 ms"));
+    assertFalse(statuses.get(1).isSuccess());
+    assertEquals("Service not reachable", statuses.get(1).getOptionalMessage());
+  }
+
+  @Test
+  public void testTimedOutRequestsAreNotCancelledAndReportedForRollback() throws InterruptedException {
+    var release = new CountDownLatch(1);
+    var completed = new CountDownLatch(1);
+    var submission = new ParallelPipelineElementSubmission(executorService, 100);
+
+    var statuses = submission.invoke(List.of(sink1, sink2), e -> {
+      if (e == sink1) {
+        try {
+          release.await(10, TimeUnit.SECONDS);
+          completed.countDown();
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return new PipelineElementStatus(e.getName(), e.getName(), true, "");
+    });
+    release.countDown();
+
+    assertFalse(statuses.get(0).isSuccess());
+    assertTrue(statuses.get(1).isSuccess());
+    assertEquals(List.of(sink1), submission.awaitTimedOutRequests());
+    assertTrue(completed.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testInterruptFailsRemainingElementsWithoutSubmittingThem() {
+    var release = new CountDownLatch(1);
+    var submitted = Collections.synchronizedList(new ArrayList<String>());
+    var submission = new ParallelPipelineElementSubmission(executorService, 1000);
+
+    Thread.currentThread().interrupt();
+    var statuses = submission.invoke(elements, e -> {
+      submitted.add(e.getName());
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      return new PipelineElementStatus(e.getName(), e.getName(), true, "");
+    });
+    release.countDown();
+
+    assertTrue(Thread.interrupted());
+    assertTrue(statuses.stream().noneMatch(PipelineElementStatus::isSuccess));
+    assertTrue(statuses.stream().allMatch(s -> s.getOptionalMessage().equals("Request was interrupted")));
+    assertFalse(submitted.contains("processor1"));
+    assertFalse(submitted.contains("processor2"));
+    var rolledBack = submission.awaitTimedOutRequests();
+    assertEquals(2, rolledBack.size());
+    assertTrue(rolledBack.containsAll(List.of(sink1, sink2)));
+  }
+
+  private DataSinkInvocation makeSink(String name,
+                                      String inputTopic) {
+    var sink = new DataSinkInvocation();
+    sink.setName(name);
+    sink.setInputStreams(List.of(makeStream(inputTopic)));
+    return sink;
+  }
+
+  private DataProcessorInvocation makeProcessor(String name,
+                                                String inputTopic,
+                                                String outputTopic) {
+    var processor = new DataProcessorInvocation();
+    processor.setName(name);
+    processor.setInputStreams(List.of(makeStream(inputTopic)));
+    processor.setOutputStream(makeStream(outputTopic));
+    return processor;
+  }
+
+  private SpDataStream makeStream(String topic) {
+    var grounding = new EventGrounding();
+    grounding.setTransportProtocol(new KafkaTransportProtocol("localhost", 9092, topic));
+    var stream = new SpDataStream();
+    stream.setEventGrounding(grounding);
+    return stream;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.health;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PipelineElementRestoreAttemptsTest {
+
+  @Test
+  public void testBackoffAfterFailedAttempts() {
+    var attempts = new PipelineElementRestoreAttempts();
+
+    assertTrue(attempts.shouldRetry("instance", 1));
+    assertEquals(1, attempts.recordFailure("instance", 1));
+    assertTrue(attempts.shouldRetry("instance", 2));
+
+    assertEquals(2, attempts.recordFailure("instance", 2));
+    assertFalse(attempts.shouldRetry("instance", 3));
+    assertTrue(attempts.shouldRetry("instance", 4));
+
+    assertEquals(3, attempts.recordFailure("instance", 4));
+    assertFalse(attempts.shouldRetry("instance", 7));
+    assertTrue(attempts.shouldRetry("instance", 8));
+  }
+
+  @Test
+  public void testNoRetryAfterMaxFailedAttempts() {
+    var attempts = new PipelineElementRestoreAttempts();
+    for (int i = 0; i < PipelineElementRestoreAttempts.MAX_FAILED_ATTEMPTS; i++) {
+      attempts.recordFailure("instance", 0);
+    }
+
+    assertFalse(attempts.shouldRetry("instance", Long.MAX_VALUE));
+
+    attempts.reset("instance");
+    assertTrue(attempts.shouldRetry("instance", 0));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.matching;
+
+import org.apache.streampipes.manager.execution.endpoint.ExtensionsServiceEndpointGenerator;
+import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
+import org.apache.streampipes.model.configuration.MessagingSettings;
+import org.apache.streampipes.model.graph.DataProcessorInvocation;
+import org.apache.streampipes.model.graph.DataSinkInvocation;
+import org.apache.streampipes.model.grounding.EventGrounding;
+import org.apache.streampipes.model.grounding.KafkaTransportProtocol;
+import org.apache.streampipes.model.grounding.LocalTransportProtocol;
+import org.apache.streampipes.svcdiscovery.api.model.SpServiceUrlProvider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ProtocolSelectorTest {
+
+  private static final String PROCESSOR_APP_ID = "org.apache.streampipes.processor";
+  private static final String SINK_APP_ID = "org.apache.streampipes.sink";
+
+  private ExtensionsServiceEndpointGenerator endpointGenerator;
+  private MessagingSettings messagingSettings;
+
+  @BeforeEach
+  public void setUp() {
+    endpointGenerator = mock(ExtensionsServiceEndpointGenerator.class);
+    messagingSettings = new MessagingSettings();
+    messagingSettings.setPrioritizedProtocols(List.of());
+  }
+
+  @Test
+  public void selectsLocalProtocolForSingleSharedInstance() {
+    mockEndpoints(PROCESSOR_APP_ID, SpServiceUrlProvider.DATA_PROCESSOR, List.of("http://ext-1:8090"));
+    mockEndpoints(SINK_APP_ID, SpServiceUrlProvider.DATA_SINK, List.of("http://ext-1:8090"));
+
+    var protocol = makeSelector().getPreferredProtocol();
+
+    Assertions.assertInstanceOf(LocalTransportProtocol.class, protocol);
+  }
+
+  @Test
+  public void selectsBrokerForDifferentInstances() {
+    mockEndpoints(PROCESSOR_APP_ID, SpServiceUrlProvider.DATA_PROCESSOR, List.of("http://ext-1:8090"));
+    mockEndpoints(SINK_APP_ID, SpServiceUrlProvider.DATA_SINK, List.of("http://ext-2:8090"));
+
+    var protocol = makeSelector().getPreferredProtocol();
+
+    Assertions.assertInstanceOf(KafkaTransportProtocol.class, protocol);
+  }
+
+  @Test
+  public void selectsBrokerIfAnElementIsProvidedBySeveralInstances() {
+    mockEndpoints(PROCESSOR_APP_ID, SpServiceUrlProvider.DATA_PROCESSOR, List.of("http://ext-1:8090"));
+    mockEndpoints(SINK_APP_ID, SpServiceUrlProvider.DATA_SINK, List.of("http://ext-2:8090", "http://ext-1:8090"));
+
+    var protocol = makeSelector().getPreferredProtocol();
+
+    Assertions.assertInstanceOf(KafkaTransportProtocol.class, protocol);
+  }
+
+  @Test
+  public void selectsBrokerIfNoInstanceIsAvailable() {
+    mockEndpoints(PROCESSOR_APP_ID, SpServiceUrlProvider.DATA_PROCESSOR, List.of());
+    mockEndpoints(SINK_APP_ID, SpServiceUrlProvider.DATA_SINK, List.of());
+
+    var protocol = makeSelector().getPreferredProtocol();
+
+    Assertions.assertInstanceOf(KafkaTransportProtocol.class, protocol);
+  }
+
+  private void mockEndpoints(String appId,
+                             SpServiceUrlProvider urlProvider,
+                             List<String> endpoints) {
+    when(endpointGenerator.getEndpointBaseUrls(eq(appId), eq(urlProvider), anySet())).thenReturn(endpoints);
+  }
+
+  private ProtocolSelector makeSelector() {
+    var processor = new DataProcessorInvocation();
+    processor.setAppId(PROCESSOR_APP_ID);
+    processor.setSupportedGrounding(makeGrounding());
+
+    var sink = new DataSinkInvocation();
+    sink.setAppId(SINK_APP_ID);
+    sink.setSupportedGrounding(makeGrounding());
+
+    return new ProtocolSelector(processor, Set.of(sink), messagingSettings, endpointGenerator);
+  }
+
+  private EventGrounding makeGrounding() {
+    var grounding = new EventGrounding();
+    grounding.setTransportProtocols(List.of(new KafkaTransportProtocol(), new LocalTransportProtocol()));
+    return grounding;
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.runtime;
+
+import org.apache.streampipes.dataformat.json.JsonDataFormatDefinition;
+import org.apache.streampipes.messaging.EventConsumer;
+import org.apache.streampipes.messaging.InternalEventProcessor;
+import org.apache.streampipes.model.SpDataStream;
+import org.apache.streampipes.model.grounding.EventGrounding;
+import org.apache.streampipes.model.grounding.KafkaTransportProtocol;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class LiveTapServiceTest {
+
+  private final SpDataStream stream = makeStream("preview-topic");
+
+  private EventConsumer consumer;
+  private ExecutorService sendExecutor;
+  private LiveTapService service;
+
+  @BeforeEach
+  public void setUp() {
+    consumer = mock(EventConsumer.class);
+    sendExecutor = Executors.newCachedThreadPool();
+    service = new LiveTapService(
+        s -> new LiveTapService.LiveTap("preview-topic", consumer,
+            new SpDataFormatConverter(new JsonDataFormatDefinition())),
+        sendExecutor);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    sendExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testTapIsSharedByAllRequestsOfATopic() {
+    service.getRecentEvents(stream);
+    service.subscribe(stream, event -> { });
+    service.subscribe(makeStream("preview-topic"), event -> { });
+
+    verify(consumer, times(1)).connect(any());
+  }
+
+  @Test
+  public void testListenersReceiveLatestEvent() throws InterruptedException {
+    var received = Collections.synchronizedList(new ArrayList<String>());
+    var delivered = new CountDownLatch(2);
+    service.subscribe(stream, event -> {
+      received.add(event);
+      delivered.countDown();
+    });
+    service.subscribe(stream, event -> delivered.countDown());
+
+    publish("{\"value\":1}", "{\"value\":2}");
+    service.pushUpdates();
+
+    assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of("{\"value\":2}"), received);
+    assertEquals(List.of("{\"value\":1}", "{\"value\":2}"), service.getRecentEvents(stream));
+  }
+
+  @Test
+  public void testIdleTapIsExpiredAndReconnectedOnNextRequest() {
+    service.getRecentEvents(stream);
+
+    service.expireIdleTaps(System.currentTimeMillis());
+    verify(consumer, never()).disconnect();
+
+    service.expireIdleTaps(System.currentTimeMillis() + LiveTapService.IDLE_TIMEOUT_MS + 1);
+    verify(consumer).disconnect();
+
+    service.getRecentEvents(stream);
+    verify(consumer, times(2)).connect(any());
+  }
+
+  @Test
+  public void testTapIsKeptWhileListenersAreRegistered() {
+    var subscription = service.subscribe(stream, event -> { });
+    var expiry = System.currentTimeMillis() + LiveTapService.IDLE_TIMEOUT_MS + 1;
+
+    service.expireIdleTaps(expiry);
+    verify(consumer, never()).disconnect();
+
+    subscription.close();
+    service.expireIdleTaps(System.currentTimeMillis() + LiveTapService.IDLE_TIMEOUT_MS + 1);
+    verify(consumer).disconnect();
+  }
+
+  @Test
+  public void testRemovedListenerReceivesNoUpdates() throws InterruptedException {
+    var removed = Collections.synchronizedList(new ArrayList<String>());
+    var delivered = new CountDownLatch(1);
+    service.subscribe(stream, removed::add).close();
+    service.subscribe(stream, event -> delivered.countDown());
+
+    publish("{\"value\":1}");
+    service.pushUpdates();
+
+    assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of(), removed);
+  }
+
+  @Test
+  public void testBlockedListenerDoesNotDelayOthers() throws InterruptedException {
+    var release = new CountDownLatch(1);
+    var slowReceived = Collections.synchronizedList(new ArrayList<String>());
+    var latest = "{\"value\":" + (2 * LiveTapService.LISTENER_QUEUE_SIZE - 1) + "}";
+    var fastDelivered = new CountDownLatch(1);
+    service.subscribe(stream, event -> {
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      slowReceived.add(event);
+    });
+    service.subscribe(stream, event -> {
+      if (event.equals(latest)) {
+        fastDelivered.countDown();
+      }
+    });
+
+    for (int i = 0; i < 2 * LiveTapService.LISTENER_QUEUE_SIZE; i++) {
+      publish("{\"value\":" + i + "}");
+      service.pushUpdates();
+    }
+
+    // pushing returns although the first listener blocks, the second listener is not delayed
+    assertTrue(fastDelivered.await(5, TimeUnit.SECONDS));
+
+    release.countDown();
+    sendExecutor.shutdown();
+    assertTrue(sendExecutor.awaitTermination(5, TimeUnit.SECONDS));
+    // the blocked listener keeps only a bounded number of pending updates, ending with the latest
+    assertTrue(slowReceived.size() <= LiveTapService.LISTENER_QUEUE_SIZE + 1);
+    assertEquals(latest, slowReceived.get(slowReceived.size() - 1));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void publish(String... events) {
+    ArgumentCaptor<InternalEventProcessor<byte[]>> processor = ArgumentCaptor.forClass(InternalEventProcessor.class);
+    verify(consumer).connect(processor.capture());
+    for (String event : events) {
+      processor.getValue().onEvent(event.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static SpDataStream makeStream(String topic) {
+    var grounding = new EventGrounding();
+    grounding.setTransportProtocol(new KafkaTransportProtocol("localhost", 9092, topic));
+    var stream = new SpDataStream();
+    stream.setEventGrounding(grounding);
+    return stream;
+  }
+}
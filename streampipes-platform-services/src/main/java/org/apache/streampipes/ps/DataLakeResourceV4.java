@@ -253,13 +253,12 @@ public class DataLakeResourceV4 extends AbstractRestResource {
       produces = MediaType.APPLICATION_JSON_VALUE,
       consumes = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<List<SpQueryResult>> getData(@RequestBody List<Map<String, String>> queryParams) {
-    var results = queryParams
+    var params = queryParams
         .stream()
         .map(qp -> new ProvidedRestQueryParams(qp.get("measureName"), qp))
-        .map(params -> this.dataExplorerQueryManagement.getData(params, true))
         .collect(Collectors.toList());
 
-    return ok(results);
+    return ok(this.dataExplorerQueryManagement.getData(params, true));
   }
 
   @GetMapping(path = "/measurements/{measurementID}/download", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
@@ -303,7 +302,7 @@ public class DataLakeResourceV4 extends AbstractRestResource {
       ,
       @Parameter(
           in = ParameterIn.QUERY,
-          description = "format specification (csv, json - default is csv) for data download")
+          description = "format specification (csv, json, arrow - default is csv) for data download")
       @RequestParam(value = QP_FORMAT, required = false) String format
       , @Parameter(in = ParameterIn.QUERY, description = "csv delimiter (comma or semicolon)")
       @RequestParam(value = QP_CSV_DELIMITER, required = false) String csvDelimiter
@@ -326,7 +325,7 @@ public class DataLakeResourceV4 extends AbstractRestResource {
         format = "csv";
       }
 
-      OutputFormat outputFormat = format.equals("csv") ? OutputFormat.CSV : OutputFormat.JSON;
+      OutputFormat outputFormat = OutputFormat.fromParam(format);
       StreamingResponseBody streamingOutput = output -> dataExplorerQueryManagement.getDataAsStream(
           sanitizedParams,
           outputFormat,
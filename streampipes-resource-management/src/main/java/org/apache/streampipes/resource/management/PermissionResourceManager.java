@@ -17,12 +17,16 @@
  */
 package org.apache.streampipes.resource.management;
 
+import org.apache.streampipes.commons.random.UUIDGenerator;
 import org.apache.streampipes.model.client.user.Permission;
 import org.apache.streampipes.model.client.user.PermissionBuilder;
 import org.apache.streampipes.storage.api.IPermissionStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.PrincipalCache;
+import org.apache.streampipes.user.management.permission.PermissionIndex;
 
 import java.util.List;
+import java.util.Objects;
 
 public class PermissionResourceManager extends AbstractResourceManager<IPermissionStorage> {
 
@@ -39,7 +43,12 @@ public class PermissionResourceManager extends AbstractResourceManager<IPermissi
   }
 
   public void create(Permission permission) {
+    if (Objects.isNull(permission.getPermissionId())) {
+      permission.setPermissionId(UUIDGenerator.generateUuid());
+    }
     db.addPermission(permission);
+    PermissionIndex.getInstance().put(permission);
+    invalidatePrincipals();
   }
 
   public void createDefault(String objectInstanceId,
@@ -56,9 +65,21 @@ public class PermissionResourceManager extends AbstractResourceManager<IPermissi
 
   public void update(Permission permission) {
     db.updatePermission(permission);
+    PermissionIndex.getInstance().put(permission);
+    invalidatePrincipals();
   }
 
   public void delete(Permission permission) {
     db.deletePermission(permission.getPermissionId());
+    PermissionIndex.getInstance().remove(permission.getPermissionId());
+    invalidatePrincipals();
+  }
+
+  /**
+   * The object permissions of a principal are cached with its details. As a permission can be granted to groups,
+   * all cached principals are invalidated.
+   */
+  private void invalidatePrincipals() {
+    PrincipalCache.getInstance().invalidateAll();
   }
 }
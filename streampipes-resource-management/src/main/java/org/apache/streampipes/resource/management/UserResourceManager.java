@@ -35,6 +35,7 @@ import org.apache.streampipes.storage.api.IUserActivationTokenStorage;
 import org.apache.streampipes.storage.api.IUserStorage;
 import org.apache.streampipes.storage.couchdb.CouchDbStorageManager;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.PrincipalCache;
 import org.apache.streampipes.user.management.util.PasswordUtil;
 import org.apache.streampipes.user.management.util.TokenUtil;
 
@@ -61,6 +62,7 @@ public class UserResourceManager extends AbstractResourceManager<IUserStorage> {
     UserAccount user = userService.getUserAccount(username);
     user.setHideTutorial(hideTutorial);
     userService.updateUser(user);
+    PrincipalCache.getInstance().invalidate(user.getPrincipalId());
   }
 
   public static IUserStorage getUserStorage() {
@@ -128,6 +130,7 @@ public class UserResourceManager extends AbstractResourceManager<IUserStorage> {
       if (user instanceof UserAccount) {
         user.setAccountEnabled(true);
         db.updateUser(user);
+        PrincipalCache.getInstance().invalidate(user.getPrincipalId());
         getUserActivationTokenStorage().deleteElement(token);
       }
     } else {
@@ -173,6 +176,7 @@ public class UserResourceManager extends AbstractResourceManager<IUserStorage> {
       String encryptedPassword = PasswordUtil.encryptPassword(data.password());
       ((UserAccount) user).setPassword(encryptedPassword);
       db.updateUser(user);
+      PrincipalCache.getInstance().invalidate(user.getPrincipalId());
       getPasswordRecoveryTokenStorage().deleteElement(token);
     }
   }
@@ -35,10 +35,6 @@ public class MonitoringResource extends AbstractExtensionsResource {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<SpEndpointMonitoringInfo> getMonitoringInfos() {
-    try {
-      return ok(SpMonitoringManager.INSTANCE.getMonitoringInfo());
-    } finally {
-      SpMonitoringManager.INSTANCE.clearAllLogs();
-    }
+    return ok(SpMonitoringManager.INSTANCE.drainMonitoringInfo());
   }
 }
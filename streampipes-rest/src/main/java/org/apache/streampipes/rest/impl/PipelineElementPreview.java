@@ -17,11 +17,14 @@
  */
 package org.apache.streampipes.rest.impl;
 
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.manager.preview.PipelinePreview;
 import org.apache.streampipes.model.pipeline.Pipeline;
 import org.apache.streampipes.model.preview.PipelinePreviewModel;
 import org.apache.streampipes.rest.core.base.impl.AbstractAuthGuardedRestResource;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -31,11 +34,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/v2/pipeline-element-preview")
 public class PipelineElementPreview extends AbstractAuthGuardedRestResource {
 
+  private static final Logger LOG = LoggerFactory.getLogger(PipelineElementPreview.class);
+
+  private static final long STREAM_TIMEOUT_MS = 5 * 60 * 1000;
 
   @PostMapping(
       produces = MediaType.APPLICATION_JSON_VALUE,
@@ -59,6 +68,41 @@ public class PipelineElementPreview extends AbstractAuthGuardedRestResource {
     }
   }
 
+  /**
+   * Streams the latest output event of the pipeline element as server-sent events.
+   * The stream is closed after a few minutes, clients are expected to reconnect.
+   */
+  @GetMapping(path = "{previewId}/{pipelineElementDomId}/stream",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<?> streamPipelinePreviewResult(
+      @PathVariable("previewId") String previewId,
+      @PathVariable("pipelineElementDomId") String pipelineElementDomId) {
+    var emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+    try {
+      var subscription = new PipelinePreview().subscribeToPipelineElementPreview(
+          previewId,
+          pipelineElementDomId,
+          event -> send(emitter, event)
+      );
+      emitter.onCompletion(subscription::close);
+      emitter.onTimeout(subscription::close);
+      emitter.onError(e -> subscription.close());
+      return ok(emitter);
+    } catch (IllegalArgumentException | SpRuntimeException e) {
+      return badRequest();
+    }
+  }
+
+  private void send(SseEmitter emitter,
+                    String event) {
+    try {
+      emitter.send(SseEmitter.event().data(event, MediaType.APPLICATION_JSON));
+    } catch (IOException | IllegalStateException e) {
+      LOG.debug("Could not send preview event, closing stream", e);
+      emitter.completeWithError(e);
+    }
+  }
+
   @DeleteMapping(path = "{previewId}", produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<Void> deletePipelinePreviewRequest(@PathVariable("previewId") String previewId) {
     new PipelinePreview().deletePreview(previewId);
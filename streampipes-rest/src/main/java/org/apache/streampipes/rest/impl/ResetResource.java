@@ -24,6 +24,8 @@ import org.apache.streampipes.model.message.Notifications;
 import org.apache.streampipes.model.message.SuccessMessage;
 import org.apache.streampipes.rest.ResetManagement;
 import org.apache.streampipes.rest.core.base.impl.AbstractAuthGuardedRestResource;
+import org.apache.streampipes.user.management.cache.PrincipalCache;
+import org.apache.streampipes.user.management.permission.PermissionIndex;
 
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.http.MediaType;
@@ -52,6 +54,8 @@ public class ResetResource extends AbstractAuthGuardedRestResource {
         userStorage.deleteUser(user.getPrincipalId());
       }
     }
+    PermissionIndex.getInstance().invalidate();
+    PrincipalCache.getInstance().invalidateAll();
     var message = Notifications.success("Reset of system successfully performed");
     return ok(message);
   }
@@ -30,6 +30,7 @@ import org.apache.streampipes.model.message.Notifications;
 import org.apache.streampipes.rest.core.base.impl.AbstractAuthGuardedRestResource;
 import org.apache.streampipes.rest.security.AuthConstants;
 import org.apache.streampipes.rest.utils.Utils;
+import org.apache.streampipes.user.management.cache.PrincipalCache;
 import org.apache.streampipes.user.management.encryption.SecretEncryptionManager;
 import org.apache.streampipes.user.management.service.TokenService;
 import org.apache.streampipes.user.management.util.PasswordUtil;
@@ -101,6 +102,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
 
     if (principal != null) {
       getUserStorage().deleteUser(principalId);
+      getPrincipalCache().invalidate(principalId);
       return ok();
     } else {
       return statusMessage(Notifications.error("User not found"));
@@ -114,6 +116,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
       UserAccount user = getUser(authenticatedUsername);
       user.setDarkMode(darkMode);
       getUserStorage().updateUser(user);
+      getPrincipalCache().invalidate(user.getPrincipalId());
 
       return ok(Notifications.success("Appearance updated"));
     } else {
@@ -189,6 +192,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
       updateUser(existingUser, user, isAdmin(), existingUser.getPassword());
       user.setRev(existingUser.getRev());
       getUserStorage().updateUser(user);
+      getPrincipalCache().invalidate(principalId);
       return ok(Notifications.success("User updated"));
     } else {
       return statusMessage(Notifications.error("User not found"));
@@ -214,6 +218,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
               .noneMatch(u -> u.getUsername().equalsIgnoreCase(user.getUsername()))) {
             updateUser(existingUser, user, isAdmin(), existingUser.getPassword());
             getUserStorage().updateUser(existingUser);
+            getPrincipalCache().invalidate(principalId);
             return ok();
           } else {
             return badRequest(Notifications.error("Username already taken"));
@@ -243,6 +248,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
           String newEncryptedPw = PasswordUtil.encryptPassword(passwordRequest.newPassword());
           updateUser(existingUser, existingUser, isAdmin(), newEncryptedPw);
           getUserStorage().updateUser(existingUser);
+          getPrincipalCache().invalidate(principalId);
 
           return ok();
         } else {
@@ -274,12 +280,17 @@ public class UserResource extends AbstractAuthGuardedRestResource {
         user.setSecretEncrypted(true);
       }
       getUserStorage().updateUser(user);
+      getPrincipalCache().invalidate(principalId);
       return ok(Notifications.success("User updated"));
     } else {
       return statusMessage(Notifications.error("User not found"));
     }
   }
 
+  private PrincipalCache getPrincipalCache() {
+    return PrincipalCache.getInstance();
+  }
+
   private boolean isAdmin() {
     return SecurityContextHolder
         .getContext()
@@ -23,6 +23,7 @@ import org.apache.streampipes.rest.core.base.impl.AbstractAuthGuardedRestResourc
 import org.apache.streampipes.rest.security.AuthConstants;
 import org.apache.streampipes.rest.shared.exception.SpMessageException;
 import org.apache.streampipes.storage.api.IUserGroupStorage;
+import org.apache.streampipes.user.management.cache.PrincipalCache;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -65,7 +66,10 @@ public class UserGroupResource extends AbstractAuthGuardedRestResource {
           HttpStatus.BAD_REQUEST,
           Notifications.error("Wrong group id provided"));
     } else {
-      return ok(getUserGroupStorage().updateElement(group));
+      var updatedGroup = getUserGroupStorage().updateElement(group);
+      // the roles of a group are part of the authorities of all its members
+      PrincipalCache.getInstance().invalidateAll();
+      return ok(updatedGroup);
     }
   }
 
@@ -83,6 +87,7 @@ public class UserGroupResource extends AbstractAuthGuardedRestResource {
           getUserStorage().updateUser(user);
         }
       });
+      PrincipalCache.getInstance().invalidateAll();
       return ok();
     } else {
       return badRequest();
@@ -17,40 +17,44 @@
  */
 package org.apache.streampipes.rest.security;
 
-import org.apache.streampipes.model.client.user.Permission;
 import org.apache.streampipes.model.client.user.Role;
 import org.apache.streampipes.model.pipeline.PipelineElementRecommendation;
 import org.apache.streampipes.model.pipeline.PipelineElementRecommendationMessage;
-import org.apache.streampipes.storage.management.StorageDispatcher;
 import org.apache.streampipes.user.management.model.PrincipalUserDetails;
+import org.apache.streampipes.user.management.permission.PermissionIndex;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.core.Authentication;
 
 import java.io.Serializable;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 @Configuration
 public class SpPermissionEvaluator implements PermissionEvaluator {
 
+  private final PermissionIndex permissionIndex = PermissionIndex.getInstance();
+
   @Override
   public boolean hasPermission(Authentication auth, Object o, Object permission) {
     PrincipalUserDetails<?> userDetails = getUserDetails(auth);
     if (o instanceof PipelineElementRecommendationMessage) {
-      return isAdmin(userDetails) || filterRecommendation(auth, (PipelineElementRecommendationMessage) o);
+      return isAdmin(userDetails) || filterRecommendation(userDetails, (PipelineElementRecommendationMessage) o);
     } else {
       String objectInstanceId = (String) o;
       if (isAdmin(userDetails)) {
         return true;
       }
-      return hasPermission(auth, objectInstanceId);
+      return hasPermission(userDetails, objectInstanceId);
     }
   }
 
-  private boolean filterRecommendation(Authentication auth, PipelineElementRecommendationMessage message) {
-    Predicate<PipelineElementRecommendation> isForbidden = r -> !hasPermission(auth, r.getElementId());
+  private boolean filterRecommendation(PrincipalUserDetails<?> userDetails,
+                                       PipelineElementRecommendationMessage message) {
+    Set<String> sids = getSids(userDetails);
+    Predicate<PipelineElementRecommendation> isForbidden = r -> !permissionIndex.hasPermission(sids, r.getElementId());
     message.getRecommendedElements().removeIf(isForbidden);
     message.getPossibleElements().removeIf(isForbidden);
 
@@ -63,22 +67,21 @@ public class SpPermissionEvaluator implements PermissionEvaluator {
     if (isAdmin(userDetails)) {
       return true;
     }
-    return hasPermission(auth, serializable.toString());
+    return hasPermission(userDetails, serializable.toString());
   }
 
-  private boolean hasPermission(Authentication auth, String objectInstanceId) {
-    return isPublicElement(objectInstanceId)
-        || getUserDetails(auth).getAllObjectPermissions().contains(objectInstanceId);
+  private boolean hasPermission(PrincipalUserDetails<?> userDetails, String objectInstanceId) {
+    return permissionIndex.hasPermission(getSids(userDetails), objectInstanceId);
   }
 
-  private PrincipalUserDetails<?> getUserDetails(Authentication authentication) {
-    return (PrincipalUserDetails<?>) authentication.getPrincipal();
+  private Set<String> getSids(PrincipalUserDetails<?> userDetails) {
+    Set<String> sids = new HashSet<>(userDetails.getDetails().getGroups());
+    sids.add(userDetails.getDetails().getPrincipalId());
+    return sids;
   }
 
-  private boolean isPublicElement(String objectInstanceId) {
-    List<Permission> permissions =
-        StorageDispatcher.INSTANCE.getNoSqlStore().getPermissionStorage().getUserPermissionsForObject(objectInstanceId);
-    return permissions.size() > 0 && permissions.get(0).isPublicElement();
+  private PrincipalUserDetails<?> getUserDetails(Authentication authentication) {
+    return (PrincipalUserDetails<?>) authentication.getPrincipal();
   }
 
   private boolean isAdmin(PrincipalUserDetails<?> userDetails) {
@@ -46,6 +46,7 @@ import org.apache.streampipes.service.core.migrations.MigrationsHandler;
 import org.apache.streampipes.storage.api.IPipelineStorage;
 import org.apache.streampipes.storage.api.ISpCoreConfigurationStorage;
 import org.apache.streampipes.storage.couchdb.impl.UserStorage;
+import org.apache.streampipes.storage.couchdb.utils.CouchDbClientPool;
 import org.apache.streampipes.storage.couchdb.utils.CouchDbViewGenerator;
 import org.apache.streampipes.storage.management.StorageDispatcher;
 
@@ -131,6 +132,7 @@ public class StreamPipesCoreApplication extends StreamPipesServiceBase {
       }
       new MigrationsHandler().performMigrations();
     }
+    new CouchDbViewGenerator().createPipelineElementDescriptionViewsIfNotExist();
     coreStatusManager.updateCoreStatus(SpCoreConfigurationStatus.READY);
 
     executorService.schedule(
@@ -226,6 +228,8 @@ public class StreamPipesCoreApplication extends StreamPipesServiceBase {
       }
     });
 
+    CouchDbClientPool.INSTANCE.shutdown();
+
     LOG.info("Thanks for using Apache StreamPipes - see you next time!");
   }
 
@@ -24,6 +24,7 @@ import org.apache.streampipes.model.client.user.ServiceAccount;
 import org.apache.streampipes.model.client.user.UserAccount;
 import org.apache.streampipes.storage.api.IUserStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.PrincipalCache;
 import org.apache.streampipes.user.management.encryption.SecretEncryptionManager;
 import org.apache.streampipes.user.management.jwt.JwtTokenProvider;
 import org.apache.streampipes.user.management.model.PrincipalUserDetails;
@@ -59,6 +60,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider tokenProvider;
   private final IUserStorage userStorage;
+  private final PrincipalCache principalCache;
 
   private final List<String> supportedBasicAuthPaths = List.of(
       "/actuator/prometheus"
@@ -71,6 +73,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
   public TokenAuthenticationFilter() {
     this.tokenProvider = new JwtTokenProvider();
     this.userStorage = StorageDispatcher.INSTANCE.getNoSqlStore().getUserStorageAPI();
+    this.principalCache = PrincipalCache.getInstance();
   }
 
   @Override
@@ -82,7 +85,10 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
       if (StringUtils.hasText(jwt) && tokenProvider.validateJwtToken(jwt)) {
         String username = tokenProvider.getUserIdFromToken(jwt);
-        applySuccessfulAuth(request, username);
+        var userDetails = principalCache.get(username, TokenUtil.hashToken(jwt), () -> loadUserDetails(username));
+        if (userDetails != null) {
+          applySuccessfulAuth(request, userDetails);
+        }
         SecurityContext context = SecurityContextHolder.getContext();
         repo.saveContext(context, request, response);
       } else if (isApiKeyAuth(request)) {
@@ -90,9 +96,9 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         String apiUser = getApiUserFromRequest(request);
         if (StringUtils.hasText(apiKey) && StringUtils.hasText(apiUser)) {
           String hashedToken = TokenUtil.hashToken(apiKey);
-          boolean hasValidToken = new TokenService().hasValidToken(apiUser, hashedToken);
-          if (hasValidToken) {
-            applySuccessfulAuth(request, apiUser);
+          var userDetails = principalCache.get(apiUser, hashedToken, () -> loadApiUserDetails(apiUser, hashedToken));
+          if (userDetails != null) {
+            applySuccessfulAuth(request, userDetails);
           }
         }
       } else {
@@ -105,9 +111,9 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             String[] splitCredentials = credentials.split(":");
             String username = splitCredentials[0];
             String passphrase = splitCredentials[1];
-            var principal = StorageDispatcher.INSTANCE.getNoSqlStore().getUserStorageAPI().getUser(username);
+            var principal = userStorage.getUser(username);
             if (principal != null && checkCredentials(principal, passphrase)) {
-              applySuccessfulAuth(request, username);
+              applySuccessfulAuth(request, makeUserDetails(principal));
             }
           }
         }
@@ -134,11 +140,30 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     return request.getHeader(HttpConstants.X_API_USER) != null && request.getHeader(HttpConstants.X_API_KEY) != null;
   }
 
-  private void applySuccessfulAuth(HttpServletRequest request,
-                                   String username) {
+  private PrincipalUserDetails<?> loadUserDetails(String username) {
     Principal user = userStorage.getUser(username);
-    PrincipalUserDetails<?> userDetails = user instanceof UserAccount ? new UserAccountDetails((UserAccount) user) :
+    return user != null ? makeUserDetails(user) : null;
+  }
+
+  /**
+   * Loads the details of the user only if the API key is valid, the user is read from the storage only once.
+   */
+  private PrincipalUserDetails<?> loadApiUserDetails(String apiUser,
+                                                     String hashedToken) {
+    Principal user = userStorage.getUser(apiUser);
+    if (user instanceof UserAccount userAccount && new TokenService().hasValidToken(userAccount, hashedToken)) {
+      return makeUserDetails(user);
+    }
+    return null;
+  }
+
+  private PrincipalUserDetails<?> makeUserDetails(Principal user) {
+    return user instanceof UserAccount ? new UserAccountDetails((UserAccount) user) :
         new ServiceAccountDetails((ServiceAccount) user);
+  }
+
+  private void applySuccessfulAuth(HttpServletRequest request,
+                                   PrincipalUserDetails<?> userDetails) {
     UsernamePasswordAuthenticationToken authentication =
         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
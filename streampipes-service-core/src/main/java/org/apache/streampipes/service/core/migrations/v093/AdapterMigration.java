@@ -78,6 +78,10 @@ public class AdapterMigration implements Migration {
       var rows = existingAdapters.get(ROWS);
       rows.getAsJsonArray().forEach(row -> {
         var doc = row.getAsJsonObject().get("doc").getAsJsonObject();
+        if (!doc.has("type")) {
+          // design documents
+          return;
+        }
         var docType = doc.get("type").getAsString();
         if (AdapterModels.shouldMigrate(docType)) {
           collector.add(doc);
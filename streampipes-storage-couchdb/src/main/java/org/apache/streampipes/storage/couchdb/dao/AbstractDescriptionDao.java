@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.storage.couchdb.dao;
+
+import org.apache.streampipes.model.base.NamedStreamPipesEntity;
+import org.apache.streampipes.storage.couchdb.constants.PipelineElementDescriptionConstants;
+
+import org.lightcouch.CouchDbClient;
+import org.lightcouch.NoDocumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Base DAO for pipeline element descriptions, which are looked up by appId through a CouchDB view
+ * and served from a {@link PipelineElementDescriptionCache} shared by all instances of a storage.
+ */
+public abstract class AbstractDescriptionDao<T extends NamedStreamPipesEntity> extends AbstractDao<T> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AbstractDescriptionDao.class);
+
+  private final PipelineElementDescriptionCache<T> cache;
+
+  public AbstractDescriptionDao(Supplier<CouchDbClient> couchDbClientSupplier,
+                                Class<T> clazz,
+                                PipelineElementDescriptionCache<T> cache) {
+    super(couchDbClientSupplier, clazz);
+    this.cache = cache;
+  }
+
+  @Override
+  public List<T> findAll() {
+    try {
+      // the view skips design documents, which are part of _all_docs
+      return findAll(PipelineElementDescriptionConstants.ALL_VIEW_NAME);
+    } catch (NoDocumentException e) {
+      return super.findAll();
+    }
+  }
+
+  protected T findCachedById(String elementId) {
+    return cache.getByElementId(elementId, this::findWithNullIfEmpty);
+  }
+
+  protected List<T> findCachedByAppId(String appId) {
+    return cache.getByAppId(appId, this::findByAppId);
+  }
+
+  protected void invalidate(String elementId) {
+    cache.invalidate(elementId);
+  }
+
+  private List<T> findByAppId(String appId) {
+    try {
+      return couchDbClientSupplier
+          .get()
+          .view(PipelineElementDescriptionConstants.BY_APP_ID_VIEW_NAME)
+          .key(appId)
+          .includeDocs(true)
+          .query(clazz);
+    } catch (NoDocumentException e) {
+      LOG.warn("View {} not present, falling back to a full scan for appId {}",
+          PipelineElementDescriptionConstants.BY_APP_ID_VIEW_NAME,
+          appId);
+      return super.findAll()
+          .stream()
+          .filter(d -> appId.equals(d.getAppId()))
+          .toList();
+    }
+  }
+}
@@ -35,10 +35,7 @@ public abstract class DbCommand<K, V> {
 
 
   public K execute() {
-    CouchDbClient couchDbClient = couchDbClientSupplier.get();
-    K result = executeCommand(couchDbClient);
-    couchDbClient.shutdown();
-
-    return result;
+    // clients are shared through the CouchDbClientPool and must not be shut down here
+    return executeCommand(couchDbClientSupplier.get());
   }
 }
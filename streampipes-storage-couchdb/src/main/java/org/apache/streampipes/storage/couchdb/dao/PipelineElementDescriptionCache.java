@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.storage.couchdb.dao;
+
+import org.apache.streampipes.model.base.NamedStreamPipesEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory cache of pipeline element descriptions by elementId and appId.
+ *
+ * <p>Cached instances are never handed out directly; callers receive a copy so that
+ * modifications (e.g., during pipeline validation) do not leak into the cache.
+ * Every write to the underlying database must be followed by {@link #invalidate(String)}.
+ * A generation counter prevents a lookup that raced with a write from re-populating
+ * the cache with the outdated document.</p>
+ */
+public class PipelineElementDescriptionCache<T extends NamedStreamPipesEntity> {
+
+  private final Map<String, T> descriptionsByElementId = new ConcurrentHashMap<>();
+  private final Map<String, List<T>> descriptionsByAppId = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+
+  private final UnaryOperator<T> copyFunction;
+
+  public PipelineElementDescriptionCache(UnaryOperator<T> copyFunction) {
+    this.copyFunction = copyFunction;
+  }
+
+  public T getByElementId(String elementId,
+                          Function<String, T> loader) {
+    T description = descriptionsByElementId.get(elementId);
+    if (description == null) {
+      long currentGeneration = generation.get();
+      description = loader.apply(elementId);
+      if (description == null) {
+        return null;
+      }
+      putIfCurrent(descriptionsByElementId, elementId, description, currentGeneration);
+    }
+    return copyFunction.apply(description);
+  }
+
+  public List<T> getByAppId(String appId,
+                            Function<String, List<T>> loader) {
+    List<T> descriptions = descriptionsByAppId.get(appId);
+    if (descriptions == null) {
+      long currentGeneration = generation.get();
+      descriptions = List.copyOf(loader.apply(appId));
+      putIfCurrent(descriptionsByAppId, appId, descriptions, currentGeneration);
+    }
+    return descriptions.stream().map(copyFunction).toList();
+  }
+
+  public void invalidate(String elementId) {
+    generation.incrementAndGet();
+    if (elementId != null) {
+      descriptionsByElementId.remove(elementId);
+    }
+    // the appId of a description might have changed, so the small appId index is dropped entirely
+    descriptionsByAppId.clear();
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    descriptionsByElementId.clear();
+    descriptionsByAppId.clear();
+  }
+
+  private <V> void putIfCurrent(Map<String, V> cache,
+                                String key,
+                                V value,
+                                long loadedAtGeneration) {
+    cache.put(key, value);
+    if (generation.get() != loadedAtGeneration) {
+      cache.remove(key, value);
+    }
+  }
+}
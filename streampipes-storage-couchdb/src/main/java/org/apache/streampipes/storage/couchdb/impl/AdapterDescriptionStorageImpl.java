@@ -20,19 +20,24 @@ package org.apache.streampipes.storage.couchdb.impl;
 
 import org.apache.streampipes.model.connect.adapter.AdapterDescription;
 import org.apache.streampipes.storage.api.IAdapterStorage;
-import org.apache.streampipes.storage.couchdb.dao.AbstractDao;
+import org.apache.streampipes.storage.couchdb.dao.AbstractDescriptionDao;
 import org.apache.streampipes.storage.couchdb.dao.DbCommand;
 import org.apache.streampipes.storage.couchdb.dao.FindCommand;
+import org.apache.streampipes.storage.couchdb.dao.PipelineElementDescriptionCache;
 import org.apache.streampipes.storage.couchdb.utils.Utils;
 
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
-public class AdapterDescriptionStorageImpl extends AbstractDao<AdapterDescription> implements IAdapterStorage {
+public class AdapterDescriptionStorageImpl extends AbstractDescriptionDao<AdapterDescription>
+    implements IAdapterStorage {
+
+  private static final PipelineElementDescriptionCache<AdapterDescription> CACHE =
+      new PipelineElementDescriptionCache<>(AdapterDescription::new);
 
   public AdapterDescriptionStorageImpl() {
-    super(Utils::getCouchDbAdapterDescriptionClient, AdapterDescription.class);
+    super(Utils::getCouchDbAdapterDescriptionClient, AdapterDescription.class, CACHE);
   }
 
   @Override
@@ -42,12 +47,15 @@ public class AdapterDescriptionStorageImpl extends AbstractDao<AdapterDescriptio
 
   @Override
   public String storeAdapter(AdapterDescription adapter) {
-    return persist(adapter).v;
+    var result = persist(adapter).v;
+    invalidate(adapter.getElementId());
+    return result;
   }
 
   @Override
   public void updateAdapter(AdapterDescription adapter) {
     couchDbClientSupplier.get().update(adapter);
+    invalidate(adapter.getElementId());
   }
 
   @Override
@@ -62,24 +70,21 @@ public class AdapterDescriptionStorageImpl extends AbstractDao<AdapterDescriptio
 
     AdapterDescription adapterDescription = getAdapter(adapterId);
     couchDbClientSupplier.get().remove(adapterDescription.getElementId(), adapterDescription.getRev());
+    invalidate(adapterId);
 
   }
 
   @Override
   public AdapterDescription getFirstAdapterByAppId(String appId) {
-    return getAll()
+    return findCachedByAppId(appId)
             .stream()
-            .filter(p -> p.getAppId().equals(appId))
             .findFirst()
             .orElseThrow(NoSuchElementException::new);
   }
 
   @Override
   public List<AdapterDescription> getAdaptersByAppId(String appId) {
-    return getAll()
-            .stream()
-            .filter(p -> p.getAppId().equals(appId))
-            .toList();
+    return findCachedByAppId(appId);
   }
 
   @Override
@@ -90,11 +95,12 @@ public class AdapterDescriptionStorageImpl extends AbstractDao<AdapterDescriptio
   @Override
   public void createElement(AdapterDescription adapter) {
     persist(adapter);
+    invalidate(adapter.getElementId());
   }
 
   @Override
   public AdapterDescription getElementById(String id) {
-    return findWithNullIfEmpty(id);
+    return findCachedById(id);
   }
 
   @Override
@@ -102,12 +108,14 @@ public class AdapterDescriptionStorageImpl extends AbstractDao<AdapterDescriptio
     var rev = getCurrentRev(element.getElementId());
     element.setRev(rev);
     update(element);
+    invalidate(element.getElementId());
     return getElementById(element.getElementId());
   }
 
   @Override
   public void deleteElement(AdapterDescription element) {
     delete(element.getElementId());
+    invalidate(element.getElementId());
   }
 
   private String getCurrentRev(String elementId) {
@@ -19,17 +19,20 @@ package org.apache.streampipes.storage.couchdb.impl;
 
 import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.storage.api.IDataProcessorStorage;
-import org.apache.streampipes.storage.couchdb.dao.AbstractDao;
+import org.apache.streampipes.storage.couchdb.dao.AbstractDescriptionDao;
+import org.apache.streampipes.storage.couchdb.dao.PipelineElementDescriptionCache;
 import org.apache.streampipes.storage.couchdb.utils.Utils;
 
 import java.util.List;
 import java.util.NoSuchElementException;
 
-public class DataProcessorStorageImpl extends AbstractDao<DataProcessorDescription> implements IDataProcessorStorage {
+public class DataProcessorStorageImpl extends AbstractDescriptionDao<DataProcessorDescription> implements IDataProcessorStorage {
 
+  private static final PipelineElementDescriptionCache<DataProcessorDescription> CACHE =
+      new PipelineElementDescriptionCache<>(DataProcessorDescription::new);
 
   public DataProcessorStorageImpl() {
-    super(Utils::getCouchDbDataProcessorDescriptionClient, DataProcessorDescription.class);
+    super(Utils::getCouchDbDataProcessorDescriptionClient, DataProcessorDescription.class, CACHE);
   }
 
   @Override
@@ -40,40 +43,39 @@ public class DataProcessorStorageImpl extends AbstractDao<DataProcessorDescripti
   @Override
   public void createElement(DataProcessorDescription element) {
     persist(element);
+    invalidate(element.getElementId());
   }
 
   @Override
   public DataProcessorDescription getElementById(String s) {
-    return findWithNullIfEmpty(s);
+    return findCachedById(s);
   }
 
   @Override
   public DataProcessorDescription updateElement(DataProcessorDescription element) {
     element.setRev(getCurrentRev(element.getElementId()));
     update(element);
+    invalidate(element.getElementId());
     return getElementById(element.getElementId());
   }
 
   @Override
   public void deleteElement(DataProcessorDescription element) {
     delete(element.getElementId());
+    invalidate(element.getElementId());
   }
 
   @Override
   public DataProcessorDescription getFirstDataProcessorByAppId(String appId) {
-    return getAll()
+    return findCachedByAppId(appId)
         .stream()
-        .filter(p -> p.getAppId().equals(appId))
         .findFirst()
         .orElseThrow(NoSuchElementException::new);
   }
 
   @Override
   public List<DataProcessorDescription> getDataProcessorsByAppId(String appId) {
-    return getAll()
-            .stream()
-            .filter(p -> p.getAppId().equals(appId))
-            .toList();
+    return findCachedByAppId(appId);
   }
 
   private String getCurrentRev(String elementId) {
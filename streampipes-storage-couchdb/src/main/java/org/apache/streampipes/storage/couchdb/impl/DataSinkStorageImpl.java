@@ -19,16 +19,19 @@ package org.apache.streampipes.storage.couchdb.impl;
 
 import org.apache.streampipes.model.graph.DataSinkDescription;
 import org.apache.streampipes.storage.api.IDataSinkStorage;
-import org.apache.streampipes.storage.couchdb.dao.AbstractDao;
+import org.apache.streampipes.storage.couchdb.dao.AbstractDescriptionDao;
+import org.apache.streampipes.storage.couchdb.dao.PipelineElementDescriptionCache;
 import org.apache.streampipes.storage.couchdb.utils.Utils;
 
 import java.util.List;
 
-public class DataSinkStorageImpl extends AbstractDao<DataSinkDescription> implements IDataSinkStorage {
+public class DataSinkStorageImpl extends AbstractDescriptionDao<DataSinkDescription> implements IDataSinkStorage {
 
+  private static final PipelineElementDescriptionCache<DataSinkDescription> CACHE =
+      new PipelineElementDescriptionCache<>(DataSinkDescription::new);
 
   public DataSinkStorageImpl() {
-    super(Utils::getCouchDbDataSinkDescriptionClient, DataSinkDescription.class);
+    super(Utils::getCouchDbDataSinkDescriptionClient, DataSinkDescription.class, CACHE);
   }
 
   @Override
@@ -39,40 +42,39 @@ public class DataSinkStorageImpl extends AbstractDao<DataSinkDescription> implem
   @Override
   public void createElement(DataSinkDescription element) {
     persist(element);
+    invalidate(element.getElementId());
   }
 
   @Override
   public DataSinkDescription getElementById(String s) {
-    return findWithNullIfEmpty(s);
+    return findCachedById(s);
   }
 
   @Override
   public DataSinkDescription updateElement(DataSinkDescription element) {
     element.setRev(getCurrentRev(element.getElementId()));
     update(element);
+    invalidate(element.getElementId());
     return getElementById(element.getElementId());
   }
 
   @Override
   public void deleteElement(DataSinkDescription element) {
     delete(element.getElementId());
+    invalidate(element.getElementId());
   }
 
   @Override
   public DataSinkDescription getFirstDataSinkByAppId(String appId) {
-    return getAll()
+    return findCachedByAppId(appId)
         .stream()
-        .filter(s -> s.getAppId().equals(appId))
         .findFirst()
         .orElseThrow(IllegalArgumentException::new);
   }
 
   @Override
   public List<DataSinkDescription> getDataSinksByAppId(String appId) {
-    return getAll()
-            .stream()
-            .filter(s -> s.getAppId().equals(appId))
-            .toList();
+    return findCachedByAppId(appId);
   }
 
   private String getCurrentRev(String elementId) {
@@ -19,15 +19,19 @@ package org.apache.streampipes.storage.couchdb.impl;
 
 import org.apache.streampipes.model.SpDataStream;
 import org.apache.streampipes.storage.api.IDataStreamStorage;
-import org.apache.streampipes.storage.couchdb.dao.AbstractDao;
+import org.apache.streampipes.storage.couchdb.dao.AbstractDescriptionDao;
+import org.apache.streampipes.storage.couchdb.dao.PipelineElementDescriptionCache;
 import org.apache.streampipes.storage.couchdb.utils.Utils;
 
 import java.util.List;
 
-public class DataStreamStorageImpl extends AbstractDao<SpDataStream> implements IDataStreamStorage {
+public class DataStreamStorageImpl extends AbstractDescriptionDao<SpDataStream> implements IDataStreamStorage {
+
+  private static final PipelineElementDescriptionCache<SpDataStream> CACHE =
+      new PipelineElementDescriptionCache<>(SpDataStream::new);
 
   public DataStreamStorageImpl() {
-    super(Utils::getCouchDbDataStreamDescriptionClient, SpDataStream.class);
+    super(Utils::getCouchDbDataStreamDescriptionClient, SpDataStream.class, CACHE);
   }
 
   @Override
@@ -38,30 +42,32 @@ public class DataStreamStorageImpl extends AbstractDao<SpDataStream> implements
   @Override
   public void createElement(SpDataStream element) {
     persist(element);
+    invalidate(element.getElementId());
   }
 
   @Override
   public SpDataStream getElementById(String s) {
-    return findWithNullIfEmpty(s);
+    return findCachedById(s);
   }
 
   @Override
   public SpDataStream updateElement(SpDataStream element) {
     element.setRev(getCurrentRev(element.getElementId()));
     update(element);
+    invalidate(element.getElementId());
     return getElementById(element.getElementId());
   }
 
   @Override
   public void deleteElement(SpDataStream element) {
     delete(element.getElementId());
+    invalidate(element.getElementId());
   }
 
   @Override
   public SpDataStream getDataStreamByAppId(String appId) {
-    return getAll()
+    return findCachedByAppId(appId)
         .stream()
-        .filter(s -> s.getAppId().equals(appId))
         .findFirst()
         .orElseThrow(IllegalArgumentException::new);
   }
@@ -75,7 +75,7 @@ public class PipelineElementDescriptionStorageImpl implements IPipelineElementDe
 
   @Override
   public DataProcessorDescription getDataProcessorById(String rdfId) {
-    return new DataProcessorStorageImpl().getElementById(rdfId);
+    return this.dataProcessorStorage.getElementById(rdfId);
   }
 
   @Override
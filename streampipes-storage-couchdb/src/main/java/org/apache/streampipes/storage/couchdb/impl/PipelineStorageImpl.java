@@ -25,7 +25,6 @@ import org.apache.streampipes.storage.couchdb.dao.AbstractDao;
 import org.apache.streampipes.storage.couchdb.utils.Utils;
 
 import com.google.gson.JsonObject;
-import org.lightcouch.CouchDbClient;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -101,19 +100,14 @@ public class PipelineStorageImpl extends AbstractDao<Pipeline> implements IPipel
 
   @Override
   public void storeVirtualSensor(String username, VirtualSensor virtualSensor) {
-    CouchDbClient couchDbClient = couchDbClientSupplier.get();
-    couchDbClient.save(virtualSensor);
-    couchDbClient.shutdown();
+    couchDbClientSupplier.get().save(virtualSensor);
   }
 
   @Override
   public List<VirtualSensor> getVirtualSensors(String username) {
-    CouchDbClient couchDbClient = couchDbClientSupplier.get();
-    List<VirtualSensor> virtualSensors = couchDbClient.view("_all_docs")
+    return couchDbClientSupplier.get().view("_all_docs")
         .includeDocs(true)
         .query(VirtualSensor.class);
-    couchDbClient.shutdown();
-    return virtualSensors;
   }
 
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.storage.couchdb.utils;
+
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+
+import org.lightcouch.CouchDbClient;
+
+import java.util.function.IntFunction;
+
+/**
+ * Holds one shared {@link CouchDbClient} per database and serializer.
+ *
+ * <p>A LightCouch client is thread-safe and owns a pooled, keep-alive HTTP connection manager,
+ * so sharing a single instance per database avoids the TCP and TLS handshake on every request.
+ * As LightCouch clients cannot share a connection manager, the global connection limit
+ * ({@code SP_COUCHDB_MAX_CONNECTIONS}) is split evenly between the {@value #EXPECTED_CLIENTS} clients
+ * expected for the databases of StreamPipes, each of them opening at most
+ * {@value #MAX_CONNECTIONS_PER_CLIENT} connections.
+ * Clients handed out by this pool must not be shut down by callers.</p>
+ *
+ * <p>Pool metrics are reported to the {@link SpMonitoringManager} under {@value #METRICS_RESOURCE_ID}.</p>
+ */
+public final class CouchDbClientPool {
+
+  static final int MAX_CONNECTIONS_PER_CLIENT = 10;
+  static final int EXPECTED_CLIENTS = 40;
+
+  public static final String METRICS_RESOURCE_ID = "couchdb-client-pool";
+
+  public static final CouchDbClientPool INSTANCE = new CouchDbClientPool();
+
+  private final SharedClientPool<CouchDbClient> clients = new SharedClientPool<>(
+      Environments.getEnvironment().getCouchDbMaxConnections().getValueOrDefault(),
+      MAX_CONNECTIONS_PER_CLIENT,
+      EXPECTED_CLIENTS,
+      CouchDbClient::shutdown,
+      SpMonitoringManager.INSTANCE.registerCacheMetrics(METRICS_RESOURCE_ID));
+
+  private CouchDbClientPool() {
+  }
+
+  /**
+   * Returns the client registered under the given key and creates it if it does not exist yet.
+   *
+   * @param poolKey       The key of the client, e.g. the serializer and database name
+   * @param clientFactory Creates a new client which opens at most the given number of connections
+   * @return The shared client
+   * @throws SpRuntimeException if the connection limit does not suffice for another client
+   */
+  public CouchDbClient getClient(String poolKey,
+                                 IntFunction<CouchDbClient> clientFactory) throws SpRuntimeException {
+    return clients.getClient(poolKey, clientFactory);
+  }
+
+  /**
+   * Closes all clients on shutdown of the service.
+   */
+  public void shutdown() {
+    clients.shutdown();
+  }
+}
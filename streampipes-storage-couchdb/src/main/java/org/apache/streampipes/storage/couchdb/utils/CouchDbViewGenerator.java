@@ -18,6 +18,8 @@
 
 package org.apache.streampipes.storage.couchdb.utils;
 
+import org.apache.streampipes.storage.couchdb.constants.PipelineElementDescriptionConstants;
+
 import org.apache.http.HttpStatus;
 import org.apache.http.client.fluent.Request;
 import org.slf4j.Logger;
@@ -81,4 +83,57 @@ public class CouchDbViewGenerator {
       LOG.warn("Status code {} from CouchDB - something went wrong during view generation!", status);
     }
   }
+
+  /**
+   * Creates the design document used to look up pipeline element descriptions by appId
+   * in all description databases, unless it is already present.
+   */
+  public void createPipelineElementDescriptionViewsIfNotExist() {
+    PipelineElementDescriptionConstants.DB_NAMES.forEach(dbName -> {
+      try {
+        createDescriptionViewIfNotExists(dbName);
+      } catch (IOException e) {
+        LOG.error("Could not create description views in database {}", dbName, e);
+      }
+    });
+  }
+
+  private void createDescriptionViewIfNotExists(String dbName) throws IOException {
+    String dbRoute = Utils.getDatabaseRoute(dbName);
+    // 201 if created, 412 if the database already exists
+    Utils.append(Request.Put(dbRoute)).execute().discardContent();
+
+    String designDocRoute = dbRoute + "/_design/" + PipelineElementDescriptionConstants.DESIGN_DOC_NAME;
+    int existsStatus = Utils.getRequest(designDocRoute)
+        .execute()
+        .returnResponse()
+        .getStatusLine()
+        .getStatusCode();
+
+    if (existsStatus == HttpStatus.SC_NOT_FOUND) {
+      String viewContent = "{\n"
+          + "\"views\": {\n"
+          + "\"byAppId\": {\n"
+          + "\"map\": \"function (doc) {\\nif (doc.appId) {\\nemit(doc.appId, null)\\n}\\n}\"\n"
+          + "},\n"
+          + "\"all\": {\n"
+          + "\"map\": \"function (doc) {\\nemit(doc._id, null)\\n}\"\n"
+          + "}\n"
+          + "},\n"
+          + "\"language\": \"javascript\"\n"
+          + "}";
+
+      int status = Utils.putRequest(designDocRoute, viewContent)
+          .execute()
+          .returnResponse()
+          .getStatusLine()
+          .getStatusCode();
+
+      if (status == HttpStatus.SC_CREATED) {
+        LOG.info("Description views successfully created in database {}", dbName);
+      } else {
+        LOG.warn("Status code {} from CouchDB - could not create description views in database {}", status, dbName);
+      }
+    }
+  }
 }
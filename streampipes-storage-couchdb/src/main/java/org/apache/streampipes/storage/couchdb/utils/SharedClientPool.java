@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.storage.couchdb.utils;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpCacheMetrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Holds shared clients by key and splits a global connection budget evenly between them.
+ *
+ * <p>Clients cannot be resized once they are created, so every client gets the same share of the budget,
+ * computed from the expected number of clients and limited by {@code maxConnectionsPerClient}.
+ * A client whose share would exceed the remaining budget is not created.</p>
+ *
+ * <p>Handed out clients are reported as cache hits, created clients as misses.</p>
+ *
+ * @param <T> The type of the pooled clients
+ */
+class SharedClientPool<T> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SharedClientPool.class);
+
+  private final int maxTotalConnections;
+  private final int connectionsPerClient;
+  private final Consumer<T> clientCloser;
+  private final SpCacheMetrics metrics;
+  private final Map<String, T> clients = new ConcurrentHashMap<>();
+
+  SharedClientPool(int maxTotalConnections,
+                   int maxConnectionsPerClient,
+                   int expectedClients,
+                   Consumer<T> clientCloser,
+                   SpCacheMetrics metrics) {
+    this.maxTotalConnections = Math.max(1, maxTotalConnections);
+    this.connectionsPerClient = Math.max(1, Math.min(
+        maxConnectionsPerClient,
+        this.maxTotalConnections / Math.max(1, expectedClients)));
+    this.clientCloser = clientCloser;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the client registered under the given key and creates it if it does not exist yet.
+   *
+   * @throws SpRuntimeException if the connection budget does not suffice for another client
+   */
+  T getClient(String poolKey,
+              IntFunction<T> clientFactory) throws SpRuntimeException {
+    var client = clients.get(poolKey);
+    if (client == null) {
+      synchronized (this) {
+        client = clients.get(poolKey);
+        if (client == null) {
+          return createClient(poolKey, clientFactory);
+        }
+      }
+    }
+    metrics.recordHit();
+    return client;
+  }
+
+  /**
+   * Closes all clients, which must not be used afterwards.
+   */
+  synchronized void shutdown() {
+    clients.values().forEach(clientCloser);
+    clients.clear();
+    metrics.setSize(0);
+  }
+
+  synchronized int getReservedConnections() {
+    return clients.size() * connectionsPerClient;
+  }
+
+  int getConnectionsPerClient() {
+    return connectionsPerClient;
+  }
+
+  private T createClient(String poolKey,
+                         IntFunction<T> clientFactory) {
+    int reservedConnections = getReservedConnections();
+    if (reservedConnections + connectionsPerClient > maxTotalConnections) {
+      throw new SpRuntimeException(String.format(
+          "Cannot create client %s, %d of %d connections are already reserved by %d clients",
+          poolKey, reservedConnections, maxTotalConnections, clients.size()));
+    }
+    var client = clientFactory.apply(connectionsPerClient);
+    clients.put(poolKey, client);
+    metrics.recordMiss();
+    metrics.setSize(clients.size());
+    LOG.debug("Created shared client {} with {} connections, {} of {} connections reserved",
+        poolKey, connectionsPerClient, reservedConnections + connectionsPerClient, maxTotalConnections);
+    return client;
+  }
+}
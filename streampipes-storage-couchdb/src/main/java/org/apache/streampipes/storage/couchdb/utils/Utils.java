@@ -30,6 +30,8 @@ import org.apache.http.entity.ContentType;
 import org.lightcouch.CouchDbClient;
 import org.lightcouch.CouchDbProperties;
 
+import java.util.function.IntFunction;
+
 public class Utils {
 
   public static final String USER_DB_NAME = "users";
@@ -95,7 +97,7 @@ public class Utils {
   }
 
   public static CouchDbClient getCouchDbAdapterInstanceBackupClient() {
-    return new CouchDbClient(props("adapterinstance_backup"));
+    return getCouchDbStandardSerializerClient("adapterinstance_backup");
   }
 
   public static CouchDbClient getCouchDbAdapterDescriptionClient() {
@@ -163,39 +165,55 @@ public class Utils {
   }
 
   private static CouchDbClient getCouchDbGsonClient(String dbname) {
-    CouchDbClient dbClient = new CouchDbClient(props(dbname));
-    dbClient.setGsonBuilder(GsonSerializer.getGsonBuilder());
-    return dbClient;
+    return getPooledClient("gson", dbname, true, maxConnections -> {
+      CouchDbClient dbClient = new CouchDbClient(props(dbname, true, maxConnections));
+      dbClient.setGsonBuilder(GsonSerializer.getGsonBuilder());
+      return dbClient;
+    });
   }
 
   private static CouchDbClient getCouchDbPrincipalClient(String dbname) {
-    CouchDbClient dbClient = new CouchDbClient(props(dbname));
-    dbClient.setGsonBuilder(GsonSerializer.getPrincipalGsonBuilder());
-    return dbClient;
+    return getPooledClient("principal", dbname, true, maxConnections -> {
+      CouchDbClient dbClient = new CouchDbClient(props(dbname, true, maxConnections));
+      dbClient.setGsonBuilder(GsonSerializer.getPrincipalGsonBuilder());
+      return dbClient;
+    });
   }
 
   private static CouchDbClient getCouchDbAdapterClient(String dbname) {
-    CouchDbClient dbClient = new CouchDbClient(props(dbname));
-    dbClient.setGsonBuilder(GsonSerializer.getAdapterGsonBuilder());
-    return dbClient;
+    return getPooledClient("adapter", dbname, true, maxConnections -> {
+      CouchDbClient dbClient = new CouchDbClient(props(dbname, true, maxConnections));
+      dbClient.setGsonBuilder(GsonSerializer.getAdapterGsonBuilder());
+      return dbClient;
+    });
   }
 
   private static CouchDbClient getCouchDbStandardSerializerClient(String dbname) {
-    return new CouchDbClient(props(dbname));
+    return getCouchDbClient(dbname, true);
   }
 
   public static CouchDbClient getCouchDbClient(String database, boolean createIfNotExists) {
-    return new CouchDbClient(props(database, createIfNotExists));
+    return getPooledClient("standard", database, createIfNotExists,
+        maxConnections -> new CouchDbClient(props(database, createIfNotExists, maxConnections)));
   }
 
   public static CouchDbClient getCouchDbClient(String database) {
-    return new CouchDbClient(props(database));
+    return getCouchDbClient(database, true);
+  }
+
+  private static CouchDbClient getPooledClient(String serializer,
+                                               String dbname,
+                                               boolean createDbIfNotExists,
+                                               IntFunction<CouchDbClient> clientFactory) {
+    String poolKey = serializer + ":" + dbname + ":" + createDbIfNotExists;
+    return CouchDbClientPool.INSTANCE.getClient(poolKey, clientFactory);
   }
 
   private static CouchDbProperties props(String dbname,
-                                         boolean createDbIfNotExists) {
+                                         boolean createDbIfNotExists,
+                                         int maxConnections) {
     var env = getEnvironment();
-    return new CouchDbProperties(
+    var props = new CouchDbProperties(
         dbname,
         createDbIfNotExists,
         env.getCouchDbProtocol().getValueOrDefault(),
@@ -203,10 +221,8 @@ public class Utils {
         env.getCouchDbPort().getValueOrDefault(),
         env.getCouchDbUsername().getValueOrDefault(),
         env.getCouchDbPassword().getValueOrDefault());
-  }
-
-  private static CouchDbProperties props(String dbname) {
-    return props(dbname, true);
+    props.setMaxConnections(maxConnections);
+    return props;
   }
 
   public static String getDatabaseRoute(String databaseName) {
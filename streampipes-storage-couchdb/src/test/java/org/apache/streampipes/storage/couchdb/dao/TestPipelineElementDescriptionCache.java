@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.storage.couchdb.dao;
+
+import org.apache.streampipes.model.graph.DataProcessorDescription;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestPipelineElementDescriptionCache {
+
+  private static final String ELEMENT_ID = "org.apache.streampipes.processors.test";
+  private static final String APP_ID = "org.apache.streampipes.processors.test";
+
+  @Test
+  public void testLookupByElementIdIsCachedAndCopied() {
+    var cache = new PipelineElementDescriptionCache<>(DataProcessorDescription::new);
+    var loads = new AtomicInteger();
+
+    var first = cache.getByElementId(ELEMENT_ID, id -> {
+      loads.incrementAndGet();
+      return makeDescription();
+    });
+    first.setName("modified");
+    var second = cache.getByElementId(ELEMENT_ID, id -> {
+      loads.incrementAndGet();
+      return makeDescription();
+    });
+
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertEquals("test", second.getName());
+    Assertions.assertNotSame(first, second);
+  }
+
+  @Test
+  public void testMissingElementsAreNotCached() {
+    var cache = new PipelineElementDescriptionCache<>(DataProcessorDescription::new);
+    var loads = new AtomicInteger();
+
+    Assertions.assertNull(cache.getByElementId(ELEMENT_ID, id -> {
+      loads.incrementAndGet();
+      return null;
+    }));
+    cache.getByElementId(ELEMENT_ID, id -> {
+      loads.incrementAndGet();
+      return makeDescription();
+    });
+
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testInvalidateReloadsByElementIdAndAppId() {
+    var cache = new PipelineElementDescriptionCache<>(DataProcessorDescription::new);
+    var loads = new AtomicInteger();
+
+    cache.getByAppId(APP_ID, appId -> {
+      loads.incrementAndGet();
+      return List.of(makeDescription());
+    });
+    cache.invalidate(ELEMENT_ID);
+    var result = cache.getByAppId(APP_ID, appId -> {
+      loads.incrementAndGet();
+      return List.of();
+    });
+
+    Assertions.assertEquals(2, loads.get());
+    Assertions.assertTrue(result.isEmpty());
+  }
+
+  @Test
+  public void testLookupRacingWithWriteIsNotCached() {
+    var cache = new PipelineElementDescriptionCache<>(DataProcessorDescription::new);
+    var loads = new AtomicInteger();
+
+    cache.getByElementId(ELEMENT_ID, id -> {
+      loads.incrementAndGet();
+      // a concurrent write happens while the outdated document is being loaded
+      cache.invalidate(ELEMENT_ID);
+      return makeDescription();
+    });
+    cache.getByElementId(ELEMENT_ID, id -> {
+      loads.incrementAndGet();
+      return makeDescription();
+    });
+
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  private DataProcessorDescription makeDescription() {
+    var description = new DataProcessorDescription(ELEMENT_ID, "test", "description");
+    description.setAppId(APP_ID);
+    return description;
+  }
+}
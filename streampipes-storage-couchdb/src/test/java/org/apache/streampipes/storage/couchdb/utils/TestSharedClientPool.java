@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.storage.couchdb.utils;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class TestSharedClientPool {
+
+  private final String resourceId = UUID.randomUUID().toString();
+
+  @Test
+  public void testClientsAreSharedPerKey() {
+    SharedClientPool<Integer> pool = makePool(20, 10, 2, client -> {
+    });
+
+    var first = pool.getClient("gson:pipeline:true", Integer::valueOf);
+    var second = pool.getClient("gson:pipeline:true", connections -> {
+      throw new AssertionError("Client must not be created twice");
+    });
+
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(10, pool.getReservedConnections());
+  }
+
+  @Test
+  public void testConnectionsAreSplitEvenlyWithinTotalBudget() {
+    SharedClientPool<Integer> pool = makePool(25, 10, 4, client -> {
+    });
+    var connectionsPerClient = new ArrayList<Integer>();
+
+    for (var db : List.of("pipeline", "adapterinstance", "data-lake", "dashboard")) {
+      connectionsPerClient.add(pool.getClient("gson:" + db + ":true", Integer::valueOf));
+    }
+
+    Assertions.assertEquals(List.of(6, 6, 6, 6), connectionsPerClient);
+    Assertions.assertEquals(24, pool.getReservedConnections());
+  }
+
+  @Test
+  public void testClientsBeyondTotalBudgetAreRejected() {
+    SharedClientPool<Integer> pool = makePool(10, 10, 4, client -> {
+    });
+    for (var db : List.of("pipeline", "adapterinstance", "data-lake", "dashboard", "label")) {
+      pool.getClient("gson:" + db + ":true", Integer::valueOf);
+    }
+
+    Assertions.assertEquals(2, pool.getConnectionsPerClient());
+    Assertions.assertThrows(SpRuntimeException.class,
+        () -> pool.getClient("gson:category:true", Integer::valueOf));
+    Assertions.assertEquals(10, pool.getReservedConnections());
+  }
+
+  @Test
+  public void testShutdownClosesAllClients() {
+    var closedClients = new ArrayList<String>();
+    SharedClientPool<String> pool = makePool(10, 10, 2, closedClients::add);
+
+    pool.getClient("standard:notification:true", connections -> "notification");
+    pool.getClient("standard:monitoring:true", connections -> "monitoring");
+    pool.shutdown();
+
+    Assertions.assertEquals(List.of("monitoring", "notification"), closedClients.stream().sorted().toList());
+    Assertions.assertEquals(0, pool.getReservedConnections());
+  }
+
+  @Test
+  public void testPoolMetricsAreReported() {
+    SharedClientPool<Integer> pool = makePool(10, 10, 2, client -> {
+    });
+
+    pool.getClient("gson:pipeline:true", Integer::valueOf);
+    pool.getClient("gson:pipeline:true", Integer::valueOf);
+    pool.getClient("gson:pipeline:true", Integer::valueOf);
+    pool.getClient("gson:label:true", Integer::valueOf);
+
+    var metrics = SpMonitoringManager.INSTANCE.getMetricsSnapshot(resourceId).getCacheMetrics();
+    Assertions.assertEquals(2, metrics.getHits());
+    Assertions.assertEquals(2, metrics.getMisses());
+    Assertions.assertEquals(2, metrics.getSize());
+  }
+
+  private <T> SharedClientPool<T> makePool(int maxTotalConnections,
+                                           int maxConnectionsPerClient,
+                                           int expectedClients,
+                                           Consumer<T> clientCloser) {
+    return new SharedClientPool<>(
+        maxTotalConnections,
+        maxConnectionsPerClient,
+        expectedClients,
+        clientCloser,
+        SpMonitoringManager.INSTANCE.registerCacheMetrics(resourceId)
+    );
+  }
+}
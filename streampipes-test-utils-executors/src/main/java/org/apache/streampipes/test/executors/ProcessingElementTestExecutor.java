@@ -86,21 +86,7 @@ public class ProcessingElementTestExecutor {
       List<Map<String, Object>> expectedOutputEvents
   ) {
 
-
-    // initialize the extractor with the provided configuration of the user input
-    var dataProcessorInvocation = getProcessorInvocation();
-    if (invocationConfig != null){
-      invocationConfig.accept(dataProcessorInvocation);
-    }
-
-    var e = getProcessingElementParameterExtractor(dataProcessorInvocation);
-    var mockParams = Mockito.mock(IDataProcessorParameters.class);
-
-    Mockito.when(mockParams.getModel()).thenReturn(dataProcessorInvocation);
-    Mockito.when(mockParams.extractor()).thenReturn(e);
-
-    // calls the onPipelineStarted method of the processor to initialize it
-    processor.onPipelineStarted(mockParams, null, null);
+    startProcessor();
 
     // mock the output collector to capture the output events and validate the results later
     var mockCollector = Mockito.mock(SpOutputCollector.class);
@@ -127,6 +113,27 @@ public class ProcessingElementTestExecutor {
     processor.onPipelineStopped();
   }
 
+  /**
+   * Initializes the data processor with the provided configuration without sending any events.
+   * This allows to drive the processor directly, e.g., from a benchmark.
+   */
+  public void startProcessor() {
+    // initialize the extractor with the provided configuration of the user input
+    var dataProcessorInvocation = getProcessorInvocation();
+    if (invocationConfig != null){
+      invocationConfig.accept(dataProcessorInvocation);
+    }
+
+    var e = getProcessingElementParameterExtractor(dataProcessorInvocation);
+    var mockParams = Mockito.mock(IDataProcessorParameters.class);
+
+    Mockito.when(mockParams.getModel()).thenReturn(dataProcessorInvocation);
+    Mockito.when(mockParams.extractor()).thenReturn(e);
+
+    // calls the onPipelineStarted method of the processor to initialize it
+    processor.onPipelineStarted(mockParams, null, null);
+  }
+
   private static ProcessingElementParameterExtractor getProcessingElementParameterExtractor(
       DataProcessorInvocation dataProcessorInvocation
   ) {
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.user.management.cache;
+
+import org.apache.streampipes.commons.environment.Environment;
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.user.management.model.PrincipalUserDetails;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache for the details of authenticated principals.
+ * <p>
+ * Building the details of a principal reads the user, its groups and all object permissions from the storage, which
+ * would otherwise happen on every authenticated request. Entries are keyed by the username and the hash of the
+ * credential (JWT or API key) the request was authenticated with, so that a principal is only served from the cache
+ * for credentials it was already authenticated with. Entries expire after a fixed TTL and are invalidated when the
+ * principal, groups or permissions change.
+ */
+public class PrincipalCache {
+
+  private static final class SharedCache {
+    private static final PrincipalCache INSTANCE = PrincipalCache.from(Environments.getEnvironment());
+  }
+
+  private final boolean enabled;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  private final Map<Key, Entry> entries;
+
+  // incremented on each invalidation, so that details loaded before an invalidation are not cached
+  private long generation;
+
+  public PrincipalCache(boolean enabled,
+                        int maxEntries,
+                        long ttlMillis,
+                        Clock clock) {
+    this.enabled = enabled && maxEntries > 0 && ttlMillis > 0;
+    this.ttlMillis = ttlMillis;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  public static PrincipalCache from(Environment environment) {
+    return new PrincipalCache(
+        environment.getPrincipalCacheEnabled().getValueOrDefault(),
+        environment.getPrincipalCacheMaxEntries().getValueOrDefault(),
+        environment.getPrincipalCacheTtlMillis().getValueOrDefault(),
+        Clock.systemUTC()
+    );
+  }
+
+  /**
+   * Returns the cache shared by the authentication filter and the resources which modify principals.
+   */
+  public static PrincipalCache getInstance() {
+    return SharedCache.INSTANCE;
+  }
+
+  /**
+   * Returns the cached details of the principal or loads them with the given loader.
+   *
+   * @param username       The name of the authenticated principal
+   * @param credentialHash The hash of the credential the principal was authenticated with
+   * @param loader         Loads the details on a cache miss, returns null if the credential is not valid
+   * @return The details of the principal or null if the loader did not return any
+   */
+  public PrincipalUserDetails<?> get(String username,
+                                     String credentialHash,
+                                     Supplier<PrincipalUserDetails<?>> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+
+    var key = new Key(username, credentialHash);
+    long loadedGeneration;
+    synchronized (entries) {
+      var entry = entries.get(key);
+      if (entry != null && entry.expiresAt() > clock.millis()) {
+        return entry.details();
+      }
+      loadedGeneration = generation;
+    }
+
+    var details = loader.get();
+    if (details != null) {
+      synchronized (entries) {
+        if (loadedGeneration == generation) {
+          entries.put(key, new Entry(details, clock.millis() + ttlMillis));
+        }
+      }
+    }
+    return details;
+  }
+
+  /**
+   * Removes all entries of the principal with the given id, e.g., after the principal or its API tokens changed.
+   */
+  public void invalidate(String principalId) {
+    synchronized (entries) {
+      generation++;
+      entries.values().removeIf(entry -> principalId.equals(entry.details().getDetails().getPrincipalId()));
+    }
+  }
+
+  /**
+   * Removes all entries, e.g., after groups or object permissions changed, which may affect any principal.
+   */
+  public void invalidateAll() {
+    synchronized (entries) {
+      generation++;
+      entries.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private record Key(String username,
+                     String credentialHash) {
+  }
+
+  private record Entry(PrincipalUserDetails<?> details,
+                       long expiresAt) {
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.user.management.permission;
+
+import org.apache.streampipes.model.client.user.Permission;
+import org.apache.streampipes.model.client.user.PermissionEntry;
+import org.apache.streampipes.storage.management.StorageDispatcher;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index of all object permissions.
+ * <p>
+ * Permissions are loaded once from the storage and kept in hash-based structures keyed by the object instance id and
+ * by the sid of the principal or group they are granted to, so that permission checks do not need to query the
+ * storage. The index must be updated whenever a permission is created, updated or deleted. Reads are lock-free,
+ * writes are serialized.
+ */
+public class PermissionIndex {
+
+  private static final class SharedIndex {
+    private static final PermissionIndex INSTANCE = new PermissionIndex(
+        () -> StorageDispatcher.INSTANCE.getNoSqlStore().getPermissionStorage().getAllPermissions()
+    );
+  }
+
+  private final Supplier<List<Permission>> loader;
+
+  // guarded by this
+  private final Map<String, Permission> permissionsById = new HashMap<>();
+  private final Map<String, Set<String>> permissionIdsByObject = new HashMap<>();
+
+  private final Map<String, ObjectPermissions> objects = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> objectsBySid = new ConcurrentHashMap<>();
+
+  private volatile boolean loaded;
+
+  public PermissionIndex(Supplier<List<Permission>> loader) {
+    this.loader = loader;
+  }
+
+  /**
+   * Returns the index shared by the permission evaluator and the resources which modify permissions.
+   */
+  public static PermissionIndex getInstance() {
+    return SharedIndex.INSTANCE;
+  }
+
+  /**
+   * Checks if the object is public or if any of its permissions is owned by or granted to one of the sids.
+   *
+   * @param sids             The sids of the principal and its groups
+   * @param objectInstanceId The id of the object to check
+   * @return true if access to the object is permitted
+   */
+  public boolean hasPermission(Set<String> sids, String objectInstanceId) {
+    ensureLoaded();
+    var object = objects.get(objectInstanceId);
+    return object != null && (object.publicElement() || object.isGrantedToAny(sids));
+  }
+
+  public boolean isPublicElement(String objectInstanceId) {
+    ensureLoaded();
+    var object = objects.get(objectInstanceId);
+    return object != null && object.publicElement();
+  }
+
+  /**
+   * Returns the ids of all objects which are owned by or granted to one of the sids.
+   *
+   * @param sids The sids of the principal and its groups
+   * @return The object instance ids
+   */
+  public Set<String> getObjectInstanceIds(Collection<String> sids) {
+    ensureLoaded();
+    Set<String> objectInstanceIds = new HashSet<>();
+    sids.forEach(sid -> objectInstanceIds.addAll(objectsBySid.getOrDefault(sid, Collections.emptySet())));
+    return objectInstanceIds;
+  }
+
+  public synchronized void put(Permission permission) {
+    Objects.requireNonNull(permission.getPermissionId(), "Indexed permissions require an id");
+    ensureLoaded();
+    putPermission(permission);
+  }
+
+  public synchronized void remove(String permissionId) {
+    ensureLoaded();
+    var existing = permissionsById.remove(permissionId);
+    if (existing != null && existing.getObjectInstanceId() != null) {
+      var permissionIds = permissionIdsByObject.get(existing.getObjectInstanceId());
+      permissionIds.remove(permissionId);
+      if (permissionIds.isEmpty()) {
+        permissionIdsByObject.remove(existing.getObjectInstanceId());
+      }
+      reindexObject(existing.getObjectInstanceId());
+    }
+  }
+
+  /**
+   * Clears the index, permissions are loaded again from the storage on the next access.
+   */
+  public synchronized void invalidate() {
+    permissionsById.clear();
+    permissionIdsByObject.clear();
+    objects.clear();
+    objectsBySid.clear();
+    loaded = false;
+  }
+
+  public int size() {
+    return objects.size();
+  }
+
+  private void ensureLoaded() {
+    if (!loaded) {
+      synchronized (this) {
+        if (!loaded) {
+          loader.get().forEach(this::putPermission);
+          loaded = true;
+        }
+      }
+    }
+  }
+
+  private void putPermission(Permission permission) {
+    var previous = permissionsById.put(permission.getPermissionId(), permission);
+    if (previous != null
+        && previous.getObjectInstanceId() != null
+        && !previous.getObjectInstanceId().equals(permission.getObjectInstanceId())) {
+      var permissionIds = permissionIdsByObject.get(previous.getObjectInstanceId());
+      permissionIds.remove(permission.getPermissionId());
+      if (permissionIds.isEmpty()) {
+        permissionIdsByObject.remove(previous.getObjectInstanceId());
+      }
+      reindexObject(previous.getObjectInstanceId());
+    }
+    if (permission.getObjectInstanceId() != null) {
+      permissionIdsByObject
+          .computeIfAbsent(permission.getObjectInstanceId(), key -> new HashSet<>())
+          .add(permission.getPermissionId());
+      reindexObject(permission.getObjectInstanceId());
+    }
+  }
+
+  private void reindexObject(String objectInstanceId) {
+    var previous = objects.get(objectInstanceId);
+    var current = makeObjectPermissions(objectInstanceId);
+
+    if (current == null) {
+      objects.remove(objectInstanceId);
+    } else {
+      objects.put(objectInstanceId, current);
+    }
+
+    var previousSids = previous == null ? Collections.<String>emptySet() : previous.sids();
+    var currentSids = current == null ? Collections.<String>emptySet() : current.sids();
+    previousSids
+        .stream()
+        .filter(sid -> !currentSids.contains(sid))
+        .forEach(sid -> removeFromSid(sid, objectInstanceId));
+    currentSids
+        .forEach(sid -> objectsBySid.computeIfAbsent(sid, key -> ConcurrentHashMap.newKeySet()).add(objectInstanceId));
+  }
+
+  private ObjectPermissions makeObjectPermissions(String objectInstanceId) {
+    var permissionIds = permissionIdsByObject.get(objectInstanceId);
+    if (permissionIds == null) {
+      return null;
+    }
+
+    boolean publicElement = false;
+    Set<String> sids = new HashSet<>();
+    for (String permissionId : permissionIds) {
+      var permission = permissionsById.get(permissionId);
+      publicElement |= permission.isPublicElement();
+      if (permission.getOwnerSid() != null) {
+        sids.add(permission.getOwnerSid());
+      }
+      if (permission.getGrantedAuthorities() != null) {
+        permission.getGrantedAuthorities()
+            .stream()
+            .map(PermissionEntry::sid)
+            .filter(Objects::nonNull)
+            .forEach(sids::add);
+      }
+    }
+    return new ObjectPermissions(publicElement, Set.copyOf(sids));
+  }
+
+  private void removeFromSid(String sid, String objectInstanceId) {
+    var objectInstanceIds = objectsBySid.get(sid);
+    if (objectInstanceIds != null) {
+      objectInstanceIds.remove(objectInstanceId);
+      if (objectInstanceIds.isEmpty()) {
+        objectsBySid.remove(sid);
+      }
+    }
+  }
+
+  private record ObjectPermissions(boolean publicElement, Set<String> sids) {
+
+    boolean isGrantedToAny(Set<String> principalSids) {
+      for (String sid : sids) {
+        if (principalSids.contains(sid)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
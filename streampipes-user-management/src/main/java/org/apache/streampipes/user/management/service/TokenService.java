@@ -21,6 +21,7 @@ import org.apache.streampipes.model.client.user.RawUserApiToken;
 import org.apache.streampipes.model.client.user.UserAccount;
 import org.apache.streampipes.storage.api.IUserStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.PrincipalCache;
 import org.apache.streampipes.user.management.util.TokenUtil;
 
 public class TokenService {
@@ -35,7 +36,11 @@ public class TokenService {
 
   public boolean hasValidToken(String apiUser,
                                String hashedToken) {
-    UserAccount userAccount = getUserStorage().getUserAccount(apiUser);
+    return hasValidToken(getUserStorage().getUserAccount(apiUser), hashedToken);
+  }
+
+  public boolean hasValidToken(UserAccount userAccount,
+                               String hashedToken) {
     if (userAccount == null) {
       return false;
     } else {
@@ -49,6 +54,7 @@ public class TokenService {
   private void storeToken(UserAccount user, RawUserApiToken generatedToken) {
     user.getUserApiTokens().add(TokenUtil.toUserToken(generatedToken));
     getUserStorage().updateUser(user);
+    PrincipalCache.getInstance().invalidate(user.getPrincipalId());
   }
 
   private IUserStorage getUserStorage() {
@@ -18,9 +18,8 @@
 package org.apache.streampipes.user.management.util;
 
 import org.apache.streampipes.model.client.user.Principal;
-import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.permission.PermissionIndex;
 
-import java.util.ArrayList;
 import java.util.Set;
 
 public class GrantedPermissionsBuilder {
@@ -34,11 +33,7 @@ public class GrantedPermissionsBuilder {
   public Set<String> buildAllPermissions() {
     Set<String> sids = extractSids();
 
-    return StorageDispatcher
-        .INSTANCE
-        .getNoSqlStore()
-        .getPermissionStorage()
-        .getObjectPermissions(new ArrayList<>(sids));
+    return PermissionIndex.getInstance().getObjectInstanceIds(sids);
   }
 
   private Set<String> extractSids() {
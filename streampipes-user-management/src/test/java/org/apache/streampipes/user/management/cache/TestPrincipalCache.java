@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.user.management.cache;
+
+import org.apache.streampipes.model.client.user.UserAccount;
+import org.apache.streampipes.user.management.model.PrincipalUserDetails;
+import org.apache.streampipes.user.management.model.UserAccountDetails;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestPrincipalCache {
+
+  private static final Clock CLOCK = Clock.fixed(Instant.ofEpochMilli(100_000), ZoneOffset.UTC);
+
+  private Supplier<PrincipalUserDetails<?>> loader;
+  private UserAccountDetails details;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    var user = new UserAccount();
+    user.setPrincipalId("user-1");
+    details = mock(UserAccountDetails.class);
+    when(details.getDetails()).thenReturn(user);
+    loader = mock(Supplier.class);
+    doReturn(details).when(loader).get();
+  }
+
+  @Test
+  public void returnsCachedDetailsForSameCredential() {
+    var cache = new PrincipalCache(true, 10, 1000, CLOCK);
+
+    assertSame(details, cache.get("user", "token-a", loader));
+    assertSame(details, cache.get("user", "token-a", loader));
+    verify(loader, times(1)).get();
+
+    cache.get("user", "token-b", loader);
+    verify(loader, times(2)).get();
+  }
+
+  @Test
+  public void doesNotCacheInvalidCredentials() {
+    var cache = new PrincipalCache(true, 10, 1000, CLOCK);
+    doReturn(null).when(loader).get();
+
+    assertNull(cache.get("user", "token-a", loader));
+    assertNull(cache.get("user", "token-a", loader));
+    verify(loader, times(2)).get();
+  }
+
+  @Test
+  public void expiresEntriesAfterTtl() {
+    var cache = new PrincipalCache(true, 10, 1000, CLOCK);
+    cache.get("user", "token-a", loader);
+
+    var laterCache = new PrincipalCache(true, 10, 1000, Clock.offset(CLOCK, Duration.ofMillis(1000)));
+    laterCache.get("user", "token-a", loader);
+    laterCache.get("user", "token-a", loader);
+    verify(loader, times(2)).get();
+  }
+
+  @Test
+  public void invalidatesEntriesOfPrincipal() {
+    var cache = new PrincipalCache(true, 10, 1000, CLOCK);
+    var otherUser = new UserAccount();
+    otherUser.setPrincipalId("user-2");
+    var otherDetails = mock(UserAccountDetails.class);
+    when(otherDetails.getDetails()).thenReturn(otherUser);
+    cache.get("first", "token-a", loader);
+    cache.get("first", "token-b", loader);
+    cache.get("second", "token-a", () -> otherDetails);
+
+    cache.invalidate("user-1");
+    assertEquals(1, cache.size());
+
+    cache.invalidateAll();
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedEntries() {
+    var cache = new PrincipalCache(true, 2, 1000, CLOCK);
+    cache.get("user", "token-a", loader);
+    cache.get("user", "token-b", loader);
+    cache.get("user", "token-a", loader);
+    cache.get("user", "token-c", loader);
+
+    assertEquals(2, cache.size());
+    cache.get("user", "token-a", loader);
+    verify(loader, times(3)).get();
+  }
+
+  @Test
+  public void doesNotCacheDetailsLoadedBeforeInvalidation() {
+    var cache = new PrincipalCache(true, 10, 1000, CLOCK);
+    doAnswer(invocation -> {
+      cache.invalidate("user-1");
+      return details;
+    }).when(loader).get();
+
+    cache.get("user", "token-a", loader);
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void bypassesCacheWhenDisabled() {
+    var cache = new PrincipalCache(false, 10, 1000, CLOCK);
+
+    cache.get("user", "token-a", loader);
+    cache.get("user", "token-a", loader);
+
+    verify(loader, times(2)).get();
+    assertEquals(0, cache.size());
+  }
+}
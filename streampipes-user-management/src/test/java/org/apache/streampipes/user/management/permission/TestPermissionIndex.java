@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.user.management.permission;
+
+import org.apache.streampipes.model.client.user.Permission;
+import org.apache.streampipes.model.client.user.PermissionBuilder;
+import org.apache.streampipes.model.client.user.PermissionEntry;
+import org.apache.streampipes.model.client.user.PrincipalType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestPermissionIndex {
+
+  private final List<Permission> permissions = new ArrayList<>();
+  private Supplier<List<Permission>> loader;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    loader = mock(Supplier.class);
+    when(loader.get()).thenReturn(permissions);
+
+    var ownedByUser1 = PermissionBuilder.create("object-1", Object.class, "user-1").build();
+    ownedByUser1.setPermissionId("p1");
+    permissions.add(ownedByUser1);
+  }
+
+  @Test
+  public void loadsPermissionsOnce() {
+    var index = new PermissionIndex(loader);
+
+    assertTrue(index.hasPermission(Set.of("user-1"), "object-1"));
+    assertFalse(index.hasPermission(Set.of("user-2"), "object-1"));
+    assertFalse(index.hasPermission(Set.of("user-1"), "object-2"));
+    verify(loader, times(1)).get();
+  }
+
+  @Test
+  public void grantsAccessToGroupsAndPublicElements() {
+    permissions.get(0).addPermissionEntry(new PermissionEntry("group-1", PrincipalType.GROUP));
+    var publicPermission = PermissionBuilder.create("object-2", Object.class, "user-1").publicElement(true).build();
+    publicPermission.setPermissionId("p2");
+    permissions.add(publicPermission);
+    var index = new PermissionIndex(loader);
+
+    assertTrue(index.hasPermission(Set.of("user-2", "group-1"), "object-1"));
+    assertTrue(index.hasPermission(Set.of("user-2"), "object-2"));
+    assertTrue(index.isPublicElement("object-2"));
+    assertEquals(Set.of("object-1"), index.getObjectInstanceIds(Set.of("group-1")));
+    assertEquals(Set.of("object-1", "object-2"), index.getObjectInstanceIds(Set.of("user-1")));
+  }
+
+  @Test
+  public void updatesIndexIncrementally() {
+    permissions.clear();
+    var index = new PermissionIndex(loader);
+    var permission = PermissionBuilder.create("object-1", Object.class, "user-1").build();
+    permission.setPermissionId("p1");
+    index.put(permission);
+    assertTrue(index.hasPermission(Set.of("user-1"), "object-1"));
+
+    var updated = PermissionBuilder.create("object-1", Object.class, "user-2").build();
+    updated.setPermissionId("p1");
+    index.put(updated);
+    assertFalse(index.hasPermission(Set.of("user-1"), "object-1"));
+    assertTrue(index.hasPermission(Set.of("user-2"), "object-1"));
+    assertTrue(index.getObjectInstanceIds(Set.of("user-1")).isEmpty());
+
+    index.remove("p1");
+    assertFalse(index.hasPermission(Set.of("user-2"), "object-1"));
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  public void keepsAccessWhileAnotherPermissionGrantsIt() {
+    var ownedByUser2 = PermissionBuilder.create("object-1", Object.class, "user-2").build();
+    ownedByUser2.setPermissionId("p2");
+    permissions.add(ownedByUser2);
+    var index = new PermissionIndex(loader);
+
+    index.remove("p1");
+    assertFalse(index.hasPermission(Set.of("user-1"), "object-1"));
+    assertTrue(index.hasPermission(Set.of("user-2"), "object-1"));
+  }
+
+  @Test
+  public void reloadsAfterInvalidation() {
+    var index = new PermissionIndex(loader);
+    index.hasPermission(Set.of("user-1"), "object-1");
+    index.invalidate();
+
+    assertTrue(index.hasPermission(Set.of("user-1"), "object-1"));
+    verify(loader, times(2)).get();
+  }
+}
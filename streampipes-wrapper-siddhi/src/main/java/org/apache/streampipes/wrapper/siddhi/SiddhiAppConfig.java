@@ -29,6 +29,7 @@ public class SiddhiAppConfig {
   private final List<String> queries;
   private final List<String> definitions;
   private SiddhiOutputConfig outputConfig;
+  private Integer asyncInputBufferSize;
 
   public SiddhiAppConfig() {
     this.queries = new ArrayList<>();
@@ -67,4 +68,16 @@ public class SiddhiAppConfig {
     this.outputConfig = outputConfig;
   }
 
+  public Integer getAsyncInputBufferSize() {
+    return asyncInputBufferSize;
+  }
+
+  public void setAsyncInputBufferSize(Integer asyncInputBufferSize) {
+    this.asyncInputBufferSize = asyncInputBufferSize;
+  }
+
+  public boolean isAsyncInput() {
+    return asyncInputBufferSize != null;
+  }
+
 }
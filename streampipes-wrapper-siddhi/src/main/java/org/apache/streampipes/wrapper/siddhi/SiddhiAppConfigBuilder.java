@@ -54,6 +54,21 @@ public class SiddhiAppConfigBuilder {
     return this;
   }
 
+  /**
+   * Decouples the input streams from the event processing: incoming events are placed into a ring buffer of the
+   * given size and processed by a Siddhi worker thread, which increases the throughput for sources with high event
+   * rates. Events are then emitted from the worker thread.
+   *
+   * @param bufferSize The size of the buffer of each input stream, which must be a power of two
+   */
+  public SiddhiAppConfigBuilder withAsyncInput(int bufferSize) {
+    if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+      throw new IllegalArgumentException("The buffer size of async inputs must be a power of two");
+    }
+    this.siddhiAppConfig.setAsyncInputBufferSize(bufferSize);
+    return this;
+  }
+
   public SiddhiAppConfig build() {
     return this.siddhiAppConfig;
   }
@@ -19,10 +19,12 @@ package org.apache.streampipes.wrapper.siddhi.engine;
 
 import org.apache.streampipes.extensions.api.pe.param.IDataProcessorParameters;
 import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
+import org.apache.streampipes.model.runtime.CompiledEventSchema;
 import org.apache.streampipes.wrapper.siddhi.engine.callback.SiddhiDebugCallback;
 import org.apache.streampipes.wrapper.siddhi.engine.callback.SiddhiOutputStreamCallback;
 import org.apache.streampipes.wrapper.siddhi.engine.callback.SiddhiOutputStreamDebugCallback;
 import org.apache.streampipes.wrapper.siddhi.engine.generator.SiddhiInvocationConfigGenerator;
+import org.apache.streampipes.wrapper.siddhi.engine.mapping.SiddhiInputMapping;
 import org.apache.streampipes.wrapper.siddhi.manager.SpSiddhiManager;
 import org.apache.streampipes.wrapper.siddhi.model.EventPropertyDef;
 import org.apache.streampipes.wrapper.siddhi.utils.SiddhiUtils;
@@ -39,7 +41,6 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class SiddhiEngine {
 
@@ -47,13 +48,14 @@ public class SiddhiEngine {
 
   private SiddhiAppRuntime siddhiAppRuntime;
   private final Map<String, InputHandler> siddhiInputHandlers;
-  private Map<String, List<EventPropertyDef>> typeInfo;
+  private final Map<String, SiddhiInputMapping> siddhiInputMappings;
 
   private Boolean debugMode;
   private SiddhiDebugCallback debugCallback;
 
   public SiddhiEngine() {
     this.siddhiInputHandlers = new HashMap<>();
+    this.siddhiInputMappings = new HashMap<>();
     this.debugMode = false;
   }
 
@@ -68,7 +70,7 @@ public class SiddhiEngine {
                                IDataProcessorParameters runtimeParameters) {
 
     IDataProcessorParameters params = settings.getSiddhiProcessorParams().getParams();
-    this.typeInfo = settings.getSiddhiProcessorParams().getEventTypeInfo();
+    Map<String, List<EventPropertyDef>> typeInfo = settings.getSiddhiProcessorParams().getEventTypeInfo();
     SiddhiManager siddhiManager = SpSiddhiManager.INSTANCE.getSiddhiManager();
 
     siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(settings.getSiddhiAppString());
@@ -77,6 +79,7 @@ public class SiddhiEngine {
         .forEach((key, value) -> {
           String preparedKey = SiddhiUtils.prepareName(key);
           siddhiInputHandlers.put(key, siddhiAppRuntime.getInputHandler(preparedKey));
+          siddhiInputMappings.put(key, new SiddhiInputMapping(typeInfo.get(key), getCompiledSchema(params, key)));
         });
 
     StreamCallback callback;
@@ -100,18 +103,19 @@ public class SiddhiEngine {
     try {
       String sourceId = event.getSourceInfo().getSourceId();
       InputHandler inputHandler = siddhiInputHandlers.get(sourceId);
-      List<String> eventKeys = this.typeInfo
-          .get(sourceId)
-          .stream()
-          .map(EventPropertyDef::getFieldName)
-          .collect(Collectors.toList());
 
-      inputHandler.send(SiddhiUtils.toObjArr(eventKeys, event.getRaw()));
+      inputHandler.send(siddhiInputMappings.get(sourceId).toObjArr(event));
     } catch (InterruptedException e) {
       e.printStackTrace();
     }
   }
 
+  private CompiledEventSchema getCompiledSchema(IDataProcessorParameters params,
+                                                String sourceId) {
+    Integer sourceIndex = params.getSourceIndex(sourceId);
+    return sourceIndex != null ? params.getInputSchemaInfo(sourceIndex).getCompiledSchema() : null;
+  }
+
   public void shutdownEngine() {
     this.siddhiAppRuntime.shutdown();
   }
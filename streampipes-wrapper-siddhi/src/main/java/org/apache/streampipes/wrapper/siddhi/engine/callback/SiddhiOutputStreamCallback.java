@@ -19,10 +19,10 @@ package org.apache.streampipes.wrapper.siddhi.engine.callback;
 
 import org.apache.streampipes.extensions.api.pe.param.IDataProcessorParameters;
 import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
+import org.apache.streampipes.wrapper.siddhi.engine.mapping.SiddhiOutputMapping;
 import org.apache.streampipes.wrapper.siddhi.output.SiddhiListOutputConfig;
 import org.apache.streampipes.wrapper.siddhi.output.SiddhiOutputConfig;
 import org.apache.streampipes.wrapper.siddhi.output.SiddhiOutputType;
-import org.apache.streampipes.wrapper.siddhi.utils.SiddhiUtils;
 
 import io.siddhi.core.event.Event;
 import io.siddhi.core.stream.output.StreamCallback;
@@ -37,7 +37,7 @@ public class SiddhiOutputStreamCallback extends StreamCallback {
   private final IDataProcessorParameters runtimeParameters;
   private final SiddhiOutputConfig outputConfig;
 
-  private final List<Attribute> streamAttributes;
+  private final SiddhiOutputMapping outputMapping;
 
   public SiddhiOutputStreamCallback(SpOutputCollector collector,
                                     IDataProcessorParameters runtimeParameters,
@@ -45,23 +45,21 @@ public class SiddhiOutputStreamCallback extends StreamCallback {
                                     SiddhiOutputConfig outputConfig) {
     this.collector = collector;
     this.runtimeParameters = runtimeParameters;
-    this.streamAttributes = streamAttributes;
+    this.outputMapping = new SiddhiOutputMapping(streamAttributes);
     this.outputConfig = outputConfig;
   }
 
   private void sendEvents(List<Event> events) {
-    collector.collect(SiddhiUtils.toSpEvent(events,
+    collector.collect(outputMapping.toSpEvent(events,
         ((SiddhiListOutputConfig) outputConfig).getListFieldName(),
         runtimeParameters.getOutputSchemaInfo(),
-        runtimeParameters.getOutputSourceInfo(),
-        streamAttributes));
+        runtimeParameters.getOutputSourceInfo()));
   }
 
   private void sendEvent(Event event) {
-    collector.collect(SiddhiUtils.toSpEvent(event,
+    collector.collect(outputMapping.toSpEvent(event,
         runtimeParameters.getOutputSchemaInfo(),
-        runtimeParameters.getOutputSourceInfo(),
-        streamAttributes));
+        runtimeParameters.getOutputSourceInfo()));
   }
 
   @Override
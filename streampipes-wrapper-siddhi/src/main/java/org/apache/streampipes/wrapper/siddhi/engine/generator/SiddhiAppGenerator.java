@@ -54,7 +54,8 @@ public class SiddhiAppGenerator {
 
   private void registerEventType(String eventTypeName,
                                  List<EventPropertyDef> eventSchema) {
-    String defineStreamPrefix = "define stream " + SiddhiUtils.prepareName(eventTypeName);
+    String defineStreamPrefix = makeStreamAnnotations()
+        + "define stream " + SiddhiUtils.prepareName(eventTypeName);
     StringJoiner joiner = new StringJoiner(",");
 
     eventSchema
@@ -68,6 +69,14 @@ public class SiddhiAppGenerator {
         .append(") ;\n");
   }
 
+  private String makeStreamAnnotations() {
+    if (siddhiAppConfig.isAsyncInput()) {
+      return "@async(buffer.size='" + siddhiAppConfig.getAsyncInputBufferSize() + "')\n";
+    } else {
+      return "";
+    }
+  }
+
   private void registerStatements(SiddhiAppConfig siddhiAppConfig) {
 
     siddhiAppConfig
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.siddhi.engine.mapping;
+
+import org.apache.streampipes.model.runtime.CompiledEventSchema;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventConverter;
+import org.apache.streampipes.model.runtime.FieldHandle;
+import org.apache.streampipes.model.runtime.field.AbstractField;
+import org.apache.streampipes.wrapper.siddhi.model.EventPropertyDef;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maps events of an input stream to the attributes of the corresponding Siddhi input stream.
+ * The fields of the attributes are resolved once against the compiled input schema, and the values of each event
+ * are written into a reused array. Siddhi copies the values before the input handler returns, so the array can be
+ * reused for the next event, but a mapping must only be used by the thread consuming its input stream.
+ */
+public class SiddhiInputMapping {
+
+  private final String[] runtimeNames;
+  private final FieldHandle[] handles;
+  private final Object[] values;
+
+  public SiddhiInputMapping(List<EventPropertyDef> eventProperties,
+                            CompiledEventSchema compiledSchema) {
+    this.runtimeNames = new String[eventProperties.size()];
+    this.handles = new FieldHandle[eventProperties.size()];
+    this.values = new Object[eventProperties.size()];
+
+    for (int i = 0; i < eventProperties.size(); i++) {
+      runtimeNames[i] = EventPropertyDef.toOriginalFieldName(eventProperties.get(i).getFieldName());
+      if (compiledSchema != null) {
+        handles[i] = compiledSchema.findHandleByRuntimeName(runtimeNames[i]).orElse(null);
+      }
+    }
+  }
+
+  /**
+   * Returns the values of the given event in the order of the attributes of the input stream.
+   * The returned array is overwritten by the next call.
+   */
+  public Object[] toObjArr(Event event) {
+    for (int i = 0; i < values.length; i++) {
+      values[i] = findField(event, i)
+          .map(EventConverter::toRawValue)
+          .orElse(null);
+    }
+    return values;
+  }
+
+  private Optional<AbstractField> findField(Event event,
+                                            int index) {
+    return handles[index] != null
+        ? event.findFieldByHandle(handles[index])
+        : event.getOptionalFieldByRuntimeName(runtimeNames[index]);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.siddhi.engine.mapping;
+
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+import org.apache.streampipes.wrapper.siddhi.utils.SiddhiUtils;
+
+import io.siddhi.core.event.Event;
+import io.siddhi.query.api.definition.Attribute;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps events of the Siddhi output stream to StreamPipes events.
+ * The field names are derived once from the attributes of the output stream, so that output events can be built
+ * from the attribute values by index.
+ */
+public class SiddhiOutputMapping {
+
+  private final String[] fieldNames;
+
+  public SiddhiOutputMapping(List<Attribute> streamAttributes) {
+    this.fieldNames = streamAttributes
+        .stream()
+        .map(attribute -> SiddhiUtils.toOutputFieldName(attribute.getName()))
+        .toArray(String[]::new);
+  }
+
+  public org.apache.streampipes.model.runtime.Event toSpEvent(Event event,
+                                                              SchemaInfo schemaInfo,
+                                                              SourceInfo sourceInfo) {
+    return EventFactory.fromValues(fieldNames, event.getData(), sourceInfo, schemaInfo);
+  }
+
+  public org.apache.streampipes.model.runtime.Event toSpEvent(List<Event> events,
+                                                              String listFieldName,
+                                                              SchemaInfo schemaInfo,
+                                                              SourceInfo sourceInfo) {
+    List<Map<String, Object>> allEvents = new ArrayList<>(events.size());
+    events.forEach(event -> allEvents.add(toMap(event)));
+
+    Map<String, Object> outMap = new HashMap<>();
+    outMap.put(listFieldName, allEvents);
+
+    return EventFactory.fromMap(outMap, sourceInfo, schemaInfo);
+  }
+
+  private Map<String, Object> toMap(Event event) {
+    Map<String, Object> outMap = new HashMap<>();
+    for (int i = 0; i < fieldNames.length; i++) {
+      outMap.put(fieldNames[i], event.getData(i));
+    }
+    return outMap;
+  }
+}
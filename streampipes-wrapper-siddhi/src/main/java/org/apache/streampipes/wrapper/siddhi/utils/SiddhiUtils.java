@@ -64,18 +64,24 @@ public class SiddhiUtils {
     Map<String, Object> outMap = new HashMap<>();
 
     for (int i = 0; i < streamAttributes.size(); i++) {
-      String outputKey = streamAttributes.get(i).getName();
-      if (outputKey.startsWith(SiddhiConstants.FIRST_STREAM_PREFIX)
-          || outputKey.startsWith(SiddhiConstants.SECOND_STREAM_PREFIX)) {
-        outputKey = outputKey.substring(2);
-      }
-      Object data = event.getData(i);
-      outMap.put(EventPropertyDef.toOriginalFieldName(outputKey), data);
+      outMap.put(toOutputFieldName(streamAttributes.get(i).getName()), event.getData(i));
     }
 
     return outMap;
   }
 
+  /**
+   * Returns the field name of the output event for the given attribute of the output stream.
+   */
+  public static String toOutputFieldName(String attributeName) {
+    String outputKey = attributeName;
+    if (outputKey.startsWith(SiddhiConstants.FIRST_STREAM_PREFIX)
+        || outputKey.startsWith(SiddhiConstants.SECOND_STREAM_PREFIX)) {
+      outputKey = outputKey.substring(2);
+    }
+    return EventPropertyDef.toOriginalFieldName(outputKey);
+  }
+
   public static Object[] toObjArr(List<String> eventKeys, Map<String, Object> event) {
     Object[] result = new Object[eventKeys.size()];
     for (int i = 0; i < eventKeys.size(); i++) {
@@ -23,6 +23,7 @@ import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.extensions.api.declarer.IFunctionConfig;
 import org.apache.streampipes.extensions.api.declarer.IStreamPipesFunctionDeclarer;
+import org.apache.streampipes.extensions.api.monitoring.SpMetricsCounter;
 import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
 import org.apache.streampipes.extensions.api.pe.routing.RawDataProcessor;
 import org.apache.streampipes.extensions.api.pe.routing.SpInputCollector;
@@ -54,6 +55,7 @@ public abstract class StreamPipesFunction implements IStreamPipesFunctionDeclare
   private static final Logger LOG = LoggerFactory.getLogger(StreamPipesFunction.class);
   private final Map<String, SourceInfo> sourceInfoMapper;
   private final Map<String, SchemaInfo> schemaInfoMapper;
+  private final Map<String, SpMetricsCounter> inCounterMapper;
   private Map<String, SpInputCollector> inputCollectors;
 
   private Map<String, SpOutputCollector> outputCollectors;
@@ -61,6 +63,7 @@ public abstract class StreamPipesFunction implements IStreamPipesFunctionDeclare
   public StreamPipesFunction() {
     this.sourceInfoMapper = new HashMap<>();
     this.schemaInfoMapper = new HashMap<>();
+    this.inCounterMapper = new HashMap<>();
     this.outputCollectors = new HashMap<>();
   }
 
@@ -84,7 +87,11 @@ public abstract class StreamPipesFunction implements IStreamPipesFunctionDeclare
         .getStreams()
         .forEach(stream -> {
           var topic = getTopic(stream);
-          sourceInfoMapper.put(topic, createSourceInfo(stream, index.get()));
+          var sourceInfo = createSourceInfo(stream, index.get());
+          sourceInfoMapper.put(topic, sourceInfo);
+          inCounterMapper.put(topic, SpMonitoringManager.INSTANCE.registerInCounter(
+              functionId.getId(),
+              sourceInfo.getSourceId()));
           schemaInfoMapper.put(topic, createSchemaInfo(stream.getEventSchema()));
           index.getAndIncrement();
         });
@@ -114,7 +121,7 @@ public abstract class StreamPipesFunction implements IStreamPipesFunctionDeclare
           .fromMap(rawEvent, sourceInfo, schemaInfoMapper.get(topicName));
 
       this.onEvent(event, sourceInfo.getSourceId());
-      increaseCounter(sourceInfo.getSourceId());
+      inCounterMapper.get(topicName).increment();
     } catch (RuntimeException e) {
       addError(e);
     }
@@ -124,15 +131,6 @@ public abstract class StreamPipesFunction implements IStreamPipesFunctionDeclare
     return stream.getEventGrounding().getTransportProtocol().getTopicDefinition().getActualTopicName();
   }
 
-  private void increaseCounter(String sourceInfo) {
-    var functionId = this.getFunctionConfig().getFunctionId();
-    SpMonitoringManager.INSTANCE.increaseInCounter(
-        functionId.getId(),
-        sourceInfo,
-        System.currentTimeMillis()
-    );
-  }
-
   private void addError(RuntimeException e) {
     var functionId = this.getFunctionConfig().getFunctionId();
     SpMonitoringManager.INSTANCE.addErrorMessage(
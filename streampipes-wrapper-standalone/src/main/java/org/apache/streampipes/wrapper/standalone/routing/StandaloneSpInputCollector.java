@@ -23,10 +23,15 @@ import org.apache.streampipes.extensions.api.pe.routing.RawDataProcessor;
 import org.apache.streampipes.extensions.api.pe.routing.SpInputCollector;
 import org.apache.streampipes.messaging.EventConsumer;
 import org.apache.streampipes.messaging.InternalEventProcessor;
+import org.apache.streampipes.messaging.local.LocalConsumer;
 import org.apache.streampipes.model.grounding.TransportFormat;
 import org.apache.streampipes.model.grounding.TransportProtocol;
 import org.apache.streampipes.wrapper.standalone.manager.ProtocolManager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 public class StandaloneSpInputCollector<T extends TransportProtocol> extends
     StandaloneSpCollector<T, RawDataProcessor>
     implements
@@ -45,6 +50,46 @@ public class StandaloneSpInputCollector<T extends TransportProtocol> extends
 
   @Override
   public void onEvent(byte[] event) {
+    var singleConsumer = findSingleConsumer();
+    if (singleConsumer != null) {
+      // a single consumer can decode the payload straight into its own event structure
+      singleConsumer.process(event, dataFormatDefinition, topic);
+    } else {
+      dispatch(dataFormatDefinition.toMap(event));
+    }
+  }
+
+  @Override
+  public void onEvents(List<byte[]> events) {
+    var singleConsumer = findSingleConsumer();
+    if (singleConsumer != null) {
+      singleConsumer.process(events, dataFormatDefinition, topic);
+      return;
+    }
+    List<Map<String, Object>> rawEvents = new ArrayList<>(events.size());
+    for (byte[] event : events) {
+      rawEvents.add(dataFormatDefinition.toMap(event));
+    }
+    dispatchBatch(rawEvents);
+  }
+
+  private RawDataProcessor findSingleConsumer() {
+    if (singletonEngine || consumers.size() == 1) {
+      var iterator = consumers.values().iterator();
+      return iterator.hasNext() ? iterator.next() : null;
+    }
+    return null;
+  }
+
+  private void dispatchBatch(List<Map<String, Object>> events) {
+    if (singletonEngine) {
+      consumers.get(consumers.keySet().toArray()[0]).process(events, topic);
+    } else {
+      consumers.forEach((key, value) -> value.process(events, topic));
+    }
+  }
+
+  private void dispatch(Map<String, Object> event) {
     if (singletonEngine) {
       send(consumers.get(consumers.keySet().toArray()[0]), event);
     } else {
@@ -52,14 +97,18 @@ public class StandaloneSpInputCollector<T extends TransportProtocol> extends
     }
   }
 
-  private void send(RawDataProcessor rawDataProcessor, byte[] event) {
-    rawDataProcessor.process(dataFormatDefinition.toMap(event), topic);
+  private void send(RawDataProcessor rawDataProcessor, Map<String, Object> event) {
+    rawDataProcessor.process(event, topic);
   }
 
   @Override
   public void connect() throws SpRuntimeException {
     if (!consumer.isConnected()) {
-      consumer.connect(this);
+      if (consumer instanceof LocalConsumer) {
+        ((LocalConsumer) consumer).connectLocal(this::dispatch);
+      } else {
+        consumer.connect(this);
+      }
     }
   }
 
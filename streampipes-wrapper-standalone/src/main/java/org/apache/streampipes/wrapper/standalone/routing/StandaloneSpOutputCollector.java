@@ -19,11 +19,13 @@
 package org.apache.streampipes.wrapper.standalone.routing;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpMetricsCounter;
 import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
 import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
 import org.apache.streampipes.extensions.management.monitoring.ExtensionsLogger;
 import org.apache.streampipes.messaging.EventProducer;
 import org.apache.streampipes.messaging.InternalEventProcessor;
+import org.apache.streampipes.messaging.local.LocalProducer;
 import org.apache.streampipes.model.grounding.TransportFormat;
 import org.apache.streampipes.model.grounding.TransportProtocol;
 import org.apache.streampipes.model.runtime.Event;
@@ -34,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 public class StandaloneSpOutputCollector<T extends TransportProtocol> extends
     StandaloneSpCollector<T, InternalEventProcessor<Map<String,
@@ -44,6 +47,8 @@ public class StandaloneSpOutputCollector<T extends TransportProtocol> extends
   private final EventProducer producer;
   private final String resourceId;
   private final ExtensionsLogger extensionsLogger;
+  private final Consumer<Event> publisher;
+  private final SpMetricsCounter outCounter;
 
   public StandaloneSpOutputCollector(T protocol,
                                      TransportFormat format,
@@ -52,19 +57,31 @@ public class StandaloneSpOutputCollector<T extends TransportProtocol> extends
     this.producer = protocolDefinition.getProducer(protocol);
     this.resourceId = resourceId;
     this.extensionsLogger = new ExtensionsLogger(resourceId);
+    this.publisher = makePublisher();
+    this.outCounter = SpMonitoringManager.INSTANCE.registerOutCounter(resourceId);
   }
 
   public void collect(Event event) {
-    Map<String, Object> outEvent = new EventConverter(event).toMap();
     try {
-      producer.publish(dataFormatDefinition.fromMap(outEvent));
-      SpMonitoringManager.INSTANCE.increaseOutCounter(resourceId, System.currentTimeMillis());
+      publisher.accept(event);
+      outCounter.increment();
     } catch (SpRuntimeException e) {
       extensionsLogger.error(e);
       LOG.error("Could not publish event", e);
     }
   }
 
+  private Consumer<Event> makePublisher() {
+    if (producer instanceof LocalProducer) {
+      // co-located consumers receive the event map directly, no serialization is needed
+      var localProducer = (LocalProducer) producer;
+      return event -> localProducer.publish(new EventConverter(event).toMap());
+    } else {
+      // the data format serializes the event directly, without building an intermediate map
+      return event -> producer.publish(dataFormatDefinition.fromEvent(event));
+    }
+  }
+
   @Override
   public void connect() throws SpRuntimeException {
     if (!producer.isConnected()) {
@@ -20,6 +20,7 @@ package org.apache.streampipes.wrapper.standalone.runtime;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.extensions.api.extractor.IDataProcessorParameterExtractor;
+import org.apache.streampipes.extensions.api.pe.IBatchDataProcessor;
 import org.apache.streampipes.extensions.api.pe.IStreamPipesDataProcessor;
 import org.apache.streampipes.extensions.api.pe.context.EventProcessorRuntimeContext;
 import org.apache.streampipes.extensions.api.pe.param.IDataProcessorParameters;
@@ -27,14 +28,12 @@ import org.apache.streampipes.extensions.api.pe.routing.RawDataProcessor;
 import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
 import org.apache.streampipes.extensions.api.pe.runtime.IDataProcessorRuntime;
 import org.apache.streampipes.model.graph.DataProcessorInvocation;
+import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.wrapper.context.generator.DataProcessorContextGenerator;
 import org.apache.streampipes.wrapper.params.generator.DataProcessorParameterGenerator;
 import org.apache.streampipes.wrapper.standalone.manager.ProtocolManager;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.Map;
+import java.util.List;
 
 public class StandaloneEventProcessorRuntime extends StandalonePipelineElementRuntime<
     IStreamPipesDataProcessor,
@@ -43,8 +42,6 @@ public class StandaloneEventProcessorRuntime extends StandalonePipelineElementRu
     IDataProcessorParameterExtractor,
     IDataProcessorParameters> implements IDataProcessorRuntime, RawDataProcessor {
 
-  private static final Logger LOG = LoggerFactory.getLogger(StandaloneEventProcessorRuntime.class);
-
   protected SpOutputCollector outputCollector;
 
   public StandaloneEventProcessorRuntime() {
@@ -68,16 +65,18 @@ public class StandaloneEventProcessorRuntime extends StandalonePipelineElementRu
   }
 
   @Override
-  public void process(Map<String, Object> rawEvent, String sourceInfo) {
-    try {
-      monitoringManager.increaseInCounter(instanceId, sourceInfo, System.currentTimeMillis());
-      var event = this.internalRuntimeParameters.makeEvent(runtimeParameters, rawEvent, sourceInfo);
-      pipelineElement
-          .onEvent(event, outputCollector);
-    } catch (RuntimeException e) {
-      LOG.error("RuntimeException while processing event in {}", pipelineElement.getClass().getCanonicalName(), e);
-      addLogEntry(e);
-    }
+  protected void processEvent(Event event) {
+    pipelineElement.onEvent(event, outputCollector);
+  }
+
+  @Override
+  protected void processEvents(List<Event> events) {
+    ((IBatchDataProcessor) pipelineElement).onEvents(events, outputCollector);
+  }
+
+  @Override
+  protected boolean supportsBatches() {
+    return pipelineElement instanceof IBatchDataProcessor;
   }
 
   public void prepareRuntime() throws SpRuntimeException {
@@ -20,6 +20,7 @@ package org.apache.streampipes.wrapper.standalone.runtime;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.extensions.api.extractor.IDataSinkParameterExtractor;
+import org.apache.streampipes.extensions.api.pe.IBatchDataSink;
 import org.apache.streampipes.extensions.api.pe.IStreamPipesDataSink;
 import org.apache.streampipes.extensions.api.pe.context.EventSinkRuntimeContext;
 import org.apache.streampipes.extensions.api.pe.param.IDataSinkParameters;
@@ -27,13 +28,11 @@ import org.apache.streampipes.extensions.api.pe.routing.RawDataProcessor;
 import org.apache.streampipes.extensions.api.pe.routing.SpInputCollector;
 import org.apache.streampipes.extensions.api.pe.runtime.IDataSinkRuntime;
 import org.apache.streampipes.model.graph.DataSinkInvocation;
+import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.wrapper.context.generator.DataSinkContextGenerator;
 import org.apache.streampipes.wrapper.params.generator.DataSinkParameterGenerator;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.Map;
+import java.util.List;
 
 public class StandaloneEventSinkRuntime extends StandalonePipelineElementRuntime<
     IStreamPipesDataSink,
@@ -42,21 +41,23 @@ public class StandaloneEventSinkRuntime extends StandalonePipelineElementRuntime
     IDataSinkParameterExtractor,
     IDataSinkParameters> implements IDataSinkRuntime, RawDataProcessor {
 
-  private static final Logger LOG = LoggerFactory.getLogger(StandaloneEventSinkRuntime.class);
-
   public StandaloneEventSinkRuntime() {
     super(new DataSinkContextGenerator(), new DataSinkParameterGenerator());
   }
 
   @Override
-  public void process(Map<String, Object> rawEvent, String sourceInfo) {
-    try {
-      monitoringManager.increaseInCounter(instanceId, sourceInfo, System.currentTimeMillis());
-      pipelineElement.onEvent(internalRuntimeParameters.makeEvent(runtimeParameters, rawEvent, sourceInfo));
-    } catch (RuntimeException e) {
-      LOG.error("RuntimeException while processing event in {}", pipelineElement.getClass().getCanonicalName(), e);
-      addLogEntry(e);
-    }
+  protected void processEvent(Event event) {
+    pipelineElement.onEvent(event);
+  }
+
+  @Override
+  protected void processEvents(List<Event> events) {
+    ((IBatchDataSink) pipelineElement).onEvents(events);
+  }
+
+  @Override
+  protected boolean supportsBatches() {
+    return pipelineElement instanceof IBatchDataSink;
   }
 
   public void prepareRuntime() throws SpRuntimeException {
@@ -19,7 +19,9 @@
 package org.apache.streampipes.wrapper.standalone.runtime;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
 import org.apache.streampipes.extensions.api.extractor.IParameterExtractor;
+import org.apache.streampipes.extensions.api.monitoring.SpMetricsCounter;
 import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
 import org.apache.streampipes.extensions.api.pe.IStreamPipesPipelineElement;
 import org.apache.streampipes.extensions.api.pe.context.IContextGenerator;
@@ -32,12 +34,18 @@ import org.apache.streampipes.extensions.api.pe.routing.RawDataProcessor;
 import org.apache.streampipes.extensions.api.pe.routing.SpInputCollector;
 import org.apache.streampipes.model.SpDataStream;
 import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
+import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.wrapper.params.InternalRuntimeParameters;
 import org.apache.streampipes.wrapper.runtime.PipelineElementRuntime;
 import org.apache.streampipes.wrapper.standalone.manager.ProtocolManager;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public abstract class StandalonePipelineElementRuntime<
     PeT extends IStreamPipesPipelineElement<?>,
@@ -47,6 +55,8 @@ public abstract class StandalonePipelineElementRuntime<
     PepT extends IPipelineElementParameters<IvT, ExT>>
     extends PipelineElementRuntime<PeT, IvT, RcT, ExT, PepT> implements RawDataProcessor {
 
+  private static final Logger LOG = LoggerFactory.getLogger(StandalonePipelineElementRuntime.class);
+
   protected List<SpInputCollector> inputCollectors;
 
   protected String instanceId;
@@ -57,6 +67,7 @@ public abstract class StandalonePipelineElementRuntime<
   protected IInternalRuntimeParameters internalRuntimeParameters;
 
   protected final SpMonitoringManager monitoringManager;
+  private Map<String, SpMetricsCounter> inCounters = new HashMap<>();
 
   public StandalonePipelineElementRuntime(IContextGenerator<RcT, IvT> contextGenerator,
                                           IParameterGenerator<IvT, ExT, PepT> parameterGenerator) {
@@ -75,6 +86,7 @@ public abstract class StandalonePipelineElementRuntime<
     this.runtimeContext = runtimeContext;
     this.instanceId = pipelineElementInvocation.getElementId();
     this.inputCollectors = getInputCollectors(pipelineElementInvocation.getInputStreams());
+    this.inCounters = registerInCounters(pipelineElementInvocation.getInputStreams());
     this.beforeStart();
   }
 
@@ -89,6 +101,113 @@ public abstract class StandalonePipelineElementRuntime<
     monitoringManager.resetCounter(resourceId);
   }
 
+  protected void increaseInCounter(String sourceInfo) {
+    var counter = inCounters.get(sourceInfo);
+    if (counter == null) {
+      counter = monitoringManager.registerInCounter(instanceId, sourceInfo);
+    }
+    counter.increment();
+  }
+
+  protected void increaseInCounter(String sourceInfo,
+                                   int count) {
+    var counter = inCounters.get(sourceInfo);
+    if (counter == null) {
+      counter = monitoringManager.registerInCounter(instanceId, sourceInfo);
+    }
+    counter.add(count);
+  }
+
+  @Override
+  public void process(Map<String, Object> rawEvent, String sourceInfo) {
+    try {
+      increaseInCounter(sourceInfo);
+      processEvent(internalRuntimeParameters.makeEvent(runtimeParameters, rawEvent, sourceInfo));
+    } catch (RuntimeException e) {
+      logProcessingError("event", e);
+    }
+  }
+
+  @Override
+  public void process(List<Map<String, Object>> rawEvents, String sourceInfo) {
+    if (supportsBatches()) {
+      try {
+        increaseInCounter(sourceInfo, rawEvents.size());
+        processEvents(makeEvents(rawEvents, sourceInfo));
+      } catch (RuntimeException e) {
+        logProcessingError("events", e);
+      }
+    } else {
+      for (Map<String, Object> rawEvent : rawEvents) {
+        process(rawEvent, sourceInfo);
+      }
+    }
+  }
+
+  @Override
+  public void process(byte[] payload,
+                      SpDataFormatDefinition dataFormat,
+                      String sourceInfo) {
+    try {
+      increaseInCounter(sourceInfo);
+      processEvent(internalRuntimeParameters.makeEvent(runtimeParameters, payload, dataFormat, sourceInfo));
+    } catch (RuntimeException e) {
+      logProcessingError("event", e);
+    }
+  }
+
+  @Override
+  public void process(List<byte[]> payloads,
+                      SpDataFormatDefinition dataFormat,
+                      String sourceInfo) {
+    if (supportsBatches()) {
+      try {
+        increaseInCounter(sourceInfo, payloads.size());
+        processEvents(makeEvents(payloads, dataFormat, sourceInfo));
+      } catch (RuntimeException e) {
+        logProcessingError("events", e);
+      }
+    } else {
+      for (byte[] payload : payloads) {
+        process(payload, dataFormat, sourceInfo);
+      }
+    }
+  }
+
+  private void logProcessingError(String subject, RuntimeException e) {
+    LOG.error("RuntimeException while processing {} in {}", subject, pipelineElement.getClass().getCanonicalName(), e);
+    addLogEntry(e);
+  }
+
+  protected List<Event> makeEvents(List<Map<String, Object>> rawEvents,
+                                   String sourceInfo) {
+    List<Event> events = new ArrayList<>(rawEvents.size());
+    for (Map<String, Object> rawEvent : rawEvents) {
+      events.add(internalRuntimeParameters.makeEvent(runtimeParameters, rawEvent, sourceInfo));
+    }
+    return events;
+  }
+
+  protected List<Event> makeEvents(List<byte[]> payloads,
+                                   SpDataFormatDefinition dataFormat,
+                                   String sourceInfo) {
+    List<Event> events = new ArrayList<>(payloads.size());
+    for (byte[] payload : payloads) {
+      events.add(internalRuntimeParameters.makeEvent(runtimeParameters, payload, dataFormat, sourceInfo));
+    }
+    return events;
+  }
+
+  private Map<String, SpMetricsCounter> registerInCounters(List<SpDataStream> inputStreams) {
+    // the source info passed to process() is the topic of the input stream
+    Map<String, SpMetricsCounter> counters = new HashMap<>();
+    for (SpDataStream is : inputStreams) {
+      var topic = is.getEventGrounding().getTransportProtocol().getTopicDefinition().getActualTopicName();
+      counters.put(topic, monitoringManager.registerInCounter(instanceId, topic));
+    }
+    return counters;
+  }
+
   protected List<SpInputCollector> getInputCollectors(List<SpDataStream> inputStreams) throws SpRuntimeException {
     List<SpInputCollector> inputCollectors = new ArrayList<>();
     for (SpDataStream is : inputStreams) {
@@ -115,6 +234,18 @@ public abstract class StandalonePipelineElementRuntime<
     this.inputCollectors.forEach(is -> is.registerConsumer(instanceId, this));
   }
 
+  /**
+   * Hands a single decoded event to the pipeline element.
+   */
+  protected abstract void processEvent(Event event);
+
+  /**
+   * Hands a batch of decoded events to the pipeline element, only called if {@link #supportsBatches()} is true.
+   */
+  protected abstract void processEvents(List<Event> events);
+
+  protected abstract boolean supportsBatches();
+
   protected abstract void beforeStart();
 
   protected abstract void afterStop();
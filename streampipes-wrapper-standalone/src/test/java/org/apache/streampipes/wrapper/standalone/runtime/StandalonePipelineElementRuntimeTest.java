@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.runtime;
+
+import org.apache.streampipes.extensions.api.monitoring.IExtensionsLogger;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+import org.apache.streampipes.extensions.api.pe.IBatchDataProcessor;
+import org.apache.streampipes.extensions.api.pe.IBatchDataSink;
+import org.apache.streampipes.extensions.api.pe.IStreamPipesDataProcessor;
+import org.apache.streampipes.extensions.api.pe.IStreamPipesDataSink;
+import org.apache.streampipes.extensions.api.pe.context.EventSinkRuntimeContext;
+import org.apache.streampipes.extensions.api.pe.param.IInternalRuntimeParameters;
+import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
+import org.apache.streampipes.model.runtime.Event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class StandalonePipelineElementRuntimeTest {
+
+  private static final String TOPIC = "org.apache.streampipes.test";
+
+  private final List<Map<String, Object>> rawEvents = List.of(Map.of("value", 1), Map.of("value", 2));
+  private final Event firstEvent = mock(Event.class);
+  private final Event secondEvent = mock(Event.class);
+
+  private IInternalRuntimeParameters internalRuntimeParameters;
+  private String instanceId;
+
+  @BeforeEach
+  public void setUp() {
+    internalRuntimeParameters = mock(IInternalRuntimeParameters.class);
+    when(internalRuntimeParameters.makeEvent(any(), eq(rawEvents.get(0)), anyString())).thenReturn(firstEvent);
+    when(internalRuntimeParameters.makeEvent(any(), eq(rawEvents.get(1)), anyString())).thenReturn(secondEvent);
+    instanceId = UUID.randomUUID().toString();
+  }
+
+  @Test
+  public void batchSinkReceivesWholeBatch() {
+    var sink = mock(IStreamPipesDataSink.class, withSettings().extraInterfaces(IBatchDataSink.class));
+    var runtime = makeSinkRuntime(sink);
+
+    runtime.process(rawEvents, TOPIC);
+
+    verify((IBatchDataSink) sink).onEvents(List.of(firstEvent, secondEvent));
+    verify(sink, never()).onEvent(any());
+    assertEquals(2, SpMonitoringManager.INSTANCE.registerInCounter(instanceId, TOPIC).getCount());
+  }
+
+  @Test
+  public void sinkWithoutBatchSupportReceivesSingleEvents() {
+    var sink = mock(IStreamPipesDataSink.class);
+    var runtime = makeSinkRuntime(sink);
+
+    runtime.process(rawEvents, TOPIC);
+
+    verify(sink).onEvent(firstEvent);
+    verify(sink).onEvent(secondEvent);
+    assertEquals(2, SpMonitoringManager.INSTANCE.registerInCounter(instanceId, TOPIC).getCount());
+  }
+
+  @Test
+  public void failingEventDoesNotDropRemainingEventsOfBatch() {
+    var sink = mock(IStreamPipesDataSink.class);
+    doThrow(new IllegalStateException("failure")).when(sink).onEvent(firstEvent);
+    var runtime = makeSinkRuntime(sink);
+
+    runtime.process(rawEvents, TOPIC);
+
+    verify(sink).onEvent(secondEvent);
+    verify(runtime.runtimeContext.getLogger(), times(1)).error(any(IllegalStateException.class));
+  }
+
+  @Test
+  public void batchProcessorReceivesWholeBatchAndOutputCollector() {
+    var processor = mock(IStreamPipesDataProcessor.class, withSettings().extraInterfaces(IBatchDataProcessor.class));
+    var outputCollector = mock(SpOutputCollector.class);
+    var runtime = new StandaloneEventProcessorRuntime();
+    runtime.pipelineElement = processor;
+    runtime.outputCollector = outputCollector;
+    runtime.internalRuntimeParameters = internalRuntimeParameters;
+    runtime.instanceId = instanceId;
+
+    runtime.process(rawEvents, TOPIC);
+
+    verify((IBatchDataProcessor) processor).onEvents(List.of(firstEvent, secondEvent), outputCollector);
+    verify(processor, never()).onEvent(any(), any());
+    verify(internalRuntimeParameters, times(2)).makeEvent(any(), anyMap(), eq(TOPIC));
+  }
+
+  private StandaloneEventSinkRuntime makeSinkRuntime(IStreamPipesDataSink sink) {
+    var runtimeContext = mock(EventSinkRuntimeContext.class);
+    when(runtimeContext.getLogger()).thenReturn(mock(IExtensionsLogger.class));
+    var runtime = new StandaloneEventSinkRuntime();
+    runtime.pipelineElement = sink;
+    runtime.runtimeContext = runtimeContext;
+    runtime.internalRuntimeParameters = internalRuntimeParameters;
+    runtime.instanceId = instanceId;
+    return runtime;
+  }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.streampipes.wrapper.params;
 
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
 import org.apache.streampipes.extensions.api.pe.param.IInternalRuntimeParameters;
 import org.apache.streampipes.extensions.api.pe.param.IPipelineElementParameters;
 import org.apache.streampipes.model.runtime.Event;
@@ -36,4 +37,16 @@ public class InternalRuntimeParameters implements IInternalRuntimeParameters {
         parameters.getInputSourceInfo(index),
         parameters.getInputSchemaInfo(index));
   }
+
+  @Override
+  public Event makeEvent(IPipelineElementParameters<?, ?> parameters,
+                         byte[] payload,
+                         SpDataFormatDefinition dataFormat,
+                         String sourceId) {
+    var index = parameters.getSourceIndex(sourceId);
+    return dataFormat.toEvent(
+        payload,
+        parameters.getInputSourceInfo(index),
+        parameters.getInputSchemaInfo(index));
+  }
 }
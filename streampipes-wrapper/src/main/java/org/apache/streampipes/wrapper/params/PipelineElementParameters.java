@@ -18,10 +18,12 @@
 
 package org.apache.streampipes.wrapper.params;
 
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.extensions.api.extractor.IParameterExtractor;
 import org.apache.streampipes.extensions.api.pe.param.IPipelineElementParameters;
 import org.apache.streampipes.extensions.api.pe.param.InputStreamParams;
 import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
+import org.apache.streampipes.model.runtime.FieldHandle;
 import org.apache.streampipes.model.runtime.SchemaInfo;
 import org.apache.streampipes.model.runtime.SourceInfo;
 
@@ -30,6 +32,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 public class PipelineElementParameters<T extends InvocableStreamPipesEntity, V extends IParameterExtractor>
     implements IPipelineElementParameters<T, V> {
@@ -83,6 +87,19 @@ public class PipelineElementParameters<T extends InvocableStreamPipesEntity, V e
     return eventInfoMap.get(sourceId);
   }
 
+  @Override
+  public FieldHandle getFieldHandle(String fieldSelector) {
+    return inputStreamParams
+        .stream()
+        .map(InputStreamParams::getSchemaInfo)
+        .map(SchemaInfo::getCompiledSchema)
+        .filter(Objects::nonNull)
+        .map(compiledSchema -> compiledSchema.findHandle(fieldSelector))
+        .flatMap(Optional::stream)
+        .findFirst()
+        .orElseThrow(() -> new SpRuntimeException("Field " + fieldSelector + " not found in input schema"));
+  }
+
   @Override
   public SchemaInfo getInputSchemaInfo(int index) {
     return inputStreamParams.get(index).getSchemaInfo();
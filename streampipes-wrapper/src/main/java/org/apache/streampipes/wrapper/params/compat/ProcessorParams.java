@@ -22,6 +22,7 @@ import org.apache.streampipes.extensions.api.pe.param.IDataProcessorParameters;
 import org.apache.streampipes.extensions.api.pe.param.InputStreamParams;
 import org.apache.streampipes.model.graph.DataProcessorInvocation;
 import org.apache.streampipes.model.output.PropertyRenameRule;
+import org.apache.streampipes.model.runtime.FieldHandle;
 import org.apache.streampipes.model.runtime.SchemaInfo;
 import org.apache.streampipes.model.runtime.SourceInfo;
 import org.apache.streampipes.sdk.extractor.ProcessingElementParameterExtractor;
@@ -95,6 +96,11 @@ public class ProcessorParams implements IDataProcessorParameters {
     return params.getSourceIndex(sourceId);
   }
 
+  @Override
+  public FieldHandle getFieldHandle(String fieldSelector) {
+    return params.getFieldHandle(fieldSelector);
+  }
+
   @Override
   public List<PropertyRenameRule> getRenameRules() {
     return params.getRenameRules();
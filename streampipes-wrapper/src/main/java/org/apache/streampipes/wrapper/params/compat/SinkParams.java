@@ -21,6 +21,7 @@ import org.apache.streampipes.extensions.api.extractor.IDataSinkParameterExtract
 import org.apache.streampipes.extensions.api.pe.param.IDataSinkParameters;
 import org.apache.streampipes.extensions.api.pe.param.InputStreamParams;
 import org.apache.streampipes.model.graph.DataSinkInvocation;
+import org.apache.streampipes.model.runtime.FieldHandle;
 import org.apache.streampipes.model.runtime.SchemaInfo;
 import org.apache.streampipes.model.runtime.SourceInfo;
 import org.apache.streampipes.sdk.extractor.DataSinkParameterExtractor;
@@ -94,4 +95,9 @@ public class SinkParams implements IDataSinkParameters {
   public Integer getSourceIndex(String sourceId) {
     return params.getSourceIndex(sourceId);
   }
+
+  @Override
+  public FieldHandle getFieldHandle(String fieldSelector) {
+    return params.getFieldHandle(fieldSelector);
+  }
 }
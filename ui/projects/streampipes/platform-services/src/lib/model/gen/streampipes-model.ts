@@ -676,6 +676,29 @@ export class BoundPipelineElement {
     }
 }
 
+export class CacheMetrics {
+    evictions: number;
+    hitRate: number;
+    hits: number;
+    invalidations: number;
+    misses: number;
+    size: number;
+
+    static fromData(data: CacheMetrics, target?: CacheMetrics): CacheMetrics {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new CacheMetrics();
+        instance.evictions = data.evictions;
+        instance.hitRate = data.hitRate;
+        instance.hits = data.hits;
+        instance.invalidations = data.invalidations;
+        instance.misses = data.misses;
+        instance.size = data.size;
+        return instance;
+    }
+}
+
 export class CanvasPosition {
     x: number;
     y: number;
@@ -2076,6 +2099,7 @@ export class TransportProtocol {
     '@class':
         | 'org.apache.streampipes.model.grounding.JmsTransportProtocol'
         | 'org.apache.streampipes.model.grounding.KafkaTransportProtocol'
+        | 'org.apache.streampipes.model.grounding.LocalTransportProtocol'
         | 'org.apache.streampipes.model.grounding.MqttTransportProtocol'
         | 'org.apache.streampipes.model.grounding.NatsTransportProtocol'
         | 'org.apache.streampipes.model.grounding.PulsarTransportProtocol';
@@ -2111,6 +2135,8 @@ export class TransportProtocol {
                 return JmsTransportProtocol.fromData(data);
             case 'org.apache.streampipes.model.grounding.KafkaTransportProtocol':
                 return KafkaTransportProtocol.fromData(data);
+            case 'org.apache.streampipes.model.grounding.LocalTransportProtocol':
+                return LocalTransportProtocol.fromData(data);
             case 'org.apache.streampipes.model.grounding.MqttTransportProtocol':
                 return MqttTransportProtocol.fromData(data);
             case 'org.apache.streampipes.model.grounding.NatsTransportProtocol':
@@ -2236,6 +2262,22 @@ export class ListOutputStrategy extends OutputStrategy {
     }
 }
 
+export class LocalTransportProtocol extends TransportProtocol {
+    '@class': 'org.apache.streampipes.model.grounding.LocalTransportProtocol';
+
+    static 'fromData'(
+        data: LocalTransportProtocol,
+        target?: LocalTransportProtocol,
+    ): LocalTransportProtocol {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new LocalTransportProtocol();
+        super.fromData(data, instance);
+        return instance;
+    }
+}
+
 export class MappingProperty extends StaticProperty {
     '@class':
         | 'org.apache.streampipes.model.staticproperty.MappingProperty'
@@ -3189,6 +3231,33 @@ export class ProtocolDescription extends NamedStreamPipesEntity {
     }
 }
 
+export class PullMetrics {
+    averageDuration: number;
+    failedPulls: number;
+    lastDuration: number;
+    lastLag: number;
+    maxDuration: number;
+    maxLag: number;
+    pulls: number;
+    skippedPulls: number;
+
+    static fromData(data: PullMetrics, target?: PullMetrics): PullMetrics {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new PullMetrics();
+        instance.averageDuration = data.averageDuration;
+        instance.failedPulls = data.failedPulls;
+        instance.lastDuration = data.lastDuration;
+        instance.lastLag = data.lastLag;
+        instance.maxDuration = data.maxDuration;
+        instance.maxLag = data.maxLag;
+        instance.pulls = data.pulls;
+        instance.skippedPulls = data.skippedPulls;
+        return instance;
+    }
+}
+
 export class PulsarTransportProtocol extends TransportProtocol {
     '@class': 'org.apache.streampipes.model.grounding.PulsarTransportProtocol';
 
@@ -3230,6 +3299,7 @@ export class QuantitativeValue extends ValueSpecification {
 export class RemoveDuplicatesTransformationRuleDescription extends StreamTransformationRuleDescription {
     '@class': 'org.apache.streampipes.model.connect.rules.stream.RemoveDuplicatesTransformationRuleDescription';
     'filterTimeWindow': string;
+    'keyFields': string[];
 
     static 'fromData'(
         data: RemoveDuplicatesTransformationRuleDescription,
@@ -3242,6 +3312,9 @@ export class RemoveDuplicatesTransformationRuleDescription extends StreamTransfo
             target || new RemoveDuplicatesTransformationRuleDescription();
         super.fromData(data, instance);
         instance.filterTimeWindow = data.filterTimeWindow;
+        instance.keyFields = __getCopyArrayFn(__identity<string>())(
+            data.keyFields,
+        );
         return instance;
     }
 }
@@ -3634,9 +3707,12 @@ export class SpLogMessage {
 }
 
 export class SpMetricsEntry {
+    cacheMetrics: CacheMetrics;
     lastTimestamp: number;
     messagesIn: { [index: string]: MessageCounter };
     messagesOut: MessageCounter;
+    pullMetrics: PullMetrics;
+    writeMetrics: WriteMetrics;
 
     static fromData(
         data: SpMetricsEntry,
@@ -3646,17 +3722,21 @@ export class SpMetricsEntry {
             return data;
         }
         const instance = target || new SpMetricsEntry();
+        instance.cacheMetrics = CacheMetrics.fromData(data.cacheMetrics);
         instance.lastTimestamp = data.lastTimestamp;
         instance.messagesIn = __getCopyObjectFn(MessageCounter.fromData)(
             data.messagesIn,
         );
         instance.messagesOut = MessageCounter.fromData(data.messagesOut);
+        instance.pullMetrics = PullMetrics.fromData(data.pullMetrics);
+        instance.writeMetrics = WriteMetrics.fromData(data.writeMetrics);
         return instance;
     }
 }
 
 export class SpQueryResult {
     allDataSeries: DataSeries[];
+    errorMessage: string;
     forId: string;
     headers: string[];
     lastTimestamp: number;
@@ -3675,6 +3755,7 @@ export class SpQueryResult {
         instance.allDataSeries = __getCopyArrayFn(DataSeries.fromData)(
             data.allDataSeries,
         );
+        instance.errorMessage = data.errorMessage;
         instance.forId = data.forId;
         instance.headers = __getCopyArrayFn(__identity<string>())(data.headers);
         instance.lastTimestamp = data.lastTimestamp;
@@ -4148,6 +4229,33 @@ export class WildcardTopicMapping {
     }
 }
 
+export class WriteMetrics {
+    averageFlushSize: number;
+    averageLatency: number;
+    blockedWrites: number;
+    bufferedEvents: number;
+    events: number;
+    failedFlushes: number;
+    flushes: number;
+    maxLatency: number;
+
+    static fromData(data: WriteMetrics, target?: WriteMetrics): WriteMetrics {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new WriteMetrics();
+        instance.averageFlushSize = data.averageFlushSize;
+        instance.averageLatency = data.averageLatency;
+        instance.blockedWrites = data.blockedWrites;
+        instance.bufferedEvents = data.bufferedEvents;
+        instance.events = data.events;
+        instance.failedFlushes = data.failedFlushes;
+        instance.flushes = data.flushes;
+        instance.maxLatency = data.maxLatency;
+        return instance;
+    }
+}
+
 export type ConfigurationScope =
     | 'CONTAINER_STARTUP_CONFIG'
     | 'CONTAINER_GLOBAL_CONFIG'
@@ -4196,9 +4304,9 @@ export type SpDataFormat = 'CBOR' | 'JSON' | 'FST' | 'SMILE';
 
 export type SpLogLevel = 'INFO' | 'WARN' | 'ERROR';
 
-export type SpProtocol = 'KAFKA' | 'JMS' | 'MQTT' | 'NATS' | 'PULSAR';
+export type SpProtocol = 'KAFKA' | 'JMS' | 'MQTT' | 'NATS' | 'PULSAR' | 'LOCAL';
 
-export type SpQueryStatus = 'OK' | 'TOO_MUCH_DATA';
+export type SpQueryStatus = 'OK' | 'TOO_MUCH_DATA' | 'ERROR';
 
 export type SpServiceStatus =
     | 'REGISTERED'
@@ -4283,6 +4391,7 @@ export type TransformationRuleDescriptionUnion =
 export type TransportProtocolUnion =
     | JmsTransportProtocol
     | KafkaTransportProtocol
+    | LocalTransportProtocol
     | MqttTransportProtocol
     | NatsTransportProtocol
     | PulsarTransportProtocol;
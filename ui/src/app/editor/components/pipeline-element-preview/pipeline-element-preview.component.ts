@@ -16,15 +16,16 @@
  *
  */
 
-import { Component, Input, OnInit } from '@angular/core';
+import { Component, Input, OnDestroy, OnInit } from '@angular/core';
 import { EditorService } from '../../services/editor.service';
+import { Subscription } from 'rxjs';
 
 @Component({
     selector: 'sp-pipeline-element-preview',
     templateUrl: './pipeline-element-preview.component.html',
     styleUrls: ['./pipeline-element-preview.component.scss'],
 })
-export class PipelineElementPreviewComponent implements OnInit {
+export class PipelineElementPreviewComponent implements OnInit, OnDestroy {
     @Input()
     previewId: string;
 
@@ -35,11 +36,35 @@ export class PipelineElementPreviewComponent implements OnInit {
 
     runtimeDataError = false;
     timer: any;
+    updateSubscription: Subscription;
 
     constructor(private editorService: EditorService) {}
 
     ngOnInit(): void {
-        this.getLatestRuntimeInfo();
+        this.subscribeToRuntimeInfo();
+    }
+
+    ngOnDestroy(): void {
+        this.updateSubscription?.unsubscribe();
+        clearTimeout(this.timer);
+    }
+
+    subscribeToRuntimeInfo() {
+        this.updateSubscription = this.editorService
+            .getPipelinePreviewUpdates(
+                this.previewId,
+                this.pipelineElementDomId,
+            )
+            .subscribe({
+                next: data => {
+                    this.runtimeDataError = false;
+                    this.runtimeData = data;
+                },
+                // the backend closes the stream after a while
+                complete: () => this.subscribeToRuntimeInfo(),
+                // fall back to polling if the stream is not available
+                error: () => this.getLatestRuntimeInfo(),
+            });
     }
 
     getLatestRuntimeInfo() {
@@ -17,7 +17,12 @@
  */
 
 import { Injectable } from '@angular/core';
-import { HttpClient, HttpContext } from '@angular/common/http';
+import {
+    HttpClient,
+    HttpContext,
+    HttpDownloadProgressEvent,
+    HttpEventType,
+} from '@angular/common/http';
 import {
     DataProcessorInvocation,
     DataSinkInvocation,
@@ -37,7 +42,7 @@ import {
     PipelineElementUnion,
 } from '../model/editor.model';
 import { DialogService, PanelType } from '@streampipes/shared-ui';
-import { map } from 'rxjs/operators';
+import { filter, map, mergeMap } from 'rxjs/operators';
 import { NGX_LOADING_BAR_IGNORED } from '@ngx-loading-bar/http-client';
 import { HelpComponent } from '../../core-ui/help/help.component';
 
@@ -203,6 +208,62 @@ export class EditorService {
         );
     }
 
+    /**
+     * Streams the latest events of a previewed pipeline element, which are
+     * pushed by the backend as server-sent events.
+     */
+    getPipelinePreviewUpdates(
+        previewId: string,
+        pipelineElementDomId: string,
+    ): Observable<any> {
+        let processedLength = 0;
+        return this.http
+            .get(
+                this.pipelinePreviewBasePath +
+                    '/' +
+                    previewId +
+                    '/' +
+                    pipelineElementDomId +
+                    '/stream',
+                {
+                    observe: 'events',
+                    reportProgress: true,
+                    responseType: 'text',
+                    context: new HttpContext().set(
+                        NGX_LOADING_BAR_IGNORED,
+                        true,
+                    ),
+                },
+            )
+            .pipe(
+                filter(
+                    event => event.type === HttpEventType.DownloadProgress,
+                ),
+                mergeMap(event => {
+                    const text =
+                        (event as HttpDownloadProgressEvent).partialText ?? '';
+                    const end = text.lastIndexOf('\n\n');
+                    if (end < processedLength) {
+                        return [];
+                    }
+                    const messages = text
+                        .substring(processedLength, end)
+                        .split('\n\n');
+                    processedLength = end + 2;
+                    return messages
+                        .map(message =>
+                            message
+                                .split('\n')
+                                .filter(line => line.startsWith('data:'))
+                                .map(line => line.substring(5))
+                                .join('\n'),
+                        )
+                        .filter(data => data.length > 0)
+                        .map(data => JSON.parse(data));
+                }),
+            );
+    }
+
     get pipelinePreviewBasePath() {
         return this.apiBasePath + '/pipeline-element-preview';
     }